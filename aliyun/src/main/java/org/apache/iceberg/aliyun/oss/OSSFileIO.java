@@ -19,17 +19,23 @@
 package org.apache.iceberg.aliyun.oss;
 
 import com.aliyun.oss.OSS;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.aliyun.AliyunClientFactories;
 import org.apache.iceberg.aliyun.AliyunClientFactory;
 import org.apache.iceberg.aliyun.AliyunProperties;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.io.BulkDeleter;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,7 +46,7 @@ import org.slf4j.LoggerFactory;
  * scheme https are also treated as oss file paths. Using this FileIO with other schemes with result
  * in {@link org.apache.iceberg.exceptions.ValidationException}
  */
-public class OSSFileIO implements FileIO {
+public class OSSFileIO implements FileIO, SupportsBulkOperations {
   private static final Logger LOG = LoggerFactory.getLogger(OSSFileIO.class);
   private static final String DEFAULT_METRICS_IMPL =
       "org.apache.iceberg.hadoop.HadoopMetricsContext";
@@ -87,6 +93,21 @@ public class OSSFileIO implements FileIO {
     client().deleteObject(location.bucket(), location.key());
   }
 
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    // objects are deleted one at a time by concurrent tasks
+    BulkDeleter.builder(this::deleteBatch)
+        .executeWith(
+            ThreadPools.getDeleteWorkerPool(), ThreadPools.DELETE_WORKER_THREAD_POOL_SIZE)
+        .build()
+        .deleteFiles(pathsToDelete);
+  }
+
+  private List<String> deleteBatch(String bucketLocation, List<String> paths) {
+    paths.forEach(this::deleteFile);
+    return Collections.emptyList();
+  }
+
   private OSS client() {
     if (client == null) {
       synchronized (this) {
@@ -28,6 +28,7 @@ import org.apache.iceberg.types.Types;
 /** Represents a manifest file that can be scanned to find files in a table. */
 public interface ManifestFile {
   int PARTITION_SUMMARIES_ELEMENT_ID = 508;
+  int COLUMN_SUMMARIES_ELEMENT_ID = 522;
 
   Types.NestedField PATH =
       required(500, "manifest_path", Types.StringType.get(), "Location URI with FS scheme");
@@ -95,7 +96,33 @@ public interface ManifestFile {
           "first_row_id",
           Types.LongType.get(),
           "Starting row ID to assign to new rows in ADDED data files");
-  // next ID to assign: 521
+  Types.StructType COLUMN_SUMMARY_TYPE =
+      Types.StructType.of(
+          required(523, "field_id", Types.IntegerType.get(), "Field ID of the summarized column"),
+          optional(
+              524,
+              "value_count",
+              Types.LongType.get(),
+              "Total count of values in all files, including nulls and NaN"),
+          optional(
+              525,
+              "null_value_count",
+              Types.LongType.get(),
+              "Total count of null values in all files"),
+          optional(
+              526,
+              "nan_value_count",
+              Types.LongType.get(),
+              "Total count of NaN values in all files"),
+          optional(527, "lower_bound", Types.BinaryType.get(), "Column lower bound for all files"),
+          optional(528, "upper_bound", Types.BinaryType.get(), "Column upper bound for all files"));
+  Types.NestedField COLUMN_SUMMARIES =
+      optional(
+          521,
+          "column_summaries",
+          Types.ListType.ofRequired(COLUMN_SUMMARIES_ELEMENT_ID, COLUMN_SUMMARY_TYPE),
+          "Summary for each column selected by the writer");
+  // next ID to assign: 529
 
   Schema SCHEMA =
       new Schema(
@@ -114,7 +141,8 @@ public interface ManifestFile {
           DELETED_ROWS_COUNT,
           PARTITION_SUMMARIES,
           KEY_METADATA,
-          FIRST_ROW_ID);
+          FIRST_ROW_ID,
+          COLUMN_SUMMARIES);
 
   static Schema schema() {
     return SCHEMA;
@@ -210,6 +238,19 @@ public interface ManifestFile {
     return null;
   }
 
+  /**
+   * Returns a list of {@link ColumnFieldSummary column summaries}, or null if no columns were
+   * summarized when the manifest was written.
+   *
+   * <p>Unlike partition summaries, there is not a summary for every column. Writers only summarize
+   * the columns selected by the table's {@code commit.manifest.column-summaries} property.
+   *
+   * @return a list of column summaries, one for each summarized column
+   */
+  default List<ColumnFieldSummary> columnSummaries() {
+    return null;
+  }
+
   /**
    * Copies this {@link ManifestFile manifest file}. Readers can reuse manifest file instances; use
    * this method to make defensive copies.
@@ -253,4 +294,45 @@ public interface ManifestFile {
      */
     PartitionFieldSummary copy();
   }
+
+  /**
+   * Summarizes the values of one column in all files stored in a manifest file.
+   *
+   * <p>Counts and bounds combine the metrics of the files, so a count is null if any file is
+   * missing it. Bounds are null if they are unknown for any file that has non-null values, or if
+   * all values are null or NaN.
+   */
+  interface ColumnFieldSummary {
+    static Types.StructType getType() {
+      return COLUMN_SUMMARY_TYPE;
+    }
+
+    /** Returns the field ID of the summarized column. */
+    int fieldId();
+
+    /** Returns the total count of values, including nulls and NaN, or null if unknown. */
+    Long valueCount();
+
+    /** Returns the total count of null values, or null if unknown. */
+    Long nullValueCount();
+
+    /** Returns the total count of NaN values, or null if unknown or not a floating point column. */
+    Long nanValueCount();
+
+    /** Returns a ByteBuffer that contains a serialized bound lower than all values of the field. */
+    ByteBuffer lowerBound();
+
+    /**
+     * Returns a ByteBuffer that contains a serialized bound higher than all values of the field.
+     */
+    ByteBuffer upperBound();
+
+    /**
+     * Copies this {@link ColumnFieldSummary summary}. Readers can reuse instances; use this method
+     * to make defensive copies.
+     *
+     * @return a copy of this column field summary
+     */
+    ColumnFieldSummary copy();
+  }
 }
@@ -24,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 
 /**
  * An action that deletes orphan metadata, data and delete files in a table.
@@ -142,6 +143,15 @@ public interface DeleteOrphanFiles extends Action<DeleteOrphanFiles, DeleteOrpha
   interface Result {
     /** Returns locations of orphan files. */
     Iterable<String> orphanFileLocations();
+
+    /**
+     * Returns the number of orphan files.
+     *
+     * <p>Implementations that only return some of the orphan file locations must override this.
+     */
+    default long orphanFilesCount() {
+      return Iterables.size(orphanFileLocations());
+    }
   }
 
   /**
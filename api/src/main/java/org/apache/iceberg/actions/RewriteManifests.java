@@ -54,6 +54,26 @@ public interface RewriteManifests
    */
   RewriteManifests stagingLocation(String stagingLocation);
 
+  /**
+   * Clusters the entries of new manifests by the Z-order of the given columns.
+   *
+   * <p>Each column can be a partition field of the rewritten spec or a table column, in which case
+   * files are clustered by the lower bound of the column. Clustering by several columns keeps the
+   * value ranges of each manifest narrow for all of them. Planning can skip manifests using the
+   * partition field summaries and, in v2 and later tables, the column summaries of data manifests,
+   * which are written for the table columns. In v1 tables, manifests can only be skipped for
+   * filters on partition fields.
+   *
+   * <p>If not set, entries are clustered by their partition tuple.
+   *
+   * @param columns partition field or table column names
+   * @return this for method chaining
+   */
+  default RewriteManifests zOrderBy(String... columns) {
+    throw new UnsupportedOperationException(
+        "Z-ORDER manifest clustering not implemented for this framework");
+  }
+
   /** The action result that contains a summary of the execution. */
   interface Result {
     /** Returns rewritten manifests. */
@@ -77,6 +77,24 @@ public class InclusiveMetricsEvaluator {
     return new MetricsEvalVisitor().eval(file);
   }
 
+  /**
+   * Test whether rows with the given column metrics may match the expression.
+   *
+   * <p>This is used to evaluate metrics that were combined for a group of files. Metrics that are
+   * missing for a column are unknown and never cause rows to be skipped.
+   *
+   * @return false if the rows cannot match the expression, true otherwise.
+   */
+  boolean eval(
+      Map<Integer, Long> valueCounts,
+      Map<Integer, Long> nullCounts,
+      Map<Integer, Long> nanCounts,
+      Map<Integer, ByteBuffer> lowerBounds,
+      Map<Integer, ByteBuffer> upperBounds) {
+    return new MetricsEvalVisitor()
+        .eval(valueCounts, nullCounts, nanCounts, lowerBounds, upperBounds);
+  }
+
   private static final boolean ROWS_MIGHT_MATCH = true;
   private static final boolean ROWS_CANNOT_MATCH = false;
 
@@ -99,11 +117,25 @@ public class InclusiveMetricsEvaluator {
         return ROWS_MIGHT_MATCH;
       }
 
-      this.valueCounts = file.valueCounts();
-      this.nullCounts = file.nullValueCounts();
-      this.nanCounts = file.nanValueCounts();
-      this.lowerBounds = file.lowerBounds();
-      this.upperBounds = file.upperBounds();
+      return eval(
+          file.valueCounts(),
+          file.nullValueCounts(),
+          file.nanValueCounts(),
+          file.lowerBounds(),
+          file.upperBounds());
+    }
+
+    private boolean eval(
+        Map<Integer, Long> fileValueCounts,
+        Map<Integer, Long> fileNullCounts,
+        Map<Integer, Long> fileNaNCounts,
+        Map<Integer, ByteBuffer> fileLowerBounds,
+        Map<Integer, ByteBuffer> fileUpperBounds) {
+      this.valueCounts = fileValueCounts;
+      this.nullCounts = fileNullCounts;
+      this.nanCounts = fileNaNCounts;
+      this.lowerBounds = fileLowerBounds;
+      this.upperBounds = fileUpperBounds;
 
       return ExpressionVisitors.visitEvaluator(expr, this);
     }
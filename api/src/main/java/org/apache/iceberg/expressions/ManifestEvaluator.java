@@ -24,13 +24,16 @@ import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.iceberg.Accessors;
 import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
 import org.apache.iceberg.ManifestFile.PartitionFieldSummary;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Type;
@@ -51,20 +54,50 @@ public class ManifestEvaluator {
   private static final int IN_PREDICATE_LIMIT = 200;
 
   private final Expression expr;
+  private final InclusiveMetricsEvaluator columnEvaluator;
 
   public static ManifestEvaluator forRowFilter(
       Expression rowFilter, PartitionSpec spec, boolean caseSensitive) {
     return new ManifestEvaluator(
-        spec, Projections.inclusive(spec, caseSensitive).project(rowFilter), caseSensitive);
+        spec, Projections.inclusive(spec, caseSensitive).project(rowFilter), null, caseSensitive);
   }
 
   public static ManifestEvaluator forPartitionFilter(
       Expression partitionFilter, PartitionSpec spec, boolean caseSensitive) {
-    return new ManifestEvaluator(spec, partitionFilter, caseSensitive);
+    return new ManifestEvaluator(spec, partitionFilter, null, caseSensitive);
   }
 
-  private ManifestEvaluator(PartitionSpec spec, Expression partitionFilter, boolean caseSensitive) {
+  /**
+   * Returns an evaluator for a row filter and a partition filter on a table's data manifests.
+   *
+   * <p>In addition to the partition summaries, the evaluator uses the {@link
+   * ManifestFile#columnSummaries() column summaries} of manifests to evaluate the row filter.
+   *
+   * @param rowFilter a filter on the rows of the spec's schema
+   * @param partitionFilter a filter on the partition tuples of the spec
+   * @param spec the spec of evaluated manifests
+   * @param caseSensitive whether to bind the filters case sensitively
+   * @return a manifest evaluator
+   */
+  public static ManifestEvaluator forFilters(
+      Expression rowFilter, Expression partitionFilter, PartitionSpec spec, boolean caseSensitive) {
+    Expression filter =
+        Expressions.and(
+            partitionFilter, Projections.inclusive(spec, caseSensitive).project(rowFilter));
+    InclusiveMetricsEvaluator columnEvaluator =
+        rowFilter == Expressions.alwaysTrue()
+            ? null
+            : new InclusiveMetricsEvaluator(spec.schema(), rowFilter, caseSensitive);
+    return new ManifestEvaluator(spec, filter, columnEvaluator, caseSensitive);
+  }
+
+  private ManifestEvaluator(
+      PartitionSpec spec,
+      Expression partitionFilter,
+      InclusiveMetricsEvaluator columnEvaluator,
+      boolean caseSensitive) {
     this.expr = Binder.bind(spec.partitionType(), rewriteNot(partitionFilter), caseSensitive);
+    this.columnEvaluator = columnEvaluator;
   }
 
   /**
@@ -74,7 +107,38 @@ public class ManifestEvaluator {
    * @return false if the file cannot contain rows that match the expression, true otherwise.
    */
   public boolean eval(ManifestFile manifest) {
-    return new ManifestEvalVisitor().eval(manifest);
+    return new ManifestEvalVisitor().eval(manifest) && evalColumns(manifest);
+  }
+
+  private boolean evalColumns(ManifestFile manifest) {
+    List<ColumnFieldSummary> summaries = manifest.columnSummaries();
+    if (columnEvaluator == null || summaries == null || summaries.isEmpty()) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    // missing values are left out of the maps, which the metrics evaluator treats as unknown
+    Map<Integer, Long> valueCounts = Maps.newHashMap();
+    Map<Integer, Long> nullCounts = Maps.newHashMap();
+    Map<Integer, Long> nanCounts = Maps.newHashMap();
+    Map<Integer, ByteBuffer> lowerBounds = Maps.newHashMap();
+    Map<Integer, ByteBuffer> upperBounds = Maps.newHashMap();
+    for (ColumnFieldSummary summary : summaries) {
+      putIfNotNull(valueCounts, summary.fieldId(), summary.valueCount());
+      putIfNotNull(nullCounts, summary.fieldId(), summary.nullValueCount());
+      putIfNotNull(nanCounts, summary.fieldId(), summary.nanValueCount());
+      if (summary.lowerBound() != null && summary.upperBound() != null) {
+        lowerBounds.put(summary.fieldId(), summary.lowerBound());
+        upperBounds.put(summary.fieldId(), summary.upperBound());
+      }
+    }
+
+    return columnEvaluator.eval(valueCounts, nullCounts, nanCounts, lowerBounds, upperBounds);
+  }
+
+  private static <T> void putIfNotNull(Map<Integer, T> map, int fieldId, T value) {
+    if (value != null) {
+      map.put(fieldId, value);
+    }
   }
 
   private static final boolean ROWS_MIGHT_MATCH = true;
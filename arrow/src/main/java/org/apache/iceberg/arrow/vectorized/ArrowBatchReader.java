@@ -18,32 +18,54 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.util.Arrays;
 import java.util.List;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
 /**
  * A collection of vectorized readers per column (in the expected read schema) and Arrow Vector
- * holders. This class owns the Arrow vectors and is responsible for closing the Arrow vectors.
+ * holders. This class owns the Arrow vectors and is responsible for closing the Arrow vectors,
+ * unless batches are detached, in which case the vectors are closed with the returned batch.
+ *
+ * <p>When a filter is set, batches in which no row matches the filter are returned with 0 rows.
  */
 class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
+  private boolean detachedBatches = false;
 
   ArrowBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
   }
 
+  @Override
+  public boolean supportsDetachedBatches() {
+    return true;
+  }
+
+  @Override
+  public void setDetachedBatches(boolean detached) {
+    this.detachedBatches = detached;
+  }
+
   @Override
   public final ColumnarBatch read(ColumnarBatch reuse, int numRowsToRead) {
     Preconditions.checkArgument(
         numRowsToRead > 0, "Invalid number of rows to read: %s", numRowsToRead);
 
     if (reuse == null) {
-      closeVectors();
+      releaseVectors();
+    }
+
+    if (hasFilter() && !readFilterColumns(numRowsToRead)) {
+      return emptyBatch(numRowsToRead);
     }
 
     ColumnVector[] columnVectors = new ColumnVector[readers.length];
     for (int i = 0; i < readers.length; i += 1) {
-      vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
+      if (!isFilterColumn(i)) {
+        vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
+      }
+
       int numRowsInVector = vectorHolders[i].numValues();
       Preconditions.checkState(
           numRowsInVector == numRowsToRead,
@@ -55,4 +77,35 @@ class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
     }
     return new ColumnarBatch(numRowsToRead, columnVectors);
   }
+
+  private ColumnarBatch emptyBatch(int numRowsToSkip) {
+    skipNonFilterColumns(numRowsToSkip);
+
+    ColumnVector[] columnVectors = new ColumnVector[readers.length];
+    for (int i = 0; i < readers.length; i += 1) {
+      if (isFilterColumn(i)) {
+        // the filter columns were read, but none of their rows are returned
+        vectorHolders[i].vector().setValueCount(0);
+      }
+
+      columnVectors[i] = new ColumnVector(vectorHolders[i]);
+    }
+
+    return new ColumnarBatch(0, columnVectors);
+  }
+
+  @Override
+  public void close() {
+    releaseVectors();
+    super.close();
+  }
+
+  private void releaseVectors() {
+    if (detachedBatches) {
+      // vectors of detached batches are owned and closed by the caller
+      Arrays.fill(vectorHolders, null);
+    } else {
+      closeVectors();
+    }
+  }
 }
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.DoubleFieldMetrics;
+import org.apache.iceberg.FieldMetrics;
+import org.apache.iceberg.FloatFieldMetrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.parquet.VectorizedWriter;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DecimalUtil;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.column.ColumnWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * A {@link VectorizedWriter} that writes Arrow {@link VectorSchemaRoot} batches to Parquet one
+ * column at a time.
+ *
+ * <p>Values are read directly from the Arrow buffers and written to the Parquet column writers of
+ * the current row group, without materializing rows. Vectors are matched to columns by field name
+ * and must have the Arrow types produced by {@link org.apache.iceberg.arrow.ArrowSchemaUtil} for
+ * the write schema. Only primitive columns are supported.
+ *
+ * <p>Parquet collects value bounds and null counts for each column chunk. This writer also tracks
+ * NaN counts and bounds for floating point columns, so that appenders can report complete Iceberg
+ * {@link org.apache.iceberg.Metrics}.
+ */
+public class ArrowBatchWriter implements VectorizedWriter<VectorSchemaRoot> {
+  private final ColumnBatchWriter[] writers;
+
+  private ArrowBatchWriter(List<ColumnBatchWriter> writers) {
+    this.writers = writers.toArray(new ColumnBatchWriter[0]);
+  }
+
+  /**
+   * Builds a writer for batches of rows with the given schema.
+   *
+   * @param schema the Iceberg schema of the batches
+   * @param fileSchema the Parquet schema of the file
+   * @return a writer for {@link VectorSchemaRoot} batches
+   */
+  public static ArrowBatchWriter buildWriter(Schema schema, MessageType fileSchema) {
+    Map<Integer, ColumnDescriptor> columnsById = Maps.newHashMap();
+    for (ColumnDescriptor desc : fileSchema.getColumns()) {
+      if (desc.getPrimitiveType().getId() != null) {
+        columnsById.put(desc.getPrimitiveType().getId().intValue(), desc);
+      }
+    }
+
+    List<ColumnBatchWriter> writers = Lists.newArrayList();
+    for (Types.NestedField field : schema.columns()) {
+      ColumnDescriptor desc = columnsById.get(field.fieldId());
+      Preconditions.checkArgument(
+          field.type().isPrimitiveType() && desc != null,
+          "Cannot write non-primitive column with a vectorized writer: %s",
+          field.name());
+      writers.add(newColumnWriter(field, desc));
+    }
+
+    return new ArrowBatchWriter(writers);
+  }
+
+  private static ColumnBatchWriter newColumnWriter(
+      Types.NestedField field, ColumnDescriptor desc) {
+    switch (field.type().typeId()) {
+      case BOOLEAN:
+        return new BooleanWriter(field, desc);
+      case INTEGER:
+      case DATE:
+        return new IntWriter(field, desc);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return new LongWriter(field, desc);
+      case FLOAT:
+        return new FloatWriter(field, desc);
+      case DOUBLE:
+        return new DoubleWriter(field, desc);
+      case STRING:
+      case BINARY:
+        return new VariableWidthWriter(field, desc);
+      case UUID:
+      case FIXED:
+        return new FixedWidthWriter(field, desc);
+      case DECIMAL:
+        return newDecimalWriter(field, desc);
+      default:
+        throw new UnsupportedOperationException(
+            String.format(
+                "Cannot write column %s of type %s with a vectorized writer",
+                field.name(), field.type()));
+    }
+  }
+
+  private static ColumnBatchWriter newDecimalWriter(
+      Types.NestedField field, ColumnDescriptor desc) {
+    PrimitiveType.PrimitiveTypeName typeName = desc.getPrimitiveType().getPrimitiveTypeName();
+    switch (typeName) {
+      case INT32:
+        return new IntBackedDecimalWriter(field, desc);
+      case INT64:
+        return new LongBackedDecimalWriter(field, desc);
+      case FIXED_LEN_BYTE_ARRAY:
+        return new FixedBackedDecimalWriter(field, desc);
+      default:
+        throw new UnsupportedOperationException(
+            "Unsupported base type for decimal: " + typeName);
+    }
+  }
+
+  @Override
+  public int write(VectorSchemaRoot batch) {
+    int numRows = batch.getRowCount();
+    for (ColumnBatchWriter writer : writers) {
+      FieldVector vector = batch.getVector(writer.name());
+      Preconditions.checkArgument(
+          vector != null, "Cannot find vector for column: %s", writer.name());
+      Preconditions.checkArgument(
+          vector.getValueCount() >= numRows,
+          "Not enough values in vector %s: %s < %s",
+          writer.name(),
+          vector.getValueCount(),
+          numRows);
+      writer.write(vector, numRows);
+    }
+
+    return numRows;
+  }
+
+  @Override
+  public void setColumnStore(ColumnWriteStore columnStore) {
+    for (ColumnBatchWriter writer : writers) {
+      writer.setColumnStore(columnStore);
+    }
+  }
+
+  @Override
+  public Stream<FieldMetrics<?>> metrics() {
+    return Arrays.stream(writers).flatMap(ColumnBatchWriter::metrics);
+  }
+
+  private abstract static class ColumnBatchWriter {
+    private final Types.NestedField field;
+    private final ColumnDescriptor desc;
+    private final int maxDefinitionLevel;
+    private ColumnWriter column = null;
+
+    private ColumnBatchWriter(Types.NestedField field, ColumnDescriptor desc) {
+      this.field = field;
+      this.desc = desc;
+      this.maxDefinitionLevel = desc.getMaxDefinitionLevel();
+    }
+
+    String name() {
+      return field.name();
+    }
+
+    void setColumnStore(ColumnWriteStore columnStore) {
+      this.column = columnStore.getColumnWriter(desc);
+    }
+
+    void write(FieldVector vector, int numRows) {
+      if (maxDefinitionLevel == 0) {
+        Preconditions.checkArgument(
+            vector.getNullCount() == 0, "Cannot write null values to required column: %s", name());
+        for (int row = 0; row < numRows; row += 1) {
+          writeValue(column, maxDefinitionLevel, vector, row);
+        }
+      } else {
+        for (int row = 0; row < numRows; row += 1) {
+          if (vector.isNull(row)) {
+            column.writeNull(0, maxDefinitionLevel - 1);
+          } else {
+            writeValue(column, maxDefinitionLevel, vector, row);
+          }
+        }
+      }
+    }
+
+    protected abstract void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row);
+
+    Stream<FieldMetrics<?>> metrics() {
+      return Stream.empty();
+    }
+  }
+
+  private static class BooleanWriter extends ColumnBatchWriter {
+    private BooleanWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      columnWriter.write(((BitVector) vector).get(row) != 0, 0, definitionLevel);
+    }
+  }
+
+  private static class IntWriter extends ColumnBatchWriter {
+    private IntWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      ArrowBuf data = vector.getDataBuffer();
+      columnWriter.write(data.getInt((long) row * Integer.BYTES), 0, definitionLevel);
+    }
+  }
+
+  private static class LongWriter extends ColumnBatchWriter {
+    private LongWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      ArrowBuf data = vector.getDataBuffer();
+      columnWriter.write(data.getLong((long) row * Long.BYTES), 0, definitionLevel);
+    }
+  }
+
+  private static class FloatWriter extends ColumnBatchWriter {
+    private final FloatFieldMetrics.Builder metricsBuilder;
+
+    private FloatWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+      this.metricsBuilder = new FloatFieldMetrics.Builder(field.fieldId());
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      float value = vector.getDataBuffer().getFloat((long) row * Float.BYTES);
+      columnWriter.write(value, 0, definitionLevel);
+      metricsBuilder.addValue(value);
+    }
+
+    @Override
+    Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(metricsBuilder.build());
+    }
+  }
+
+  private static class DoubleWriter extends ColumnBatchWriter {
+    private final DoubleFieldMetrics.Builder metricsBuilder;
+
+    private DoubleWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+      this.metricsBuilder = new DoubleFieldMetrics.Builder(field.fieldId());
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      double value = vector.getDataBuffer().getDouble((long) row * Double.BYTES);
+      columnWriter.write(value, 0, definitionLevel);
+      metricsBuilder.addValue(value);
+    }
+
+    @Override
+    Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(metricsBuilder.build());
+    }
+  }
+
+  private static class VariableWidthWriter extends ColumnBatchWriter {
+    private VariableWidthWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      byte[] bytes = ((BaseVariableWidthVector) vector).get(row);
+      columnWriter.write(Binary.fromConstantByteArray(bytes), 0, definitionLevel);
+    }
+  }
+
+  private static class FixedWidthWriter extends ColumnBatchWriter {
+    private FixedWidthWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      byte[] bytes = ((FixedSizeBinaryVector) vector).get(row);
+      columnWriter.write(Binary.fromConstantByteArray(bytes), 0, definitionLevel);
+    }
+  }
+
+  // decimal vectors store 16 byte little-endian two's complement unscaled values, so the low 8
+  // bytes hold the unscaled value of decimals that are stored as int or long in Parquet
+  private static class IntBackedDecimalWriter extends ColumnBatchWriter {
+    private IntBackedDecimalWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      long unscaled = vector.getDataBuffer().getLong((long) row * DecimalVector.TYPE_WIDTH);
+      columnWriter.write((int) unscaled, 0, definitionLevel);
+    }
+  }
+
+  private static class LongBackedDecimalWriter extends ColumnBatchWriter {
+    private LongBackedDecimalWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      long unscaled = vector.getDataBuffer().getLong((long) row * DecimalVector.TYPE_WIDTH);
+      columnWriter.write(unscaled, 0, definitionLevel);
+    }
+  }
+
+  private static class FixedBackedDecimalWriter extends ColumnBatchWriter {
+    private final int precision;
+    private final int scale;
+    private final int length;
+
+    private FixedBackedDecimalWriter(Types.NestedField field, ColumnDescriptor desc) {
+      super(field, desc);
+      Types.DecimalType decimal = (Types.DecimalType) field.type();
+      this.precision = decimal.precision();
+      this.scale = decimal.scale();
+      this.length = desc.getPrimitiveType().getTypeLength();
+    }
+
+    @Override
+    protected void writeValue(
+        ColumnWriter columnWriter, int definitionLevel, FieldVector vector, int row) {
+      BigDecimal value = ((DecimalVector) vector).getObject(row);
+      byte[] bytes = DecimalUtil.toReusedFixLengthBytes(precision, scale, value, new byte[length]);
+      columnWriter.write(Binary.fromConstantByteArray(bytes), 0, definitionLevel);
+    }
+  }
+}
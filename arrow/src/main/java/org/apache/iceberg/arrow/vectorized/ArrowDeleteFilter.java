@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.DeleteCounter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Applies the position and equality deletes of a {@link FileScanTask} to {@link ColumnarBatch
+ * batches} read with the {@link #requiredSchema() required schema}.
+ *
+ * <p>Batches with deleted rows are compacted into new Arrow vectors that contain only the live rows
+ * of the {@link #expectedSchema() expected columns}. Batches without deleted rows are returned as
+ * they are, after removing the columns that were only needed to apply deletes.
+ */
+class ArrowDeleteFilter extends DeleteFilter<StructLike> {
+  private final Map<String, InputFile> inputFiles;
+  private final int numExpectedColumns;
+  private final int posColumn;
+  private final ColumnVectorRow row;
+
+  ArrowDeleteFilter(
+      FileScanTask task,
+      Schema tableSchema,
+      Schema expectedSchema,
+      Map<String, InputFile> inputFiles) {
+    super(
+        task.file().location(),
+        task.deletes(),
+        tableSchema,
+        expectedSchema,
+        new DeleteCounter(),
+        false /* needRowPosCol */);
+    this.inputFiles = inputFiles;
+    this.numExpectedColumns = expectedSchema().columns().size();
+    List<Types.NestedField> requiredColumns = requiredSchema().columns();
+    this.posColumn = requiredColumns.indexOf(MetadataColumns.ROW_POSITION);
+    int[] positions = new int[requiredColumns.size()];
+    for (int pos = 0; pos < positions.length; pos += 1) {
+      positions[pos] = pos;
+    }
+
+    this.row = new ColumnVectorRow(requiredColumns.toArray(new Types.NestedField[0]), positions);
+  }
+
+  @Override
+  protected StructLike asStructLike(StructLike record) {
+    return record;
+  }
+
+  @Override
+  protected InputFile getInputFile(String location) {
+    return inputFiles.get(location);
+  }
+
+  /**
+   * Returns an iterator of batches with deleted rows removed.
+   *
+   * <p>Compacted batches are owned by the returned iterator and are closed before the next batch is
+   * returned, like the batches of the underlying iterator.
+   *
+   * @param batches an iterator of batches with the required schema
+   * @return an iterator of batches with the expected schema
+   */
+  CloseableIterator<ColumnarBatch> filterBatches(CloseableIterator<ColumnarBatch> batches) {
+    return new DeletedRowsIterator(batches);
+  }
+
+  private ColumnarBatch removeDeletedRows(ColumnarBatch batch) {
+    int numRows = batch.numRows();
+    ColumnVector[] columns = new ColumnVector[batch.numCols()];
+    for (int pos = 0; pos < columns.length; pos += 1) {
+      columns[pos] = batch.column(pos);
+    }
+
+    PositionDeleteIndex deletedPositions = hasPosDeletes() ? deletedRowPositions() : null;
+    Predicate<StructLike> isLive = hasEqDeletes() ? eqDeletedRowFilter() : null;
+    row.setVectors(columns);
+
+    int[] liveRows = new int[numRows];
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      boolean deleted =
+          (deletedPositions != null
+                  && deletedPositions.isDeleted(columns[posColumn].getLong(rowId)))
+              || (isLive != null && !isLive.test(row.setRowId(rowId)));
+      if (deleted) {
+        incrementDeleteCount();
+      } else {
+        liveRows[numLiveRows] = rowId;
+        numLiveRows += 1;
+      }
+    }
+
+    ColumnVector[] expectedColumns = new ColumnVector[numExpectedColumns];
+    if (numLiveRows == numRows) {
+      System.arraycopy(columns, 0, expectedColumns, 0, numExpectedColumns);
+      return new ColumnarBatch(numRows, expectedColumns);
+    }
+
+    List<Types.NestedField> fields = expectedSchema().columns();
+    for (int pos = 0; pos < numExpectedColumns; pos += 1) {
+      expectedColumns[pos] = copyRows(columns[pos], fields.get(pos), liveRows, numLiveRows);
+    }
+
+    return new ColumnarBatch(numLiveRows, expectedColumns);
+  }
+
+  private static ColumnVector copyRows(
+      ColumnVector column, Types.NestedField field, int[] rows, int numRows) {
+    FieldVector source = column.getArrowVector();
+    FieldVector target = source.getField().createVector(ArrowAllocation.rootAllocator());
+    NullabilityHolder nulls = new NullabilityHolder(numRows);
+    try {
+      target.setInitialCapacity(numRows);
+      target.allocateNew();
+      for (int pos = 0; pos < numRows; pos += 1) {
+        if (column.isNullAt(rows[pos])) {
+          nulls.setNull(pos);
+        } else {
+          target.copyFromSafe(rows[pos], pos, source);
+        }
+      }
+
+      target.setValueCount(numRows);
+    } finally {
+      if (source != column.getFieldVector()) {
+        // dictionary-encoded vectors are decoded into a new vector
+        source.close();
+      }
+    }
+
+    return new ColumnVector(VectorHolder.vectorHolder(target, field, nulls));
+  }
+
+  private class DeletedRowsIterator implements CloseableIterator<ColumnarBatch> {
+    private final CloseableIterator<ColumnarBatch> batches;
+    private ColumnarBatch compacted = null;
+
+    private DeletedRowsIterator(CloseableIterator<ColumnarBatch> batches) {
+      this.batches = batches;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return batches.hasNext();
+    }
+
+    @Override
+    public ColumnarBatch next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      closeCompacted();
+      ColumnarBatch batch = batches.next();
+      ColumnarBatch filtered = removeDeletedRows(batch);
+      if (filtered.numRows() != batch.numRows()) {
+        this.compacted = filtered;
+      }
+
+      return filtered;
+    }
+
+    @Override
+    public void close() throws IOException {
+      closeCompacted();
+      batches.close();
+    }
+
+    private void closeCompacted() {
+      if (compacted != null) {
+        compacted.close();
+        this.compacted = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.orc.OrcBatchReader;
+import org.apache.iceberg.orc.OrcSchemaWithTypeVisitor;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.serde2.io.HiveDecimalWritable;
+
+/**
+ * An {@link OrcBatchReader} that copies ORC {@link VectorizedRowBatch row batches} into Arrow
+ * vectors and returns them as a {@link ColumnarBatch}.
+ *
+ * <p>The Arrow vectors have the same types as the vectors returned for Parquet files by {@link
+ * ArrowBatchReader}, so consumers can read both formats the same way. Only primitive columns are
+ * supported. The {@link MetadataColumns#ROW_POSITION row position} metadata column is populated
+ * from the offset of each batch in the file and the rows that are selected in the batch, so
+ * positional deletes can be applied to the batches.
+ */
+public class ArrowOrcBatchReader implements OrcBatchReader<ColumnarBatch> {
+  private final ColumnReader[] readers;
+  private final boolean reuseContainers;
+  private long batchOffsetInFile = 0L;
+
+  private ArrowOrcBatchReader(List<ColumnReader> readers, boolean reuseContainers) {
+    this.readers = readers.toArray(new ColumnReader[0]);
+    this.reuseContainers = reuseContainers;
+  }
+
+  /**
+   * Builds a reader for the expected schema.
+   *
+   * @param expectedSchema the schema of the returned batches
+   * @param fileSchema the ORC schema used to read the file, without metadata columns
+   * @param reuseContainers whether the Arrow vectors of the previous batch may be reused
+   * @return a reader that returns {@link ColumnarBatch batches} with the expected schema
+   */
+  public static ArrowOrcBatchReader buildReader(
+      Schema expectedSchema, TypeDescription fileSchema, boolean reuseContainers) {
+    ReadBuilder builder = new ReadBuilder(reuseContainers);
+    return (ArrowOrcBatchReader)
+        OrcSchemaWithTypeVisitor.visit(expectedSchema.asStruct(), fileSchema, builder);
+  }
+
+  @Override
+  public ColumnarBatch read(VectorizedRowBatch batch) {
+    ColumnVector[] columns = new ColumnVector[readers.length];
+    for (int pos = 0, vectorIndex = 0; pos < readers.length; pos += 1) {
+      ColumnReader reader = readers[pos];
+      if (reader.isRowPosition()) {
+        columns[pos] = new ColumnVector(reader.readPositions(batch, batchOffsetInFile));
+      } else {
+        columns[pos] = new ColumnVector(reader.read(batch.cols[vectorIndex], batch));
+        vectorIndex += 1;
+      }
+    }
+
+    return new ColumnarBatch(batch.size, columns);
+  }
+
+  @Override
+  public void setBatchContext(long newBatchOffsetInFile) {
+    this.batchOffsetInFile = newBatchOffsetInFile;
+  }
+
+  @Override
+  public void close() {
+    // the vectors of the last batch are not released by a following read
+    for (ColumnReader reader : readers) {
+      reader.releaseVector();
+    }
+  }
+
+  private static class ReadBuilder extends OrcSchemaWithTypeVisitor<Object> {
+    private final boolean reuseContainers;
+
+    private ReadBuilder(boolean reuseContainers) {
+      this.reuseContainers = reuseContainers;
+    }
+
+    @Override
+    public ArrowOrcBatchReader record(
+        Types.StructType iStruct, TypeDescription record, List<String> names, List<Object> fields) {
+      List<ColumnReader> readers = Lists.newArrayListWithExpectedSize(iStruct.fields().size());
+      int vectorIndex = 0;
+      for (Types.NestedField field : iStruct.fields()) {
+        if (field.equals(MetadataColumns.ROW_POSITION)) {
+          readers.add(new ColumnReader(field, null, reuseContainers));
+        } else {
+          Preconditions.checkArgument(
+              vectorIndex < fields.size() && fields.get(vectorIndex) instanceof TypeDescription,
+              "Cannot read column %s: only primitive top-level columns are supported",
+              field.name());
+          readers.add(
+              new ColumnReader(field, (TypeDescription) fields.get(vectorIndex), reuseContainers));
+          vectorIndex += 1;
+        }
+      }
+
+      return new ArrowOrcBatchReader(readers, reuseContainers);
+    }
+
+    @Override
+    public Object list(Types.ListType iList, TypeDescription array, Object element) {
+      throw new UnsupportedOperationException("Vectorized reads are not supported for lists");
+    }
+
+    @Override
+    public Object map(Types.MapType iMap, TypeDescription map, Object key, Object value) {
+      throw new UnsupportedOperationException("Vectorized reads are not supported for maps");
+    }
+
+    @Override
+    public Object primitive(Type.PrimitiveType iPrimitive, TypeDescription primitive) {
+      return primitive;
+    }
+  }
+
+  /** Copies the values of a single ORC column into an Arrow vector. */
+  private static class ColumnReader {
+    private final Types.NestedField field;
+    private final TypeDescription orcType;
+    private final boolean reuseContainers;
+    private FieldVector vector = null;
+    private NullabilityHolder nulls = null;
+
+    private ColumnReader(Types.NestedField field, TypeDescription orcType, boolean reuse) {
+      this.field = field;
+      this.orcType = orcType;
+      this.reuseContainers = reuse;
+    }
+
+    private boolean isRowPosition() {
+      return orcType == null;
+    }
+
+    private void prepare(int numRows) {
+      if (vector == null || !reuseContainers) {
+        // vectors of the previous batch are owned by this reader and are released here
+        releaseVector();
+        this.vector = ArrowSchemaUtil.convert(field).createVector(ArrowAllocation.rootAllocator());
+        vector.setInitialCapacity(numRows);
+        vector.allocateNew();
+      } else {
+        vector.reset();
+      }
+
+      if (nulls == null || nulls.size() < numRows) {
+        this.nulls = new NullabilityHolder(numRows);
+      } else {
+        nulls.reset();
+      }
+    }
+
+    private VectorHolder readPositions(VectorizedRowBatch batch, long batchOffsetInFile) {
+      int numRows = batch.size;
+      prepare(numRows);
+      BigIntVector positions = (BigIntVector) vector;
+      for (int row = 0; row < numRows; row += 1) {
+        // rows that were filtered out of the batch still have a position in the file
+        int rowId = batch.selectedInUse ? batch.selected[row] : row;
+        positions.setSafe(row, batchOffsetInFile + rowId);
+      }
+
+      positions.setValueCount(numRows);
+      nulls.setNotNulls(0, numRows);
+      return new VectorHolder.PositionVectorHolder(positions, field, nulls);
+    }
+
+    private VectorHolder read(
+        org.apache.orc.storage.ql.exec.vector.ColumnVector orcVector, VectorizedRowBatch batch) {
+      int numRows = batch.size;
+      prepare(numRows);
+      for (int row = 0; row < numRows; row += 1) {
+        int rowId = batch.selectedInUse ? batch.selected[row] : row;
+        int index = orcVector.isRepeating ? 0 : rowId;
+        if (!orcVector.noNulls && orcVector.isNull[index]) {
+          nulls.setNull(row);
+        } else {
+          nulls.setNotNull(row);
+          setValue(row, orcVector, index);
+        }
+      }
+
+      vector.setValueCount(numRows);
+      return VectorHolder.vectorHolder(vector, field, nulls);
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private void setValue(
+        int row, org.apache.orc.storage.ql.exec.vector.ColumnVector orcVector, int index) {
+      switch (field.type().typeId()) {
+        case BOOLEAN:
+          ((BitVector) vector).setSafe(row, (int) ((LongColumnVector) orcVector).vector[index]);
+          break;
+        case INTEGER:
+          ((IntVector) vector).setSafe(row, (int) ((LongColumnVector) orcVector).vector[index]);
+          break;
+        case DATE:
+          ((DateDayVector) vector)
+              .setSafe(row, (int) ((LongColumnVector) orcVector).vector[index]);
+          break;
+        case LONG:
+          ((BigIntVector) vector).setSafe(row, ((LongColumnVector) orcVector).vector[index]);
+          break;
+        case TIME:
+          ((TimeMicroVector) vector).setSafe(row, ((LongColumnVector) orcVector).vector[index]);
+          break;
+        case FLOAT:
+          ((Float4Vector) vector)
+              .setSafe(row, (float) ((DoubleColumnVector) orcVector).vector[index]);
+          break;
+        case DOUBLE:
+          ((Float8Vector) vector).setSafe(row, ((DoubleColumnVector) orcVector).vector[index]);
+          break;
+        case TIMESTAMP:
+          setTimestamp(row, (TimestampColumnVector) orcVector, index);
+          break;
+        case STRING:
+          BytesColumnVector strings = (BytesColumnVector) orcVector;
+          ((VarCharVector) vector)
+              .setSafe(
+                  row, strings.vector[index], strings.start[index], strings.length[index]);
+          break;
+        case BINARY:
+          BytesColumnVector bytes = (BytesColumnVector) orcVector;
+          ((VarBinaryVector) vector)
+              .setSafe(row, bytes.vector[index], bytes.start[index], bytes.length[index]);
+          break;
+        case UUID:
+        case FIXED:
+          BytesColumnVector fixed = (BytesColumnVector) orcVector;
+          int start = fixed.start[index];
+          ((FixedSizeBinaryVector) vector)
+              .setSafe(
+                  row,
+                  Arrays.copyOfRange(fixed.vector[index], start, start + fixed.length[index]));
+          break;
+        case DECIMAL:
+          setDecimal(row, ((DecimalColumnVector) orcVector).vector[index]);
+          break;
+        default:
+          throw new UnsupportedOperationException(
+              "Unsupported type for vectorized ORC reads: " + field.type());
+      }
+    }
+
+    private void setTimestamp(int row, TimestampColumnVector timestamps, int index) {
+      long micros =
+          Math.floorDiv(timestamps.time[index], 1_000) * 1_000_000
+              + Math.floorDiv(timestamps.nanos[index], 1_000);
+      if (vector instanceof TimeStampMicroTZVector) {
+        ((TimeStampMicroTZVector) vector).setSafe(row, micros);
+      } else {
+        ((TimeStampMicroVector) vector).setSafe(row, micros);
+      }
+    }
+
+    private void setDecimal(int row, HiveDecimalWritable value) {
+      Types.DecimalType decimalType = (Types.DecimalType) field.type();
+      BigDecimal decimal;
+      if (decimalType.precision() <= 18) {
+        decimal =
+            BigDecimal.valueOf(value.serialize64(decimalType.scale()), decimalType.scale());
+      } else {
+        decimal = value.getHiveDecimal().bigDecimalValue().setScale(decimalType.scale());
+      }
+
+      ((DecimalVector) vector).setSafe(row, decimal);
+    }
+
+    private void releaseVector() {
+      if (vector != null) {
+        vector.close();
+        this.vector = null;
+      }
+    }
+  }
+}
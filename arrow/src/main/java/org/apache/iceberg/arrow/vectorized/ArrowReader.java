@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -35,17 +36,21 @@ import org.apache.arrow.vector.types.Types.MinorType;
 import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.encryption.EncryptedInputFile;
 import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -54,8 +59,10 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Type.TypeID;
+import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ExceptionUtil;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.TableScanUtil;
 import org.apache.parquet.schema.MessageType;
 import org.slf4j.Logger;
@@ -65,6 +72,9 @@ import org.slf4j.LoggerFactory;
  * Vectorized reader that returns an iterator of {@link ColumnarBatch}. See {@link
  * #open(CloseableIterable)} ()} to learn about the behavior of the iterator.
  *
+ * <p>Parquet and ORC data files are supported. Position and equality deletes are applied to the
+ * returned batches, which only contain the rows that are not deleted.
+ *
  * <p>The following Iceberg data types are supported and have been tested:
  *
  * <ul>
@@ -95,7 +105,6 @@ import org.slf4j.LoggerFactory;
  *       Types.FixedType} and {@link Types.DecimalType} See
  *       https://github.com/apache/iceberg/issues/2485 and
  *       https://github.com/apache/iceberg/issues/2486.
- *   <li>Delete files are not supported. See https://github.com/apache/iceberg/issues/2487.
  * </ul>
  */
 public class ArrowReader extends CloseableGroup {
@@ -117,10 +126,14 @@ public class ArrowReader extends CloseableGroup {
           TypeID.DECIMAL);
 
   private final Schema schema;
+  private final Schema tableSchema;
   private final FileIO io;
   private final EncryptionManager encryption;
   private final int batchSize;
   private final boolean reuseContainers;
+  private final int rowGroupParallelism;
+  private final ExecutorService rowGroupExecutor;
+  private final boolean lateMaterialization;
 
   /**
    * Create a new instance of the reader.
@@ -136,12 +149,53 @@ public class ArrowReader extends CloseableGroup {
    *     before creating new instances if the current {@link Iterator#next()}.
    */
   public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
+    this(scan, batchSize, reuseContainers, 1, null);
+  }
+
+  /**
+   * Create a new instance of the reader that decodes Parquet row groups in parallel.
+   *
+   * <p>See {@link #ArrowReader(TableScan, int, boolean)} for details on the other parameters. When
+   * {@code rowGroupParallelism} is greater than 1, up to that many row groups of each Parquet file
+   * are decoded concurrently into new Arrow vectors and {@code reuseContainers} is ignored. Batches
+   * are still returned in file order and are closed before the next batch is returned.
+   *
+   * <p>Decoding tasks wait for their batches to be consumed, so {@code rowGroupExecutor} should be
+   * dedicated to this reader rather than shared with other work. The caller owns the executor and
+   * must shut it down after this reader is closed.
+   *
+   * @param rowGroupParallelism the maximum number of row groups decoded concurrently per file.
+   * @param rowGroupExecutor the executor used to decode row groups, required if {@code
+   *     rowGroupParallelism} is greater than 1.
+   */
+  public ArrowReader(
+      TableScan scan,
+      int batchSize,
+      boolean reuseContainers,
+      int rowGroupParallelism,
+      ExecutorService rowGroupExecutor) {
+    Preconditions.checkArgument(
+        rowGroupParallelism > 0,
+        "Invalid row group parallelism: %s (must be > 0)",
+        rowGroupParallelism);
+    Preconditions.checkArgument(
+        rowGroupParallelism == 1 || rowGroupExecutor != null,
+        "Invalid row group executor: null (required when row group parallelism is %s)",
+        rowGroupParallelism);
     this.schema = scan.schema();
+    this.tableSchema = scan.table().schema();
     this.io = scan.table().io();
     this.encryption = scan.table().encryption();
     this.batchSize = batchSize;
     // start planning tasks in the background
     this.reuseContainers = reuseContainers;
+    this.rowGroupParallelism = rowGroupParallelism;
+    this.rowGroupExecutor = rowGroupExecutor;
+    this.lateMaterialization =
+        PropertyUtil.propertyAsBoolean(
+            scan.table().properties(),
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED,
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT);
   }
 
   /**
@@ -163,8 +217,7 @@ public class ArrowReader extends CloseableGroup {
    * <p>This method works for only when the following conditions are true:
    *
    * <ol>
-   *   <li>At least one column is queried,
-   *   <li>There are no delete files, and
+   *   <li>At least one column is queried, and
    *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}).
    * </ol>
    *
@@ -173,7 +226,18 @@ public class ArrowReader extends CloseableGroup {
   public CloseableIterator<ColumnarBatch> open(CloseableIterable<CombinedScanTask> tasks) {
     CloseableIterator<ColumnarBatch> itr =
         new VectorizedCombinedScanIterator(
-            tasks, schema, null, io, encryption, true, batchSize, reuseContainers);
+            tasks,
+            schema,
+            tableSchema,
+            null,
+            io,
+            encryption,
+            true,
+            batchSize,
+            reuseContainers,
+            rowGroupParallelism,
+            rowGroupExecutor,
+            lateMaterialization);
     addCloseable(itr);
     return itr;
   }
@@ -184,8 +248,8 @@ public class ArrowReader extends CloseableGroup {
   }
 
   /**
-   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet data file
-   * format is supported.
+   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet and ORC
+   * data file formats are supported.
    */
   private static final class VectorizedCombinedScanIterator
       implements CloseableIterator<ColumnarBatch> {
@@ -193,10 +257,14 @@ public class ArrowReader extends CloseableGroup {
     private final Iterator<FileScanTask> fileItr;
     private final Map<String, InputFile> inputFiles;
     private final Schema expectedSchema;
+    private final Schema tableSchema;
     private final String nameMapping;
     private final boolean caseSensitive;
     private final int batchSize;
     private final boolean reuseContainers;
+    private final int rowGroupParallelism;
+    private final ExecutorService rowGroupExecutor;
+    private final boolean lateMaterialization;
     private CloseableIterator<ColumnarBatch> currentIterator;
     private FileScanTask currentTask;
 
@@ -205,6 +273,7 @@ public class ArrowReader extends CloseableGroup {
      *
      * @param tasks Combined file scan tasks.
      * @param expectedSchema Read schema. The returned data will have this schema.
+     * @param tableSchema Table schema, used to read the columns needed to apply equality deletes.
      * @param nameMapping Mapping from external schema names to Iceberg type IDs.
      * @param io File I/O.
      * @param encryptionManager Encryption manager.
@@ -219,16 +288,25 @@ public class ArrowReader extends CloseableGroup {
      *     the value of {@code reuseContainers}, the Arrow vectors in the previous {@link
      *     Iterator#next()} call are closed before creating new instances if the current {@link
      *     Iterator#next()}.
+     * @param rowGroupParallelism Maximum number of Parquet row groups decoded concurrently per
+     *     file.
+     * @param rowGroupExecutor Executor used to decode Parquet row groups in parallel.
+     * @param lateMaterialization If set to {@code true}, columns referenced by a task's residual
+     *     are read first and the other columns are skipped for batches with no matching rows.
      */
     VectorizedCombinedScanIterator(
         CloseableIterable<CombinedScanTask> tasks,
         Schema expectedSchema,
+        Schema tableSchema,
         String nameMapping,
         FileIO io,
         EncryptionManager encryptionManager,
         boolean caseSensitive,
         int batchSize,
-        boolean reuseContainers) {
+        boolean reuseContainers,
+        int rowGroupParallelism,
+        ExecutorService rowGroupExecutor,
+        boolean lateMaterialization) {
       List<FileScanTask> fileTasks =
           StreamSupport.stream(tasks.spliterator(), false)
               .map(CombinedScanTask::files)
@@ -236,11 +314,6 @@ public class ArrowReader extends CloseableGroup {
               .collect(Collectors.toList());
       this.fileItr = fileTasks.iterator();
 
-      if (fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
-        throw new UnsupportedOperationException(
-            "Cannot read files that require applying delete files");
-      }
-
       if (expectedSchema.columns().isEmpty()) {
         throw new UnsupportedOperationException(
             "Cannot read without at least one projected column");
@@ -259,7 +332,7 @@ public class ArrowReader extends CloseableGroup {
 
       Map<String, ByteBuffer> keyMetadata = Maps.newHashMap();
       fileTasks.stream()
-          .map(FileScanTask::file)
+          .flatMap(task -> Stream.concat(Stream.of(task.file()), task.deletes().stream()))
           .forEach(file -> keyMetadata.put(file.location(), file.keyMetadata()));
 
       Stream<EncryptedInputFile> encrypted =
@@ -278,10 +351,14 @@ public class ArrowReader extends CloseableGroup {
       this.inputFiles = ImmutableMap.copyOf(files);
       this.currentIterator = CloseableIterator.empty();
       this.expectedSchema = expectedSchema;
+      this.tableSchema = tableSchema;
       this.nameMapping = nameMapping;
       this.caseSensitive = caseSensitive;
       this.batchSize = batchSize;
       this.reuseContainers = reuseContainers;
+      this.rowGroupParallelism = rowGroupParallelism;
+      this.rowGroupExecutor = rowGroupExecutor;
+      this.lateMaterialization = lateMaterialization;
     }
 
     @Override
@@ -321,34 +398,67 @@ public class ArrowReader extends CloseableGroup {
       CloseableIterable<ColumnarBatch> iter;
       InputFile location = getInputFile(task);
       Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
+      ArrowDeleteFilter deleteFilter =
+          TableScanUtil.hasDeletes(task)
+              ? new ArrowDeleteFilter(task, tableSchema, expectedSchema, inputFiles)
+              : null;
+      // read the columns needed to apply deletes, which are removed from the returned batches
+      Schema requiredSchema = deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema;
       if (task.file().format() == FileFormat.PARQUET) {
+        Expression lateMaterializationFilter = lateMaterialization ? task.residual() : null;
         Parquet.ReadBuilder builder =
             Parquet.read(location)
-                .project(expectedSchema)
+                .project(requiredSchema)
                 .split(task.start(), task.length())
                 .createBatchedReaderFunc(
                     fileSchema ->
                         buildReader(
-                            expectedSchema,
+                            requiredSchema,
                             fileSchema, /* setArrowValidityVector */
-                            NullCheckingForGet.NULL_CHECKING_ENABLED))
+                            NullCheckingForGet.NULL_CHECKING_ENABLED,
+                            lateMaterializationFilter,
+                            caseSensitive))
                 .recordsPerBatch(batchSize)
                 .filter(task.residual())
                 .caseSensitive(caseSensitive);
 
-        if (reuseContainers) {
+        if (rowGroupParallelism > 1) {
+          builder.rowGroupParallelism(rowGroupParallelism).rowGroupExecutor(rowGroupExecutor);
+        } else if (reuseContainers) {
           builder.reuseContainers();
         }
         if (nameMapping != null) {
           builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
         }
 
+        iter = builder.build();
+      } else if (task.file().format() == FileFormat.ORC) {
+        Schema schemaWithoutMetadataFields =
+            TypeUtil.selectNot(requiredSchema, MetadataColumns.metadataFieldIds());
+        ORC.ReadBuilder builder =
+            ORC.read(location)
+                .project(schemaWithoutMetadataFields)
+                .split(task.start(), task.length())
+                .createBatchedReaderFunc(
+                    fileSchema ->
+                        ArrowOrcBatchReader.buildReader(
+                            requiredSchema, fileSchema, reuseContainers))
+                .recordsPerBatch(batchSize)
+                .filter(task.residual())
+                .caseSensitive(caseSensitive);
+
+        if (nameMapping != null) {
+          builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+        }
+
         iter = builder.build();
       } else {
         throw new UnsupportedOperationException(
             "Format: " + task.file().format() + " not supported for batched reads");
       }
-      return iter.iterator();
+
+      CloseableIterator<ColumnarBatch> batches = iter.iterator();
+      return deleteFilter != null ? deleteFilter.filterBatches(batches) : batches;
     }
 
     @Override
@@ -373,19 +483,28 @@ public class ArrowReader extends CloseableGroup {
      * @param expectedSchema Expected schema of the data returned.
      * @param fileSchema Schema of the data file.
      * @param setArrowValidityVector Indicates whether to set the validity vector in Arrow vectors.
+     * @param filter Filter used to skip columns of batches with no matching rows, or null.
+     * @param caseSensitive Whether column names in the filter are case sensitive.
      */
     private static ArrowBatchReader buildReader(
-        Schema expectedSchema, MessageType fileSchema, boolean setArrowValidityVector) {
-      return (ArrowBatchReader)
-          TypeWithSchemaVisitor.visit(
-              expectedSchema.asStruct(),
-              fileSchema,
-              new VectorizedReaderBuilder(
-                  expectedSchema,
+        Schema expectedSchema,
+        MessageType fileSchema,
+        boolean setArrowValidityVector,
+        Expression filter,
+        boolean caseSensitive) {
+      ArrowBatchReader reader =
+          (ArrowBatchReader)
+              TypeWithSchemaVisitor.visit(
+                  expectedSchema.asStruct(),
                   fileSchema,
-                  setArrowValidityVector,
-                  ImmutableMap.of(),
-                  ArrowBatchReader::new));
+                  new VectorizedReaderBuilder(
+                      expectedSchema,
+                      fileSchema,
+                      setArrowValidityVector,
+                      ImmutableMap.of(),
+                      ArrowBatchReader::new));
+      reader.setFilter(filter, expectedSchema, caseSensitive);
+      return reader;
     }
   }
 }
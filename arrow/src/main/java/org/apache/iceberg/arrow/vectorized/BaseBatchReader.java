@@ -20,7 +20,21 @@ package org.apache.iceberg.arrow.vectorized;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.IntVector;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
@@ -30,6 +44,11 @@ import org.apache.parquet.hadoop.metadata.ColumnPath;
 public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
   protected final VectorizedArrowReader[] readers;
   protected final VectorHolder[] vectorHolders;
+  private boolean[] filterColumns = null;
+  private Evaluator filterEvaluator = null;
+  private ColumnVectorRow filterRow = null;
+  private int dictionaryFilterColumn = -1;
+  private DictionaryMatches dictionaryMatches = null;
 
   protected BaseBatchReader(List<VectorizedReader<?>> readers) {
     this.readers =
@@ -39,6 +58,174 @@ public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
     this.vectorHolders = new VectorHolder[readers.size()];
   }
 
+  /**
+   * Sets a filter used to skip materializing columns of batches with no matching rows.
+   *
+   * <p>Columns referenced by the filter are read first. The other columns are read only if at
+   * least one row of the batch matches the filter and are skipped otherwise, which allows readers
+   * to drop whole pages without decoding them. The filter is not applied to individual rows.
+   *
+   * <p>The filter is ignored if it references columns that are not read from the data file.
+   *
+   * @param filter an unbound filter expression, usually a task's residual
+   * @param expectedSchema the schema of the rows produced by this reader
+   * @param caseSensitive whether column name resolution is case sensitive
+   */
+  public void setFilter(Expression filter, Schema expectedSchema, boolean caseSensitive) {
+    this.filterColumns = null;
+    this.filterEvaluator = null;
+    this.filterRow = null;
+    this.dictionaryFilterColumn = -1;
+    this.dictionaryMatches = null;
+    if (filter == null || filter.op() == Expression.Operation.TRUE) {
+      return;
+    }
+
+    Set<Integer> filterIds;
+    try {
+      filterIds =
+          Binder.boundReferences(
+              expectedSchema.asStruct(), ImmutableList.of(filter), caseSensitive);
+    } catch (ValidationException e) {
+      // the filter references columns that are not projected
+      return;
+    }
+
+    boolean[] columns = new boolean[readers.length];
+    List<Types.NestedField> fields = Lists.newArrayList();
+    List<Integer> positions = Lists.newArrayList();
+    for (int i = 0; i < readers.length; i += 1) {
+      VectorizedArrowReader reader = readers[i];
+      Types.NestedField field = reader != null ? reader.icebergField() : null;
+      if (field != null && filterIds.contains(field.fieldId())) {
+        if (!reader.readsFileColumn()) {
+          // only columns that are read from the file can be evaluated before other columns
+          return;
+        }
+
+        if (!ColumnVectorRow.isSupported(field.type())) {
+          // the filter cannot be evaluated on values of this type
+          return;
+        }
+
+        columns[i] = true;
+        fields.add(field);
+        positions.add(i);
+      }
+    }
+
+    if (fields.size() == filterIds.size()) {
+      this.filterColumns = columns;
+      this.filterEvaluator = newFilterEvaluator(Types.StructType.of(fields), filter, caseSensitive);
+      this.filterRow =
+          new ColumnVectorRow(
+              fields.toArray(new Types.NestedField[0]),
+              positions.stream().mapToInt(Integer::intValue).toArray());
+      if (positions.size() == 1) {
+        // a filter on a single column can be evaluated once per dictionary entry
+        this.dictionaryFilterColumn = positions.get(0);
+        this.dictionaryMatches = new DictionaryMatches();
+      }
+    }
+  }
+
+  protected boolean hasFilter() {
+    return filterEvaluator != null;
+  }
+
+  protected boolean isFilterColumn(int pos) {
+    return filterColumns != null && filterColumns[pos];
+  }
+
+  /**
+   * Reads the next values of the filter columns into their vector holders.
+   *
+   * @param numRowsToRead number of rows to read
+   * @return true if at least one of the rows read matches the filter
+   */
+  protected boolean readFilterColumns(int numRowsToRead) {
+    ColumnVector[] filterVectors = new ColumnVector[readers.length];
+    for (int i = 0; i < readers.length; i += 1) {
+      if (isFilterColumn(i)) {
+        vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
+        int numRowsInVector = vectorHolders[i].numValues();
+        Preconditions.checkState(
+            numRowsInVector == numRowsToRead,
+            "Number of rows in the vector %s didn't match expected %s ",
+            numRowsInVector,
+            numRowsToRead);
+        filterVectors[i] = new ColumnVector(vectorHolders[i]);
+      }
+    }
+
+    filterRow.setVectors(filterVectors);
+    if (dictionaryFilterColumn >= 0) {
+      VectorHolder holder = vectorHolders[dictionaryFilterColumn];
+      if (holder.isDictionaryEncoded()) {
+        return anyDictionaryEncodedRowMatches(holder, numRowsToRead);
+      }
+    }
+
+    for (int rowId = 0; rowId < numRowsToRead; rowId += 1) {
+      if (evalFilter(rowId)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean evalFilter(int rowId) {
+    return filterEvaluator.eval(filterRow.setRowId(rowId));
+  }
+
+  @VisibleForTesting
+  Evaluator newFilterEvaluator(Types.StructType struct, Expression filter, boolean caseSensitive) {
+    return new Evaluator(struct, filter, caseSensitive);
+  }
+
+  /**
+   * Evaluates a single column filter on a vector of dictionary ids.
+   *
+   * <p>The filter is evaluated once per dictionary entry, using the first row that references the
+   * entry, and the result is cached by dictionary id for the rest of the row group. Other rows are
+   * matched by their dictionary id without decoding their values.
+   */
+  private boolean anyDictionaryEncodedRowMatches(VectorHolder holder, int numRows) {
+    dictionaryMatches.setDictionary(holder.dictionary());
+    ArrowBuf ids = holder.vector().getDataBuffer();
+    NullabilityHolder nulls = holder.nullabilityHolder();
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      boolean matches;
+      if (nulls.isNullAt(rowId) == 1) {
+        matches = dictionaryMatches.nullMatches(rowId);
+      } else {
+        int id = ids.getInt((long) rowId * IntVector.TYPE_WIDTH);
+        matches = dictionaryMatches.idMatches(id, rowId);
+      }
+
+      if (matches) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Skips the next values of the columns that are not referenced by the filter and replaces their
+   * vector holders with empty ones.
+   *
+   * @param numRowsToSkip number of rows to skip
+   */
+  protected void skipNonFilterColumns(int numRowsToSkip) {
+    for (int i = 0; i < readers.length; i += 1) {
+      if (!isFilterColumn(i)) {
+        vectorHolders[i] = readers[i].skip(vectorHolders[i], numRowsToSkip);
+      }
+    }
+  }
+
   @Override
   public void setRowGroupInfo(
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
@@ -79,4 +266,42 @@ public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
       }
     }
   }
+
+  /** Cached results of a single column filter per dictionary id. */
+  private class DictionaryMatches {
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+
+    private Dictionary dictionary = null;
+    private byte[] idMatches = null;
+    private byte nullMatch = UNKNOWN;
+
+    private void setDictionary(Dictionary newDictionary) {
+      if (newDictionary != dictionary) {
+        this.dictionary = newDictionary;
+        this.idMatches = new byte[newDictionary.getMaxId() + 1];
+      }
+    }
+
+    private boolean idMatches(int id, int rowId) {
+      if (idMatches[id] == UNKNOWN) {
+        idMatches[id] = eval(rowId);
+      }
+
+      return idMatches[id] == MATCH;
+    }
+
+    private boolean nullMatches(int rowId) {
+      if (nullMatch == UNKNOWN) {
+        this.nullMatch = eval(rowId);
+      }
+
+      return nullMatch == MATCH;
+    }
+
+    private byte eval(int rowId) {
+      return evalFilter(rowId) ? MATCH : NO_MATCH;
+    }
+  }
 }
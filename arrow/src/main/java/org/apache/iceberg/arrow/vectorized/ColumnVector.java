@@ -22,6 +22,7 @@ import java.math.BigDecimal;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.iceberg.arrow.DictEncodedArrowConverter;
 import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.Dictionary;
 
 /**
  * This class is inspired by Spark's {@code ColumnVector}. This class represents the column data for
@@ -74,6 +75,25 @@ public class ColumnVector implements AutoCloseable {
     return DictEncodedArrowConverter.toArrowVector(vectorHolder, accessor);
   }
 
+  /**
+   * Returns whether the vector returned by {@link #getFieldVector()} contains dictionary ids
+   * instead of values.
+   *
+   * @return true if the field vector is dictionary-encoded
+   */
+  public boolean isDictionaryEncoded() {
+    return vectorHolder.isDictionaryEncoded();
+  }
+
+  /**
+   * Returns the dictionary used to decode the ids in a dictionary-encoded field vector.
+   *
+   * @return the {@link Dictionary} of the vector or null if the vector is not dictionary-encoded
+   */
+  public Dictionary getDictionary() {
+    return vectorHolder.isDictionaryEncoded() ? vectorHolder.dictionary() : null;
+  }
+
   public boolean hasNull() {
     return nullabilityHolder.hasNulls();
   }
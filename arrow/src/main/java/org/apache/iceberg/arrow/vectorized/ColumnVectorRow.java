@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A {@link StructLike} view of a row in a set of {@link ColumnVector columns}.
+ *
+ * <p>Values are returned using the Java classes that Iceberg uses internally for each type, so
+ * rows can be evaluated by expressions and compared with rows in a {@link
+ * org.apache.iceberg.util.StructLikeSet}.
+ */
+class ColumnVectorRow implements StructLike {
+  private final Types.NestedField[] fields;
+  private final int[] positions;
+  private ColumnVector[] vectors = null;
+  private int rowId = 0;
+
+  /**
+   * Creates a row view of the given columns.
+   *
+   * @param fields the fields of the row
+   * @param positions the position of each field's vector in the vectors passed to {@link
+   *     #setVectors(ColumnVector[])}
+   */
+  ColumnVectorRow(Types.NestedField[] fields, int[] positions) {
+    this.fields = fields;
+    this.positions = positions;
+  }
+
+  /** Returns whether values of the given type can be read from a row. */
+  static boolean isSupported(Type type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+      case INTEGER:
+      case DATE:
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+      case FLOAT:
+      case DOUBLE:
+      case STRING:
+      case UUID:
+      case FIXED:
+      case BINARY:
+      case DECIMAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  void setVectors(ColumnVector[] columnVectors) {
+    this.vectors = columnVectors;
+  }
+
+  ColumnVectorRow setRowId(int newRowId) {
+    this.rowId = newRowId;
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return fields.length;
+  }
+
+  @Override
+  public <V> V get(int pos, Class<V> javaClass) {
+    return javaClass.cast(get(pos));
+  }
+
+  private Object get(int pos) {
+    ColumnVector vector = vectors[positions[pos]];
+    if (vector.isNullAt(rowId)) {
+      return null;
+    }
+
+    Type type = fields[pos].type();
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return vector.getBoolean(rowId);
+      case INTEGER:
+      case DATE:
+        return vector.getInt(rowId);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return vector.getLong(rowId);
+      case FLOAT:
+        return vector.getFloat(rowId);
+      case DOUBLE:
+        return vector.getDouble(rowId);
+      case STRING:
+        return vector.getString(rowId);
+      case UUID:
+        return UUIDUtil.convert(vector.getBinary(rowId));
+      case FIXED:
+      case BINARY:
+        return ByteBuffer.wrap(vector.getBinary(rowId));
+      case DECIMAL:
+        Types.DecimalType decimal = (Types.DecimalType) type;
+        return vector.getDecimal(rowId, decimal.precision(), decimal.scale());
+      default:
+        throw new UnsupportedOperationException("Unsupported column type: " + type);
+    }
+  }
+
+  @Override
+  public <V> void set(int pos, V value) {
+    throw new UnsupportedOperationException("Cannot modify a column vector row");
+  }
+}
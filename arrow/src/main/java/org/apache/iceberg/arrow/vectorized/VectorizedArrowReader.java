@@ -73,6 +73,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   private Integer typeWidth;
   private ReadType readType;
   private NullabilityHolder nullabilityHolder;
+  private int pendingSkip = 0;
 
   // In cases when Parquet employs fall back to plain encoding, we eagerly decode the dictionary
   // encoded pages
@@ -127,6 +128,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     return icebergField;
   }
 
+  /** Returns whether this reader reads values of a column from the data file. */
+  boolean readsFileColumn() {
+    return vectorizedColumnIterator != null;
+  }
+
   @Override
   public void setBatchSize(int batchSize) {
     this.batchSize = (batchSize == 0) ? DEFAULT_BATCH_SIZE : batchSize;
@@ -135,7 +141,44 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
   @Override
   public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+    if (pendingSkip > 0) {
+      applyPendingSkip();
+    }
+
     boolean dictEncoded = vectorizedColumnIterator.producesDictionaryEncodedVector();
+    prepareFieldVector(reuse, dictEncoded);
+    if (vectorizedColumnIterator.hasNext()) {
+      readValues(dictEncoded, batchSize);
+    }
+    Preconditions.checkState(
+        vec.getValueCount() == numValsToRead,
+        "Number of values read, %s, does not equal expected, %s",
+        vec.getValueCount(),
+        numValsToRead);
+    return new VectorHolder(
+        columnDescriptor, vec, dictEncoded, dictionary, nullabilityHolder, icebergField);
+  }
+
+  /**
+   * Skips values without materializing them and returns an empty vector in place of the skipped
+   * values.
+   *
+   * <p>Skipping is lazy: skipped values are dropped when the next batch is read, so that
+   * consecutive skips drop whole data pages without decompressing or decoding them.
+   *
+   * @param reuse container for the last vector to be reused for the empty vector
+   * @param numValsToSkip number of values to skip
+   * @return a holder with an empty vector of this reader's type
+   */
+  public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+    this.pendingSkip += numValsToSkip;
+    boolean dictEncoded = vectorizedColumnIterator.producesDictionaryEncodedVector();
+    prepareFieldVector(reuse, dictEncoded);
+    return new VectorHolder(
+        columnDescriptor, vec, dictEncoded, dictionary, nullabilityHolder, icebergField);
+  }
+
+  private void prepareFieldVector(VectorHolder reuse, boolean dictEncoded) {
     if (reuse == null
         || (!dictEncoded && readType == ReadType.DICTIONARY)
         || (dictEncoded && readType != ReadType.DICTIONARY)) {
@@ -145,67 +188,102 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       vec.setValueCount(0);
       nullabilityHolder.reset();
     }
-    if (vectorizedColumnIterator.hasNext()) {
-      if (dictEncoded) {
-        vectorizedColumnIterator.dictionaryBatchReader().nextBatch(vec, -1, nullabilityHolder);
-      } else {
-        switch (readType) {
-          case VARBINARY:
-          case VARCHAR:
-            vectorizedColumnIterator
-                .varWidthTypeBatchReader()
-                .nextBatch(vec, -1, nullabilityHolder);
-            break;
-          case BOOLEAN:
-            vectorizedColumnIterator.booleanBatchReader().nextBatch(vec, -1, nullabilityHolder);
-            break;
-          case INT:
-          case INT_BACKED_DECIMAL:
-            vectorizedColumnIterator
-                .integerBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case LONG:
-          case LONG_BACKED_DECIMAL:
-            vectorizedColumnIterator.longBatchReader().nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case FLOAT:
-            vectorizedColumnIterator
-                .floatBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case DOUBLE:
-            vectorizedColumnIterator
-                .doubleBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case TIMESTAMP_MILLIS:
-            vectorizedColumnIterator
-                .timestampMillisBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case TIMESTAMP_INT96:
-            vectorizedColumnIterator
-                .timestampInt96BatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case UUID:
-          case FIXED_WIDTH_BINARY:
-          case FIXED_LENGTH_DECIMAL:
-            vectorizedColumnIterator
-                .fixedSizeBinaryBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
+  }
+
+  private void applyPendingSkip() {
+    int numValsToDiscard = vectorizedColumnIterator.skip(pendingSkip);
+    this.pendingSkip = 0;
+    if (numValsToDiscard <= 0) {
+      return;
+    }
+
+    // values at the start of a partially skipped page are decoded into a scratch vector
+    FieldVector currentVec = vec;
+    ReadType currentReadType = readType;
+    Integer currentTypeWidth = typeWidth;
+    NullabilityHolder currentNullabilityHolder = nullabilityHolder;
+    try {
+      while (numValsToDiscard > 0 && vectorizedColumnIterator.hasNext()) {
+        int numVals = Math.min(numValsToDiscard, batchSize);
+        boolean dictEncoded = vectorizedColumnIterator.producesDictionaryEncodedVector();
+        allocateFieldVector(dictEncoded);
+        this.nullabilityHolder = new NullabilityHolder(batchSize);
+        try {
+          readValues(dictEncoded, numVals);
+        } finally {
+          vec.close();
         }
+
+        numValsToDiscard -= numVals;
       }
+    } finally {
+      this.vec = currentVec;
+      this.readType = currentReadType;
+      this.typeWidth = currentTypeWidth;
+      this.nullabilityHolder = currentNullabilityHolder;
+    }
+  }
+
+  private void readValues(boolean dictEncoded, int numValsToRead) {
+    if (dictEncoded) {
+      vectorizedColumnIterator
+          .dictionaryBatchReader()
+          .nextBatch(vec, -1, nullabilityHolder, numValsToRead);
+      return;
+    }
+
+    switch (readType) {
+      case VARBINARY:
+      case VARCHAR:
+        vectorizedColumnIterator
+            .varWidthTypeBatchReader()
+            .nextBatch(vec, -1, nullabilityHolder, numValsToRead);
+        break;
+      case BOOLEAN:
+        vectorizedColumnIterator
+            .booleanBatchReader()
+            .nextBatch(vec, -1, nullabilityHolder, numValsToRead);
+        break;
+      case INT:
+      case INT_BACKED_DECIMAL:
+        vectorizedColumnIterator
+            .integerBatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
+      case LONG:
+      case LONG_BACKED_DECIMAL:
+        vectorizedColumnIterator
+            .longBatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
+      case FLOAT:
+        vectorizedColumnIterator
+            .floatBatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
+      case DOUBLE:
+        vectorizedColumnIterator
+            .doubleBatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
+      case TIMESTAMP_MILLIS:
+        vectorizedColumnIterator
+            .timestampMillisBatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
+      case TIMESTAMP_INT96:
+        vectorizedColumnIterator
+            .timestampInt96BatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
+      case UUID:
+      case FIXED_WIDTH_BINARY:
+      case FIXED_LENGTH_DECIMAL:
+        vectorizedColumnIterator
+            .fixedSizeBinaryBatchReader()
+            .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
+        break;
     }
-    Preconditions.checkState(
-        vec.getValueCount() == numValsToRead,
-        "Number of values read, %s, does not equal expected, %s",
-        vec.getValueCount(),
-        numValsToRead);
-    return new VectorHolder(
-        columnDescriptor, vec, dictEncoded, dictionary, nullabilityHolder, icebergField);
   }
 
   private void allocateFieldVector(boolean dictionaryEncodedVector) {
@@ -431,6 +509,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   @Override
   public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
     ColumnChunkMetaData chunkMetaData = metadata.get(ColumnPath.get(columnDescriptor.getPath()));
+    this.pendingSkip = 0;
     this.dictionary =
         vectorizedColumnIterator.setRowGroupInfo(
             source.getPageReader(columnDescriptor),
@@ -516,6 +595,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return VectorHolder.dummyHolder(numValsToRead);
     }
 
+    @Override
+    public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+      return VectorHolder.dummyHolder(0);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
@@ -570,6 +654,13 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return new VectorHolder.PositionVectorHolder(vec, MetadataColumns.ROW_POSITION, nulls);
     }
 
+    @Override
+    public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+      VectorHolder empty = read(reuse, 0);
+      rowStart += numValsToSkip;
+      return empty;
+    }
+
     private static BigIntVector newVector(int valueCount) {
       BigIntVector vector =
           (BigIntVector) ROW_POSITION_ARROW_FIELD.createVector(ArrowAllocation.rootAllocator());
@@ -612,8 +703,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     private static final Field ROW_ID_ARROW_FIELD = ArrowSchemaUtil.convert(MetadataColumns.ROW_ID);
 
     private final long firstRowId;
-    private final VectorizedReader<VectorHolder> idReader;
-    private final VectorizedReader<VectorHolder> posReader;
+    private final VectorizedArrowReader idReader;
+    private final VectorizedArrowReader posReader;
     private NullabilityHolder nulls;
 
     private RowIdVectorReader(long firstRowId, VectorizedArrowReader idReader) {
@@ -660,6 +751,15 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
     }
 
+    @Override
+    public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+      closeVector(posReader.skip(null, numValsToSkip));
+      closeVector(idReader.skip(null, numValsToSkip));
+      BigIntVector rowIds = allocateBigIntVector(ROW_ID_ARROW_FIELD, 0);
+      rowIds.setValueCount(0);
+      return VectorHolder.vectorHolder(rowIds, MetadataColumns.ROW_ID, nulls);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
@@ -688,11 +788,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         ArrowSchemaUtil.convert(MetadataColumns.LAST_UPDATED_SEQUENCE_NUMBER);
 
     private final long lastUpdatedSeq;
-    private final VectorizedReader<VectorHolder> seqReader;
+    private final VectorizedArrowReader seqReader;
     private NullabilityHolder nulls;
 
-    private LastUpdatedSeqVectorReader(
-        long lastUpdatedSeq, VectorizedReader<VectorHolder> seqReader) {
+    private LastUpdatedSeqVectorReader(long lastUpdatedSeq, VectorizedArrowReader seqReader) {
       this.lastUpdatedSeq = lastUpdatedSeq;
       this.seqReader = seqReader == null ? nulls() : seqReader;
     }
@@ -729,6 +828,15 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
     }
 
+    @Override
+    public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+      closeVector(seqReader.skip(null, numValsToSkip));
+      BigIntVector lastUpdatedSequenceNumbers = allocateBigIntVector(LAST_UPDATED_SEQ, 0);
+      lastUpdatedSequenceNumbers.setValueCount(0);
+      return VectorHolder.vectorHolder(
+          lastUpdatedSequenceNumbers, MetadataColumns.LAST_UPDATED_SEQUENCE_NUMBER, nulls);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
@@ -750,6 +858,12 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     }
   }
 
+  private static void closeVector(VectorHolder holder) {
+    if (holder.vector() != null) {
+      holder.vector().close();
+    }
+  }
+
   private static boolean isNull(VectorHolder holder, int index) {
     return holder.nullabilityHolder().isNullAt(index) == 1;
   }
@@ -785,6 +899,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return VectorHolder.constantHolder(icebergField(), numValsToRead, value);
     }
 
+    @Override
+    public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+      return VectorHolder.constantHolder(icebergField(), 0, value);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
@@ -812,6 +931,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return VectorHolder.deletedVectorHolder(numValsToRead);
     }
 
+    @Override
+    public VectorHolder skip(VectorHolder reuse, int numValsToSkip) {
+      return VectorHolder.deletedVectorHolder(0);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
@@ -19,6 +19,7 @@
 package org.apache.iceberg.arrow.vectorized;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.io.CloseableGroup;
@@ -52,7 +53,23 @@ public class VectorizedTableScanIterable extends CloseableGroup
    * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean)} for details.
    */
   public VectorizedTableScanIterable(TableScan scan, int batchSize, boolean reuseContainers) {
-    this.reader = new ArrowReader(scan, batchSize, reuseContainers);
+    this(scan, batchSize, reuseContainers, 1, null);
+  }
+
+  /**
+   * Create a new instance that decodes Parquet row groups in parallel.
+   *
+   * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean, int, ExecutorService)} for
+   * details.
+   */
+  public VectorizedTableScanIterable(
+      TableScan scan,
+      int batchSize,
+      boolean reuseContainers,
+      int rowGroupParallelism,
+      ExecutorService rowGroupExecutor) {
+    this.reader =
+        new ArrowReader(scan, batchSize, reuseContainers, rowGroupParallelism, rowGroupExecutor);
     // start planning tasks in the background
     this.tasks = scan.planTasks();
   }
@@ -26,6 +26,7 @@ import org.apache.iceberg.parquet.BasePageIterator;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.page.DataPage;
 import org.apache.parquet.column.page.PageReader;
 
 /**
@@ -68,13 +69,65 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
     return vectorizedPageIterator.producesDictionaryEncodedVector();
   }
 
+  /**
+   * Skips values in the current row group, dropping whole data pages without decoding them.
+   *
+   * <p>Values left in the current page and pages that are fully covered by the skip are dropped.
+   * If the skip ends inside a page, that page is loaded and the number of its leading values that
+   * still have to be read and discarded by the caller is returned.
+   *
+   * @param numValsToSkip number of values to skip
+   * @return number of leading values in the current page that must still be read and discarded
+   */
+  public int skip(int numValsToSkip) {
+    int remaining = numValsToSkip;
+    int remainingInPage = vectorizedPageIterator.remainingValuesInPage();
+    if (remaining <= remainingInPage) {
+      return remaining;
+    }
+
+    vectorizedPageIterator.skipRemainingValuesInPage();
+    triplesRead += remainingInPage;
+    remaining -= remainingInPage;
+
+    while (remaining > 0 && hasNext()) {
+      DataPage page = pageSource.readPage();
+      if (page == null) {
+        break;
+      }
+
+      int pageValueCount = page.getValueCount();
+      advanceNextPageCount += pageValueCount;
+      if (pageValueCount <= remaining) {
+        triplesRead += pageValueCount;
+        remaining -= pageValueCount;
+      } else {
+        vectorizedPageIterator.setPage(page);
+        return remaining;
+      }
+    }
+
+    Preconditions.checkState(
+        remaining == 0,
+        "Cannot skip %s values: %s values past the end of the row group",
+        numValsToSkip,
+        remaining);
+    return 0;
+  }
+
   public abstract class BatchReader {
     public void nextBatch(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
+      nextBatch(fieldVector, typeWidth, holder, batchSize);
+    }
+
+    public void nextBatch(
+        FieldVector fieldVector, int typeWidth, NullabilityHolder holder, int numValsToRead) {
       int rowsReadSoFar = 0;
-      while (rowsReadSoFar < batchSize && hasNext()) {
+      while (rowsReadSoFar < numValsToRead && hasNext()) {
         advance();
         int rowsInThisBatch =
-            nextBatchOf(fieldVector, batchSize - rowsReadSoFar, rowsReadSoFar, typeWidth, holder);
+            nextBatchOf(
+                fieldVector, numValsToRead - rowsReadSoFar, rowsReadSoFar, typeWidth, holder);
         rowsReadSoFar += rowsInThisBatch;
         triplesRead += rowsInThisBatch;
         fieldVector.setValueCount(rowsReadSoFar);
@@ -123,6 +123,17 @@ public class VectorizedPageIterator extends BasePageIterator {
     return dictionaryDecodeMode == DictionaryDecodeMode.LAZY;
   }
 
+  /** Returns the number of values in the current page that have not been read yet. */
+  int remainingValuesInPage() {
+    return hasNext ? triplesCount - triplesRead : 0;
+  }
+
+  /** Drops the values left in the current page without decoding them. */
+  void skipRemainingValuesInPage() {
+    this.triplesRead = triplesCount;
+    this.hasNext = false;
+  }
+
   @Override
   protected void initDefinitionLevelsReader(
       DataPageV1 dataPageV1, ColumnDescriptor desc, ByteBufferInputStream in, int triplesCount)
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestArrowBatchWriter {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()),
+          optional(2, "count", Types.LongType.get()),
+          optional(3, "score", Types.DoubleType.get()),
+          optional(4, "name", Types.StringType.get()),
+          optional(5, "small_decimal", Types.DecimalType.of(9, 2)),
+          optional(6, "big_decimal", Types.DecimalType.of(38, 10)));
+
+  private static final int NUM_BATCHES = 3;
+  private static final int BATCH_SIZE = 100;
+
+  @TempDir private File tempDir;
+
+  @Test
+  public void testWriteBatches() throws IOException {
+    File file = new File(tempDir, "batches.parquet");
+
+    FileAppender<VectorSchemaRoot> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(SCHEMA)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "30")
+            .createBatchedWriterFunc(ArrowBatchWriter::buildWriter)
+            .build();
+
+    try (VectorSchemaRoot root =
+        VectorSchemaRoot.create(ArrowSchemaUtil.convert(SCHEMA), ArrowAllocation.rootAllocator())) {
+      try (FileAppender<VectorSchemaRoot> closeable = appender) {
+        for (int batch = 0; batch < NUM_BATCHES; batch += 1) {
+          fillBatch(root, batch * BATCH_SIZE, BATCH_SIZE);
+          closeable.add(root);
+        }
+      }
+    }
+
+    int numRows = NUM_BATCHES * BATCH_SIZE;
+    Metrics metrics = appender.metrics();
+    assertThat(metrics.recordCount()).isEqualTo(numRows);
+    assertThat(metrics.nullValueCounts())
+        .containsEntry(1, 0L)
+        .containsEntry(2, (long) numRows / 10)
+        .containsEntry(3, 0L)
+        .containsEntry(4, (long) numRows / 10);
+    assertThat(metrics.nanValueCounts()).containsEntry(3, (long) numRows / 7 + 1);
+    assertThat(metrics.lowerBounds())
+        .containsEntry(1, Conversions.toByteBuffer(Types.IntegerType.get(), 0))
+        .containsEntry(3, Conversions.toByteBuffer(Types.DoubleType.get(), 1.0D));
+    assertThat(metrics.upperBounds())
+        .containsEntry(1, Conversions.toByteBuffer(Types.IntegerType.get(), numRows - 1))
+        .containsEntry(3, Conversions.toByteBuffer(Types.DoubleType.get(), (double) numRows - 1));
+
+    List<Record> records;
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(file))
+            .project(SCHEMA)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(SCHEMA, fileSchema))
+            .build()) {
+      records = Lists.newArrayList(reader);
+    }
+
+    assertThat(records).hasSize(numRows);
+    for (int i = 0; i < numRows; i += 1) {
+      Record record = records.get(i);
+      assertThat(record.getField("id")).isEqualTo(i);
+      assertThat(record.getField("count")).isEqualTo(i % 10 == 0 ? null : (long) i * 1_000);
+      assertThat((Double) record.getField("score")).isEqualTo(score(i));
+      assertThat(record.getField("name")).isEqualTo(i % 10 == 5 ? null : "name-" + i);
+      assertThat(record.getField("small_decimal")).isEqualTo(BigDecimal.valueOf(i, 2));
+      assertThat(record.getField("big_decimal")).isEqualTo(bigDecimal(i));
+    }
+  }
+
+  @Test
+  public void testWriteNullToRequiredColumn() throws IOException {
+    File file = new File(tempDir, "nulls.parquet");
+
+    try (VectorSchemaRoot root =
+            VectorSchemaRoot.create(
+                ArrowSchemaUtil.convert(SCHEMA), ArrowAllocation.rootAllocator());
+        FileAppender<VectorSchemaRoot> appender =
+            Parquet.write(Files.localOutput(file))
+                .schema(SCHEMA)
+                .createBatchedWriterFunc(ArrowBatchWriter::buildWriter)
+                .build()) {
+      fillBatch(root, 0, 10);
+      ((IntVector) root.getVector("id")).setNull(3);
+
+      assertThatThrownBy(() -> appender.add(root))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Cannot write null values to required column: id");
+    }
+  }
+
+  private static void fillBatch(VectorSchemaRoot root, int start, int size) {
+    root.allocateNew();
+    IntVector ids = (IntVector) root.getVector("id");
+    BigIntVector counts = (BigIntVector) root.getVector("count");
+    Float8Vector scores = (Float8Vector) root.getVector("score");
+    VarCharVector names = (VarCharVector) root.getVector("name");
+    DecimalVector smallDecimals = (DecimalVector) root.getVector("small_decimal");
+    DecimalVector bigDecimals = (DecimalVector) root.getVector("big_decimal");
+
+    for (int row = 0; row < size; row += 1) {
+      int value = start + row;
+      ids.setSafe(row, value);
+      if (value % 10 == 0) {
+        counts.setNull(row);
+      } else {
+        counts.setSafe(row, (long) value * 1_000);
+      }
+
+      scores.setSafe(row, score(value));
+      if (value % 10 == 5) {
+        names.setNull(row);
+      } else {
+        names.setSafe(row, ("name-" + value).getBytes(StandardCharsets.UTF_8));
+      }
+
+      smallDecimals.setSafe(row, BigDecimal.valueOf(value, 2));
+      bigDecimals.setSafe(row, bigDecimal(value));
+    }
+
+    root.setRowCount(size);
+  }
+
+  private static double score(int value) {
+    return value % 7 == 0 ? Double.NaN : (double) value;
+  }
+
+  private static BigDecimal bigDecimal(int value) {
+    return BigDecimal.valueOf(value).movePointLeft(10).add(BigDecimal.valueOf(-value));
+  }
+}
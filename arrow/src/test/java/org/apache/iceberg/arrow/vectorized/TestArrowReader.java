@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow.vectorized;
 
 import static org.apache.iceberg.Files.localInput;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
@@ -37,7 +38,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.apache.arrow.vector.BigIntVector;
@@ -69,17 +74,25 @@ import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Types;
@@ -180,6 +193,174 @@ public class TestArrowReader {
     readAndCheckQueryResult(scan, 10, 12 * NUM_ROWS_PER_MONTH, ALL_COLUMNS);
   }
 
+  /**
+   * Read all rows and columns from files with several row groups while decoding row groups in
+   * parallel. The test asserts that the batches are returned in file order and contain the expected
+   * values, and that the total number of rows match the expected value.
+   */
+  @Test
+  public void testReadAllWithRowGroupParallelism() throws Exception {
+    // flush a row group every 5 rows
+    writeTable(
+        false,
+        ImmutableMap.of(
+            TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES,
+            "1",
+            TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT,
+            "5",
+            TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT,
+            "5"));
+    Table table = tables.load(tableLocation);
+    TableScan scan = table.newScan();
+
+    int numRowsPerRoot = 5;
+    int rowIndex = 0;
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(scan, numRowsPerRoot, false, 3, executor)) {
+      for (ColumnarBatch batch : itr) {
+        List<GenericRecord> expectedRows = rowsWritten.subList(rowIndex, rowIndex + numRowsPerRoot);
+        checkColumnarBatch(numRowsPerRoot, expectedRows, batch, ALL_COLUMNS);
+        rowIndex += numRowsPerRoot;
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(rowIndex).isEqualTo(12 * NUM_ROWS_PER_MONTH);
+  }
+
+  @Test
+  public void testRowGroupParallelismRequiresExecutor() throws Exception {
+    writeTableWithIncrementalRecords();
+    TableScan scan = tables.load(tableLocation).newScan();
+
+    assertThatThrownBy(() -> new VectorizedTableScanIterable(scan, 5, false, 3, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid row group executor: null (required when row group parallelism is 3)");
+  }
+
+  /**
+   * Read all columns from files with several pages using a row filter on a non-partition column
+   * with late materialization enabled. The test asserts that batches with no matching rows are
+   * returned empty and that the other batches contain the expected values.
+   */
+  @Test
+  public void testReadWithLateMaterialization() throws Exception {
+    readAndCheckLateMaterialization(Expressions.greaterThanOrEqual("int", 15));
+  }
+
+  /**
+   * Read all columns using a row filter on a dictionary-encoded string column with late
+   * materialization enabled. The filter is evaluated once per dictionary entry.
+   */
+  @Test
+  public void testReadWithLateMaterializationOnDictionaryEncodedColumn() throws Exception {
+    readAndCheckLateMaterialization(Expressions.in("string", "String-15", "String-18"));
+  }
+
+  /**
+   * Read a file with a single distinct value in a dictionary-encoded column using a filter that
+   * matches no rows. The test asserts that the filter is evaluated once for the dictionary entry
+   * rather than once per row.
+   */
+  @Test
+  public void testLateMaterializationEvaluatesFilterOncePerDictionaryEntry() throws Exception {
+    writeTableWithConstantRecords();
+    Table table = tables.load(tableLocation);
+    Schema projection = table.schema().select("int", "string");
+    Expression filter = Expressions.equal("string", "String-0");
+    DataFile file = Iterables.getFirst(table.currentSnapshot().addedDataFiles(table.io()), null);
+
+    AtomicInteger numReaders = new AtomicInteger(0);
+    AtomicLong numFilterEvaluations = new AtomicLong(0L);
+    int numBatches = 0;
+    try (CloseableIterable<ColumnarBatch> batches =
+        Parquet.read(localInput(file.location()))
+            .project(projection)
+            .createBatchedReaderFunc(
+                fileSchema -> {
+                  ArrowBatchReader reader =
+                      (ArrowBatchReader)
+                          TypeWithSchemaVisitor.visit(
+                              projection.asStruct(),
+                              fileSchema,
+                              new VectorizedReaderBuilder(
+                                  projection,
+                                  fileSchema,
+                                  true /* setArrowValidityVector */,
+                                  ImmutableMap.of(),
+                                  readers -> countingBatchReader(readers, numFilterEvaluations)));
+                  reader.setFilter(filter, projection, true /* caseSensitive */);
+                  numReaders.incrementAndGet();
+                  return reader;
+                })
+            .recordsPerBatch(5)
+            .build()) {
+      for (ColumnarBatch batch : batches) {
+        assertThat(batch.numRows()).isZero();
+        numBatches += 1;
+      }
+    }
+
+    assertThat(numBatches).isEqualTo(NUM_ROWS_PER_MONTH / 5);
+    assertThat(numReaders).hasValue(1);
+    assertThat(numFilterEvaluations).hasValue(1L);
+  }
+
+  /** Returns a batch reader that counts the number of times its filter is evaluated for a row. */
+  private static ArrowBatchReader countingBatchReader(
+      List<VectorizedReader<?>> readers, AtomicLong numEvaluations) {
+    return new ArrowBatchReader(readers) {
+      @Override
+      Evaluator newFilterEvaluator(
+          Types.StructType struct, Expression filter, boolean caseSensitive) {
+        return new Evaluator(struct, filter, caseSensitive) {
+          @Override
+          public boolean eval(StructLike data) {
+            numEvaluations.incrementAndGet();
+            return super.eval(data);
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Reads the table with a filter that matches rows 15 to 19 of every file, but no rows of the
+   * other batches of each file.
+   */
+  private void readAndCheckLateMaterialization(Expression filter) throws Exception {
+    writeTable(false, ImmutableMap.of(TableProperties.PARQUET_PAGE_ROW_LIMIT, "5"));
+    Table table = tables.load(tableLocation);
+    table
+        .updateProperties()
+        .set(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED, "true")
+        .commit();
+    TableScan scan = table.newScan().filter(filter);
+
+    int numRowsPerRoot = 5;
+    int numEmptyBatches = 0;
+    int numFiles = 0;
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(scan, numRowsPerRoot, false)) {
+      for (ColumnarBatch batch : itr) {
+        if (batch.numRows() == 0) {
+          numEmptyBatches += 1;
+        } else {
+          int fileStart = numFiles * NUM_ROWS_PER_MONTH;
+          List<GenericRecord> expectedRows =
+              rowsWritten.subList(fileStart + 15, fileStart + NUM_ROWS_PER_MONTH);
+          checkColumnarBatch(numRowsPerRoot, expectedRows, batch, ALL_COLUMNS);
+          numFiles += 1;
+        }
+      }
+    }
+
+    assertThat(numFiles).isEqualTo(12);
+    assertThat(numEmptyBatches).isEqualTo(3 * 12);
+  }
+
   /**
    * Read selected rows and all columns from the table using a time range row filter. The test
    * asserts that the Arrow {@link VectorSchemaRoot} contains the expected schema and expected
@@ -666,6 +847,11 @@ public class TestArrowReader {
   }
 
   private void writeTable(boolean constantRecords) throws Exception {
+    writeTable(constantRecords, ImmutableMap.of());
+  }
+
+  private void writeTable(boolean constantRecords, Map<String, String> writeProperties)
+      throws Exception {
     rowsWritten = Lists.newArrayList();
     tables = new HadoopTables();
     tableLocation = tempDir.toURI().toString();
@@ -714,7 +900,7 @@ public class TestArrowReader {
         records =
             createIncrementalRecordsForDate(table.schema(), LocalDateTime.of(2020, i, 1, 0, 0, 0));
       }
-      overwrite.addFile(writeParquetFile(table, records));
+      overwrite.addFile(writeParquetFile(table, records, writeProperties));
     }
     overwrite.commit();
 
@@ -870,13 +1056,16 @@ public class TestArrowReader {
     return records;
   }
 
-  private DataFile writeParquetFile(Table table, List<GenericRecord> records) throws IOException {
+  private DataFile writeParquetFile(
+      Table table, List<GenericRecord> records, Map<String, String> writeProperties)
+      throws IOException {
     rowsWritten.addAll(records);
     File parquetFile = File.createTempFile("junit", null, tempDir);
     assertThat(parquetFile.delete()).isTrue();
     FileAppender<GenericRecord> appender =
         Parquet.write(Files.localOutput(parquetFile))
             .schema(table.schema())
+            .setAll(writeProperties)
             .createWriterFunc(GenericParquetWriter::create)
             .build();
     try {
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.orc.ORCSchemaUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class TestArrowReaderWithDeletes {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+
+  private static final int NUM_ROWS = 10;
+
+  @TempDir private File tempDir;
+
+  @ParameterizedTest
+  @EnumSource(
+      value = FileFormat.class,
+      names = {"PARQUET", "ORC"})
+  public void testReadWithoutDeletes(FileFormat format) throws IOException {
+    Table table = createTable(format);
+    appendDataFile(table, format);
+
+    long allocatedBytes = ArrowAllocation.rootAllocator().getAllocatedMemory();
+    assertThat(readIds(table, "id", "data")).isEqualTo(ids(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+    // the vectors of the last batch are released when the reader is closed
+    assertThat(ArrowAllocation.rootAllocator().getAllocatedMemory()).isEqualTo(allocatedBytes);
+  }
+
+  @Test
+  public void testOrcPositionsOfSelectedRows() {
+    Schema fileSchema = new Schema(required(1, "id", Types.IntegerType.get()));
+    Schema expectedSchema = new Schema(fileSchema.findField("id"), MetadataColumns.ROW_POSITION);
+    TypeDescription orcSchema = ORCSchemaUtil.convert(fileSchema);
+    ArrowOrcBatchReader reader = ArrowOrcBatchReader.buildReader(expectedSchema, orcSchema, false);
+
+    VectorizedRowBatch batch = orcSchema.createRowBatch();
+    LongColumnVector idVector = (LongColumnVector) batch.cols[0];
+    for (int row = 0; row < 4; row += 1) {
+      idVector.vector[row] = row;
+    }
+
+    // only the second and fourth rows of the batch are selected
+    batch.selectedInUse = true;
+    batch.selected[0] = 1;
+    batch.selected[1] = 3;
+    batch.size = 2;
+
+    try {
+      reader.setBatchContext(100L);
+      ColumnarBatch columnarBatch = reader.read(batch);
+      assertThat(columnarBatch.numRows()).isEqualTo(2);
+      assertThat(columnarBatch.column(0).getInt(0)).isEqualTo(1);
+      assertThat(columnarBatch.column(0).getInt(1)).isEqualTo(3);
+      assertThat(columnarBatch.column(1).getLong(0)).isEqualTo(101L);
+      assertThat(columnarBatch.column(1).getLong(1)).isEqualTo(103L);
+    } finally {
+      reader.close();
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = FileFormat.class,
+      names = {"PARQUET", "ORC"})
+  public void testReadWithPositionDeletes(FileFormat format) throws IOException {
+    Table table = createTable(format);
+    DataFile dataFile = appendDataFile(table, format);
+
+    List<Pair<CharSequence, Long>> deletes =
+        ImmutableList.of(
+            Pair.of(dataFile.location(), 0L),
+            Pair.of(dataFile.location(), 3L),
+            Pair.of(dataFile.location(), 9L));
+    DeleteFile posDeletes =
+        FileHelpers.writeDeleteFile(table, newOutputFile(format), deletes).first();
+    table.newRowDelta().addDeletes(posDeletes).commit();
+
+    assertThat(readIds(table, "id", "data")).isEqualTo(ids(1, 2, 4, 5, 6, 7, 8));
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = FileFormat.class,
+      names = {"PARQUET", "ORC"})
+  public void testReadWithEqualityDeletes(FileFormat format) throws IOException {
+    Table table = createTable(format);
+    appendDataFile(table, format);
+
+    Schema deleteSchema = table.schema().select("data");
+    Record delete = GenericRecord.create(deleteSchema);
+    List<Record> deletes =
+        ImmutableList.of(delete.copy("data", "data-2"), delete.copy("data", "data-7"));
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(table, newOutputFile(format), deletes, deleteSchema);
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+
+    // the equality delete column is read to apply deletes but is not returned
+    assertThat(readIds(table, "id")).isEqualTo(ids(0, 1, 3, 4, 5, 6, 8, 9));
+  }
+
+  private Table createTable(FileFormat format) {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            TableProperties.FORMAT_VERSION,
+            "2",
+            TableProperties.DEFAULT_FILE_FORMAT,
+            format.name());
+    return new HadoopTables()
+        .create(SCHEMA, PartitionSpec.unpartitioned(), properties, tempDir.toURI().toString());
+  }
+
+  private DataFile appendDataFile(Table table, FileFormat format) throws IOException {
+    List<Record> records = Lists.newArrayList();
+    for (int id = 0; id < NUM_ROWS; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      record.setField("data", "data-" + id);
+      records.add(record);
+    }
+
+    DataFile dataFile = FileHelpers.writeDataFile(table, newOutputFile(format), records);
+    table.newAppend().appendFile(dataFile).commit();
+    return dataFile;
+  }
+
+  private OutputFile newOutputFile(FileFormat format) {
+    return Files.localOutput(new File(tempDir, format.addExtension("file-" + System.nanoTime())));
+  }
+
+  private static List<Integer> readIds(Table table, String... columns) throws IOException {
+    List<Integer> ids = Lists.newArrayList();
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(table.newScan().select(columns), 4, false)) {
+      for (ColumnarBatch batch : batches) {
+        assertThat(batch.numCols()).isEqualTo(columns.length);
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          int id = batch.column(0).getInt(row);
+          ids.add(id);
+          if (columns.length > 1) {
+            assertThat(batch.column(1).getString(row)).isEqualTo("data-" + id);
+          }
+        }
+      }
+    }
+
+    return ids;
+  }
+
+  private static List<Integer> ids(Integer... ids) {
+    return ImmutableList.copyOf(ids);
+  }
+}
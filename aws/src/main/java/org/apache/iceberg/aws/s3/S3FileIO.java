@@ -19,19 +19,17 @@
 package org.apache.iceberg.aws.s3;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.aws.S3FileIOAwsClientFactories;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.io.BulkDeleter;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.CredentialSupplier;
 import org.apache.iceberg.io.DelegateFileIO;
@@ -49,8 +47,6 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
-import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
-import org.apache.iceberg.relocated.com.google.common.collect.SetMultimap;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.PropertyUtil;
@@ -248,55 +244,24 @@ public class S3FileIO
     }
 
     if (s3FileIOProperties.isDeleteEnabled()) {
-      SetMultimap<String, String> bucketToObjects =
-          Multimaps.newSetMultimap(Maps.newHashMap(), Sets::newHashSet);
-      List<Future<List<String>>> deletionTasks = Lists.newArrayList();
-      for (String path : paths) {
-        PrefixedS3Client client = clientForStoragePath(path);
-        S3URI location = new S3URI(path, client.s3FileIOProperties().bucketToAccessPointMapping());
-        String bucket = location.bucket();
-        String objectKey = location.key();
-        bucketToObjects.get(bucket).add(objectKey);
-        if (bucketToObjects.get(bucket).size() == client.s3FileIOProperties().deleteBatchSize()) {
-          Set<String> keys = Sets.newHashSet(bucketToObjects.get(bucket));
-          Future<List<String>> deletionTask =
-              executorService().submit(() -> deleteBatch(client, bucket, keys));
-          deletionTasks.add(deletionTask);
-          bucketToObjects.removeAll(bucket);
-        }
-      }
-
-      // Delete the remainder
-      for (Map.Entry<String, Collection<String>> bucketToObjectsEntry :
-          bucketToObjects.asMap().entrySet()) {
-        String bucket = bucketToObjectsEntry.getKey();
-        Collection<String> keys = bucketToObjectsEntry.getValue();
-        Future<List<String>> deletionTask =
-            executorService()
-                .submit(() -> deleteBatch(clientForStoragePath("s3://" + bucket), bucket, keys));
-        deletionTasks.add(deletionTask);
-      }
+      BulkDeleter.builder(this::deleteBatch)
+          .groupBy(this::bucketLocation)
+          .batchSize(s3FileIOProperties.deleteBatchSize())
+          .executeWith(executorService(), s3FileIOProperties.deleteThreads())
+          .throttledWhen(S3FileIO::isThrottled)
+          .build()
+          .deleteFiles(paths);
+    }
+  }
 
-      int totalFailedDeletions = 0;
-
-      for (Future<List<String>> deletionTask : deletionTasks) {
-        try {
-          List<String> failedDeletions = deletionTask.get();
-          failedDeletions.forEach(path -> LOG.warn("Failed to delete object at path {}", path));
-          totalFailedDeletions += failedDeletions.size();
-        } catch (ExecutionException e) {
-          LOG.warn("Caught unexpected exception during batch deletion: ", e.getCause());
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          deletionTasks.stream().filter(task -> !task.isDone()).forEach(task -> task.cancel(true));
-          throw new RuntimeException("Interrupted when waiting for deletions to complete", e);
-        }
-      }
+  private String bucketLocation(String path) {
+    PrefixedS3Client client = clientForStoragePath(path);
+    S3URI location = new S3URI(path, client.s3FileIOProperties().bucketToAccessPointMapping());
+    return location.scheme() + "://" + location.bucket();
+  }
 
-      if (totalFailedDeletions > 0) {
-        throw new BulkDeletionFailureException(totalFailedDeletions);
-      }
-    }
+  private static boolean isThrottled(Throwable thrown) {
+    return thrown instanceof S3Exception && ((S3Exception) thrown).statusCode() == 503;
   }
 
   private void tagFileToDelete(PrefixedS3Client client, String path, Set<Tag> deleteTags)
@@ -324,33 +289,34 @@ public class S3FileIO
     client.s3().putObjectTagging(putObjectTaggingRequest);
   }
 
-  private List<String> deleteBatch(
-      PrefixedS3Client client, String bucket, Collection<String> keysToDelete) {
-    List<ObjectIdentifier> objectIds =
-        keysToDelete.stream()
-            .map(key -> ObjectIdentifier.builder().key(key).build())
-            .collect(Collectors.toList());
+  private List<String> deleteBatch(String bucketLocation, List<String> paths) {
+    PrefixedS3Client client = clientForStoragePath(paths.get(0));
+    String bucket = null;
+    Set<String> keys = Sets.newHashSet();
+    List<ObjectIdentifier> objectIds = Lists.newArrayListWithExpectedSize(paths.size());
+    for (String path : paths) {
+      S3URI location = new S3URI(path, client.s3FileIOProperties().bucketToAccessPointMapping());
+      bucket = location.bucket();
+      if (keys.add(location.key())) {
+        objectIds.add(ObjectIdentifier.builder().key(location.key()).build());
+      }
+    }
+
     DeleteObjectsRequest request =
         DeleteObjectsRequest.builder()
             .bucket(bucket)
             .delete(Delete.builder().objects(objectIds).build())
             .build();
     List<String> failures = Lists.newArrayList();
-    try {
-      DeleteObjectsResponse response = client.s3().deleteObjects(request);
-      if (response.hasErrors()) {
-        failures.addAll(
-            response.errors().stream()
-                .map(error -> String.format("s3://%s/%s", request.bucket(), error.key()))
-                .collect(Collectors.toList()));
-      }
-    } catch (Exception e) {
-      LOG.warn("Encountered failure when deleting batch", e);
+    // failures of the whole request are thrown so that throttling is detected by the bulk deleter
+    DeleteObjectsResponse response = client.s3().deleteObjects(request);
+    if (response.hasErrors()) {
       failures.addAll(
-          request.delete().objects().stream()
-              .map(obj -> String.format("s3://%s/%s", request.bucket(), obj.key()))
+          response.errors().stream()
+              .map(error -> String.format("%s/%s", bucketLocation, error.key()))
               .collect(Collectors.toList()));
     }
+
     return failures;
   }
 
@@ -211,6 +211,18 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final String STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * The max number of bytes of memory to use for staging parts before upload (shared across all
+   * output streams configured with the same size), default to 0. When set to a positive value,
+   * parts are staged in pooled memory buffers instead of local files as long as memory is
+   * available within this limit. Parts that do not fit are staged in {@link #STAGING_DIRECTORY}.
+   * When checksums are enabled, part checksums of parts staged in memory are calculated by the
+   * upload threads.
+   */
+  public static final String STAGING_MEMORY_SIZE = "s3.staging-memory-size-bytes";
+
+  public static final long STAGING_MEMORY_SIZE_DEFAULT = 0L;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write. If not
    * set, ACL will not be set for requests.
@@ -507,6 +519,7 @@ public class S3FileIOProperties implements Serializable {
   private int deleteBatchSize;
   private double multipartThresholdFactor;
   private String stagingDirectory;
+  private long stagingMemorySize;
   private ObjectCannedACL acl;
   private boolean isChecksumEnabled;
   private final Set<Tag> writeTags;
@@ -550,6 +563,7 @@ public class S3FileIOProperties implements Serializable {
     this.multipartThresholdFactor = MULTIPART_THRESHOLD_FACTOR_DEFAULT;
     this.deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
     this.stagingDirectory = System.getProperty("java.io.tmpdir");
+    this.stagingMemorySize = STAGING_MEMORY_SIZE_DEFAULT;
     this.isChecksumEnabled = CHECKSUM_ENABLED_DEFAULT;
     this.writeTags = Sets.newHashSet();
     this.isWriteTableTagEnabled = WRITE_TABLE_TAG_ENABLED_DEFAULT;
@@ -634,6 +648,10 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory =
         PropertyUtil.propertyAsString(
             properties, STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    this.stagingMemorySize =
+        PropertyUtil.propertyAsLong(properties, STAGING_MEMORY_SIZE, STAGING_MEMORY_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        stagingMemorySize >= 0, "Staging memory size must not be negative: %s", stagingMemorySize);
     String aclType = properties.get(ACL);
     this.acl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(
@@ -768,6 +786,14 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory = directory;
   }
 
+  public long stagingMemorySize() {
+    return stagingMemorySize;
+  }
+
+  public void setStagingMemorySize(long size) {
+    this.stagingMemorySize = size;
+  }
+
   public ObjectCannedACL acl() {
     return this.acl;
   }
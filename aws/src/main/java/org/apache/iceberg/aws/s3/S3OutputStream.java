@@ -36,11 +36,13 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
@@ -87,22 +89,24 @@ class S3OutputStream extends PositionOutputStream {
   private final Set<Tag> writeTags;
 
   private CountingOutputStream stream;
-  private final List<FileAndDigest> stagingFiles = Lists.newArrayList();
+  private final List<StagingPart> stagingParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private final S3StagingBufferPool bufferPool;
+  private StagingPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagingPart, CompletableFuture<CompletedPart>> multiPartMap =
+      Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
   private final boolean isChecksumEnabled;
   private final MessageDigest completeMessageDigest;
-  private MessageDigest currentPartMessageDigest;
 
   private final Counter writeBytes;
   private final Counter writeOperations;
 
   private long pos = 0;
   private boolean closed = false;
+  private volatile boolean aborted = false;
 
   @SuppressWarnings("StaticAssignmentInConstructor")
   S3OutputStream(
@@ -124,6 +128,10 @@ class S3OutputStream extends PositionOutputStream {
       }
     }
 
+    long stagingMemorySize = s3FileIOProperties.stagingMemorySize();
+    this.bufferPool =
+        stagingMemorySize > 0 ? S3StagingBufferPool.forLimit(stagingMemorySize) : null;
+
     this.s3 = s3;
     this.location = location;
     this.s3FileIOProperties = s3FileIOProperties;
@@ -215,9 +223,35 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
     }
 
+    byte[] buffer = bufferPool != null ? bufferPool.acquire(multiPartSize) : null;
+    if (buffer != null) {
+      newMemoryStream(buffer);
+    } else {
+      newFileStream();
+    }
+  }
+
+  private void newMemoryStream(byte[] buffer) {
+    MemoryPart part = new MemoryPart(bufferPool, buffer);
+    currentPart = part;
+    stagingParts.add(part);
+
+    // the part digest is calculated by the upload thread, only the digest of the whole object is
+    // updated while writing and only until switching to multipart upload
+    if (isChecksumEnabled && multipartUploadId == null) {
+      stream =
+          new CountingOutputStream(
+              new DigestOutputStream(part.outputStream(), completeMessageDigest));
+    } else {
+      stream = new CountingOutputStream(part.outputStream());
+    }
+  }
+
+  private void newFileStream() throws IOException {
     createStagingDirectoryIfNotExists();
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+    File currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
     currentStagingFile.deleteOnExit();
+    MessageDigest currentPartMessageDigest;
     try {
       currentPartMessageDigest =
           isChecksumEnabled ? MessageDigest.getInstance(DIGEST_ALGORITHM) : null;
@@ -226,7 +260,8 @@ class S3OutputStream extends PositionOutputStream {
           "Failed to create message digest needed for s3 checksum checks.", e);
     }
 
-    stagingFiles.add(new FileAndDigest(currentStagingFile, currentPartMessageDigest));
+    currentPart = new FilePart(currentStagingFile, currentPartMessageDigest);
+    stagingParts.add(currentPart);
     OutputStream outputStream = Files.newOutputStream(currentStagingFile.toPath());
 
     if (isChecksumEnabled) {
@@ -270,7 +305,7 @@ class S3OutputStream extends PositionOutputStream {
         completeUploads();
       }
     } finally {
-      cleanUpStagingFiles();
+      cleanUpStagingParts();
     }
   }
 
@@ -290,42 +325,31 @@ class S3OutputStream extends PositionOutputStream {
     multipartUploadId = s3.createMultipartUpload(requestBuilder.build()).uploadId();
   }
 
-  @SuppressWarnings("checkstyle:LocalVariableName")
   private void uploadParts() {
     // exit if multipart has not been initiated
     if (multipartUploadId == null) {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.file().equals(currentStagingFile))
-        // do not upload any files that have already been processed
-        .filter(Predicates.not(f -> multiPartMap.containsKey(f.file())))
+    stagingParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentPart)
+        // do not upload any parts that have already been processed
+        .filter(Predicates.not(multiPartMap::containsKey))
         .forEach(
-            fileAndDigest -> {
-              File f = fileAndDigest.file();
-              UploadPartRequest.Builder requestBuilder =
-                  UploadPartRequest.builder()
-                      .bucket(location.bucket())
-                      .key(location.key())
-                      .uploadId(multipartUploadId)
-                      .partNumber(stagingFiles.indexOf(fileAndDigest) + 1)
-                      .contentLength(f.length());
-
-              if (fileAndDigest.hasDigest()) {
-                requestBuilder.contentMD5(BinaryUtils.toBase64(fileAndDigest.digest()));
-              }
-
-              S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
-
-              UploadPartRequest uploadRequest = requestBuilder.build();
-
+            part -> {
+              int partNumber = stagingParts.indexOf(part) + 1;
               CompletableFuture<CompletedPart> future =
                   CompletableFuture.supplyAsync(
                           () -> {
+                            if (aborted) {
+                              // skip parts that are queued when the upload is aborted
+                              throw new CancellationException("Upload was aborted: " + location);
+                            }
+
+                            UploadPartRequest uploadRequest = uploadPartRequest(part, partNumber);
                             UploadPartResponse response =
-                                s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                                s3.uploadPart(uploadRequest, part.requestBody());
                             return CompletedPart.builder()
                                 .eTag(response.eTag())
                                 .partNumber(uploadRequest.partNumber())
@@ -334,24 +358,40 @@ class S3OutputStream extends PositionOutputStream {
                           executorService)
                       .whenComplete(
                           (result, thrown) -> {
-                            try {
-                              Files.deleteIfExists(f.toPath());
-                            } catch (IOException e) {
-                              LOG.warn("Failed to delete staging file: {}", f, e);
-                            }
+                            part.release();
 
-                            if (thrown != null) {
+                            if (thrown != null && !aborted) {
                               // Exception observed here will be thrown as part of
                               // CompletionException
                               // when we will join completable futures.
-                              LOG.error("Failed to upload part: {}", uploadRequest, thrown);
+                              LOG.error(
+                                  "Failed to upload part {} of {}", partNumber, location, thrown);
                             }
                           });
 
-              multiPartMap.put(f, future);
+              multiPartMap.put(part, future);
             });
   }
 
+  // called by upload threads so that part checksums are not calculated while writing
+  private UploadPartRequest uploadPartRequest(StagingPart part, int partNumber) {
+    UploadPartRequest.Builder requestBuilder =
+        UploadPartRequest.builder()
+            .bucket(location.bucket())
+            .key(location.key())
+            .uploadId(multipartUploadId)
+            .partNumber(partNumber)
+            .contentLength(part.length());
+
+    if (isChecksumEnabled) {
+      requestBuilder.contentMD5(BinaryUtils.toBase64(part.digest()));
+    }
+
+    S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
+
+    return requestBuilder.build();
+  }
+
   private void completeMultiPartUpload() {
     Preconditions.checkState(closed, "Complete upload called on open stream: " + location);
 
@@ -363,7 +403,8 @@ class S3OutputStream extends PositionOutputStream {
               .sorted(Comparator.comparing(CompletedPart::partNumber))
               .collect(Collectors.toList());
     } catch (CompletionException ce) {
-      // cancel the remaining futures.
+      // skip queued uploads and cancel the remaining futures.
+      this.aborted = true;
       multiPartMap.values().forEach(c -> c.cancel(true));
       abortUpload();
       throw ce;
@@ -390,6 +431,7 @@ class S3OutputStream extends PositionOutputStream {
 
   private void abortUpload() {
     if (multipartUploadId != null) {
+      this.aborted = true;
       try {
         s3.abortMultipartUpload(
             AbortMultipartUploadRequest.builder()
@@ -398,28 +440,29 @@ class S3OutputStream extends PositionOutputStream {
                 .uploadId(multipartUploadId)
                 .build());
       } finally {
-        cleanUpStagingFiles();
+        cleanUpStagingParts();
       }
     }
   }
 
-  private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles.stream().map(FileAndDigest::file))
+  private void cleanUpStagingParts() {
+    Tasks.foreach(stagingParts)
+        // parts that were submitted for upload are released by the upload task when it completes,
+        // even if its future was cancelled, and tasks that start after an abort complete at once
+        .filter(part -> !multiPartMap.containsKey(part))
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to release staging part", thrown))
+        .run(StagingPart::release);
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength =
-          stagingFiles.stream().map(FileAndDigest::file).mapToLong(File::length).sum();
+      long contentLength = stagingParts.stream().mapToLong(StagingPart::length).sum();
       ContentStreamProvider contentProvider =
           () ->
               new BufferedInputStream(
-                  stagingFiles.stream()
-                      .map(FileAndDigest::file)
-                      .map(S3OutputStream::uncheckedInputStream)
+                  stagingParts.stream()
+                      .map(StagingPart::newInputStream)
                       .reduce(SequenceInputStream::new)
                       .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -451,14 +494,6 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static InputStream uncheckedInputStream(File file) {
-    try {
-      return Files.newInputStream(file.toPath());
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
-    }
-  }
-
   private void createStagingDirectoryIfNotExists() throws IOException, SecurityException {
     if (!stagingDirectory.exists()) {
       LOG.info(
@@ -492,25 +527,135 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static class FileAndDigest {
+  /** A part of the object that is staged for upload. */
+  private abstract static class StagingPart {
+    abstract long length();
+
+    abstract InputStream newInputStream();
+
+    abstract RequestBody requestBody();
+
+    /** Returns the MD5 digest of the part, only called when checksums are enabled. */
+    abstract byte[] digest();
+
+    /** Releases the resources of the part, may be called more than once. */
+    abstract void release();
+  }
+
+  private static class FilePart extends StagingPart {
     private final File file;
     private final MessageDigest digest;
 
-    FileAndDigest(File file, MessageDigest digest) {
+    private FilePart(File file, MessageDigest digest) {
       this.file = file;
       this.digest = digest;
     }
 
-    File file() {
-      return file;
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    InputStream newInputStream() {
+      try {
+        return Files.newInputStream(file.toPath());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
 
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
     byte[] digest() {
       return digest.digest();
     }
 
-    public boolean hasDigest() {
-      return digest != null;
+    @Override
+    void release() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+  }
+
+  private static class MemoryPart extends StagingPart {
+    private final S3StagingBufferPool pool;
+    private final byte[] buffer;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+    private int length = 0;
+
+    private MemoryPart(S3StagingBufferPool pool, byte[] buffer) {
+      this.pool = pool;
+      this.buffer = buffer;
+    }
+
+    OutputStream outputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          ensureCapacity(1);
+          buffer[length] = (byte) b;
+          length += 1;
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) throws IOException {
+          ensureCapacity(len);
+          System.arraycopy(bytes, off, buffer, length, len);
+          length += len;
+        }
+      };
+    }
+
+    private void ensureCapacity(int len) throws IOException {
+      if (length + len > buffer.length) {
+        throw new IOException(
+            String.format(
+                "Cannot write %s bytes to staging buffer: %s of %s bytes used",
+                len, length, buffer.length));
+      }
+    }
+
+    @Override
+    long length() {
+      return length;
+    }
+
+    @Override
+    InputStream newInputStream() {
+      return new ByteArrayInputStream(buffer, 0, length);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromContentProvider(
+          this::newInputStream, length, Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
+    @Override
+    byte[] digest() {
+      try {
+        MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        digest.update(buffer, 0, length);
+        return digest.digest();
+      } catch (NoSuchAlgorithmException e) {
+        throw new RuntimeException(
+            "Failed to create message digest needed for s3 checksum checks.", e);
+      }
+    }
+
+    @Override
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        pool.release(buffer);
+      }
     }
   }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * A pool of reusable memory buffers for staging parts of {@link S3OutputStream} before upload.
+ *
+ * <p>The pool never allocates more than its limit in total, counting both buffers that are in use
+ * and idle buffers that are kept for reuse. When a buffer cannot be allocated within the limit,
+ * idle buffers of other sizes are dropped to make room; if that is not enough, no buffer is
+ * returned and the caller stages the part on local disk instead.
+ */
+class S3StagingBufferPool {
+  // pools are shared by all streams that are configured with the same limit
+  private static final Map<Long, S3StagingBufferPool> POOLS = Maps.newConcurrentMap();
+
+  private final long limitBytes;
+  private final Map<Integer, Deque<byte[]>> idleBuffers = Maps.newHashMap();
+  private long allocatedBytes = 0L;
+
+  S3StagingBufferPool(long limitBytes) {
+    this.limitBytes = limitBytes;
+  }
+
+  /**
+   * Returns the shared pool for the given memory limit.
+   *
+   * @param limitBytes the max number of bytes allocated by the pool
+   * @return a pool that is shared by all callers that use the same limit
+   */
+  static S3StagingBufferPool forLimit(long limitBytes) {
+    return POOLS.computeIfAbsent(limitBytes, S3StagingBufferPool::new);
+  }
+
+  /**
+   * Returns a buffer of the given size, or null if the buffer would exceed the memory limit.
+   *
+   * @param size the size of the buffer in bytes
+   * @return a buffer that must be returned using {@link #release(byte[])}, or null
+   */
+  synchronized byte[] acquire(int size) {
+    Deque<byte[]> idle = idleBuffers.get(size);
+    if (idle != null && !idle.isEmpty()) {
+      return idle.pop();
+    }
+
+    if (allocatedBytes + size > limitBytes) {
+      dropIdleBuffers(allocatedBytes + size - limitBytes);
+    }
+
+    if (allocatedBytes + size > limitBytes) {
+      return null;
+    }
+
+    allocatedBytes += size;
+    return new byte[size];
+  }
+
+  /**
+   * Returns a buffer to the pool for reuse.
+   *
+   * @param buffer a buffer returned by {@link #acquire(int)}
+   */
+  synchronized void release(byte[] buffer) {
+    idleBuffers.computeIfAbsent(buffer.length, size -> new ArrayDeque<>()).push(buffer);
+  }
+
+  @VisibleForTesting
+  synchronized long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  private void dropIdleBuffers(long bytesNeeded) {
+    long dropped = 0L;
+    Iterator<Deque<byte[]>> queues = idleBuffers.values().iterator();
+    while (dropped < bytesNeeded && queues.hasNext()) {
+      Deque<byte[]> queue = queues.next();
+      while (dropped < bytesNeeded && !queue.isEmpty()) {
+        dropped += queue.pop().length;
+      }
+    }
+
+    allocatedBytes -= dropped;
+  }
+}
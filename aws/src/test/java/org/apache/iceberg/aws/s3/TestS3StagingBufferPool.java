@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class TestS3StagingBufferPool {
+
+  @Test
+  public void testReleasedBuffersAreReused() {
+    S3StagingBufferPool pool = new S3StagingBufferPool(100);
+
+    byte[] first = pool.acquire(40);
+    assertThat(first).hasSize(40);
+    pool.release(first);
+
+    assertThat(pool.acquire(40)).isSameAs(first);
+    assertThat(pool.allocatedBytes()).isEqualTo(40);
+  }
+
+  @Test
+  public void testSharedPoolsAreKeyedByLimit() {
+    S3StagingBufferPool pool = S3StagingBufferPool.forLimit(1024);
+
+    assertThat(S3StagingBufferPool.forLimit(1024)).isSameAs(pool);
+    assertThat(S3StagingBufferPool.forLimit(2048)).isNotSameAs(pool);
+  }
+
+  @Test
+  public void testAcquireFailsWhenLimitIsReached() {
+    S3StagingBufferPool pool = new S3StagingBufferPool(100);
+
+    assertThat(pool.acquire(40)).isNotNull();
+    assertThat(pool.acquire(40)).isNotNull();
+    assertThat(pool.acquire(40)).as("Should not exceed the memory limit").isNull();
+    assertThat(pool.allocatedBytes()).isEqualTo(80);
+  }
+
+  @Test
+  public void testIdleBuffersAreDroppedForOtherSizes() {
+    S3StagingBufferPool pool = new S3StagingBufferPool(100);
+
+    byte[] small = pool.acquire(40);
+    byte[] other = pool.acquire(40);
+    pool.release(small);
+
+    assertThat(pool.acquire(60)).as("Should drop the idle buffer to make room").hasSize(60);
+    assertThat(pool.allocatedBytes()).isEqualTo(100);
+
+    pool.release(other);
+    assertThat(pool.acquire(40)).isSameAs(other);
+  }
+}
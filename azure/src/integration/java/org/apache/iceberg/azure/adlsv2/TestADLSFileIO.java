@@ -20,10 +20,12 @@ package org.apache.iceberg.azure.adlsv2;
 
 import static org.apache.iceberg.azure.AzureProperties.ADLS_SAS_TOKEN_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -34,6 +36,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.storage.file.datalake.DataLakeFileClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClientBuilder;
+import com.azure.storage.file.datalake.models.DataLakeStorageException;
 import com.azure.storage.file.datalake.models.PathItem;
 import java.io.IOException;
 import java.io.InputStream;
@@ -42,6 +45,7 @@ import java.time.OffsetDateTime;
 import java.util.Iterator;
 import org.apache.iceberg.TestHelpers;
 import org.apache.iceberg.azure.AzureProperties;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
@@ -97,6 +101,55 @@ public class TestADLSFileIO extends AzuriteTestBase {
     assertThat(AZURITE_CONTAINER.fileClient(path2).exists()).isFalse();
   }
 
+  @Test
+  public void testBulkDeleteFilesIgnoresMissingFiles() {
+    DataLakeFileClient missingFile = mockFileClient(404);
+    DataLakeFileClient existingFile = mock(DataLakeFileClient.class);
+    DataLakeFileSystemClient client = mock(DataLakeFileSystemClient.class);
+    when(client.getFileClient("dir/missing")).thenReturn(missingFile);
+    when(client.getFileClient("dir/existing")).thenReturn(existingFile);
+
+    ADLSFileIO io = spy(new ADLSFileIO());
+    io.initialize(ImmutableMap.of());
+    doReturn(client).when(io).client(any(ADLSLocation.class));
+
+    // files that do not exist are not failures
+    String location = "abfs://container@account.dfs.core.windows.net/dir/";
+    io.deleteFiles(ImmutableList.of(location + "missing", location + "existing"));
+
+    verify(missingFile).delete();
+    verify(existingFile).delete();
+  }
+
+  @Test
+  public void testBulkDeleteFilesFailure() {
+    DataLakeFileClient forbiddenFile = mockFileClient(403);
+    DataLakeFileClient existingFile = mock(DataLakeFileClient.class);
+    DataLakeFileSystemClient client = mock(DataLakeFileSystemClient.class);
+    when(client.getFileClient("dir/forbidden")).thenReturn(forbiddenFile);
+    when(client.getFileClient("dir/existing")).thenReturn(existingFile);
+
+    ADLSFileIO io = spy(new ADLSFileIO());
+    io.initialize(ImmutableMap.of());
+    doReturn(client).when(io).client(any(ADLSLocation.class));
+
+    String location = "abfs://container@account.dfs.core.windows.net/dir/";
+    assertThatThrownBy(
+            () -> io.deleteFiles(ImmutableList.of(location + "forbidden", location + "existing")))
+        .isInstanceOf(BulkDeletionFailureException.class)
+        .extracting(e -> ((BulkDeletionFailureException) e).numberFailedObjects())
+        .isEqualTo(1);
+    verify(existingFile).delete();
+  }
+
+  private static DataLakeFileClient mockFileClient(int deleteStatusCode) {
+    DataLakeStorageException exception = mock(DataLakeStorageException.class);
+    when(exception.getStatusCode()).thenReturn(deleteStatusCode);
+    DataLakeFileClient fileClient = mock(DataLakeFileClient.class);
+    doThrow(exception).when(fileClient).delete();
+    return fileClient;
+  }
+
   @Test
   public void testGetClient() {
     String location = AZURITE_CONTAINER.location("path/to/file");
@@ -26,11 +26,12 @@ import com.azure.storage.file.datalake.DataLakeFileSystemClientBuilder;
 import com.azure.storage.file.datalake.models.DataLakeStorageException;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.azure.AzureProperties;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.io.BulkDeleter;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.DelegateFileIO;
 import org.apache.iceberg.io.FileInfo;
@@ -39,7 +40,6 @@ import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.util.SerializableMap;
-import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -156,23 +156,36 @@ public class ADLSFileIO implements DelegateFileIO {
   @Override
   public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
     // Azure batch operations are not supported in all cases, e.g. with a user
-    // delegation SAS token, so avoid using it for now
-
-    AtomicInteger failureCount = new AtomicInteger();
-    Tasks.foreach(pathsToDelete)
-        .executeWith(ThreadPools.getWorkerPool())
-        .noRetry()
-        .suppressFailureWhenFinished()
-        .onFailure(
-            (file, exc) -> {
-              failureCount.incrementAndGet();
-              LOG.warn("Failed to delete file {}", file, exc);
-            })
-        .run(this::deleteFile);
-
-    if (failureCount.get() > 0) {
-      throw new BulkDeletionFailureException(failureCount.get());
+    // delegation SAS token, so avoid using it for now and delete one file per batch
+    BulkDeleter.builder(this::deleteBatch)
+        .executeWith(ThreadPools.getWorkerPool(), ThreadPools.WORKER_THREAD_POOL_SIZE)
+        .throttledWhen(ADLSFileIO::isThrottled)
+        .build()
+        .deleteFiles(pathsToDelete);
+  }
+
+  private List<String> deleteBatch(String fileSystemLocation, List<String> paths) {
+    for (String path : paths) {
+      try {
+        fileClient(path).delete();
+      } catch (DataLakeStorageException e) {
+        // files that do not exist are not failures
+        if (e.getStatusCode() != 404) {
+          throw e;
+        }
+      }
+    }
+
+    return Collections.emptyList();
+  }
+
+  private static boolean isThrottled(Throwable thrown) {
+    if (thrown instanceof DataLakeStorageException) {
+      int statusCode = ((DataLakeStorageException) thrown).getStatusCode();
+      return statusCode == 429 || statusCode == 503;
     }
+
+    return false;
   }
 
   @Override
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that evaluates the performance of merging manifests when appending files to a table
+ * with manifest merging enabled.
+ *
+ * <p>Each iteration creates a table with many small manifests, then measures a merge append that
+ * merges all of them into manifests of the target size.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=ManifestMergeBenchmark
+ *       -PjmhOutputPath=benchmark/manifest-merge-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 20, timeUnit = TimeUnit.MINUTES)
+public class ManifestMergeBenchmark {
+
+  private static final String TABLE_IDENT = "tbl";
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "int_col", Types.IntegerType.get()),
+          required(2, "long_col", Types.LongType.get()),
+          required(3, "str_col", Types.StringType.get()));
+  private static final PartitionSpec SPEC = PartitionSpec.unpartitioned();
+  private static final HadoopTables TABLES = new HadoopTables();
+
+  private Table table;
+
+  @Param({"100", "500"})
+  private int numManifests;
+
+  @Param({"1000"})
+  private int filesPerManifest;
+
+  @Param({"1048576", "8388608"})
+  private long targetManifestSizeBytes;
+
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    dropTable();
+    initTable();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() {
+    dropTable();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void mergeAppend() {
+    table.newAppend().appendFile(FileGenerationUtil.generateDataFile(table, null)).commit();
+  }
+
+  private void initTable() {
+    this.table =
+        TABLES.create(
+            SCHEMA,
+            SPEC,
+            ImmutableMap.of(
+                TableProperties.MANIFEST_MERGE_ENABLED,
+                "true",
+                TableProperties.MANIFEST_MIN_MERGE_COUNT,
+                "2",
+                TableProperties.MANIFEST_TARGET_SIZE_BYTES,
+                String.valueOf(targetManifestSizeBytes)),
+            TABLE_IDENT);
+
+    // fast appends write one manifest per commit without merging
+    for (int manifest = 0; manifest < numManifests; manifest++) {
+      AppendFiles append = table.newFastAppend();
+      for (int file = 0; file < filesPerManifest; file++) {
+        append.appendFile(FileGenerationUtil.generateDataFile(table, null));
+      }
+
+      append.commit();
+    }
+  }
+
+  private void dropTable() {
+    TABLES.dropTable(TABLE_IDENT);
+  }
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -41,6 +42,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -58,6 +60,11 @@ public class ManifestReadBenchmark {
   private static final int NUM_FILES = 10;
   private static final int NUM_ROWS = 100000;
   private static final int NUM_COLS = 10;
+  // Parquet manifests are only supported in v4
+  private static final int FORMAT_VERSION = 4;
+
+  @Param({"avro", "parquet"})
+  private String manifestFormat;
 
   private String baseDir;
   private String manifestListFile;
@@ -70,16 +77,23 @@ public class ManifestReadBenchmark {
 
     Random random = new Random(System.currentTimeMillis());
 
+    FileFormat format = FileFormat.fromString(manifestFormat);
+
     try (ManifestListWriter listWriter =
         ManifestLists.write(
-            1, org.apache.iceberg.Files.localOutput(manifestListFile), 0, 1L, 0, 0L)) {
+            FORMAT_VERSION,
+            org.apache.iceberg.Files.localOutput(manifestListFile),
+            1L,
+            null,
+            1L,
+            0L)) {
       for (int i = 0; i < NUM_FILES; i++) {
         OutputFile manifestFile =
             org.apache.iceberg.Files.localOutput(
-                String.format("%s/%s.avro", baseDir, UUID.randomUUID()));
+                String.format("%s/%s", baseDir, format.addExtension(UUID.randomUUID().toString())));
 
         ManifestWriter<DataFile> writer =
-            ManifestFiles.write(1, PartitionSpec.unpartitioned(), manifestFile, 1L);
+            ManifestFiles.write(FORMAT_VERSION, PartitionSpec.unpartitioned(), manifestFile, 1L);
         try (ManifestWriter<DataFile> finalWriter = writer) {
           for (int j = 0; j < NUM_ROWS; j++) {
             DataFile dataFile =
@@ -118,13 +132,24 @@ public class ManifestReadBenchmark {
   @Benchmark
   @Threads(1)
   public void readManifestFile() throws IOException {
+    readManifests(ManifestReader.ALL_COLUMNS);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readManifestFileProjected() throws IOException {
+    readManifests(ImmutableList.of("file_path", "partition", "record_count"));
+  }
+
+  private void readManifests(List<String> columns) throws IOException {
     List<ManifestFile> manifests =
         ManifestLists.read(org.apache.iceberg.Files.localInput(manifestListFile));
     TestTables.LocalFileIO fileIO = new TestTables.LocalFileIO();
     Map<Integer, PartitionSpec> specs =
         ImmutableMap.of(PartitionSpec.unpartitioned().specId(), PartitionSpec.unpartitioned());
     for (ManifestFile manifestFile : manifests) {
-      ManifestReader<DataFile> reader = ManifestFiles.read(manifestFile, fileIO, specs);
+      ManifestReader<DataFile> reader =
+          ManifestFiles.read(manifestFile, fileIO, specs).select(columns);
       try (CloseableIterator<DataFile> it = reader.iterator()) {
         while (it.hasNext()) {
           it.next().recordCount();
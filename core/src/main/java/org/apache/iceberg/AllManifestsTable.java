@@ -195,6 +195,8 @@ public class AllManifestsTable extends BaseMetadataTable {
               .setRootType(GenericManifestFile.class)
               .setCustomType(
                   ManifestFile.PARTITION_SUMMARIES_ELEMENT_ID, GenericPartitionFieldSummary.class)
+              .setCustomType(
+                  ManifestFile.COLUMN_SUMMARIES_ELEMENT_ID, GenericColumnFieldSummary.class)
               .project(ManifestFile.schema())
               .build()) {
 
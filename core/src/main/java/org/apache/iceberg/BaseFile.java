@@ -217,12 +217,12 @@ abstract class BaseFile<F> extends SupportsIndexProjection
     this.recordCount = toCopy.recordCount;
     this.fileSizeInBytes = toCopy.fileSizeInBytes;
     if (copyStats) {
-      this.columnSizes = copyMap(toCopy.columnSizes, requestedColumnIds);
-      this.valueCounts = copyMap(toCopy.valueCounts, requestedColumnIds);
-      this.nullValueCounts = copyMap(toCopy.nullValueCounts, requestedColumnIds);
-      this.nanValueCounts = copyMap(toCopy.nanValueCounts, requestedColumnIds);
-      this.lowerBounds = copyByteBufferMap(toCopy.lowerBounds, requestedColumnIds);
-      this.upperBounds = copyByteBufferMap(toCopy.upperBounds, requestedColumnIds);
+      this.columnSizes = PackedStatsMap.copyCounts(toCopy.columnSizes, requestedColumnIds);
+      this.valueCounts = PackedStatsMap.copyCounts(toCopy.valueCounts, requestedColumnIds);
+      this.nullValueCounts = PackedStatsMap.copyCounts(toCopy.nullValueCounts, requestedColumnIds);
+      this.nanValueCounts = PackedStatsMap.copyCounts(toCopy.nanValueCounts, requestedColumnIds);
+      this.lowerBounds = PackedStatsMap.copyBounds(toCopy.lowerBounds, requestedColumnIds);
+      this.upperBounds = PackedStatsMap.copyBounds(toCopy.upperBounds, requestedColumnIds);
     } else {
       this.columnSizes = null;
       this.valueCounts = null;
@@ -575,15 +575,6 @@ abstract class BaseFile<F> extends SupportsIndexProjection
     return contentSizeInBytes;
   }
 
-  private static <K, V> Map<K, V> copyMap(Map<K, V> map, Set<K> keys) {
-    return keys == null ? SerializableMap.copyOf(map) : SerializableMap.filteredCopyOf(map, keys);
-  }
-
-  private static Map<Integer, ByteBuffer> copyByteBufferMap(
-      Map<Integer, ByteBuffer> map, Set<Integer> keys) {
-    return SerializableByteBufferMap.wrap(copyMap(map, keys));
-  }
-
   private static <K, V> Map<K, V> toReadableMap(Map<K, V> map) {
     if (map == null) {
       return null;
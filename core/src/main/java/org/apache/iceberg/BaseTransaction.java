@@ -561,6 +561,15 @@ public class BaseTransaction implements Transaction {
       return current;
     }
 
+    /**
+     * Returns whether a snapshot is in the committed history of the underlying table, rather than
+     * staged by this transaction. A staged snapshot keeps its ID when the transaction is retried
+     * but may be rebased onto snapshots that were committed concurrently.
+     */
+    boolean isCommittedSnapshot(long snapshotId) {
+      return base != null && base.snapshot(snapshotId) != null;
+    }
+
     @Override
     @SuppressWarnings("ConsistentOverrides")
     public void commit(TableMetadata underlyingBase, TableMetadata metadata) {
@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.puffin.BlobMetadata;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinReader;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.PeekingIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prunes data files during planning with the bloom filters of a statistics file.
+ *
+ * <p>Only filters of columns that are referenced by the scan filter are read. The blobs of a data
+ * manifest are read when the manifest is planned, and each filter is evaluated as it is
+ * deserialized, so only the locations of the pruned files of a manifest are kept in memory.
+ *
+ * <p>Filters only prove that a value is not in a file, so the index can prune files only for
+ * equality and {@code IN} predicates; all other predicates might match. Files that are not covered
+ * by the index, such as files added after the index was written, are never pruned.
+ */
+class BloomFilterIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIndex.class);
+  private static final boolean ROWS_MIGHT_MATCH = true;
+  private static final boolean ROWS_CANNOT_MATCH = false;
+
+  private final FileIO io;
+  private final StatisticsFile statisticsFile;
+  private final Map<Integer, Type.PrimitiveType> types;
+  private final Expression boundFilter;
+  private volatile Map<String, List<BlobMetadata>> blobsByManifest = null;
+
+  private BloomFilterIndex(
+      FileIO io,
+      StatisticsFile statisticsFile,
+      Map<Integer, Type.PrimitiveType> types,
+      Expression boundFilter) {
+    this.io = io;
+    this.statisticsFile = statisticsFile;
+    this.types = types;
+    this.boundFilter = boundFilter;
+  }
+
+  /**
+   * Returns an index for a scan, or null if there are no filters that can prune files.
+   *
+   * <p>The statistics file of the scanned snapshot or its closest ancestor with bloom filters is
+   * used, since the filters of manifests that are still part of the snapshot remain valid.
+   */
+  static BloomFilterIndex forScan(
+      Table table, Snapshot snapshot, Schema schema, Expression filter, boolean caseSensitive) {
+    if (snapshot == null || filter == null || filter == Expressions.alwaysTrue()) {
+      return null;
+    }
+
+    Map<Long, StatisticsFile> indexFiles = Maps.newHashMap();
+    for (StatisticsFile file : table.statisticsFiles()) {
+      if (file.blobMetadata().stream().anyMatch(BloomFilterIndex::isBloomFilterBlob)) {
+        indexFiles.put(file.snapshotId(), file);
+      }
+    }
+
+    if (indexFiles.isEmpty()) {
+      return null;
+    }
+
+    StatisticsFile indexFile = null;
+    for (Snapshot ancestor : SnapshotUtil.ancestorsOf(snapshot.snapshotId(), table::snapshot)) {
+      indexFile = indexFiles.get(ancestor.snapshotId());
+      if (indexFile != null) {
+        break;
+      }
+    }
+
+    if (indexFile == null) {
+      return null;
+    }
+
+    Set<Integer> referencedIds =
+        Binder.boundReferences(schema.asStruct(), ImmutableList.of(filter), caseSensitive);
+    Map<Integer, Type.PrimitiveType> types = Maps.newHashMap();
+    for (org.apache.iceberg.BlobMetadata blob : indexFile.blobMetadata()) {
+      // statistics files can also hold other blob types, which might not reference any field
+      if (!isBloomFilterBlob(blob)) {
+        continue;
+      }
+
+      int fieldId = blob.fields().get(0);
+      Type type = schema.findType(fieldId);
+      if (referencedIds.contains(fieldId) && type != null && type.isPrimitiveType()) {
+        types.put(fieldId, type.asPrimitiveType());
+      }
+    }
+
+    if (types.isEmpty()) {
+      return null;
+    }
+
+    Expression boundFilter =
+        Binder.bind(schema.asStruct(), Expressions.rewriteNot(filter), caseSensitive);
+    return new BloomFilterIndex(table.io(), indexFile, types, boundFilter);
+  }
+
+  /**
+   * Returns the locations of data files in a manifest that cannot contain rows matching the filter.
+   *
+   * @param manifest a data manifest
+   * @return a set of data file locations
+   */
+  Set<String> prunedFiles(ManifestFile manifest) {
+    List<BlobMetadata> blobs = blobsByManifest().get(manifest.path());
+    if (blobs == null) {
+      return Collections.emptySet();
+    }
+
+    try (PuffinReader reader = newReader()) {
+      Map<Integer, PeekingIterator<Pair<String, DataFileBloomFilter>>> filtersById =
+          Maps.newHashMap();
+      for (Pair<BlobMetadata, ByteBuffer> blob : reader.readAll(blobs)) {
+        filtersById.put(
+            blob.first().inputFields().get(0),
+            Iterators.peekingIterator(DataFileBloomFilters.deserialize(blob.second())));
+      }
+
+      return prunedFiles(filtersById);
+    } catch (IOException | RuntimeException e) {
+      // an unreadable or invalid blob must not fail planning, the files are scanned instead
+      LOG.warn("Failed to read bloom filters for manifest {}", manifest.path(), e);
+      return Collections.emptySet();
+    }
+  }
+
+  // filters of all columns are ordered by location, so they are merged by location
+  private Set<String> prunedFiles(
+      Map<Integer, PeekingIterator<Pair<String, DataFileBloomFilter>>> filtersById) {
+    Set<String> prunedFiles = Sets.newHashSet();
+    Map<Integer, DataFileBloomFilter> fileFilters = Maps.newHashMap();
+    FileEvaluator evaluator = new FileEvaluator(fileFilters);
+
+    while (true) {
+      String location = null;
+      for (PeekingIterator<Pair<String, DataFileBloomFilter>> filters : filtersById.values()) {
+        if (filters.hasNext()) {
+          String next = filters.peek().first();
+          if (location == null || next.compareTo(location) < 0) {
+            location = next;
+          }
+        }
+      }
+
+      if (location == null) {
+        return prunedFiles;
+      }
+
+      fileFilters.clear();
+      for (Map.Entry<Integer, PeekingIterator<Pair<String, DataFileBloomFilter>>> entry :
+          filtersById.entrySet()) {
+        PeekingIterator<Pair<String, DataFileBloomFilter>> filters = entry.getValue();
+        if (filters.hasNext() && filters.peek().first().equals(location)) {
+          fileFilters.put(entry.getKey(), filters.next().second());
+        }
+      }
+
+      if (!evaluator.eval()) {
+        prunedFiles.add(location);
+      }
+    }
+  }
+
+  private Map<String, List<BlobMetadata>> blobsByManifest() {
+    if (blobsByManifest == null) {
+      synchronized (this) {
+        if (blobsByManifest == null) {
+          this.blobsByManifest = loadBlobsByManifest();
+        }
+      }
+    }
+
+    return blobsByManifest;
+  }
+
+  private Map<String, List<BlobMetadata>> loadBlobsByManifest() {
+    Map<String, List<BlobMetadata>> blobs = Maps.newHashMap();
+    try (PuffinReader reader = newReader()) {
+      for (BlobMetadata blob : reader.fileMetadata().blobs()) {
+        if (!StandardBlobTypes.DATA_FILE_BLOOM_FILTERS_V1.equals(blob.type())
+            || blob.inputFields().size() != 1) {
+          continue;
+        }
+
+        Type.PrimitiveType type = types.get(blob.inputFields().get(0));
+        String typeString = blob.properties().get(DataFileBloomFilters.COLUMN_TYPE_PROPERTY);
+        String manifestLocation =
+            blob.properties().get(DataFileBloomFilters.MANIFEST_LOCATION_PROPERTY);
+        // filters written for a different type may hash the same value differently
+        if (type != null && type.toString().equals(typeString) && manifestLocation != null) {
+          blobs.computeIfAbsent(manifestLocation, location -> Lists.newArrayList()).add(blob);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to read bloom filter index {}", statisticsFile.path(), e);
+      return ImmutableMap.of();
+    }
+
+    return blobs;
+  }
+
+  private PuffinReader newReader() {
+    return Puffin.read(io.newInputFile(statisticsFile.path(), statisticsFile.fileSizeInBytes()))
+        .withFileSize(statisticsFile.fileSizeInBytes())
+        .withFooterSize(statisticsFile.fileFooterSizeInBytes())
+        .build();
+  }
+
+  private static boolean isBloomFilterBlob(org.apache.iceberg.BlobMetadata blob) {
+    return StandardBlobTypes.DATA_FILE_BLOOM_FILTERS_V1.equals(blob.type())
+        && blob.fields().size() == 1;
+  }
+
+  private class FileEvaluator extends BoundExpressionVisitor<Boolean> {
+    private final Map<Integer, DataFileBloomFilter> filters;
+
+    private FileEvaluator(Map<Integer, DataFileBloomFilter> filters) {
+      this.filters = filters;
+    }
+
+    private boolean eval() {
+      return ExpressionVisitors.visitEvaluator(boundFilter, this);
+    }
+
+    @Override
+    public Boolean alwaysTrue() {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public Boolean alwaysFalse() {
+      return ROWS_CANNOT_MATCH;
+    }
+
+    @Override
+    public Boolean not(Boolean result) {
+      return !result;
+    }
+
+    @Override
+    public Boolean and(Boolean leftResult, Boolean rightResult) {
+      return leftResult && rightResult;
+    }
+
+    @Override
+    public Boolean or(Boolean leftResult, Boolean rightResult) {
+      return leftResult || rightResult;
+    }
+
+    @Override
+    public <T> Boolean isNull(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notNull(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean isNaN(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notNaN(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean lt(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean gt(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean eq(BoundReference<T> ref, Literal<T> lit) {
+      DataFileBloomFilter filter = filters.get(ref.fieldId());
+      if (filter == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      return filter.mightContain(types.get(ref.fieldId()), lit.value());
+    }
+
+    @Override
+    public <T> Boolean notEq(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean in(BoundReference<T> ref, Set<T> literalSet) {
+      DataFileBloomFilter filter = filters.get(ref.fieldId());
+      if (filter == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      Type.PrimitiveType type = types.get(ref.fieldId());
+      for (T value : literalSet) {
+        if (filter.mightContain(type, value)) {
+          return ROWS_MIGHT_MATCH;
+        }
+      }
+
+      return ROWS_CANNOT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notIn(BoundReference<T> ref, Set<T> literalSet) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean startsWith(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean handleNonReference(Bound<T> term) {
+      return ROWS_MIGHT_MATCH;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.NaNUtil;
+
+/** Combines the column metrics of the files in a manifest into {@link ColumnFieldSummary}s. */
+class ColumnSummary {
+  private final List<ColumnFieldStats<?>> fields;
+
+  ColumnSummary(Schema schema, Collection<Integer> fieldIds) {
+    this.fields = Lists.newArrayListWithExpectedSize(fieldIds.size());
+    for (int fieldId : fieldIds) {
+      Types.NestedField field = schema.findField(fieldId);
+      Preconditions.checkArgument(
+          field != null && canSummarize(field.type()),
+          "Invalid column to summarize: %s (must be a primitive field with ordered bounds)",
+          fieldId);
+      fields.add(new ColumnFieldStats<>(fieldId, field.type().asPrimitiveType()));
+    }
+  }
+
+  static boolean canSummarize(Type type) {
+    if (!type.isPrimitiveType()) {
+      return false;
+    }
+
+    switch (type.typeId()) {
+      case GEOMETRY:
+      case GEOGRAPHY:
+      case UNKNOWN:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  List<ColumnFieldSummary> summaries() {
+    return fields.stream().map(ColumnFieldStats::toSummary).collect(Collectors.toList());
+  }
+
+  void update(ContentFile<?> file) {
+    for (ColumnFieldStats<?> stats : fields) {
+      stats.update(file);
+    }
+  }
+
+  private static class ColumnFieldStats<T> {
+    private final int fieldId;
+    private final Type.PrimitiveType type;
+    private final Comparator<T> comparator;
+
+    private Long valueCount = 0L;
+    private Long nullValueCount = 0L;
+    private Long nanValueCount;
+    private boolean boundsKnown = true;
+    private T min = null;
+    private T max = null;
+
+    private ColumnFieldStats(int fieldId, Type.PrimitiveType type) {
+      this.fieldId = fieldId;
+      this.type = type;
+      this.comparator = Comparators.forType(type);
+      boolean floatingPoint =
+          type.typeId() == Type.TypeID.FLOAT || type.typeId() == Type.TypeID.DOUBLE;
+      this.nanValueCount = floatingPoint ? 0L : null;
+    }
+
+    private ColumnFieldSummary toSummary() {
+      boolean hasBounds = boundsKnown && min != null;
+      return new GenericColumnFieldSummary(
+          fieldId,
+          valueCount,
+          nullValueCount,
+          nanValueCount,
+          hasBounds ? Conversions.toByteBuffer(type, min) : null,
+          hasBounds ? Conversions.toByteBuffer(type, max) : null);
+    }
+
+    private void update(ContentFile<?> file) {
+      Long fileValueCount = count(file.valueCounts());
+      Long fileNullCount = count(file.nullValueCounts());
+      Long fileNaNCount = count(file.nanValueCounts());
+
+      this.valueCount = add(valueCount, fileValueCount);
+      this.nullValueCount = add(nullValueCount, fileNullCount);
+      if (nanValueCount != null) {
+        this.nanValueCount = add(nanValueCount, fileNaNCount);
+      }
+
+      if (boundsKnown) {
+        updateBounds(file, fileValueCount, fileNullCount, fileNaNCount);
+      }
+    }
+
+    private void updateBounds(
+        ContentFile<?> file, Long fileValueCount, Long fileNullCount, Long fileNaNCount) {
+      ByteBuffer lower = file.lowerBounds() != null ? file.lowerBounds().get(fieldId) : null;
+      ByteBuffer upper = file.upperBounds() != null ? file.upperBounds().get(fieldId) : null;
+      if (lower == null || upper == null) {
+        // files without bounds are only safe to skip if they have no values to bound
+        this.boundsKnown = onlyNullOrNaN(fileValueCount, fileNullCount, fileNaNCount);
+        return;
+      }
+
+      T lowerValue = Conversions.fromByteBuffer(type, lower);
+      T upperValue = Conversions.fromByteBuffer(type, upper);
+      if (NaNUtil.isNaN(lowerValue) || NaNUtil.isNaN(upperValue)) {
+        // NaN bounds are unreliable, see InclusiveMetricsEvaluator
+        this.boundsKnown = false;
+        return;
+      }
+
+      if (min == null || comparator.compare(lowerValue, min) < 0) {
+        this.min = lowerValue;
+      }
+
+      if (max == null || comparator.compare(max, upperValue) < 0) {
+        this.max = upperValue;
+      }
+    }
+
+    private boolean onlyNullOrNaN(Long fileValueCount, Long fileNullCount, Long fileNaNCount) {
+      if (fileValueCount == null || fileNullCount == null) {
+        return false;
+      }
+
+      long nanCount = fileNaNCount != null ? fileNaNCount : 0L;
+      return fileValueCount - fileNullCount - nanCount == 0;
+    }
+
+    private Long count(Map<Integer, Long> counts) {
+      return counts != null ? counts.get(fieldId) : null;
+    }
+
+    private static Long add(Long total, Long count) {
+      return total != null && count != null ? total + count : null;
+    }
+  }
+}
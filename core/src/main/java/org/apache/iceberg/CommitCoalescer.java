@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines changes from many concurrent writers to a single table into fewer commits.
+ *
+ * <p>Writers that commit to the same table independently conflict with each other and retry, so
+ * commit throughput drops as the number of writers grows. Instead, writers can {@link
+ * #submit(PendingCommit) submit} their changes to a shared coalescer. Changes that arrive within
+ * the commit window are committed together in a single snapshot by one committer thread, and each
+ * writer's future is completed with the snapshot that contains its changes.
+ *
+ * <p>Changes that only add data files are committed using {@link AppendFiles}. Batches that add
+ * delete files or request validation are committed using {@link RowDelta} and are validated
+ * together. If validation of a batch fails, its changes are committed one at a time so that only
+ * the writers whose changes conflict fail.
+ *
+ * <p>Unlike {@code BaseCommitService}, which commits fixed-size groups of rewrites and aborts the
+ * groups that fail, this completes a future for each submitted change with its own result and
+ * commits whatever arrived when the window closes, so writers can wait on their changes without
+ * polling or knowing how many other writers there are.
+ */
+public class CommitCoalescer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(CommitCoalescer.class);
+
+  public static final long WINDOW_MS_DEFAULT = 100;
+  public static final int MAX_BATCH_SIZE_DEFAULT = 1000;
+
+  private final Table table;
+  private final long windowMs;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService committerService;
+  private List<Submitted> pending = Lists.newArrayList();
+  private boolean flushScheduled = false;
+  private boolean closed = false;
+
+  /**
+   * Constructs a {@link CommitCoalescer} with the default window and batch size.
+   *
+   * @param table table to commit changes to
+   */
+  public CommitCoalescer(Table table) {
+    this(table, WINDOW_MS_DEFAULT, MAX_BATCH_SIZE_DEFAULT);
+  }
+
+  /**
+   * Constructs a {@link CommitCoalescer}.
+   *
+   * @param table table to commit changes to
+   * @param windowMs time in milliseconds to wait for more changes after the first change of a
+   *     batch arrives
+   * @param maxBatchSize max number of submitted changes to include in a commit; a batch is
+   *     committed without waiting for the window to end when it reaches this size
+   */
+  public CommitCoalescer(Table table, long windowMs, int maxBatchSize) {
+    Preconditions.checkArgument(table != null, "Invalid table: null");
+    Preconditions.checkArgument(windowMs >= 0, "Invalid commit window: %s (< 0)", windowMs);
+    Preconditions.checkArgument(
+        maxBatchSize > 0, "Invalid max batch size: %s (must be positive)", maxBatchSize);
+    this.table = table;
+    this.windowMs = windowMs;
+    this.maxBatchSize = maxBatchSize;
+    this.committerService = ThreadPools.newScheduledPool("commit-coalescer", 1);
+  }
+
+  /**
+   * Submits changes to be committed with other changes that arrive within the commit window.
+   *
+   * @param changes changes to commit
+   * @return a future that is completed with the snapshot that contains the changes, or completed
+   *     exceptionally if the changes could not be committed
+   */
+  public CompletableFuture<Snapshot> submit(PendingCommit changes) {
+    Preconditions.checkArgument(changes != null, "Invalid changes: null");
+    CompletableFuture<Snapshot> future = new CompletableFuture<>();
+    synchronized (this) {
+      Preconditions.checkState(!closed, "Cannot submit changes to a closed commit coalescer");
+      pending.add(new Submitted(changes, future));
+      if (pending.size() >= maxBatchSize) {
+        committerService.execute(this::flush);
+      } else if (!flushScheduled) {
+        this.flushScheduled = true;
+        committerService.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    return future;
+  }
+
+  /**
+   * Submits data files to append with other changes that arrive within the commit window.
+   *
+   * @param files data files to append
+   * @return a future that is completed with the snapshot that contains the files
+   */
+  public CompletableFuture<Snapshot> append(Iterable<DataFile> files) {
+    PendingCommit changes = new PendingCommit();
+    files.forEach(changes::addRows);
+    return submit(changes);
+  }
+
+  /**
+   * Stops accepting changes and waits for all submitted changes to be committed.
+   *
+   * <p>Changes that have already been submitted are committed before this method returns.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+
+      this.closed = true;
+      committerService.execute(this::flush);
+    }
+
+    committerService.shutdown();
+    try {
+      while (!committerService.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.info("Waiting for pending commits to {} to complete", table);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for pending commits", e);
+    }
+  }
+
+  private void flush() {
+    List<Submitted> batch;
+    synchronized (this) {
+      batch = pending;
+      this.pending = Lists.newArrayList();
+      this.flushScheduled = false;
+    }
+
+    for (List<Submitted> part : Lists.partition(batch, maxBatchSize)) {
+      commitBatch(part);
+    }
+  }
+
+  private void commitBatch(List<Submitted> batch) {
+    try {
+      Snapshot snapshot = commit(batch);
+      LOG.info(
+          "Committed {} coalesced changes to {} in snapshot {}",
+          batch.size(),
+          table,
+          snapshot.snapshotId());
+      batch.forEach(submitted -> submitted.future.complete(snapshot));
+
+    } catch (ValidationException e) {
+      if (batch.size() == 1) {
+        batch.get(0).future.completeExceptionally(e);
+      } else {
+        // nothing was committed; commit separately so that only the conflicting changes fail
+        LOG.info("Validation of {} coalesced changes failed, committing separately", batch.size());
+        batch.forEach(submitted -> commitBatch(ImmutableList.of(submitted)));
+      }
+
+    } catch (RuntimeException e) {
+      // other failures, like exhausted retries or an unknown commit state, are not caused by the
+      // changes of one writer and the commit may have succeeded, so fail all changes in the batch
+      LOG.warn("Failed to commit {} coalesced changes to {}", batch.size(), table, e);
+      batch.forEach(submitted -> submitted.future.completeExceptionally(e));
+    }
+  }
+
+  private Snapshot commit(List<Submitted> batch) {
+    boolean needsRowDelta = false;
+    for (Submitted submitted : batch) {
+      needsRowDelta |= submitted.changes.needsRowDelta();
+    }
+
+    SnapshotUpdate<?> operation;
+    if (needsRowDelta) {
+      operation = rowDelta(batch);
+    } else {
+      AppendFiles append = table.newAppend();
+      for (Submitted submitted : batch) {
+        submitted.changes.dataFiles.forEach(append::appendFile);
+      }
+
+      operation = append;
+    }
+
+    operation.commit();
+
+    return committedSnapshot(operation);
+  }
+
+  private Snapshot committedSnapshot(SnapshotUpdate<?> operation) {
+    Preconditions.checkState(
+        operation instanceof SnapshotProducer,
+        "Cannot find committed snapshot for operation: %s",
+        operation.getClass().getName());
+    // the current snapshot may already have been replaced by another writer
+    long snapshotId = ((SnapshotProducer<?>) operation).snapshotId();
+    Snapshot snapshot = table.snapshot(snapshotId);
+    if (snapshot == null) {
+      table.refresh();
+      snapshot = table.snapshot(snapshotId);
+    }
+
+    Preconditions.checkState(snapshot != null, "Cannot find committed snapshot: %s", snapshotId);
+    return snapshot;
+  }
+
+  private RowDelta rowDelta(List<Submitted> batch) {
+    RowDelta rowDelta = table.newRowDelta();
+    List<PendingCommit> validated = Lists.newArrayList();
+    for (Submitted submitted : batch) {
+      PendingCommit changes = submitted.changes;
+      changes.dataFiles.forEach(rowDelta::addRows);
+      changes.deleteFiles.forEach(rowDelta::addDeletes);
+      if (changes.validates()) {
+        validated.add(changes);
+      }
+    }
+
+    if (validated.isEmpty()) {
+      return rowDelta;
+    }
+
+    // validate the history since the oldest starting snapshot of any of the changes
+    Long startingSnapshotId = null;
+    boolean validateAll = false;
+    Expression conflictDetectionFilter = Expressions.alwaysFalse();
+    Set<CharSequence> referencedDataFiles = Sets.newHashSet();
+    boolean validateDeletedFiles = false;
+    boolean validateNoConflictingDataFiles = false;
+    boolean validateNoConflictingDeleteFiles = false;
+    for (PendingCommit changes : validated) {
+      if (changes.startingSnapshotId == null) {
+        validateAll = true;
+      } else if (startingSnapshotId == null
+          || SnapshotUtil.isAncestorOf(table, startingSnapshotId, changes.startingSnapshotId)) {
+        startingSnapshotId = changes.startingSnapshotId;
+      } else if (!SnapshotUtil.isAncestorOf(
+          table, changes.startingSnapshotId, startingSnapshotId)) {
+        // the starting snapshots are not in the same history, validate all snapshots
+        validateAll = true;
+      }
+
+      conflictDetectionFilter = Expressions.or(conflictDetectionFilter, changes.conflictFilter);
+      referencedDataFiles.addAll(changes.referencedDataFiles);
+      validateDeletedFiles |= changes.validateDeletedFiles;
+      validateNoConflictingDataFiles |= changes.validateNoConflictingDataFiles;
+      validateNoConflictingDeleteFiles |= changes.validateNoConflictingDeleteFiles;
+    }
+
+    if (!validateAll && startingSnapshotId != null) {
+      rowDelta.validateFromSnapshot(startingSnapshotId);
+    }
+
+    rowDelta.conflictDetectionFilter(conflictDetectionFilter);
+
+    if (!referencedDataFiles.isEmpty()) {
+      rowDelta.validateDataFilesExist(referencedDataFiles);
+    }
+
+    if (validateDeletedFiles) {
+      rowDelta.validateDeletedFiles();
+    }
+
+    if (validateNoConflictingDataFiles) {
+      rowDelta.validateNoConflictingDataFiles();
+    }
+
+    if (validateNoConflictingDeleteFiles) {
+      rowDelta.validateNoConflictingDeleteFiles();
+    }
+
+    return rowDelta;
+  }
+
+  private static class Submitted {
+    private final PendingCommit changes;
+    private final CompletableFuture<Snapshot> future;
+
+    private Submitted(PendingCommit changes, CompletableFuture<Snapshot> future) {
+      this.changes = changes;
+      this.future = future;
+    }
+  }
+
+  /**
+   * Changes from a single writer to be committed by a {@link CommitCoalescer}.
+   *
+   * <p>The validation methods correspond to the methods of {@link RowDelta}. When changes from
+   * several writers are validated together, the history since the oldest starting snapshot is
+   * checked using the union of their conflict detection filters.
+   */
+  public static class PendingCommit {
+    private final List<DataFile> dataFiles = Lists.newArrayList();
+    private final List<DeleteFile> deleteFiles = Lists.newArrayList();
+    private final Set<CharSequence> referencedDataFiles = Sets.newHashSet();
+    private Long startingSnapshotId = null;
+    private Expression conflictFilter = Expressions.alwaysTrue();
+    private boolean validateDeletedFiles = false;
+    private boolean validateNoConflictingDataFiles = false;
+    private boolean validateNoConflictingDeleteFiles = false;
+
+    /** Add a {@link DataFile} to the table. */
+    public PendingCommit addRows(DataFile inserts) {
+      dataFiles.add(inserts);
+      return this;
+    }
+
+    /** Add a {@link DeleteFile} to the table. */
+    public PendingCommit addDeletes(DeleteFile deletes) {
+      deleteFiles.add(deletes);
+      return this;
+    }
+
+    /**
+     * Set the snapshot ID used in any reads for these changes.
+     *
+     * @see RowDelta#validateFromSnapshot(long)
+     */
+    public PendingCommit validateFromSnapshot(long snapshotId) {
+      this.startingSnapshotId = snapshotId;
+      return this;
+    }
+
+    /**
+     * Add data file paths that must not be removed by conflicting commits.
+     *
+     * @see RowDelta#validateDataFilesExist(Iterable)
+     */
+    public PendingCommit validateDataFilesExist(Iterable<? extends CharSequence> referencedFiles) {
+      referencedFiles.forEach(referencedDataFiles::add);
+      return this;
+    }
+
+    /**
+     * Enable validation that referenced data files have not been removed by a delete.
+     *
+     * @see RowDelta#validateDeletedFiles()
+     */
+    public PendingCommit validateDeletedFiles() {
+      this.validateDeletedFiles = true;
+      return this;
+    }
+
+    /**
+     * Set a conflict detection filter used to validate concurrently added data and delete files.
+     *
+     * @see RowDelta#conflictDetectionFilter(Expression)
+     */
+    public PendingCommit conflictDetectionFilter(Expression newConflictDetectionFilter) {
+      Preconditions.checkArgument(
+          newConflictDetectionFilter != null, "Conflict detection filter cannot be null");
+      this.conflictFilter = newConflictDetectionFilter;
+      return this;
+    }
+
+    /**
+     * Enable validation that data files added concurrently do not conflict with these changes.
+     *
+     * @see RowDelta#validateNoConflictingDataFiles()
+     */
+    public PendingCommit validateNoConflictingDataFiles() {
+      this.validateNoConflictingDataFiles = true;
+      return this;
+    }
+
+    /**
+     * Enable validation that delete files added concurrently do not conflict with these changes.
+     *
+     * @see RowDelta#validateNoConflictingDeleteFiles()
+     */
+    public PendingCommit validateNoConflictingDeleteFiles() {
+      this.validateNoConflictingDeleteFiles = true;
+      return this;
+    }
+
+    private boolean validates() {
+      return !referencedDataFiles.isEmpty()
+          || validateDeletedFiles
+          || validateNoConflictingDataFiles
+          || validateNoConflictingDeleteFiles;
+    }
+
+    private boolean needsRowDelta() {
+      return !deleteFiles.isEmpty() || validates();
+    }
+  }
+}
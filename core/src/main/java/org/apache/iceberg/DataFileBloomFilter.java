@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.hash.HashFunction;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+
+/**
+ * A bloom filter of the values of a column in a data file.
+ *
+ * <p>Values are hashed in their single-value binary serialization with the x64 128-bit variant of
+ * Murmur3. The low and high 64 bits of the hash, h1 and h2, are combined into one bit index per
+ * hash function, where the i-th index is {@code ((h1 + i * h2) & Long.MAX_VALUE) % numBits}.
+ */
+public class DataFileBloomFilter {
+  private static final HashFunction MURMUR3 = Hashing.murmur3_128();
+  private static final int MAX_HASH_FUNCTIONS = 255;
+
+  private final long[] words;
+  private final long numBits;
+  private final int numHashFunctions;
+
+  private DataFileBloomFilter(long[] words, int numHashFunctions) {
+    this.words = words;
+    this.numBits = (long) words.length * Long.SIZE;
+    this.numHashFunctions = numHashFunctions;
+  }
+
+  /**
+   * Creates an empty filter sized for the expected number of values.
+   *
+   * @param expectedValues the expected number of distinct values
+   * @param falsePositiveProbability the desired probability of false positives
+   * @param maxBytes the max size of the filter in bytes, which takes precedence over the
+   *     probability of false positives
+   * @return an empty filter
+   */
+  public static DataFileBloomFilter create(
+      long expectedValues, double falsePositiveProbability, int maxBytes) {
+    Preconditions.checkArgument(
+        falsePositiveProbability > 0 && falsePositiveProbability < 1,
+        "Invalid false positive probability: %s (must be between 0 and 1)",
+        falsePositiveProbability);
+    Preconditions.checkArgument(
+        maxBytes >= Long.BYTES, "Invalid max bytes: %s (must be at least 8)", maxBytes);
+
+    long values = Math.max(1L, expectedValues);
+    double optimalBits = -values * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+    long maxWords = maxBytes / Long.BYTES;
+    long optimalWords = (long) Math.ceil(optimalBits / Long.SIZE);
+    int numWords = (int) Math.max(1L, Math.min(maxWords, optimalWords));
+    long numBits = (long) numWords * Long.SIZE;
+
+    int numHashFunctions = (int) Math.round((double) numBits / values * Math.log(2));
+    numHashFunctions = Math.max(1, Math.min(MAX_HASH_FUNCTIONS, numHashFunctions));
+
+    return new DataFileBloomFilter(new long[numWords], numHashFunctions);
+  }
+
+  /**
+   * Adds a value to this filter.
+   *
+   * @param type the type of the value
+   * @param value a value in Iceberg's internal representation
+   */
+  public void put(Type.PrimitiveType type, Object value) {
+    if (value != null) {
+      long[] hash = hash(Conversions.toByteBuffer(type, value));
+      long combinedHash = hash[0];
+      for (int i = 0; i < numHashFunctions; i += 1) {
+        long bitIndex = (combinedHash & Long.MAX_VALUE) % numBits;
+        words[(int) (bitIndex >>> 6)] |= 1L << bitIndex;
+        combinedHash += hash[1];
+      }
+    }
+  }
+
+  /**
+   * Returns whether the value might have been added to this filter.
+   *
+   * @param type the type of the value
+   * @param value a value in Iceberg's internal representation
+   * @return false if the value was definitely not added, true otherwise
+   */
+  public boolean mightContain(Type.PrimitiveType type, Object value) {
+    if (value == null) {
+      return true;
+    }
+
+    long[] hash = hash(Conversions.toByteBuffer(type, value));
+    long combinedHash = hash[0];
+    for (int i = 0; i < numHashFunctions; i += 1) {
+      long bitIndex = (combinedHash & Long.MAX_VALUE) % numBits;
+      if ((words[(int) (bitIndex >>> 6)] & (1L << bitIndex)) == 0) {
+        return false;
+      }
+
+      combinedHash += hash[1];
+    }
+
+    return true;
+  }
+
+  /** Returns the size of the serialized filter in bytes. */
+  public int sizeInBytes() {
+    return 1 + Integer.BYTES + words.length * Long.BYTES;
+  }
+
+  void writeTo(ByteBuffer out) {
+    out.put((byte) numHashFunctions);
+    out.putInt(words.length);
+    for (long word : words) {
+      out.putLong(word);
+    }
+  }
+
+  static DataFileBloomFilter readFrom(ByteBuffer in) {
+    DataFileBloomFilters.checkRemaining(in, 1 + Integer.BYTES);
+    int numHashFunctions = in.get() & 0xFF;
+    int numWords = in.getInt();
+    Preconditions.checkState(
+        numHashFunctions > 0 && numWords > 0,
+        "Invalid bloom filter: %s hash functions, %s words",
+        numHashFunctions,
+        numWords);
+    DataFileBloomFilters.checkRemaining(in, (long) numWords * Long.BYTES);
+
+    long[] words = new long[numWords];
+    for (int i = 0; i < numWords; i += 1) {
+      words[i] = in.getLong();
+    }
+
+    return new DataFileBloomFilter(words, numHashFunctions);
+  }
+
+  private static long[] hash(ByteBuffer value) {
+    // hashing consumes the buffer, which may be shared for binary values
+    byte[] hashBytes = MURMUR3.hashBytes(value.duplicate()).asBytes();
+    ByteBuffer hash = ByteBuffer.wrap(hashBytes).order(ByteOrder.LITTLE_ENDIAN);
+    return new long[] {hash.getLong(0), hash.getLong(Long.BYTES)};
+  }
+}
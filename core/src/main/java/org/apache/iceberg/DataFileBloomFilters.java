@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.Pair;
+
+/**
+ * Utility methods to serialize {@link DataFileBloomFilter}s as Puffin blobs of type {@link
+ * StandardBlobTypes#DATA_FILE_BLOOM_FILTERS_V1}.
+ *
+ * <p>Each blob holds the filters of one column for the live data files of one data manifest.
+ * Manifests and data files are immutable, so a blob remains valid for as long as its manifest is
+ * part of a snapshot, and blobs of manifests that are carried over by a commit can be reused.
+ */
+public class DataFileBloomFilters {
+  /** Blob property that holds the location of the data manifest whose files are indexed. */
+  public static final String MANIFEST_LOCATION_PROPERTY = "manifest-location";
+
+  /** Blob property that holds the type of the indexed column when the filters were created. */
+  public static final String COLUMN_TYPE_PROPERTY = "column-type";
+
+  /** The max size of the serialized filters of a blob, which must fit in a single buffer. */
+  public static final long MAX_SERIALIZED_SIZE = Integer.MAX_VALUE - 8;
+
+  private DataFileBloomFilters() {}
+
+  /**
+   * Creates a blob for the filters of a column in the files of a data manifest.
+   *
+   * @param fieldId the field ID of the indexed column
+   * @param type the type of the indexed column
+   * @param manifest the data manifest whose files are indexed
+   * @param snapshotId the ID of the snapshot the blob is written for
+   * @param sequenceNumber the sequence number of the snapshot the blob is written for
+   * @param filtersByLocation filters by data file location, sorted by location
+   * @return a blob
+   */
+  public static Blob toBlob(
+      int fieldId,
+      Type.PrimitiveType type,
+      ManifestFile manifest,
+      long snapshotId,
+      long sequenceNumber,
+      SortedMap<String, DataFileBloomFilter> filtersByLocation) {
+    return new Blob(
+        StandardBlobTypes.DATA_FILE_BLOOM_FILTERS_V1,
+        ImmutableList.of(fieldId),
+        snapshotId,
+        sequenceNumber,
+        serialize(filtersByLocation),
+        null /* filters are not compressible */,
+        ImmutableMap.of(
+            MANIFEST_LOCATION_PROPERTY, manifest.path(), COLUMN_TYPE_PROPERTY, type.toString()));
+  }
+
+  /**
+   * Serializes filters by data file location.
+   *
+   * <p>The serialized form is the number of filters as a 4-byte big-endian integer, followed by
+   * each location and filter in location order. A location is stored as the length of its UTF-8
+   * encoding as a 4-byte big-endian integer followed by the encoded bytes. A filter is stored as
+   * the number of hash functions in 1 byte, the number of 64-bit words as a 4-byte big-endian
+   * integer and each word as 8 bytes, big-endian.
+   *
+   * @param filtersByLocation filters by data file location, sorted by location
+   * @return a buffer with the serialized filters
+   */
+  public static ByteBuffer serialize(SortedMap<String, DataFileBloomFilter> filtersByLocation) {
+    long size = Integer.BYTES;
+    for (Map.Entry<String, DataFileBloomFilter> entry : filtersByLocation.entrySet()) {
+      size += Integer.BYTES + utf8Length(entry.getKey()) + entry.getValue().sizeInBytes();
+    }
+
+    Preconditions.checkArgument(
+        size <= MAX_SERIALIZED_SIZE,
+        "Cannot serialize bloom filters: %s bytes (must be at most %s)",
+        size,
+        MAX_SERIALIZED_SIZE);
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) size);
+    buffer.putInt(filtersByLocation.size());
+    for (Map.Entry<String, DataFileBloomFilter> entry : filtersByLocation.entrySet()) {
+      byte[] location = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      buffer.putInt(location.length);
+      buffer.put(location);
+      entry.getValue().writeTo(buffer);
+    }
+
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Returns an iterator that deserializes filters one at a time, in location order.
+   *
+   * <p>Iterating throws {@link IllegalStateException} if the buffer is not a valid serialized form.
+   *
+   * @param buffer a buffer with serialized filters
+   * @return an iterator of data file locations and filters
+   */
+  public static Iterator<Pair<String, DataFileBloomFilter>> deserialize(ByteBuffer buffer) {
+    ByteBuffer in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    checkRemaining(in, Integer.BYTES);
+    int count = in.getInt();
+
+    return new Iterator<>() {
+      private int remaining = count;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public Pair<String, DataFileBloomFilter> next() {
+        if (remaining <= 0) {
+          throw new NoSuchElementException();
+        }
+
+        remaining -= 1;
+        checkRemaining(in, Integer.BYTES);
+        int length = in.getInt();
+        Preconditions.checkState(length >= 0, "Invalid location length: %s", length);
+        checkRemaining(in, length);
+        byte[] location = new byte[length];
+        in.get(location);
+        DataFileBloomFilter filter = DataFileBloomFilter.readFrom(in);
+        return Pair.of(new String(location, StandardCharsets.UTF_8), filter);
+      }
+    };
+  }
+
+  static void checkRemaining(ByteBuffer buffer, long length) {
+    Preconditions.checkState(
+        buffer.remaining() >= length,
+        "Invalid bloom filters: %s bytes expected, %s remaining",
+        length,
+        buffer.remaining());
+  }
+
+  private static long utf8Length(String location) {
+    return location.getBytes(StandardCharsets.UTF_8).length;
+  }
+}
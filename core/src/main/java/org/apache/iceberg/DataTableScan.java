@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class DataTableScan extends BaseTableScan {
   protected DataTableScan(Table table, Schema schema, TableScanContext context) {
@@ -83,6 +84,17 @@ public class DataTableScan extends BaseTableScan {
       manifestGroup = manifestGroup.ignoreResiduals();
     }
 
+    if (PropertyUtil.propertyAsBoolean(
+        table().properties(),
+        TableProperties.BLOOM_FILTER_INDEX_ENABLED,
+        TableProperties.BLOOM_FILTER_INDEX_ENABLED_DEFAULT)) {
+      BloomFilterIndex index =
+          BloomFilterIndex.forScan(table(), snapshot, tableSchema(), filter(), isCaseSensitive());
+      if (index != null) {
+        manifestGroup = manifestGroup.bloomFilterIndex(index);
+      }
+    }
+
     if (shouldPlanWithExecutor() && (dataManifests.size() > 1 || deleteManifests.size() > 1)) {
       manifestGroup = manifestGroup.planWith(planExecutor());
     }
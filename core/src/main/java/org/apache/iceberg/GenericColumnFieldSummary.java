@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.specific.SpecificData.SchemaConstructable;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+
+public class GenericColumnFieldSummary
+    implements ColumnFieldSummary, StructLike, IndexedRecord, SchemaConstructable, Serializable {
+  private static final Schema AVRO_SCHEMA = AvroSchemaUtil.convert(ColumnFieldSummary.getType());
+
+  private transient Schema avroSchema; // not final for Java serialization
+  private int[] fromProjectionPos;
+
+  // data fields
+  private int fieldId = -1;
+  private Long valueCount = null;
+  private Long nullValueCount = null;
+  private Long nanValueCount = null;
+  private byte[] lowerBound = null;
+  private byte[] upperBound = null;
+
+  /** Used by Avro reflection to instantiate this class when reading manifest files. */
+  public GenericColumnFieldSummary(Schema avroSchema) {
+    this.avroSchema = avroSchema;
+
+    List<Types.NestedField> fields =
+        AvroSchemaUtil.convert(avroSchema).asNestedType().asStructType().fields();
+    List<Types.NestedField> allFields = ColumnFieldSummary.getType().fields();
+
+    this.fromProjectionPos = new int[fields.size()];
+    for (int i = 0; i < fromProjectionPos.length; i += 1) {
+      boolean found = false;
+      for (int j = 0; j < allFields.size(); j += 1) {
+        if (fields.get(i).fieldId() == allFields.get(j).fieldId()) {
+          found = true;
+          fromProjectionPos[i] = j;
+        }
+      }
+
+      if (!found) {
+        throw new IllegalArgumentException("Cannot find projected field: " + fields.get(i));
+      }
+    }
+  }
+
+  public GenericColumnFieldSummary(
+      int fieldId,
+      Long valueCount,
+      Long nullValueCount,
+      Long nanValueCount,
+      ByteBuffer lowerBound,
+      ByteBuffer upperBound) {
+    this.avroSchema = AVRO_SCHEMA;
+    this.fieldId = fieldId;
+    this.valueCount = valueCount;
+    this.nullValueCount = nullValueCount;
+    this.nanValueCount = nanValueCount;
+    this.lowerBound = ByteBuffers.toByteArray(lowerBound);
+    this.upperBound = ByteBuffers.toByteArray(upperBound);
+    this.fromProjectionPos = null;
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param toCopy a generic column field summary to copy.
+   */
+  private GenericColumnFieldSummary(GenericColumnFieldSummary toCopy) {
+    this.avroSchema = toCopy.avroSchema;
+    this.fieldId = toCopy.fieldId;
+    this.valueCount = toCopy.valueCount;
+    this.nullValueCount = toCopy.nullValueCount;
+    this.nanValueCount = toCopy.nanValueCount;
+    this.lowerBound =
+        toCopy.lowerBound == null
+            ? null
+            : Arrays.copyOf(toCopy.lowerBound, toCopy.lowerBound.length);
+    this.upperBound =
+        toCopy.upperBound == null
+            ? null
+            : Arrays.copyOf(toCopy.upperBound, toCopy.upperBound.length);
+    this.fromProjectionPos = toCopy.fromProjectionPos;
+  }
+
+  /** Constructor for Java serialization. */
+  GenericColumnFieldSummary() {}
+
+  @Override
+  public int fieldId() {
+    return fieldId;
+  }
+
+  @Override
+  public Long valueCount() {
+    return valueCount;
+  }
+
+  @Override
+  public Long nullValueCount() {
+    return nullValueCount;
+  }
+
+  @Override
+  public Long nanValueCount() {
+    return nanValueCount;
+  }
+
+  @Override
+  public ByteBuffer lowerBound() {
+    return lowerBound != null ? ByteBuffer.wrap(lowerBound) : null;
+  }
+
+  @Override
+  public ByteBuffer upperBound() {
+    return upperBound != null ? ByteBuffer.wrap(upperBound) : null;
+  }
+
+  @Override
+  public int size() {
+    return ColumnFieldSummary.getType().fields().size();
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(get(pos));
+  }
+
+  @Override
+  public Object get(int i) {
+    int pos = i;
+    // if the schema was projected, map the incoming ordinal to the expected one
+    if (fromProjectionPos != null) {
+      pos = fromProjectionPos[i];
+    }
+    switch (pos) {
+      case 0:
+        return fieldId;
+      case 1:
+        return valueCount;
+      case 2:
+        return nullValueCount;
+      case 3:
+        return nanValueCount;
+      case 4:
+        return lowerBound();
+      case 5:
+        return upperBound();
+      default:
+        throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
+    }
+  }
+
+  @Override
+  public <T> void set(int i, T value) {
+    int pos = i;
+    // if the schema was projected, map the incoming ordinal to the expected one
+    if (fromProjectionPos != null) {
+      pos = fromProjectionPos[i];
+    }
+    switch (pos) {
+      case 0:
+        this.fieldId = (Integer) value;
+        return;
+      case 1:
+        this.valueCount = (Long) value;
+        return;
+      case 2:
+        this.nullValueCount = (Long) value;
+        return;
+      case 3:
+        this.nanValueCount = (Long) value;
+        return;
+      case 4:
+        this.lowerBound = ByteBuffers.toByteArray((ByteBuffer) value);
+        return;
+      case 5:
+        this.upperBound = ByteBuffers.toByteArray((ByteBuffer) value);
+        return;
+      default:
+        // ignore the object, it must be from a newer version of the format
+    }
+  }
+
+  @Override
+  public void put(int i, Object v) {
+    set(i, v);
+  }
+
+  @Override
+  public ColumnFieldSummary copy() {
+    return new GenericColumnFieldSummary(this);
+  }
+
+  @Override
+  public Schema getSchema() {
+    return avroSchema;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("field_id", fieldId)
+        .add("value_count", valueCount)
+        .add("null_value_count", nullValueCount)
+        .add("nan_value_count", nanValueCount)
+        .add("lower_bound", lowerBound)
+        .add("upper_bound", upperBound)
+        .toString();
+  }
+}
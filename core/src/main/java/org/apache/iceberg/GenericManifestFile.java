@@ -62,6 +62,7 @@ public class GenericManifestFile extends SupportsIndexProjection
   private PartitionFieldSummary[] partitions = null;
   private byte[] keyMetadata = null;
   private Long firstRowId = null;
+  private ColumnFieldSummary[] columnSummaries = null;
 
   /** Used by Avro reflection to instantiate this class when reading manifest files. */
   public GenericManifestFile(Schema avroSchema) {
@@ -94,6 +95,7 @@ public class GenericManifestFile extends SupportsIndexProjection
     this.partitions = null;
     this.keyMetadata = null;
     this.firstRowId = null;
+    this.columnSummaries = null;
   }
 
   /** Adjust the arg order to avoid conflict with the public constructor below */
@@ -114,6 +116,44 @@ public class GenericManifestFile extends SupportsIndexProjection
       Integer deletedFilesCount,
       Long deletedRowsCount,
       Long firstRowId) {
+    this(
+        path,
+        length,
+        specId,
+        content,
+        sequenceNumber,
+        minSequenceNumber,
+        snapshotId,
+        partitions,
+        keyMetadata,
+        addedFilesCount,
+        addedRowsCount,
+        existingFilesCount,
+        existingRowsCount,
+        deletedFilesCount,
+        deletedRowsCount,
+        firstRowId,
+        null);
+  }
+
+  GenericManifestFile(
+      String path,
+      long length,
+      int specId,
+      ManifestContent content,
+      long sequenceNumber,
+      long minSequenceNumber,
+      Long snapshotId,
+      List<PartitionFieldSummary> partitions,
+      ByteBuffer keyMetadata,
+      Integer addedFilesCount,
+      Long addedRowsCount,
+      Integer existingFilesCount,
+      Long existingRowsCount,
+      Integer deletedFilesCount,
+      Long deletedRowsCount,
+      Long firstRowId,
+      List<ColumnFieldSummary> columnSummaries) {
     super(ManifestFile.schema().columns().size());
     this.avroSchema = AVRO_SCHEMA;
     this.manifestPath = path;
@@ -132,6 +172,8 @@ public class GenericManifestFile extends SupportsIndexProjection
     this.partitions = partitions == null ? null : partitions.toArray(new PartitionFieldSummary[0]);
     this.keyMetadata = ByteBuffers.toByteArray(keyMetadata);
     this.firstRowId = firstRowId;
+    this.columnSummaries =
+        columnSummaries == null ? null : columnSummaries.toArray(new ColumnFieldSummary[0]);
   }
 
   /**
@@ -174,6 +216,14 @@ public class GenericManifestFile extends SupportsIndexProjection
             ? null
             : Arrays.copyOf(toCopy.keyMetadata, toCopy.keyMetadata.length);
     this.firstRowId = toCopy.firstRowId;
+    if (toCopy.columnSummaries != null) {
+      this.columnSummaries =
+          Stream.of(toCopy.columnSummaries)
+              .map(ColumnFieldSummary::copy)
+              .toArray(ColumnFieldSummary[]::new);
+    } else {
+      this.columnSummaries = null;
+    }
   }
 
   /** Constructor for Java serialization. */
@@ -274,6 +324,11 @@ public class GenericManifestFile extends SupportsIndexProjection
     return firstRowId;
   }
 
+  @Override
+  public List<ColumnFieldSummary> columnSummaries() {
+    return columnSummaries == null ? null : Arrays.asList(columnSummaries);
+  }
+
   @Override
   public int size() {
     return ManifestFile.schema().columns().size();
@@ -323,6 +378,8 @@ public class GenericManifestFile extends SupportsIndexProjection
         return keyMetadata();
       case 15:
         return firstRowId();
+      case 16:
+        return columnSummaries();
       default:
         throw new UnsupportedOperationException("Unknown field ordinal: " + basePos);
     }
@@ -384,6 +441,12 @@ public class GenericManifestFile extends SupportsIndexProjection
       case 15:
         this.firstRowId = (Long) value;
         return;
+      case 16:
+        this.columnSummaries =
+            value == null
+                ? null
+                : ((List<ColumnFieldSummary>) value).toArray(new ColumnFieldSummary[0]);
+        return;
       default:
         // ignore the object, it must be from a newer version of the format
     }
@@ -439,6 +502,7 @@ public class GenericManifestFile extends SupportsIndexProjection
         .add("sequence_number", sequenceNumber)
         .add("min_sequence_number", minSequenceNumber)
         .add("first_row_id", firstRowId)
+        .add("column_summaries", columnSummaries)
         .toString();
   }
 
@@ -470,7 +534,8 @@ public class GenericManifestFile extends SupportsIndexProjection
                 toCopy.existingRowsCount(),
                 toCopy.deletedFilesCount(),
                 toCopy.deletedRowsCount(),
-                toCopy.firstRowId());
+                toCopy.firstRowId(),
+                copyList(toCopy.columnSummaries(), ColumnFieldSummary::copy));
       }
     }
 
@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.avro.InternalReader;
@@ -41,6 +42,8 @@ public class InternalData {
       Maps.newConcurrentMap();
   private static final Map<FileFormat, Function<InputFile, ReadBuilder>> READ_BUILDERS =
       Maps.newConcurrentMap();
+  private static final Map<FileFormat, Function<InputFile, Map<String, String>>>
+      METADATA_READERS = Maps.newConcurrentMap();
 
   static void register(
       FileFormat format,
@@ -50,6 +53,15 @@ public class InternalData {
     READ_BUILDERS.put(format, readBuilder);
   }
 
+  static void register(
+      FileFormat format,
+      Function<OutputFile, WriteBuilder> writeBuilder,
+      Function<InputFile, ReadBuilder> readBuilder,
+      Function<InputFile, Map<String, String>> metadataReader) {
+    register(format, writeBuilder, readBuilder);
+    METADATA_READERS.put(format, metadataReader);
+  }
+
   @SuppressWarnings("CatchBlockLogException")
   private static void registerSupportedFormats() {
     InternalData.register(
@@ -95,6 +107,20 @@ public class InternalData {
         "Cannot read using unregistered internal data format: " + format);
   }
 
+  /**
+   * Reads the key-value metadata of a file, which is set by {@link WriteBuilder#meta(String,
+   * String)} when the file is written.
+   */
+  static Map<String, String> readMetadata(FileFormat format, InputFile file) {
+    Function<InputFile, Map<String, String>> metadataReader = METADATA_READERS.get(format);
+    if (metadataReader != null) {
+      return metadataReader.apply(file);
+    }
+
+    throw new UnsupportedOperationException(
+        "Cannot read metadata using unregistered internal data format: " + format);
+  }
+
   public interface WriteBuilder {
     /** Set the file schema. */
     WriteBuilder schema(Schema schema);
@@ -163,6 +189,15 @@ public class InternalData {
     /** Set a custom class for in-memory objects at the given field ID. */
     ReadBuilder setCustomType(int fieldId, Class<? extends StructLike> structClass);
 
+    /**
+     * Read only the entries with the given keys from the map with the given field ID.
+     *
+     * <p>This is an optimization and readers may return other entries as well.
+     */
+    default ReadBuilder projectMapKeys(int mapFieldId, Set<?> keys) {
+      return this;
+    }
+
     /** Build the configured reader. */
     <D> CloseableIterable<D> build();
   }
@@ -21,6 +21,8 @@ package org.apache.iceberg;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.ManifestReader.FileType;
 import org.apache.iceberg.avro.AvroEncoderUtil;
@@ -35,8 +37,11 @@ import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +50,7 @@ public class ManifestFiles {
   private ManifestFiles() {}
 
   private static final Logger LOG = LoggerFactory.getLogger(ManifestFiles.class);
+  private static final Splitter COMMA_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
 
   private static final org.apache.avro.Schema MANIFEST_AVRO_SCHEMA =
       AvroSchemaUtil.convert(
@@ -53,7 +59,9 @@ public class ManifestFiles {
               ManifestFile.schema().asStruct(),
               GenericManifestFile.class.getName(),
               ManifestFile.PARTITION_SUMMARY_TYPE,
-              GenericPartitionFieldSummary.class.getName()));
+              GenericPartitionFieldSummary.class.getName(),
+              ManifestFile.COLUMN_SUMMARY_TYPE,
+              GenericColumnFieldSummary.class.getName()));
 
   @VisibleForTesting
   static Caffeine<Object, Object> newManifestCacheBuilder() {
@@ -215,6 +223,37 @@ public class ManifestFiles {
         "Cannot write manifest for table version: " + formatVersion);
   }
 
+  /**
+   * Returns the IDs of the columns to summarize in new data manifests of a table.
+   *
+   * <p>Columns are selected with {@link TableProperties#MANIFEST_COLUMN_SUMMARIES}. Columns that
+   * are not in the schema or can't be summarized are ignored, and no columns are summarized for v1
+   * tables because v1 manifest lists cannot store column summaries.
+   *
+   * @param formatVersion the format version of the table
+   * @param properties the table properties
+   * @param schema the table schema
+   * @return field IDs to pass to {@link ManifestWriter#summarizeColumns(Collection)}
+   */
+  public static List<Integer> summarizedColumnIds(
+      int formatVersion, Map<String, String> properties, Schema schema) {
+    String columns = properties.get(TableProperties.MANIFEST_COLUMN_SUMMARIES);
+    if (columns == null || formatVersion < 2) {
+      return ImmutableList.of();
+    }
+
+    List<Integer> fieldIds = Lists.newArrayList();
+    for (String name : COMMA_SPLITTER.split(columns)) {
+      // columns that were dropped or can't be summarized are ignored rather than failing writes
+      Types.NestedField field = schema.findField(name);
+      if (field != null && ColumnSummary.canSummarize(field.type())) {
+        fieldIds.add(field.fieldId());
+      }
+    }
+
+    return fieldIds;
+  }
+
   /**
    * Returns a new {@link ManifestReader} for a {@link ManifestFile}.
    *
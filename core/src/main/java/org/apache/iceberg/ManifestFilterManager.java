@@ -69,6 +69,7 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
   }
 
   private final Map<Integer, PartitionSpec> specsById;
+  private final String tableUuid;
   private final PartitionSet deleteFilePartitions;
   private final Set<F> deleteFiles = newFileSet();
   private final Set<String> manifestsWithDeletes = Sets.newHashSet();
@@ -95,8 +96,11 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
   private final Supplier<ExecutorService> workerPoolSupplier;
 
   protected ManifestFilterManager(
-      Map<Integer, PartitionSpec> specsById, Supplier<ExecutorService> executorSupplier) {
+      Map<Integer, PartitionSpec> specsById,
+      String tableUuid,
+      Supplier<ExecutorService> executorSupplier) {
     this.specsById = specsById;
+    this.tableUuid = tableUuid;
     this.deleteFilePartitions = PartitionSet.create(specsById);
     this.dropPartitions = PartitionSet.create(specsById);
     this.workerPoolSupplier = executorSupplier;
@@ -415,15 +419,22 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
   }
 
   private boolean canContainDroppedFiles(ManifestFile manifest) {
-    if (!deletePaths.isEmpty()) {
-      return true;
-    } else if (!deleteFiles.isEmpty()) {
-      return ManifestFileUtil.canContainAny(manifest, deleteFilePartitions, specsById);
-    } else if (!removedDataFilePaths.isEmpty()) {
+    if (!removedDataFilePaths.isEmpty()) {
       return true;
     }
 
-    return false;
+    // use the path index to skip manifests that are known not to contain any of the files
+    boolean canContainDeletePaths =
+        !deletePaths.isEmpty()
+            && ManifestPathIndex.mightContainAny(tableUuid, manifest, deletePaths);
+    return canContainDeletePaths || canContainDeleteFiles(manifest);
+  }
+
+  private boolean canContainDeleteFiles(ManifestFile manifest) {
+    return !deleteFiles.isEmpty()
+        && ManifestFileUtil.canContainAny(manifest, deleteFilePartitions, specsById)
+        && ManifestPathIndex.mightContainAny(
+            tableUuid, manifest, Iterables.transform(deleteFiles, ContentFile::location));
   }
 
   @SuppressWarnings({"CollectionUndefinedEquality", "checkstyle:CyclomaticComplexity"})
@@ -434,9 +445,14 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
     }
 
     boolean isDelete = reader.isDeleteManifestReader();
+    ManifestPathIndex.Builder pathIndex = newPathIndex(manifest);
 
     for (ManifestEntry<F> entry : reader.liveEntries()) {
       F file = entry.file();
+      if (pathIndex != null) {
+        pathIndex.add(file.location());
+      }
+
       boolean markedForDelete =
           deletePaths.contains(file.location())
               || deleteFiles.contains(file)
@@ -467,9 +483,28 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
       }
     }
 
+    // all live files were read, so the manifest can be skipped by later path deletes
+    if (pathIndex != null) {
+      pathIndex.commit(manifest.path());
+    }
+
     return false;
   }
 
+  /**
+   * Returns a builder to index the live files of a manifest, or null if the index is not used.
+   *
+   * <p>The index only skips manifests for deletes by location, so it is not built for commits that
+   * only delete by row filter or partition.
+   */
+  private ManifestPathIndex.Builder newPathIndex(ManifestFile manifest) {
+    if (tableUuid == null || (deletePaths.isEmpty() && deleteFiles.isEmpty())) {
+      return null;
+    }
+
+    return ManifestPathIndex.builder(tableUuid, ManifestPathIndex.expectedFileCount(manifest));
+  }
+
   private boolean isDanglingDV(DeleteFile file) {
     return ContentFileUtil.isDV(file) && removedDataFilePaths.contains(file.referencedDataFile());
   }
@@ -481,6 +516,7 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
     // when this point is reached, there is at least one file that will be deleted in the
     // manifest. produce a copy of the manifest with all deleted files removed.
     Set<F> deletedFiles = newFileSet();
+    ManifestPathIndex.Builder pathIndex = newPathIndex(manifest);
 
     try {
       ManifestWriter<F> writer = newManifestWriter(reader.spec());
@@ -530,10 +566,16 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
                       }
                     } else {
                       writer.existing(entry);
+                      if (pathIndex != null) {
+                        pathIndex.add(file.location());
+                      }
                     }
 
                   } else {
                     writer.existing(entry);
+                    if (pathIndex != null) {
+                      pathIndex.add(file.location());
+                    }
                   }
                 });
       } finally {
@@ -544,6 +586,10 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
       ManifestFile filtered = writer.toManifestFile();
 
       // update caches
+      if (pathIndex != null) {
+        pathIndex.commit(filtered.path());
+      }
+
       filteredManifests.put(manifest, filtered);
       filteredManifestToDeletedFiles.put(filtered, deletedFiles);
 
@@ -31,7 +31,6 @@ import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.ManifestEvaluator;
-import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
@@ -64,6 +63,7 @@ class ManifestGroup {
   private Set<Integer> columnsToKeepStats;
   private ExecutorService executorService;
   private ScanMetrics scanMetrics;
+  private BloomFilterIndex bloomFilterIndex;
 
   ManifestGroup(FileIO io, Iterable<ManifestFile> manifests) {
     this(
@@ -123,6 +123,11 @@ class ManifestGroup {
     return this;
   }
 
+  ManifestGroup bloomFilterIndex(BloomFilterIndex newBloomFilterIndex) {
+    this.bloomFilterIndex = newBloomFilterIndex;
+    return this;
+  }
+
   ManifestGroup ignoreDeleted() {
     this.ignoreDeleted = true;
     return this;
@@ -185,7 +190,8 @@ class ManifestGroup {
     DeleteFileIndex deleteFiles = deleteIndexBuilder.scanMetrics(scanMetrics).build();
 
     boolean dropStats = ManifestReader.dropStats(columns);
-    if (deleteFiles.hasEqualityDeletes()) {
+    boolean hasEqualityDeletes = deleteFiles.hasEqualityDeletes();
+    if (hasEqualityDeletes) {
       select(ManifestReader.withStatsColumns(columns));
     }
 
@@ -199,13 +205,16 @@ class ManifestGroup {
                       spec, deleteFiles, residuals, dropStats, columnsToKeepStats, scanMetrics);
                 });
 
+    // tasks drop the stats that were only projected to filter, so decode just the filter columns,
+    // unless equality deletes are matched to data files using the bounds of their equality fields
     Iterable<CloseableIterable<T>> tasks =
         entries(
             (manifest, entries) -> {
               int specId = manifest.partitionSpecId();
               TaskContext taskContext = taskContextCache.get(specId);
               return createTasksFunc.apply(entries, taskContext);
-            });
+            },
+            dropStats && !hasEqualityDeletes);
 
     if (executorService != null) {
       return new ParallelIterable<>(tasks, executorService);
@@ -223,7 +232,7 @@ class ManifestGroup {
    * @return a CloseableIterable of manifest entries.
    */
   public CloseableIterable<ManifestEntry<DataFile>> entries() {
-    return CloseableIterable.concat(entries((manifest, entries) -> entries));
+    return CloseableIterable.concat(entries((manifest, entries) -> entries, false));
   }
 
   /**
@@ -236,12 +245,13 @@ class ManifestGroup {
    */
   public Iterable<CloseableIterable<DataFile>> fileGroups() {
     return entries(
-        (manifest, entries) -> CloseableIterable.transform(entries, ManifestEntry::file));
+        (manifest, entries) -> CloseableIterable.transform(entries, ManifestEntry::file), false);
   }
 
   private <T> Iterable<CloseableIterable<T>> entries(
       BiFunction<ManifestFile, CloseableIterable<ManifestEntry<DataFile>>, CloseableIterable<T>>
-          entryFn) {
+          entryFn,
+      boolean limitStatsToFilter) {
     LoadingCache<Integer, ManifestEvaluator> evalCache =
         specsById == null
             ? null
@@ -249,12 +259,8 @@ class ManifestGroup {
                 .build(
                     specId -> {
                       PartitionSpec spec = specsById.get(specId);
-                      return ManifestEvaluator.forPartitionFilter(
-                          Expressions.and(
-                              partitionFilter,
-                              Projections.inclusive(spec, caseSensitive).project(dataFilter)),
-                          spec,
-                          caseSensitive);
+                      return ManifestEvaluator.forFilters(
+                          dataFilter, partitionFilter, spec, caseSensitive);
                     });
 
     Evaluator evaluator;
@@ -315,6 +321,10 @@ class ManifestGroup {
                         .select(columns)
                         .scanMetrics(scanMetrics);
 
+                if (limitStatsToFilter) {
+                  reader.limitStatsToFilter();
+                }
+
                 CloseableIterable<ManifestEntry<DataFile>> entries;
                 if (ignoreDeleted) {
                   entries = reader.liveEntries();
@@ -338,6 +348,17 @@ class ManifestGroup {
                           entry -> evaluator.eval((GenericDataFile) entry.file()));
                 }
 
+                if (bloomFilterIndex != null) {
+                  Set<String> prunedFiles = bloomFilterIndex.prunedFiles(manifest);
+                  if (!prunedFiles.isEmpty()) {
+                    entries =
+                        CloseableIterable.filter(
+                            scanMetrics.skippedDataFiles(),
+                            entries,
+                            entry -> !prunedFiles.contains(entry.file().location()));
+                  }
+                }
+
                 entries =
                     CloseableIterable.filter(
                         scanMetrics.skippedDataFiles(), entries, manifestEntryPredicate);
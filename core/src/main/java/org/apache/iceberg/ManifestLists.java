@@ -36,6 +36,8 @@ class ManifestLists {
             .setRootType(GenericManifestFile.class)
             .setCustomType(
                 ManifestFile.PARTITION_SUMMARIES_ELEMENT_ID, GenericPartitionFieldSummary.class)
+            .setCustomType(
+                ManifestFile.COLUMN_SUMMARIES_ELEMENT_ID, GenericColumnFieldSummary.class)
             .project(ManifestFile.schema())
             .build()) {
 
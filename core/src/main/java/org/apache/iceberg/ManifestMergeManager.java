@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.IOException;
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -29,6 +30,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.ListMultimap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -77,13 +79,14 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
 
     ManifestFile first = manifestIter.next();
 
-    List<ManifestFile> merged = Lists.newArrayList();
+    // plan the bins for all specs first so that bins from different specs are merged concurrently
+    List<Bin> bins = Lists.newArrayList();
     ListMultimap<Integer, ManifestFile> groups = groupBySpec(first, manifestIter);
     for (Integer specId : groups.keySet()) {
-      Iterables.addAll(merged, mergeGroup(first, specId, groups.get(specId)));
+      bins.addAll(planBins(first, specId, groups.get(specId)));
     }
 
-    return merged;
+    return mergeBins(bins);
   }
 
   void cleanUncommitted(Set<ManifestFile> committed) {
@@ -112,48 +115,58 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
     return groups;
   }
 
-  @SuppressWarnings("unchecked")
-  private Iterable<ManifestFile> mergeGroup(
-      ManifestFile first, int specId, List<ManifestFile> group) {
+  private List<Bin> planBins(ManifestFile first, int specId, List<ManifestFile> group) {
     // use a lookback of 1 to avoid reordering the manifests. using 1 also means this should pack
     // from the end so that the manifest that gets under-filled is the first one, which will be
     // merged the next time.
     ListPacker<ManifestFile> packer = new ListPacker<>(targetSizeBytes, 1, false);
-    List<List<ManifestFile>> bins = packer.packEnd(group, ManifestFile::length);
+    List<List<ManifestFile>> packed = packer.packEnd(group, ManifestFile::length);
+
+    List<Bin> bins = Lists.newArrayListWithExpectedSize(packed.size());
+    for (List<ManifestFile> bin : packed) {
+      // if the bin has the first manifest (the new data files or an appended manifest file) then
+      // only merge it if the number of manifests is above the minimum count. this is applied only
+      // to bins with an in-memory manifest so that large manifests don't prevent merging older
+      // groups.
+      boolean merge = bin.size() > 1 && !(bin.contains(first) && bin.size() < minCountToMerge);
+      bins.add(new Bin(specId, bin, merge));
+    }
 
+    return bins;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Iterable<ManifestFile> mergeBins(List<Bin> bins) {
     // process bins in parallel, but put results in the order of the bins into an array to preserve
     // the order of manifests and contents. preserving the order helps avoid random deletes when
     // data files are eventually aged off.
     List<ManifestFile>[] binResults =
         (List<ManifestFile>[]) Array.newInstance(List.class, bins.size());
 
-    Tasks.range(bins.size())
+    // start the largest merges first so that they do not delay the commit after smaller merges
+    // have finished; bins that are not merged are cheap and are handled last
+    Integer[] order = new Integer[bins.size()];
+    for (int index = 0; index < order.length; index += 1) {
+      order[index] = index;
+    }
+
+    Comparator<Integer> byMergeBytes =
+        Comparator.comparingLong(index -> bins.get(index).mergeBytes());
+    Arrays.sort(order, byMergeBytes.reversed());
+
+    Tasks.range(order.length)
         .stopOnFailure()
         .throwFailureWhenFinished()
         .executeWith(workerPoolSupplier.get())
         .run(
-            index -> {
-              List<ManifestFile> bin = bins.get(index);
-              List<ManifestFile> outputManifests = Lists.newArrayList();
-              binResults[index] = outputManifests;
-
-              if (bin.size() == 1) {
-                // no need to rewrite
-                outputManifests.add(bin.get(0));
-                return;
-              }
-
-              // if the bin has the first manifest (the new data files or an appended manifest file)
-              // then only merge it
-              // if the number of manifests is above the minimum count. this is applied only to bins
-              // with an in-memory
-              // manifest so that large manifests don't prevent merging older groups.
-              if (bin.contains(first) && bin.size() < minCountToMerge) {
-                // not enough to merge, add all manifest files to the output list
-                outputManifests.addAll(bin);
+            task -> {
+              int index = order[task];
+              Bin bin = bins.get(index);
+              if (bin.merge) {
+                binResults[index] = ImmutableList.of(createManifest(bin.specId, bin.manifests));
               } else {
-                // merge the group
-                outputManifests.add(createManifest(specId, bin));
+                // not enough to merge or no need to rewrite, add all manifest files to the output
+                binResults[index] = bin.manifests;
               }
             });
 
@@ -205,4 +218,29 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
 
     return manifest;
   }
+
+  private static class Bin {
+    private final int specId;
+    private final List<ManifestFile> manifests;
+    private final boolean merge;
+
+    private Bin(int specId, List<ManifestFile> manifests, boolean merge) {
+      this.specId = specId;
+      this.manifests = manifests;
+      this.merge = merge;
+    }
+
+    private long mergeBytes() {
+      if (!merge) {
+        return 0L;
+      }
+
+      long bytes = 0L;
+      for (ManifestFile manifest : manifests) {
+        bytes += manifest.length();
+      }
+
+      return bytes;
+    }
+  }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.hash.BloomFilter;
+import org.apache.iceberg.relocated.com.google.common.hash.Funnels;
+import org.apache.iceberg.util.Pair;
+
+/**
+ * A process-wide index of the file locations that are live in a manifest.
+ *
+ * <p>Manifests are immutable, so the set of live files in a manifest never changes once it is
+ * written and an index entry stays valid for the life of the process. Entries are keyed by the
+ * table UUID and the manifest location, so that tables that reuse locations, like a table that is
+ * dropped and recreated, never share entries. Each entry is a bloom filter of the locations of the
+ * manifest's live files. A manifest with no entry might contain any file, and tables without a
+ * UUID are never indexed.
+ *
+ * <p>Entries are added when a manifest is fully read or written while filtering, so that later
+ * commits that delete files by location can skip the manifests that cannot contain them instead of
+ * opening every candidate manifest.
+ */
+class ManifestPathIndex {
+  private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+  // about 10 bits per location at a 1% false positive probability
+  private static final long BYTES_PER_LOCATION = 2;
+  private static final long MAX_INDEX_BYTES = 64L * 1024 * 1024;
+
+  private static final Cache<Pair<String, String>, BloomFilter<CharSequence>> INDEX =
+      Caffeine.newBuilder()
+          .softValues()
+          .maximumWeight(MAX_INDEX_BYTES)
+          .weigher(
+              (Pair<String, String> key, BloomFilter<CharSequence> filter) ->
+                  (int)
+                      Math.min(
+                          Integer.MAX_VALUE,
+                          filter.approximateElementCount() * BYTES_PER_LOCATION + 1))
+          .build();
+
+  private ManifestPathIndex() {}
+
+  /**
+   * Returns whether the manifest might contain a live file with any of the given locations.
+   *
+   * @param tableUuid the UUID of the table the manifest belongs to, may be null
+   * @param manifest a manifest file
+   * @param locations file locations
+   * @return false if the manifest is indexed and contains none of the locations, true otherwise
+   */
+  static boolean mightContainAny(
+      String tableUuid, ManifestFile manifest, Iterable<? extends CharSequence> locations) {
+    BloomFilter<CharSequence> filter = filter(tableUuid, manifest);
+    if (filter == null) {
+      return true;
+    }
+
+    for (CharSequence location : locations) {
+      if (filter.mightContain(location)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns a new {@link Builder} to index the live files of a manifest.
+   *
+   * @param tableUuid the UUID of the table the manifest belongs to
+   * @param expectedFileCount the expected number of live files in the manifest
+   */
+  static Builder builder(String tableUuid, long expectedFileCount) {
+    return new Builder(tableUuid, expectedFileCount);
+  }
+
+  @VisibleForTesting
+  static boolean isIndexed(String tableUuid, ManifestFile manifest) {
+    return filter(tableUuid, manifest) != null;
+  }
+
+  private static BloomFilter<CharSequence> filter(String tableUuid, ManifestFile manifest) {
+    return tableUuid != null ? INDEX.getIfPresent(Pair.of(tableUuid, manifest.path())) : null;
+  }
+
+  static long expectedFileCount(ManifestFile manifest) {
+    long count = 0;
+    if (manifest.addedFilesCount() != null) {
+      count += manifest.addedFilesCount();
+    }
+
+    if (manifest.existingFilesCount() != null) {
+      count += manifest.existingFilesCount();
+    }
+
+    return count;
+  }
+
+  /** Collects the locations of the live files in a manifest as they are read or written. */
+  static class Builder {
+    private final String tableUuid;
+    private final BloomFilter<CharSequence> filter;
+
+    private Builder(String tableUuid, long expectedFileCount) {
+      Preconditions.checkArgument(tableUuid != null, "Invalid table UUID: null");
+      this.tableUuid = tableUuid;
+      this.filter =
+          BloomFilter.create(
+              Funnels.stringFunnel(StandardCharsets.UTF_8),
+              Math.max(expectedFileCount, 1),
+              FALSE_POSITIVE_PROBABILITY);
+    }
+
+    void add(CharSequence location) {
+      filter.put(location);
+    }
+
+    /**
+     * Adds the collected locations to the index for the given manifest location.
+     *
+     * <p>This must only be called after all live files of the manifest have been added.
+     */
+    void commit(String manifestLocation) {
+      INDEX.put(Pair.of(tableUuid, manifestLocation), filter);
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.avro.AvroIterable;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -40,8 +41,10 @@ import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PartitionSet;
@@ -64,6 +67,14 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
           "upper_bounds",
           "record_count");
 
+  private static final List<Types.NestedField> STATS_MAPS =
+      ImmutableList.of(
+          DataFile.VALUE_COUNTS,
+          DataFile.NULL_VALUE_COUNTS,
+          DataFile.NAN_VALUE_COUNTS,
+          DataFile.LOWER_BOUNDS,
+          DataFile.UPPER_BOUNDS);
+
   protected enum FileType {
     DATA_FILES(GenericDataFile.class),
     DELETE_FILES(GenericDeleteFile.class);
@@ -94,6 +105,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   private Collection<String> columns = null;
   private boolean caseSensitive = true;
   private ScanMetrics scanMetrics = ScanMetrics.noop();
+  private boolean limitStatsToFilter = false;
 
   // lazily initialized
   private Evaluator lazyEvaluator = null;
@@ -146,6 +158,12 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   }
 
   private static <T extends ContentFile<T>> Map<String, String> readMetadata(InputFile inputFile) {
+    FileFormat format = FileFormat.fromFileName(inputFile.location());
+    if (format != null && format != FileFormat.AVRO) {
+      // other formats store the same metadata in the file footer
+      return InternalData.readMetadata(format, inputFile);
+    }
+
     Map<String, String> metadata;
     try {
       try (CloseableIterable<ManifestEntry<T>> headerReader =
@@ -222,11 +240,22 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     return this;
   }
 
+  /**
+   * Only decodes the stats of columns referenced by the row filter when stats are projected just to
+   * evaluate the filter.
+   *
+   * <p>Callers must drop the stats of returned entries unless stats columns were selected.
+   */
+  ManifestReader<F> limitStatsToFilter() {
+    this.limitStatsToFilter = true;
+    return this;
+  }
+
   CloseableIterable<ManifestEntry<F>> entries() {
-    return entries(false /* all entries */);
+    return entries(false /* all entries */, limitStatsToFilter);
   }
 
-  private CloseableIterable<ManifestEntry<F>> entries(boolean onlyLive) {
+  private CloseableIterable<ManifestEntry<F>> entries(boolean onlyLive, boolean limitStats) {
     if (hasRowFilter() || hasPartitionFilter() || partitionSet != null) {
       Evaluator evaluator = evaluator();
       InclusiveMetricsEvaluator metricsEvaluator = metricsEvaluator();
@@ -235,8 +264,10 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
       boolean requireStatsProjection = requireStatsProjection(rowFilter, columns);
       Collection<String> projectColumns =
           requireStatsProjection ? withStatsColumns(columns) : columns;
+      Map<Integer, Set<?>> statsKeys =
+          requireStatsProjection && limitStats ? filterStatsKeys() : ImmutableMap.of();
       CloseableIterable<ManifestEntry<F>> entries =
-          open(projection(fileSchema, fileProjection, projectColumns, caseSensitive));
+          open(projection(fileSchema, fileProjection, projectColumns, caseSensitive), statsKeys);
 
       return CloseableIterable.filter(
           content == FileType.DATA_FILES
@@ -250,7 +281,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
                   && inPartitionSet(entry.file()));
     } else {
       CloseableIterable<ManifestEntry<F>> entries =
-          open(projection(fileSchema, fileProjection, columns, caseSensitive));
+          open(projection(fileSchema, fileProjection, columns, caseSensitive), ImmutableMap.of());
       return onlyLive ? filterLiveEntries(entries) : entries;
     }
   }
@@ -268,7 +299,23 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
         || partitionSet.contains(fileToCheck.specId(), fileToCheck.partition());
   }
 
-  private CloseableIterable<ManifestEntry<F>> open(Schema projection) {
+  private Map<Integer, Set<?>> filterStatsKeys() {
+    Set<Integer> filterIds =
+        Binder.boundReferences(
+            spec.schema().asStruct(), ImmutableList.of(rowFilter), caseSensitive);
+    Map<Integer, Set<?>> statsKeys = Maps.newHashMap();
+    for (Types.NestedField statsMap : STATS_MAPS) {
+      // maps that were selected by the caller are returned in full
+      if (!columns.contains(statsMap.name())) {
+        statsKeys.put(statsMap.fieldId(), filterIds);
+      }
+    }
+
+    return statsKeys;
+  }
+
+  private CloseableIterable<ManifestEntry<F>> open(
+      Schema projection, Map<Integer, Set<?>> statsKeys) {
     FileFormat format = FileFormat.fromFileName(file.location());
     Preconditions.checkArgument(
         format != null, "Unable to determine format of manifest: %s", file.location());
@@ -283,14 +330,17 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     }
     fields.add(MetadataColumns.ROW_POSITION);
 
-    CloseableIterable<ManifestEntry<F>> reader =
+    InternalData.ReadBuilder builder =
         InternalData.read(format, file)
             .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
             .setRootType(GenericManifestEntry.class)
             .setCustomType(ManifestEntry.DATA_FILE_ID, content.fileClass())
             .setCustomType(DataFile.PARTITION_ID, PartitionData.class)
-            .reuseContainers()
-            .build();
+            .reuseContainers();
+
+    statsKeys.forEach(builder::projectMapKeys);
+
+    CloseableIterable<ManifestEntry<F>> reader = builder.build();
 
     addCloseable(reader);
 
@@ -300,7 +350,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   }
 
   CloseableIterable<ManifestEntry<F>> liveEntries() {
-    return entries(true /* only live entries */);
+    return entries(true /* only live entries */, limitStatsToFilter);
   }
 
   private CloseableIterable<ManifestEntry<F>> filterLiveEntries(
@@ -318,7 +368,9 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   @Override
   public CloseableIterator<F> iterator() {
     boolean dropStats = dropStats(columns);
-    return CloseableIterable.transform(liveEntries(), e -> e.file().copy(!dropStats)).iterator();
+    CloseableIterable<ManifestEntry<F>> entries =
+        entries(true /* only live entries */, limitStatsToFilter || dropStats);
+    return CloseableIterable.transform(entries, e -> e.file().copy(!dropStats)).iterator();
   }
 
   private static Schema projection(
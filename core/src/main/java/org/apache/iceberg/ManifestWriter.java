@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.FileAppender;
@@ -40,11 +41,13 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
   private final OutputFile file;
   private final ByteBuffer keyMetadataBuffer;
   private final int specId;
+  private final Schema schema;
   private final FileAppender<ManifestEntry<F>> writer;
   private final Long snapshotId;
   private final GenericManifestEntry<F> reused;
   private final PartitionSummary stats;
   private final Long firstRowId;
+  private ColumnSummary columnStats = null;
 
   private boolean closed = false;
   private int addedFiles = 0;
@@ -59,6 +62,7 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
       PartitionSpec spec, EncryptedOutputFile file, Long snapshotId, Long firstRowId) {
     this.file = file.encryptingOutputFile();
     this.specId = spec.specId();
+    this.schema = spec.schema();
     this.writer = newAppender(spec, this.file);
     this.snapshotId = snapshotId;
     this.reused =
@@ -77,6 +81,25 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     return ManifestContent.DATA;
   }
 
+  /**
+   * Summarizes the values of columns in all files written to this manifest.
+   *
+   * <p>The summaries combine the column metrics of the files and are stored in the manifest list,
+   * where they are used to skip manifests for filters on columns that are not partition sources.
+   * Must be called before any file is written. Use {@link ManifestFiles#summarizedColumnIds(int,
+   * java.util.Map, Schema)} to summarize the columns configured for a table.
+   *
+   * @param fieldIds field IDs of the columns to summarize
+   * @return this for method chaining
+   */
+  public ManifestWriter<F> summarizeColumns(Collection<Integer> fieldIds) {
+    Preconditions.checkState(
+        addedFiles + existingFiles + deletedFiles == 0,
+        "Cannot summarize columns after files were written");
+    this.columnStats = fieldIds.isEmpty() ? null : new ColumnSummary(schema, fieldIds);
+    return this;
+  }
+
   void addEntry(ManifestEntry<F> entry) {
     switch (entry.status()) {
       case ADDED:
@@ -94,6 +117,9 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     }
 
     stats.update(entry.file().partition());
+    if (columnStats != null) {
+      columnStats.update(entry.file());
+    }
 
     if (entry.isLive()
         && entry.dataSequenceNumber() != null
@@ -212,7 +238,8 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
         existingRows,
         deletedFiles,
         deletedRows,
-        firstRowId);
+        firstRowId,
+        columnStats != null ? columnStats.summaries() : null);
   }
 
   @Override
@@ -221,6 +248,12 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     writer.close();
   }
 
+  /** Returns the format of a v4 manifest, which is chosen by the file extension. */
+  private static FileFormat v4Format(OutputFile file) {
+    FileFormat format = FileFormat.fromFileName(file.location());
+    return format != null ? format : FileFormat.AVRO;
+  }
+
   static class V4Writer extends ManifestWriter<DataFile> {
     private final V4Metadata.ManifestEntryWrapper<DataFile> entryWrapper;
 
@@ -239,7 +272,7 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
         PartitionSpec spec, OutputFile file) {
       Schema manifestSchema = V4Metadata.entrySchema(spec.partitionType());
       try {
-        return InternalData.write(FileFormat.AVRO, file)
+        return InternalData.write(v4Format(file), file)
             .schema(manifestSchema)
             .named("manifest_entry")
             .meta("schema", SchemaParser.toJson(spec.schema()))
@@ -274,7 +307,7 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
         PartitionSpec spec, OutputFile file) {
       Schema manifestSchema = V4Metadata.entrySchema(spec.partitionType());
       try {
-        return InternalData.write(FileFormat.AVRO, file)
+        return InternalData.write(v4Format(file), file)
             .schema(manifestSchema)
             .named("manifest_entry")
             .meta("schema", SchemaParser.toJson(spec.schema()))
@@ -522,7 +522,7 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
 
     DeleteFileIndex deletes = addedDeleteFiles(base, startingSnapshotId, dataFilter, null, parent);
 
-    long startingSequenceNumber = startingSequenceNumber(base, startingSnapshotId);
+    long startingSequenceNumber = startingSequenceNumber(base, startingSnapshotId, parent);
     for (DataFile dataFile : dataFiles) {
       // if any delete is found that applies to files written in or before the starting snapshot,
       // fail
@@ -612,7 +612,7 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
             parent);
     List<ManifestFile> deleteManifests = history.first();
 
-    long startingSequenceNumber = startingSequenceNumber(base, startingSnapshotId);
+    long startingSequenceNumber = startingSequenceNumber(base, startingSnapshotId, parent);
     return buildDeleteFileIndex(deleteManifests, startingSequenceNumber, dataFilter, partitionSet);
   }
 
@@ -730,9 +730,11 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     this.newDataFilesDataSequenceNumber = sequenceNumber;
   }
 
-  private long startingSequenceNumber(TableMetadata metadata, Long startingSnapshotId) {
-    if (startingSnapshotId != null && metadata.snapshot(startingSnapshotId) != null) {
-      Snapshot startingSnapshot = metadata.snapshot(startingSnapshotId);
+  private long startingSequenceNumber(
+      TableMetadata metadata, Long startingSnapshotId, Snapshot parent) {
+    Long validationStartId = validationStartingSnapshotId(metadata, startingSnapshotId, parent);
+    if (validationStartId != null && metadata.snapshot(validationStartId) != null) {
+      Snapshot startingSnapshot = metadata.snapshot(validationStartId);
       return startingSnapshot.sequenceNumber();
     } else {
       return TableMetadata.INITIAL_SEQUENCE_NUMBER;
@@ -864,13 +866,38 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     }
   }
 
+  /**
+   * Returns the ID of the snapshot after which history must be validated.
+   *
+   * <p>If a previous attempt to apply this update validated history up to a snapshot that is an
+   * ancestor of the parent, that history does not need to be validated again. Validations that
+   * check for conflicting changes since a starting snapshot then only read the snapshots committed
+   * since the previous attempt.
+   */
+  private Long validationStartingSnapshotId(
+      TableMetadata base, Long startingSnapshotId, Snapshot parent) {
+    Long validatedId = validatedSnapshotId();
+    if (parent == null || validatedId == null || validatedId.equals(startingSnapshotId)) {
+      return startingSnapshotId;
+    }
+
+    boolean validatedParentHistory =
+        SnapshotUtil.isAncestorOf(parent.snapshotId(), validatedId, base::snapshot);
+    boolean validatedFromStart =
+        startingSnapshotId == null
+            || SnapshotUtil.isAncestorOf(validatedId, startingSnapshotId, base::snapshot);
+    return validatedParentHistory && validatedFromStart ? validatedId : startingSnapshotId;
+  }
+
   // returns newly added manifests and snapshot IDs between the starting and parent snapshots
   private Pair<List<ManifestFile>, Set<Long>> validationHistory(
       TableMetadata base,
-      Long startingSnapshotId,
+      Long originalStartingSnapshotId,
       Set<String> matchingOperations,
       ManifestContent content,
       Snapshot parent) {
+    Long startingSnapshotId =
+        validationStartingSnapshotId(base, originalStartingSnapshotId, parent);
     List<ManifestFile> manifests = Lists.newArrayList();
     Set<Long> newSnapshots = Sets.newHashSet();
 
@@ -1114,7 +1141,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
 
   private class DataFileFilterManager extends ManifestFilterManager<DataFile> {
     private DataFileFilterManager() {
-      super(ops().current().specsById(), MergingSnapshotProducer.this::workerPool);
+      super(
+          ops().current().specsById(),
+          ops().current().uuid(),
+          MergingSnapshotProducer.this::workerPool);
     }
 
     @Override
@@ -1177,7 +1207,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
 
   private class DeleteFileFilterManager extends ManifestFilterManager<DeleteFile> {
     private DeleteFileFilterManager() {
-      super(ops().current().specsById(), MergingSnapshotProducer.this::workerPool);
+      super(
+          ops().current().specsById(),
+          ops().current().uuid(),
+          MergingSnapshotProducer.this::workerPool);
     }
 
     @Override
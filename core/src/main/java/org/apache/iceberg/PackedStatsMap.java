@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.SerializableMap;
+
+/**
+ * A compact map of column stats keyed by field ID.
+ *
+ * <p>Keys are kept in a sorted int array next to an array of unboxed values, instead of hash
+ * entries with boxed keys and values. Lookups use a binary search and values are only turned into
+ * objects when they are requested, so copies of files for wide tables hold little more than the raw
+ * stats bytes.
+ *
+ * <p>Maps are not modified after they are created. {@link #put(Integer, Object)} is only supported
+ * so that serialization frameworks that rebuild maps entry by entry can create them.
+ */
+abstract class PackedStatsMap<V> extends AbstractMap<Integer, V> implements Serializable {
+  private int[] keys;
+
+  private PackedStatsMap(int[] keys) {
+    this.keys = keys;
+  }
+
+  /**
+   * Returns a packed copy of stats counts, limited to the given field IDs.
+   *
+   * @param map a map of counts by field ID, or null
+   * @param fieldIds field IDs to keep, or null to keep all
+   * @return a packed copy, or null if the map is null
+   */
+  static Map<Integer, Long> copyCounts(Map<Integer, Long> map, Set<Integer> fieldIds) {
+    if (map == null) {
+      return null;
+    } else if (map instanceof Counts && fieldIds == null) {
+      return map;
+    }
+
+    int[] keys = sortedKeys(map, fieldIds);
+    long[] values = new long[keys.length];
+    for (int pos = 0; pos < keys.length; pos += 1) {
+      Long value = map.get(keys[pos]);
+      if (value == null) {
+        // null counts cannot be packed
+        return fieldIds == null
+            ? SerializableMap.copyOf(map)
+            : SerializableMap.filteredCopyOf(map, fieldIds);
+      }
+
+      values[pos] = value;
+    }
+
+    return new Counts(keys, values);
+  }
+
+  /**
+   * Returns a packed copy of stats bounds, limited to the given field IDs.
+   *
+   * @param map a map of serialized bounds by field ID, or null
+   * @param fieldIds field IDs to keep, or null to keep all
+   * @return a packed copy, or null if the map is null
+   */
+  static Map<Integer, ByteBuffer> copyBounds(Map<Integer, ByteBuffer> map, Set<Integer> fieldIds) {
+    if (map == null) {
+      return null;
+    } else if (map instanceof Bounds && fieldIds == null) {
+      return map;
+    }
+
+    int[] keys = sortedKeys(map, fieldIds);
+    byte[][] values = new byte[keys.length][];
+    for (int pos = 0; pos < keys.length; pos += 1) {
+      values[pos] = ByteBuffers.toByteArray(map.get(keys[pos]));
+    }
+
+    return new Bounds(keys, values);
+  }
+
+  private static int[] sortedKeys(Map<Integer, ?> map, Set<Integer> fieldIds) {
+    int[] keys = new int[fieldIds != null ? Math.min(map.size(), fieldIds.size()) : map.size()];
+    int size = 0;
+    for (Integer key : fieldIds != null ? fieldIds : map.keySet()) {
+      if (fieldIds == null || map.containsKey(key)) {
+        keys[size] = key;
+        size += 1;
+      }
+    }
+
+    int[] sorted = size < keys.length ? Arrays.copyOf(keys, size) : keys;
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  /** Returns the value at a position of the key array. */
+  protected abstract V valueAt(int pos);
+
+  /** Inserts a value at a position of the key array, shifting later values. */
+  protected abstract void insertValueAt(int pos, V value);
+
+  /** Replaces the value at a position of the key array. */
+  protected abstract void setValueAt(int pos, V value);
+
+  private int indexOf(Object key) {
+    if (key instanceof Integer) {
+      return Arrays.binarySearch(keys, (Integer) key);
+    }
+
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public V get(Object key) {
+    int pos = indexOf(key);
+    return pos >= 0 ? valueAt(pos) : null;
+  }
+
+  @Override
+  public V put(Integer key, V value) {
+    int pos = indexOf(key);
+    if (pos >= 0) {
+      V existing = valueAt(pos);
+      setValueAt(pos, value);
+      return existing;
+    }
+
+    int insertPos = -(pos + 1);
+    int[] newKeys = new int[keys.length + 1];
+    System.arraycopy(keys, 0, newKeys, 0, insertPos);
+    System.arraycopy(keys, insertPos, newKeys, insertPos + 1, keys.length - insertPos);
+    newKeys[insertPos] = key;
+    insertValueAt(insertPos, value);
+    this.keys = newKeys;
+
+    return null;
+  }
+
+  @Override
+  public Set<Entry<Integer, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Integer, V>> iterator() {
+        return new Iterator<>() {
+          private int pos = 0;
+
+          @Override
+          public boolean hasNext() {
+            return pos < keys.length;
+          }
+
+          @Override
+          public Entry<Integer, V> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+
+            Entry<Integer, V> entry = new SimpleImmutableEntry<>(keys[pos], valueAt(pos));
+            pos += 1;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+
+  private static class Counts extends PackedStatsMap<Long> {
+    private long[] values;
+
+    /** Constructor used by serialization frameworks that rebuild maps using put. */
+    private Counts() {
+      this(new int[0], new long[0]);
+    }
+
+    private Counts(int[] keys, long[] values) {
+      super(keys);
+      this.values = values;
+    }
+
+    @Override
+    protected Long valueAt(int pos) {
+      return values[pos];
+    }
+
+    @Override
+    protected void insertValueAt(int pos, Long value) {
+      Preconditions.checkArgument(value != null, "Invalid stats count: null");
+      long[] newValues = new long[values.length + 1];
+      System.arraycopy(values, 0, newValues, 0, pos);
+      System.arraycopy(values, pos, newValues, pos + 1, values.length - pos);
+      newValues[pos] = value;
+      this.values = newValues;
+    }
+
+    @Override
+    protected void setValueAt(int pos, Long value) {
+      Preconditions.checkArgument(value != null, "Invalid stats count: null");
+      values[pos] = value;
+    }
+  }
+
+  private static class Bounds extends PackedStatsMap<ByteBuffer> {
+    private byte[][] values;
+
+    /** Constructor used by serialization frameworks that rebuild maps using put. */
+    private Bounds() {
+      this(new int[0], new byte[0][]);
+    }
+
+    private Bounds(int[] keys, byte[][] values) {
+      super(keys);
+      this.values = values;
+    }
+
+    @Override
+    protected ByteBuffer valueAt(int pos) {
+      // buffers are created on access so that only bounds that are used are materialized
+      return values[pos] != null ? ByteBuffer.wrap(values[pos]) : null;
+    }
+
+    @Override
+    protected void insertValueAt(int pos, ByteBuffer value) {
+      byte[][] newValues = new byte[values.length + 1][];
+      System.arraycopy(values, 0, newValues, 0, pos);
+      System.arraycopy(values, pos, newValues, pos + 1, values.length - pos);
+      newValues[pos] = ByteBuffers.toByteArray(value);
+      this.values = newValues;
+    }
+
+    @Override
+    protected void setValueAt(int pos, ByteBuffer value) {
+      values[pos] = ByteBuffers.toByteArray(value);
+    }
+  }
+}
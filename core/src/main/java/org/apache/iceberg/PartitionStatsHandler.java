@@ -28,12 +28,14 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Queue;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.InputFile;
@@ -41,7 +43,7 @@ import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
-import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.types.Types.IntegerType;
@@ -52,6 +54,7 @@ import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PartitionMap;
 import org.apache.iceberg.util.PartitionUtil;
 import org.apache.iceberg.util.SnapshotUtil;
+import org.apache.iceberg.util.StructProjection;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
@@ -267,6 +270,110 @@ public class PartitionStatsHandler {
         sortedStats);
   }
 
+  /**
+   * Returns the number of rows in a snapshot that match a filter, computed from partition
+   * statistics without reading the manifests of the snapshot.
+   *
+   * <p>If the closest partition statistics file is for an ancestor of the snapshot, only the
+   * manifests added by the snapshots after it are read to bring the statistics up to date.
+   *
+   * <p>The count can only be computed if the filter selects either all rows or no rows of each
+   * partition, if partitions with selected rows have no delete files and if there are no global
+   * equality deletes, which apply to the data files of all specs. Otherwise, or if there are no
+   * partition statistics, this returns null and the count must be computed from manifests.
+   *
+   * @param table the table
+   * @param snapshotId the ID of the snapshot
+   * @param filter a row filter
+   * @param caseSensitive whether the filter is case sensitive
+   * @return the number of rows that match the filter, or null if it cannot be computed
+   */
+  public static Long recordCount(
+      Table table, long snapshotId, Expression filter, boolean caseSensitive) {
+    Preconditions.checkArgument(table != null, "Invalid table: null");
+    Preconditions.checkArgument(filter != null, "Invalid filter: null");
+    Snapshot snapshot = table.snapshot(snapshotId);
+    Preconditions.checkArgument(snapshot != null, "Snapshot not found: %s", snapshotId);
+
+    if (!Partitioning.isPartitioned(table)) {
+      return null;
+    }
+
+    PartitionStatisticsFile statisticsFile = latestStatsFile(table, snapshotId);
+    if (statisticsFile == null) {
+      return null;
+    }
+
+    StructType partitionType = Partitioning.partitionType(table);
+    Collection<PartitionStats> stats;
+    try {
+      if (statisticsFile.snapshotId() == snapshotId) {
+        stats = readStats(table, partitionType, statisticsFile);
+      } else {
+        stats = computeAndMergeStatsIncremental(table, snapshot, partitionType, statisticsFile);
+      }
+    } catch (InvalidStatsFileException e) {
+      LOG.warn("Cannot count records: failed to read {}", statisticsFile.path(), e);
+      return null;
+    }
+
+    Map<Integer, Evaluator> inclusiveEvaluators = Maps.newHashMap();
+    Map<Integer, Evaluator> strictEvaluators = Maps.newHashMap();
+    Map<Integer, StructProjection> projections = Maps.newHashMap();
+    long recordCount = 0L;
+    for (PartitionStats partitionStats : stats) {
+      int specId = partitionStats.specId();
+      PartitionSpec spec = table.specs().get(specId);
+      if (spec.isUnpartitioned() && partitionStats.equalityDeleteRecordCount() > 0) {
+        // equality deletes of unpartitioned specs apply to the data files of all partitions
+        return null;
+      }
+
+      StructLike partition =
+          projections
+              .computeIfAbsent(
+                  specId, id -> StructProjection.create(partitionType, spec.partitionType()))
+              .wrap(partitionStats.partition());
+      Evaluator inclusive =
+          inclusiveEvaluators.computeIfAbsent(
+              specId,
+              id ->
+                  new Evaluator(
+                      spec.partitionType(),
+                      Projections.inclusive(spec, caseSensitive).project(filter),
+                      caseSensitive));
+      if (!inclusive.eval(partition)) {
+        continue;
+      } else if (hasDeletes(partitionStats)) {
+        return null;
+      } else if (partitionStats.dataRecordCount() == 0) {
+        continue;
+      }
+
+      Evaluator strict =
+          strictEvaluators.computeIfAbsent(
+              specId,
+              id ->
+                  new Evaluator(
+                      spec.partitionType(),
+                      Projections.strict(spec, caseSensitive).project(filter),
+                      caseSensitive));
+      if (!strict.eval(partition)) {
+        return null;
+      }
+
+      recordCount += partitionStats.dataRecordCount();
+    }
+
+    return recordCount;
+  }
+
+  private static boolean hasDeletes(PartitionStats stats) {
+    return stats.positionDeleteRecordCount() > 0
+        || stats.equalityDeleteRecordCount() > 0
+        || stats.dvCount() > 0;
+  }
+
   @VisibleForTesting
   static PartitionStatisticsFile writePartitionStatsFile(
       Table table, long snapshotId, Schema dataSchema, Iterable<PartitionStats> records)
@@ -346,15 +453,8 @@ public class PartitionStatsHandler {
       PartitionStatisticsFile previousStatsFile) {
     PartitionMap<PartitionStats> statsMap = PartitionMap.create(table.specs());
     // read previous stats, note that partition field will be read as GenericRecord
-    try (CloseableIterable<PartitionStats> oldStats =
-        readPartitionStatsFile(
-            schema(partitionType, TableUtil.formatVersion(table)),
-            table.io().newInputFile(previousStatsFile.path()))) {
-      oldStats.forEach(
-          partitionStats ->
-              statsMap.put(partitionStats.specId(), partitionStats.partition(), partitionStats));
-    } catch (Exception exception) {
-      throw new InvalidStatsFileException(exception);
+    for (PartitionStats partitionStats : readStats(table, partitionType, previousStatsFile)) {
+      statsMap.put(partitionStats.specId(), partitionStats.partition(), partitionStats);
     }
 
     // incrementally compute the new stats, partition field will be written as PartitionData
@@ -375,6 +475,18 @@ public class PartitionStatsHandler {
     return statsMap.values();
   }
 
+  private static List<PartitionStats> readStats(
+      Table table, StructType partitionType, PartitionStatisticsFile statisticsFile) {
+    try (CloseableIterable<PartitionStats> stats =
+        readPartitionStatsFile(
+            schema(partitionType, TableUtil.formatVersion(table)),
+            table.io().newInputFile(statisticsFile.path()))) {
+      return Lists.newArrayList(stats);
+    } catch (Exception exception) {
+      throw new InvalidStatsFileException(exception);
+    }
+  }
+
   private static GenericRecord partitionDataToRecord(PartitionData data) {
     GenericRecord record = GenericRecord.create(data.getPartitionType());
     for (int index = 0; index < record.size(); index++) {
@@ -428,21 +540,27 @@ public class PartitionStatsHandler {
   private static PartitionMap<PartitionStats> computeStats(
       Table table, List<ManifestFile> manifests, boolean incremental) {
     StructType partitionType = Partitioning.partitionType(table);
-    Queue<PartitionMap<PartitionStats>> statsByManifest = Queues.newConcurrentLinkedQueue();
+    // stats of different specs never share a key, so the stats of each manifest are merged into
+    // the stats of its spec as soon as they are collected, without holding a lock for other specs
+    Map<Integer, PartitionMap<PartitionStats>> statsBySpec = Maps.newConcurrentMap();
     Tasks.foreach(manifests)
         .stopOnFailure()
         .throwFailureWhenFinished()
         .executeWith(ThreadPools.getWorkerPool())
         .run(
-            manifest ->
-                statsByManifest.add(
-                    collectStatsForManifest(table, manifest, partitionType, incremental)));
+            manifest -> {
+              PartitionMap<PartitionStats> manifestStats =
+                  collectStatsForManifest(table, manifest, partitionType, incremental);
+              PartitionMap<PartitionStats> specStats =
+                  statsBySpec.computeIfAbsent(
+                      manifest.partitionSpecId(), specId -> PartitionMap.create(table.specs()));
+              synchronized (specStats) {
+                mergePartitionMap(manifestStats, specStats);
+              }
+            });
 
     PartitionMap<PartitionStats> statsMap = PartitionMap.create(table.specs());
-    for (PartitionMap<PartitionStats> stats : statsByManifest) {
-      mergePartitionMap(stats, statsMap);
-    }
-
+    statsBySpec.values().forEach(statsMap::putAll);
     return statsMap;
   }
 
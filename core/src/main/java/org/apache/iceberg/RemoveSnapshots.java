@@ -26,6 +26,10 @@ import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES;
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.EXPIRE_STREAMING_CLEANUP_ENABLED;
+import static org.apache.iceberg.TableProperties.EXPIRE_STREAMING_CLEANUP_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS;
+import static org.apache.iceberg.TableProperties.EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS_DEFAULT;
 import static org.apache.iceberg.TableProperties.GC_ENABLED;
 import static org.apache.iceberg.TableProperties.GC_ENABLED_DEFAULT;
 import static org.apache.iceberg.TableProperties.MAX_REF_AGE_MS;
@@ -374,6 +378,26 @@ class RemoveSnapshots implements ExpireSnapshots {
       incrementalCleanup = false;
     }
 
+    // streaming cleanup is used instead of reachable cleanup, unless incremental is requested
+    boolean streamingCleanup =
+        !Boolean.TRUE.equals(incrementalCleanup)
+            && PropertyUtil.propertyAsBoolean(
+                current.properties(),
+                EXPIRE_STREAMING_CLEANUP_ENABLED,
+                EXPIRE_STREAMING_CLEANUP_ENABLED_DEFAULT);
+    if (streamingCleanup) {
+      LOG.info("Cleaning up expired files (local, streaming)");
+      int maxBufferedPaths =
+          PropertyUtil.propertyAsInt(
+              current.properties(),
+              EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS,
+              EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS_DEFAULT);
+      new StreamingFileCleanup(
+              ops.io(), deleteExecutorService, planExecutorService(), deleteFunc, maxBufferedPaths)
+          .cleanFiles(base, current);
+      return;
+    }
+
     if (incrementalCleanup == null) {
       incrementalCleanup = current.refs().size() == 1;
     }
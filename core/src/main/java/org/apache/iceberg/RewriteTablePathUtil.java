@@ -41,6 +41,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ContentFileUtil;
 import org.apache.iceberg.util.Pair;
 import org.slf4j.Logger;
@@ -310,7 +311,10 @@ public class RewriteTablePathUtil {
       throws IOException {
     PartitionSpec spec = specsById.get(manifestFile.partitionSpecId());
     try (ManifestWriter<DataFile> writer =
-            ManifestFiles.write(format, spec, outputFile, manifestFile.snapshotId());
+            withColumnSummaries(
+                ManifestFiles.write(format, spec, outputFile, manifestFile.snapshotId()),
+                manifestFile,
+                spec.schema());
         ManifestReader<DataFile> reader =
             ManifestFiles.read(manifestFile, io, specsById).select(Arrays.asList("*"))) {
       return StreamSupport.stream(reader.entries().spliterator(), false)
@@ -346,7 +350,10 @@ public class RewriteTablePathUtil {
       throws IOException {
     PartitionSpec spec = specsById.get(manifestFile.partitionSpecId());
     try (ManifestWriter<DataFile> writer =
-            ManifestFiles.write(format, spec, outputFile, manifestFile.snapshotId());
+            withColumnSummaries(
+                ManifestFiles.write(format, spec, outputFile, manifestFile.snapshotId()),
+                manifestFile,
+                spec.schema());
         ManifestReader<DataFile> reader =
             ManifestFiles.read(manifestFile, io, specsById).select(Arrays.asList("*"))) {
       return StreamSupport.stream(reader.entries().spliterator(), false)
@@ -385,7 +392,11 @@ public class RewriteTablePathUtil {
       throws IOException {
     PartitionSpec spec = specsById.get(manifestFile.partitionSpecId());
     try (ManifestWriter<DeleteFile> writer =
-            ManifestFiles.writeDeleteManifest(format, spec, outputFile, manifestFile.snapshotId());
+            withColumnSummaries(
+                ManifestFiles.writeDeleteManifest(
+                    format, spec, outputFile, manifestFile.snapshotId()),
+                manifestFile,
+                spec.schema());
         ManifestReader<DeleteFile> reader =
             ManifestFiles.readDeleteManifest(manifestFile, io, specsById)
                 .select(Arrays.asList("*"))) {
@@ -426,7 +437,11 @@ public class RewriteTablePathUtil {
       throws IOException {
     PartitionSpec spec = specsById.get(manifestFile.partitionSpecId());
     try (ManifestWriter<DeleteFile> writer =
-            ManifestFiles.writeDeleteManifest(format, spec, outputFile, manifestFile.snapshotId());
+            withColumnSummaries(
+                ManifestFiles.writeDeleteManifest(
+                    format, spec, outputFile, manifestFile.snapshotId()),
+                manifestFile,
+                spec.schema());
         ManifestReader<DeleteFile> reader =
             ManifestFiles.readDeleteManifest(manifestFile, io, specsById)
                 .select(Arrays.asList("*"))) {
@@ -445,6 +460,29 @@ public class RewriteTablePathUtil {
     }
   }
 
+  /**
+   * Summarizes the same columns as the source manifest, so that the rewritten manifest has the
+   * column summaries that are copied to the rewritten manifest list.
+   */
+  private static <F extends ContentFile<F>> ManifestWriter<F> withColumnSummaries(
+      ManifestWriter<F> writer, ManifestFile manifestFile, Schema schema) {
+    List<ManifestFile.ColumnFieldSummary> summaries = manifestFile.columnSummaries();
+    if (summaries == null || summaries.isEmpty()) {
+      return writer;
+    }
+
+    List<Integer> fieldIds =
+        summaries.stream()
+            .map(ManifestFile.ColumnFieldSummary::fieldId)
+            .filter(
+                fieldId -> {
+                  Types.NestedField field = schema.findField(fieldId);
+                  return field != null && ColumnSummary.canSummarize(field.type());
+                })
+            .collect(Collectors.toList());
+    return writer.summarizeColumns(fieldIds);
+  }
+
   private static RewriteResult<DataFile> writeDataFileEntry(
       ManifestEntry<DataFile> entry,
       Set<Long> snapshotIds,
@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -111,6 +112,8 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   private final AtomicInteger manifestCount = new AtomicInteger(0);
   private final AtomicInteger attempt = new AtomicInteger(0);
   private final List<String> manifestLists = Lists.newArrayList();
+  private Long validatedSnapshotId = null;
+  private WrittenManifestList lastManifestList = null;
   private final long targetManifestSizeBytes;
   private MetricsReporter reporter = LoggingMetricsReporter.instance();
   private volatile Long snapshotId = null;
@@ -240,6 +243,36 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
    */
   protected void validate(TableMetadata currentMetadata, Snapshot snapshot) {}
 
+  /**
+   * Returns the ID of the last snapshot that was validated by a previous attempt to apply this
+   * update, or null if no attempt passed validation.
+   *
+   * <p>When an update is applied again after a failed commit, history up to this snapshot was
+   * already validated. If it is an ancestor of the new parent snapshot, validations that check the
+   * history since a starting snapshot only need to check the snapshots committed after it.
+   *
+   * <p>Snapshots staged by a transaction are never returned, because a retry of the transaction
+   * may rebase them onto concurrent commits that were not validated.
+   *
+   * @return the ID of the parent snapshot of the last validated attempt, or null
+   */
+  protected Long validatedSnapshotId() {
+    if (validatedSnapshotId != null && isCommittedSnapshot(validatedSnapshotId)) {
+      return validatedSnapshotId;
+    }
+
+    return null;
+  }
+
+  private boolean isCommittedSnapshot(long snapshotId) {
+    if (ops instanceof BaseTransaction.TransactionTableOperations) {
+      return ((BaseTransaction.TransactionTableOperations) ops).isCommittedSnapshot(snapshotId);
+    }
+
+    // the base metadata of other updates is refreshed from the table before it is applied
+    return true;
+  }
+
   /**
    * Apply the update's changes to the given metadata and snapshot. Return the new manifest list.
    *
@@ -258,41 +291,28 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     Long parentSnapshotId = parentSnapshot == null ? null : parentSnapshot.snapshotId();
 
     validate(base, parentSnapshot);
-    List<ManifestFile> manifests = apply(base, parentSnapshot);
+    this.validatedSnapshotId = parentSnapshotId;
 
-    OutputFile manifestList = manifestListPath();
+    List<ManifestFile> manifests = apply(base, parentSnapshot);
 
-    ManifestListWriter writer =
-        ManifestLists.write(
+    WrittenManifestList written =
+        new WrittenManifestList(
             ops.current().formatVersion(),
-            manifestList,
-            snapshotId(),
             parentSnapshotId,
             sequenceNumber,
-            base.nextRowId());
-
-    try (writer) {
-      // keep track of the manifest lists created
-      manifestLists.add(manifestList.location());
-
-      ManifestFile[] manifestFiles = new ManifestFile[manifests.size()];
-
-      Tasks.range(manifestFiles.length)
-          .stopOnFailure()
-          .throwFailureWhenFinished()
-          .executeWith(workerPool())
-          .run(index -> manifestFiles[index] = manifestsWithMetadata.get(manifests.get(index)));
-
-      writer.addAll(Arrays.asList(manifestFiles));
-    } catch (IOException e) {
-      throw new RuntimeIOException(e, "Failed to write manifest list file");
+            base.nextRowId(),
+            manifests);
+    if (!written.matches(lastManifestList)) {
+      // a retry against a new parent or with different manifests needs a new manifest list
+      writeManifestList(written, manifests);
+      this.lastManifestList = written;
     }
 
     Long nextRowId = null;
     Long assignedRows = null;
     if (base.formatVersion() >= 3) {
       nextRowId = base.nextRowId();
-      assignedRows = writer.nextRowId() - base.nextRowId();
+      assignedRows = lastManifestList.assignedRows;
     }
 
     Map<String, String> summary = summary();
@@ -320,12 +340,47 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
         operation(),
         summary(base),
         base.currentSchemaId(),
-        manifestList.location(),
+        lastManifestList.location,
         nextRowId,
         assignedRows,
         null);
   }
 
+  private void writeManifestList(WrittenManifestList written, List<ManifestFile> manifests) {
+    OutputFile manifestList = manifestListPath();
+
+    ManifestListWriter writer =
+        ManifestLists.write(
+            written.formatVersion,
+            manifestList,
+            snapshotId(),
+            written.parentSnapshotId,
+            written.sequenceNumber,
+            written.firstRowId);
+
+    try (writer) {
+      // keep track of the manifest lists created
+      manifestLists.add(manifestList.location());
+
+      ManifestFile[] manifestFiles = new ManifestFile[manifests.size()];
+
+      Tasks.range(manifestFiles.length)
+          .stopOnFailure()
+          .throwFailureWhenFinished()
+          .executeWith(workerPool())
+          .run(index -> manifestFiles[index] = manifestsWithMetadata.get(manifests.get(index)));
+
+      writer.addAll(Arrays.asList(manifestFiles));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write manifest list file");
+    }
+
+    written.location = manifestList.location();
+    if (written.formatVersion >= 3) {
+      written.assignedRows = writer.nextRowId() - written.firstRowId;
+    }
+  }
+
   protected abstract Map<String, String> summary();
 
   /** Returns the snapshot summary from the implementation and updates totals. */
@@ -538,6 +593,7 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
       deleteFile(manifestList);
     }
     manifestLists.clear();
+    this.lastManifestList = null;
     cleanUncommitted(EMPTY_SET);
   }
 
@@ -561,14 +617,34 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   protected EncryptedOutputFile newManifestOutputFile() {
     String manifestFileLocation =
         ops.metadataFileLocation(
-            FileFormat.AVRO.addExtension(commitUUID + "-m" + manifestCount.getAndIncrement()));
+            manifestFormat(ops.current())
+                .addExtension(commitUUID + "-m" + manifestCount.getAndIncrement()));
     return EncryptingFileIO.combine(ops.io(), ops.encryption())
         .newEncryptingOutputFile(manifestFileLocation);
   }
 
+  private static FileFormat manifestFormat(TableMetadata metadata) {
+    if (metadata.formatVersion() < 4) {
+      return FileFormat.AVRO;
+    }
+
+    String formatName =
+        metadata.property(TableProperties.MANIFEST_FORMAT, TableProperties.MANIFEST_FORMAT_DEFAULT);
+    FileFormat format = FileFormat.fromString(formatName);
+    Preconditions.checkArgument(
+        format == FileFormat.AVRO || format == FileFormat.PARQUET,
+        "Invalid manifest format: %s (must be avro or parquet)",
+        formatName);
+    return format;
+  }
+
   protected ManifestWriter<DataFile> newManifestWriter(PartitionSpec spec) {
-    return ManifestFiles.write(
-        ops.current().formatVersion(), spec, newManifestOutputFile(), snapshotId());
+    TableMetadata metadata = ops.current();
+    ManifestWriter<DataFile> writer =
+        ManifestFiles.write(metadata.formatVersion(), spec, newManifestOutputFile(), snapshotId());
+    return writer.summarizeColumns(
+        ManifestFiles.summarizedColumnIds(
+            metadata.formatVersion(), metadata.properties(), spec.schema()));
   }
 
   protected ManifestWriter<DeleteFile> newDeleteManifestWriter(PartitionSpec spec) {
@@ -819,4 +895,37 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
       }
     }
   }
+
+  /** A manifest list written by an attempt to apply this update, reused by identical retries. */
+  private static class WrittenManifestList {
+    private final int formatVersion;
+    private final Long parentSnapshotId;
+    private final long sequenceNumber;
+    private final Long firstRowId;
+    private final List<String> manifestLocations;
+    private String location = null;
+    private Long assignedRows = null;
+
+    private WrittenManifestList(
+        int formatVersion,
+        Long parentSnapshotId,
+        long sequenceNumber,
+        Long firstRowId,
+        List<ManifestFile> manifests) {
+      this.formatVersion = formatVersion;
+      this.parentSnapshotId = parentSnapshotId;
+      this.sequenceNumber = sequenceNumber;
+      this.firstRowId = firstRowId;
+      this.manifestLocations = ImmutableList.copyOf(Lists.transform(manifests, ManifestFile::path));
+    }
+
+    private boolean matches(WrittenManifestList other) {
+      return other != null
+          && formatVersion == other.formatVersion
+          && Objects.equals(parentSnapshotId, other.parentSnapshotId)
+          && sequenceNumber == other.sequenceNumber
+          && Objects.equals(firstRowId, other.firstRowId)
+          && manifestLocations.equals(other.manifestLocations);
+    }
+  }
 }
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.hash.BloomFilter;
+import org.apache.iceberg.relocated.com.google.common.hash.Funnels;
+import org.apache.iceberg.util.SpillingPathSorter;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File cleanup strategy for snapshot expiration which determines the same unreachable files as
+ * {@link ReachableFileCleanup}, using bounded memory.
+ *
+ * <p>Instead of in-memory sets, manifest and data file references are collected in {@link
+ * SpillingPathSorter}s that spill sorted runs to local files, and unreachable files are found by a
+ * merge-diff of the sorted references of expired and retained snapshots. Only data files of
+ * unreachable manifests are deletion candidates, and a bloom filter of the candidates is used to
+ * avoid collecting live data file references that cannot be candidates.
+ */
+class StreamingFileCleanup extends FileCleanupStrategy {
+  private static final Logger LOG = LoggerFactory.getLogger(StreamingFileCleanup.class);
+
+  // separates a manifest path from its metadata and sorts before any character of a path
+  private static final char SEPARATOR = '\u0000';
+  private static final int MANIFEST_CHUNK_SIZE = 1_000;
+  private static final int DELETE_BATCH_SIZE = 10_000;
+  private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+  // bounds the bloom filter to about 12 MB, more candidates only increase false positives
+  private static final long MAX_BLOOM_FILTER_PATHS = 10_000_000L;
+
+  private final int maxBufferedPaths;
+
+  StreamingFileCleanup(
+      FileIO fileIO,
+      ExecutorService deleteExecutorService,
+      ExecutorService planExecutorService,
+      Consumer<String> deleteFunc,
+      int maxBufferedPaths) {
+    super(fileIO, deleteExecutorService, planExecutorService, deleteFunc);
+    this.maxBufferedPaths = maxBufferedPaths;
+  }
+
+  @Override
+  public void cleanFiles(TableMetadata beforeExpiration, TableMetadata afterExpiration) {
+    Set<Long> retainedIds = Sets.newHashSet();
+    for (Snapshot snapshot : afterExpiration.snapshots()) {
+      retainedIds.add(snapshot.snapshotId());
+    }
+
+    Set<String> manifestListsToDelete = Sets.newHashSet();
+    List<Snapshot> expiredSnapshots = Lists.newArrayList();
+    for (Snapshot snapshot : beforeExpiration.snapshots()) {
+      if (!retainedIds.contains(snapshot.snapshotId())) {
+        expiredSnapshots.add(snapshot);
+        if (snapshot.manifestListLocation() != null) {
+          manifestListsToDelete.add(snapshot.manifestListLocation());
+        }
+      }
+    }
+
+    try (SpillingPathSorter expiredManifests = new SpillingPathSorter(maxBufferedPaths);
+        SpillingPathSorter liveManifests = new SpillingPathSorter(maxBufferedPaths)) {
+      addManifests(expiredSnapshots, expiredManifests);
+      if (expiredManifests.size() > 0) {
+        addManifests(afterExpiration.snapshots(), liveManifests);
+        deleteUnreachableFiles(expiredManifests, liveManifests);
+      }
+    }
+
+    deleteFiles(manifestListsToDelete, "manifest list");
+
+    if (hasAnyStatisticsFiles(beforeExpiration)) {
+      deleteFiles(
+          expiredStatisticsFilesLocations(beforeExpiration, afterExpiration), "statistics files");
+    }
+  }
+
+  private void deleteUnreachableFiles(
+      SpillingPathSorter expiredManifests, SpillingPathSorter liveManifests) {
+    try (SpillingPathSorter manifestsToDelete = new SpillingPathSorter(maxBufferedPaths);
+        SpillingPathSorter candidatePaths = new SpillingPathSorter(maxBufferedPaths)) {
+      forEachDifference(
+          expiredManifests,
+          liveManifests,
+          StreamingFileCleanup::manifestPath,
+          manifestsToDelete::add);
+
+      if (manifestsToDelete.size() == 0) {
+        return;
+      }
+
+      forEachManifestChunk(
+          manifestsToDelete,
+          chunk -> readPaths(chunk, candidatePaths::add, false /* suppress failures */));
+
+      if (candidatePaths.size() > 0) {
+        deleteDataFiles(candidatePaths, liveManifests);
+      }
+
+      deleteInBatches(
+          consumer -> forEachPath(manifestsToDelete, StreamingFileCleanup::manifestPath, consumer),
+          "manifest");
+    }
+  }
+
+  private void deleteDataFiles(
+      SpillingPathSorter candidatePaths, SpillingPathSorter liveManifests) {
+    BloomFilter<CharSequence> candidates =
+        BloomFilter.create(
+            Funnels.stringFunnel(StandardCharsets.UTF_8),
+            Math.max(1L, Math.min(candidatePaths.size(), MAX_BLOOM_FILTER_PATHS)),
+            FALSE_POSITIVE_PROBABILITY);
+    forEachPath(candidatePaths, Function.identity(), candidates::put);
+
+    try (SpillingPathSorter livePaths = new SpillingPathSorter(maxBufferedPaths)) {
+      try {
+        forEachManifestChunk(
+            liveManifests,
+            chunk ->
+                readPaths(
+                    chunk,
+                    path -> {
+                      if (candidates.mightContain(path)) {
+                        livePaths.add(path);
+                      }
+                    },
+                    true /* fail on error */));
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to list all reachable files", e);
+        return;
+      }
+
+      deleteInBatches(
+          consumer -> forEachDifference(candidatePaths, livePaths, Function.identity(), consumer),
+          "data");
+    }
+  }
+
+  private void addManifests(Collection<Snapshot> snapshots, SpillingPathSorter manifests) {
+    Tasks.foreach(snapshots)
+        .retry(3)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(planExecutorService)
+        .onFailure(
+            (snapshot, exc) ->
+                LOG.warn(
+                    "Failed to determine manifests for snapshot {}", snapshot.snapshotId(), exc))
+        .run(
+            snapshot -> {
+              try (CloseableIterable<ManifestFile> manifestFiles = readManifests(snapshot)) {
+                for (ManifestFile manifestFile : manifestFiles) {
+                  manifests.add(manifestRecord(manifestFile));
+                }
+              } catch (IOException e) {
+                throw new RuntimeIOException(
+                    e, "Failed to close manifest list: %s", snapshot.manifestListLocation());
+              }
+            });
+  }
+
+  private void readPaths(
+      List<ManifestFile> manifests, Consumer<String> pathConsumer, boolean failOnError) {
+    Tasks.Builder<ManifestFile> tasks =
+        Tasks.foreach(manifests)
+            .retry(3)
+            .executeWith(planExecutorService)
+            .onFailure(
+                (item, exc) ->
+                    LOG.warn(
+                        "Failed to determine live files in manifest {}. Retrying",
+                        item.path(),
+                        exc));
+
+    if (failOnError) {
+      tasks.stopOnFailure().throwFailureWhenFinished();
+    } else {
+      tasks.suppressFailureWhenFinished();
+    }
+
+    tasks.run(
+        manifest -> {
+          try (CloseableIterable<String> paths = ManifestFiles.readPaths(manifest, fileIO)) {
+            paths.forEach(pathConsumer);
+          } catch (IOException e) {
+            throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest);
+          }
+        });
+  }
+
+  private void deleteInBatches(Consumer<Consumer<String>> paths, String fileType) {
+    Set<String> batch = Sets.newHashSet();
+    paths.accept(
+        path -> {
+          batch.add(path);
+          if (batch.size() >= DELETE_BATCH_SIZE) {
+            deleteFiles(batch, fileType);
+            batch.clear();
+          }
+        });
+
+    if (!batch.isEmpty()) {
+      deleteFiles(batch, fileType);
+    }
+  }
+
+  private static void forEachManifestChunk(
+      SpillingPathSorter manifests, Consumer<List<ManifestFile>> chunkConsumer) {
+    try (CloseableIterator<String> records = manifests.sortedDistinct()) {
+      Iterators.partition(records, MANIFEST_CHUNK_SIZE)
+          .forEachRemaining(
+              chunk ->
+                  chunkConsumer.accept(Lists.transform(chunk, StreamingFileCleanup::manifest)));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close sorted manifests");
+    }
+  }
+
+  private static void forEachPath(
+      SpillingPathSorter sorter, Function<String, String> toPath, Consumer<String> consumer) {
+    try (CloseableIterator<String> values = sorter.sortedDistinct()) {
+      values.forEachRemaining(value -> consumer.accept(toPath.apply(value)));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close sorted paths");
+    }
+  }
+
+  /**
+   * Passes each value of the left sorter whose key is not a key of the right sorter to a consumer.
+   *
+   * <p>Both sorters return values in sorted order, which must also be the order of their keys.
+   */
+  private static void forEachDifference(
+      SpillingPathSorter left,
+      SpillingPathSorter right,
+      Function<String, String> toKey,
+      Consumer<String> consumer) {
+    try (CloseableIterator<String> leftValues = left.sortedDistinct();
+        CloseableIterator<String> rightValues = right.sortedDistinct()) {
+      String rightKey = rightValues.hasNext() ? toKey.apply(rightValues.next()) : null;
+      while (leftValues.hasNext()) {
+        String leftValue = leftValues.next();
+        String leftKey = toKey.apply(leftValue);
+        while (rightKey != null && rightKey.compareTo(leftKey) < 0) {
+          rightKey = rightValues.hasNext() ? toKey.apply(rightValues.next()) : null;
+        }
+
+        if (!leftKey.equals(rightKey)) {
+          consumer.accept(leftValue);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close sorted paths");
+    }
+  }
+
+  // manifest lists are read with a projection, so only the projected fields are kept
+  private static String manifestRecord(ManifestFile manifest) {
+    Long snapshotId = manifest.snapshotId();
+    return manifest.path()
+        + SEPARATOR
+        + manifest.length()
+        + ','
+        + manifest.partitionSpecId()
+        + ','
+        + (snapshotId != null ? snapshotId : "");
+  }
+
+  private static String manifestPath(String record) {
+    return record.substring(0, record.indexOf(SEPARATOR));
+  }
+
+  private static ManifestFile manifest(String record) {
+    int separatorPos = record.indexOf(SEPARATOR);
+    String[] fields = record.substring(separatorPos + 1).split(",", -1);
+    return new GenericManifestFile(
+        record.substring(0, separatorPos),
+        Long.parseLong(fields[0]),
+        Integer.parseInt(fields[1]),
+        ManifestContent.DATA,
+        0L,
+        0L,
+        fields[2].isEmpty() ? null : Long.parseLong(fields[2]),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+}
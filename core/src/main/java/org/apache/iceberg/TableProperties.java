@@ -118,6 +118,26 @@ public class TableProperties {
   public static final String MANIFEST_MERGE_ENABLED = "commit.manifest-merge.enabled";
   public static final boolean MANIFEST_MERGE_ENABLED_DEFAULT = true;
 
+  /**
+   * Comma-separated list of columns to summarize in the manifest list.
+   *
+   * <p>Lower and upper bounds and null counts of these columns are combined for all files in a data
+   * manifest and stored with the manifest in the manifest list, so that scans with filters on the
+   * columns can skip manifests without reading them.
+   */
+  public static final String MANIFEST_COLUMN_SUMMARIES = "commit.manifest.column-summaries";
+
+  /**
+   * File format for new manifests: avro or parquet. Experimental.
+   *
+   * <p>Only v4 tables can store manifests as Parquet, and reading them requires the iceberg-parquet
+   * module. Readers can then skip the columns that planning does not use. Older format versions
+   * always write Avro manifests.
+   */
+  public static final String MANIFEST_FORMAT = "commit.manifest.format";
+
+  public static final String MANIFEST_FORMAT_DEFAULT = "avro";
+
   public static final String DEFAULT_FILE_FORMAT = "write.format.default";
   public static final String DELETE_DEFAULT_FILE_FORMAT = "write.delete.format.default";
   public static final String DEFAULT_FILE_FORMAT_DEFAULT = "parquet";
@@ -228,12 +248,19 @@ public class TableProperties {
   public static final String ADAPTIVE_SPLIT_SIZE_ENABLED = "read.split.adaptive-size.enabled";
   public static final boolean ADAPTIVE_SPLIT_SIZE_ENABLED_DEFAULT = true;
 
+  public static final String BLOOM_FILTER_INDEX_ENABLED = "read.bloom-filter-index.enabled";
+  public static final boolean BLOOM_FILTER_INDEX_ENABLED_DEFAULT = false;
+
   public static final String PARQUET_VECTORIZATION_ENABLED = "read.parquet.vectorization.enabled";
   public static final boolean PARQUET_VECTORIZATION_ENABLED_DEFAULT = true;
 
   public static final String PARQUET_BATCH_SIZE = "read.parquet.vectorization.batch-size";
   public static final int PARQUET_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String PARQUET_LATE_MATERIALIZATION_ENABLED =
+      "read.parquet.vectorization.late-materialization.enabled";
+  public static final boolean PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT = false;
+
   public static final String ORC_VECTORIZATION_ENABLED = "read.orc.vectorization.enabled";
   public static final boolean ORC_VECTORIZATION_ENABLED_DEFAULT = false;
 
@@ -355,6 +382,14 @@ public class TableProperties {
   public static final String MAX_REF_AGE_MS = "history.expire.max-ref-age-ms";
   public static final long MAX_REF_AGE_MS_DEFAULT = Long.MAX_VALUE;
 
+  public static final String EXPIRE_STREAMING_CLEANUP_ENABLED =
+      "history.expire.streaming-cleanup.enabled";
+  public static final boolean EXPIRE_STREAMING_CLEANUP_ENABLED_DEFAULT = false;
+
+  public static final String EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS =
+      "history.expire.streaming-cleanup.max-buffered-paths";
+  public static final int EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS_DEFAULT = 1_000_000;
+
   public static final String DELETE_GRANULARITY = "write.delete.granularity";
   public static final String DELETE_GRANULARITY_DEFAULT = DeleteGranularity.PARTITION.toString();
 
@@ -46,7 +46,8 @@ class V2Metadata {
           ManifestFile.EXISTING_ROWS_COUNT.asRequired(),
           ManifestFile.DELETED_ROWS_COUNT.asRequired(),
           ManifestFile.PARTITION_SUMMARIES,
-          ManifestFile.KEY_METADATA);
+          ManifestFile.KEY_METADATA,
+          ManifestFile.COLUMN_SUMMARIES);
 
   /**
    * A wrapper class to write any ManifestFile implementation to Avro using the v2 write schema.
@@ -140,6 +141,8 @@ class V2Metadata {
           return wrapped.partitions();
         case 14:
           return wrapped.keyMetadata();
+        case 15:
+          return wrapped.columnSummaries();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -230,6 +233,11 @@ class V2Metadata {
       return wrapped.partitions();
     }
 
+    @Override
+    public List<ColumnFieldSummary> columnSummaries() {
+      return wrapped.columnSummaries();
+    }
+
     @Override
     public ByteBuffer keyMetadata() {
       return wrapped.keyMetadata();
@@ -45,7 +45,8 @@ class V3Metadata {
           ManifestFile.DELETED_ROWS_COUNT.asRequired(),
           ManifestFile.PARTITION_SUMMARIES,
           ManifestFile.KEY_METADATA,
-          ManifestFile.FIRST_ROW_ID);
+          ManifestFile.FIRST_ROW_ID,
+          ManifestFile.COLUMN_SUMMARIES);
 
   /**
    * A wrapper class to write any ManifestFile implementation to Avro using the v3 write schema.
@@ -157,6 +158,8 @@ class V3Metadata {
                 "Found unassigned first-row-id for file: " + wrapped.path());
             return wrapped.firstRowId();
           }
+        case 16:
+          return wrapped.columnSummaries();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -247,6 +250,11 @@ class V3Metadata {
       return wrapped.partitions();
     }
 
+    @Override
+    public List<ColumnFieldSummary> columnSummaries() {
+      return wrapped.columnSummaries();
+    }
+
     @Override
     public ByteBuffer keyMetadata() {
       return wrapped.keyMetadata();
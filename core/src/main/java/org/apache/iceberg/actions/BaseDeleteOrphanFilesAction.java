@@ -0,0 +1,586 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import static org.apache.iceberg.TableProperties.GC_ENABLED;
+import static org.apache.iceberg.TableProperties.GC_ENABLED_DEFAULT;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.ManifestContent;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.PartitionField;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.ReachableFileUtil;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.BulkDeletionFailureException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileInfo;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.io.SupportsPrefixOperations;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
+import org.apache.iceberg.relocated.com.google.common.base.Strings;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SpillingPathSorter;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link DeleteOrphanFiles} that runs in a single JVM and does not require a
+ * distributed engine.
+ *
+ * <p>Files are listed through {@link SupportsPrefixOperations#listPrefix(String)}, one listing per
+ * prefix, and the listings run in parallel. Files that are reachable from table metadata are read
+ * from the manifests of all snapshots. Listed and reachable paths are collected in {@link
+ * SpillingPathSorter}s that spill sorted runs to local files, and orphan files are found by a merge
+ * of both sorted collections, so memory usage does not grow with the number of files in the table.
+ *
+ * <p>Like other implementations, paths are compared without scheme and authority, which are
+ * compared separately according to the equal schemes, equal authorities and prefix mismatch mode.
+ */
+public class BaseDeleteOrphanFilesAction implements DeleteOrphanFiles {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseDeleteOrphanFilesAction.class);
+  private static final Map<String, String> EQUAL_SCHEMES_DEFAULT = ImmutableMap.of("s3n,s3a", "s3");
+  private static final Splitter COMMA_SPLITTER = Splitter.on(",");
+  // separates the fields of a path record and sorts before any character of a path
+  private static final char SEPARATOR = '\u0000';
+  private static final int DELETE_BATCH_SIZE = 10_000;
+  private static final int MAX_BUFFERED_PATHS_DEFAULT = 1_000_000;
+
+  private final Table table;
+  private final Map<String, String> equalSchemes = flattenMap(EQUAL_SCHEMES_DEFAULT);
+  private final Map<String, String> equalAuthorities = Maps.newHashMap();
+  private String location;
+  private List<String> listPrefixes = null;
+  private long olderThanTimestamp = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3);
+  private PrefixMismatchMode prefixMismatchMode = PrefixMismatchMode.ERROR;
+  private Consumer<String> deleteFunc = null;
+  private ExecutorService deleteExecutorService = null;
+  private ExecutorService planExecutorService = ThreadPools.getWorkerPool();
+  private int maxBufferedPaths = MAX_BUFFERED_PATHS_DEFAULT;
+  private int maxOrphanFileLocations = Integer.MAX_VALUE;
+
+  public BaseDeleteOrphanFilesAction(Table table) {
+    this.table = table;
+    this.location = table.location();
+
+    ValidationException.check(
+        PropertyUtil.propertyAsBoolean(table.properties(), GC_ENABLED, GC_ENABLED_DEFAULT),
+        "Cannot delete orphan files: GC is disabled (deleting files may corrupt other tables)");
+    Preconditions.checkArgument(
+        table.io() instanceof SupportsPrefixOperations,
+        "Cannot list files: %s does not support prefix operations",
+        table.io().getClass().getName());
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction location(String newLocation) {
+    this.location = newLocation;
+    return this;
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction olderThan(long newOlderThanTimestamp) {
+    this.olderThanTimestamp = newOlderThanTimestamp;
+    return this;
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction deleteWith(Consumer<String> newDeleteFunc) {
+    this.deleteFunc = newDeleteFunc;
+    return this;
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction executeDeleteWith(ExecutorService executorService) {
+    this.deleteExecutorService = executorService;
+    return this;
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction prefixMismatchMode(PrefixMismatchMode newPrefixMismatchMode) {
+    this.prefixMismatchMode = newPrefixMismatchMode;
+    return this;
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction equalSchemes(Map<String, String> newEqualSchemes) {
+    equalSchemes.putAll(flattenMap(newEqualSchemes));
+    return this;
+  }
+
+  @Override
+  public BaseDeleteOrphanFilesAction equalAuthorities(Map<String, String> newEqualAuthorities) {
+    equalAuthorities.putAll(flattenMap(newEqualAuthorities));
+    return this;
+  }
+
+  /**
+   * Passes prefixes that are listed in parallel instead of listing the location at once.
+   *
+   * <p>Each prefix must be under the location, and together the prefixes must cover all files under
+   * the location that should be considered. Files outside of the given prefixes are not listed and
+   * are never deleted.
+   *
+   * @param prefixes prefixes to list
+   * @return this for method chaining
+   */
+  public BaseDeleteOrphanFilesAction listPrefixes(Iterable<String> prefixes) {
+    this.listPrefixes = Lists.newArrayList(prefixes);
+    return this;
+  }
+
+  /**
+   * Passes an alternative executor service that is used to list files and read manifests.
+   *
+   * <p>If this method is not called, the shared worker pool is used.
+   *
+   * @param executorService an executor service
+   * @return this for method chaining
+   */
+  public BaseDeleteOrphanFilesAction executePlanWith(ExecutorService executorService) {
+    this.planExecutorService = executorService;
+    return this;
+  }
+
+  /**
+   * Sets the max number of paths kept in memory by each sorted path collection before spilling to
+   * local files.
+   *
+   * @param newMaxBufferedPaths the max number of buffered paths
+   * @return this for method chaining
+   */
+  public BaseDeleteOrphanFilesAction maxBufferedPaths(int newMaxBufferedPaths) {
+    Preconditions.checkArgument(
+        newMaxBufferedPaths > 0,
+        "Invalid max buffered paths: %s (must be positive)",
+        newMaxBufferedPaths);
+    this.maxBufferedPaths = newMaxBufferedPaths;
+    return this;
+  }
+
+  /**
+   * Sets the max number of orphan file locations to return in the result.
+   *
+   * <p>All orphan files are deleted and counted in {@link Result#orphanFilesCount()}, but only the
+   * first locations are kept in {@link Result#orphanFileLocations()}, so that callers that only
+   * need the count do not hold every location in memory. By default, all locations are returned.
+   *
+   * @param newMaxOrphanFileLocations the max number of locations to return
+   * @return this for method chaining
+   */
+  public BaseDeleteOrphanFilesAction maxOrphanFileLocations(int newMaxOrphanFileLocations) {
+    Preconditions.checkArgument(
+        newMaxOrphanFileLocations >= 0,
+        "Invalid max orphan file locations: %s (must not be negative)",
+        newMaxOrphanFileLocations);
+    this.maxOrphanFileLocations = newMaxOrphanFileLocations;
+    return this;
+  }
+
+  @Override
+  public DeleteOrphanFiles.Result execute() {
+    try (SpillingPathSorter actualFiles = new SpillingPathSorter(maxBufferedPaths);
+        SpillingPathSorter validFiles = new SpillingPathSorter(maxBufferedPaths);
+        SpillingPathSorter orphanFiles = new SpillingPathSorter(maxBufferedPaths)) {
+      listActualFiles(actualFiles::add);
+      listValidFiles(validFiles::add);
+      findOrphanFiles(actualFiles, validFiles, orphanFiles::add);
+
+      List<String> orphanFileLocations = Lists.newArrayList();
+      long orphanFilesCount =
+          deleteInBatches(
+              orphanFiles,
+              batch -> {
+                int remaining = maxOrphanFileLocations - orphanFileLocations.size();
+                if (remaining > 0) {
+                  orphanFileLocations.addAll(batch.subList(0, Math.min(remaining, batch.size())));
+                }
+              });
+
+      return ImmutableDeleteOrphanFiles.Result.builder()
+          .orphanFileLocations(orphanFileLocations)
+          .orphanFilesCount(orphanFilesCount)
+          .build();
+    }
+  }
+
+  private void listActualFiles(Consumer<String> records) {
+    SupportsPrefixOperations io = (SupportsPrefixOperations) table.io();
+    String locationPrefix = location.endsWith("/") ? location : location + "/";
+    List<String> prefixes = listPrefixes != null ? listPrefixes : ImmutableList.of(locationPrefix);
+    for (String prefix : prefixes) {
+      Preconditions.checkArgument(
+          prefix.startsWith(locationPrefix),
+          "Invalid list prefix: %s (must be under location %s)",
+          prefix,
+          location);
+    }
+
+    Set<String> hiddenPartitionNames = hiddenPartitionNames(table.specs());
+    Tasks.foreach(prefixes)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(planExecutorService)
+        .onFailure((prefix, exc) -> LOG.warn("Failed to list files under {}", prefix, exc))
+        .run(
+            prefix -> {
+              for (FileInfo file : io.listPrefix(prefix)) {
+                if (file.createdAtMillis() < olderThanTimestamp
+                    && !isHidden(file.location(), locationPrefix, hiddenPartitionNames)) {
+                  records.accept(toRecord(file.location()));
+                }
+              }
+            });
+  }
+
+  private void listValidFiles(Consumer<String> records) {
+    ConcurrentMap<String, ManifestFile> manifests = Maps.newConcurrentMap();
+    Tasks.foreach(table.snapshots())
+        .retry(3)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(planExecutorService)
+        .onFailure(
+            (snapshot, exc) ->
+                LOG.warn(
+                    "Failed to determine manifests for snapshot {}", snapshot.snapshotId(), exc))
+        .run(
+            snapshot -> {
+              for (ManifestFile manifest : snapshot.allManifests(table.io())) {
+                manifests.putIfAbsent(manifest.path(), manifest);
+              }
+            });
+
+    // a failure to read a manifest must fail the action, or reachable files would be deleted
+    Tasks.foreach(manifests.values())
+        .retry(3)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(planExecutorService)
+        .onFailure(
+            (manifest, exc) ->
+                LOG.warn("Failed to read manifest {}. Retrying", manifest.path(), exc))
+        .run(manifest -> readPaths(manifest, path -> records.accept(toRecord(path))));
+
+    manifests.keySet().forEach(path -> records.accept(toRecord(path)));
+
+    List<String> metadataPaths = Lists.newArrayList();
+    metadataPaths.addAll(ReachableFileUtil.manifestListLocations(table));
+    metadataPaths.addAll(ReachableFileUtil.metadataFileLocations(table, true /* recursive */));
+    metadataPaths.addAll(ReachableFileUtil.statisticsFilesLocations(table));
+    metadataPaths.add(ReachableFileUtil.versionHintLocation(table));
+    metadataPaths.forEach(path -> records.accept(toRecord(path)));
+  }
+
+  private void readPaths(ManifestFile manifest, Consumer<String> paths) {
+    List<String> columns = ImmutableList.of("file_path");
+    if (manifest.content() == ManifestContent.DATA) {
+      try (CloseableIterable<DataFile> files =
+          ManifestFiles.read(manifest, table.io(), table.specs()).select(columns)) {
+        files.forEach(file -> paths.accept(file.location()));
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest.path());
+      }
+    } else {
+      try (CloseableIterable<DeleteFile> files =
+          ManifestFiles.readDeleteManifest(manifest, table.io(), table.specs()).select(columns)) {
+        files.forEach(file -> paths.accept(file.location()));
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest.path());
+      }
+    }
+  }
+
+  /**
+   * Merges sorted records of listed and reachable files and passes the locations of listed files
+   * that are orphan to a consumer.
+   *
+   * <p>Records are sorted by path first, so all reachable records with the path of a listed file
+   * are next to each other. A listed file is not orphan if any of them has a matching scheme and
+   * authority.
+   */
+  @VisibleForTesting
+  void findOrphanFiles(
+      SpillingPathSorter actualFiles, SpillingPathSorter validFiles, Consumer<String> orphans) {
+    Set<Pair<String, String>> conflicts = Sets.newHashSet();
+
+    try (CloseableIterator<String> actualRecords = actualFiles.sortedDistinct();
+        CloseableIterator<String> validRecords = validFiles.sortedDistinct()) {
+      String nextValid = validRecords.hasNext() ? validRecords.next() : null;
+      String validPath = null;
+      List<String[]> validPrefixes = Lists.newArrayList();
+
+      while (actualRecords.hasNext()) {
+        String[] actual = fields(actualRecords.next());
+        String actualPath = actual[0];
+
+        if (!actualPath.equals(validPath)) {
+          // skip reachable paths that were not listed and collect those that match the listed path
+          while (nextValid != null && fields(nextValid)[0].compareTo(actualPath) < 0) {
+            nextValid = validRecords.hasNext() ? validRecords.next() : null;
+          }
+
+          validPath = actualPath;
+          validPrefixes.clear();
+          while (nextValid != null && fields(nextValid)[0].equals(actualPath)) {
+            validPrefixes.add(fields(nextValid));
+            nextValid = validRecords.hasNext() ? validRecords.next() : null;
+          }
+        }
+
+        String orphan = toOrphanFile(actual, validPrefixes, conflicts);
+        if (orphan != null) {
+          orphans.accept(orphan);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close sorted paths");
+    }
+
+    if (prefixMismatchMode == PrefixMismatchMode.ERROR && !conflicts.isEmpty()) {
+      throw new ValidationException(
+          "Unable to determine whether certain files are orphan. "
+              + "Metadata references files that match listed/provided files "
+              + "except for authority/scheme. Please, inspect the conflicting authorities/schemes "
+              + "and provide which of them are equal by further configuring the action via "
+              + "equalSchemes() and equalAuthorities() methods. Set the prefix mismatch mode to "
+              + "'NONE' to ignore remaining locations with conflicting authorities/schemes or to "
+              + "'DELETE' iff you are ABSOLUTELY confident that remaining conflicting "
+              + "authorities/schemes are different. "
+              + "It will be impossible to recover deleted files. "
+              + "Conflicting authorities/schemes: %s.",
+          conflicts);
+    }
+  }
+
+  private String toOrphanFile(
+      String[] actual, List<String[]> validPrefixes, Set<Pair<String, String>> conflicts) {
+    if (validPrefixes.isEmpty()) {
+      return actual[3];
+    }
+
+    for (String[] valid : validPrefixes) {
+      if (uriComponentMatch(valid[1], actual[1]) && uriComponentMatch(valid[2], actual[2])) {
+        return null;
+      }
+    }
+
+    if (prefixMismatchMode == PrefixMismatchMode.DELETE) {
+      return actual[3];
+    }
+
+    for (String[] valid : validPrefixes) {
+      if (!uriComponentMatch(valid[1], actual[1])) {
+        conflicts.add(Pair.of(Strings.emptyToNull(valid[1]), Strings.emptyToNull(actual[1])));
+      }
+
+      if (!uriComponentMatch(valid[2], actual[2])) {
+        conflicts.add(Pair.of(Strings.emptyToNull(valid[2]), Strings.emptyToNull(actual[2])));
+      }
+    }
+
+    return null;
+  }
+
+  private long deleteInBatches(
+      SpillingPathSorter orphanFiles, Consumer<List<String>> deletedBatches) {
+    if (deleteFunc == null && table.io() instanceof SupportsBulkOperations) {
+      LOG.info("Deleting {} orphan files using bulk deletes", orphanFiles.size());
+    } else if (deleteFunc == null) {
+      LOG.info(
+          "Table IO {} does not support bulk operations. Using non-bulk deletes.",
+          table.io().getClass().getName());
+    } else {
+      LOG.info("Custom delete function provided. Using non-bulk deletes");
+    }
+
+    long count = 0L;
+    List<String> batch = Lists.newArrayListWithExpectedSize(DELETE_BATCH_SIZE);
+    try (CloseableIterator<String> records = orphanFiles.sortedDistinct()) {
+      while (records.hasNext()) {
+        batch.add(records.next());
+        if (batch.size() >= DELETE_BATCH_SIZE) {
+          deleteFiles(batch);
+          deletedBatches.accept(batch);
+          count += batch.size();
+          batch.clear();
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close sorted orphan files");
+    }
+
+    if (!batch.isEmpty()) {
+      deleteFiles(batch);
+      deletedBatches.accept(batch);
+      count += batch.size();
+    }
+
+    return count;
+  }
+
+  private void deleteFiles(List<String> paths) {
+    if (deleteFunc == null && table.io() instanceof SupportsBulkOperations) {
+      try {
+        ((SupportsBulkOperations) table.io()).deleteFiles(paths);
+      } catch (BulkDeletionFailureException e) {
+        int deletedFilesCount = paths.size() - e.numberFailedObjects();
+        LOG.warn("Deleted only {} of {} files using bulk deletes", deletedFilesCount, paths.size());
+      }
+    } else {
+      Tasks.Builder<String> deleteTasks =
+          Tasks.foreach(paths)
+              .noRetry()
+              .executeWith(deleteExecutorService)
+              .suppressFailureWhenFinished()
+              .onFailure((file, exc) -> LOG.warn("Failed to delete file: {}", file, exc));
+
+      if (deleteFunc == null) {
+        deleteTasks.run(table.io()::deleteFile);
+      } else {
+        deleteTasks.run(deleteFunc::accept);
+      }
+    }
+  }
+
+  /**
+   * Returns a record of a location that sorts by path, followed by the normalized scheme, the
+   * normalized authority and the original location.
+   */
+  @VisibleForTesting
+  String toRecord(String uriAsString) {
+    String[] uri = splitUri(uriAsString);
+    String scheme = equalSchemes.getOrDefault(uri[0], uri[0]);
+    String authority = equalAuthorities.getOrDefault(uri[1], uri[1]);
+    return uri[2]
+        + SEPARATOR
+        + Strings.nullToEmpty(scheme)
+        + SEPARATOR
+        + Strings.nullToEmpty(authority)
+        + SEPARATOR
+        + uriAsString;
+  }
+
+  /** Splits a location into scheme, authority and path, where scheme and authority may be null. */
+  private static String[] splitUri(String uriAsString) {
+    int colon = uriAsString.indexOf(':');
+    int firstSlash = uriAsString.indexOf('/');
+    if (colon <= 0 || (firstSlash >= 0 && firstSlash < colon)) {
+      return new String[] {null, null, uriAsString};
+    }
+
+    String scheme = uriAsString.substring(0, colon);
+    if (!uriAsString.startsWith("//", colon + 1)) {
+      // a location without authority, like file:/tmp/table
+      return new String[] {scheme, null, uriAsString.substring(colon + 1)};
+    }
+
+    int authorityStart = colon + 3;
+    int authorityEnd = uriAsString.indexOf('/', authorityStart);
+    if (authorityEnd < 0) {
+      authorityEnd = uriAsString.length();
+    }
+
+    return new String[] {
+      scheme,
+      uriAsString.substring(authorityStart, authorityEnd),
+      uriAsString.substring(authorityEnd)
+    };
+  }
+
+  private static String[] fields(String record) {
+    return record.split(String.valueOf(SEPARATOR), -1);
+  }
+
+  private static boolean uriComponentMatch(String valid, String actual) {
+    return Strings.isNullOrEmpty(valid) || valid.equalsIgnoreCase(actual);
+  }
+
+  /**
+   * Returns whether any directory under the location or the name of a file is hidden, unless the
+   * directory is a partition directory of a field whose name starts with a hidden path character.
+   */
+  private static boolean isHidden(
+      String fileLocation, String locationPrefix, Set<String> hiddenPartitionNames) {
+    // compare paths without scheme and authority as listings may qualify locations
+    String filePath = splitUri(fileLocation)[2];
+    String prefixPath = splitUri(locationPrefix)[2];
+    String relativePath =
+        filePath.startsWith(prefixPath)
+            ? filePath.substring(prefixPath.length())
+            : filePath.substring(filePath.lastIndexOf('/') + 1);
+    for (String name : Splitter.on('/').split(relativePath)) {
+      if ((name.startsWith("_") || name.startsWith("."))
+          && hiddenPartitionNames.stream().noneMatch(name::startsWith)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static Set<String> hiddenPartitionNames(Map<Integer, PartitionSpec> specs) {
+    Set<String> partitionNames = Sets.newHashSet();
+    for (PartitionSpec spec : specs.values()) {
+      for (PartitionField field : spec.fields()) {
+        if (field.name().startsWith("_") || field.name().startsWith(".")) {
+          partitionNames.add(field.name() + "=");
+        }
+      }
+    }
+
+    return partitionNames;
+  }
+
+  private static Map<String, String> flattenMap(Map<String, String> map) {
+    Map<String, String> flattenedMap = Maps.newHashMap();
+    if (map != null) {
+      for (Map.Entry<String, String> entry : map.entrySet()) {
+        for (String splitKey : COMMA_SPLITTER.split(entry.getKey())) {
+          flattenedMap.put(splitKey.trim(), entry.getValue().trim());
+        }
+      }
+    }
+
+    return flattenedMap;
+  }
+}
@@ -32,6 +32,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -165,6 +166,15 @@ public class ValueReaders {
     return new ArrayMapReader<>(keyReader, valueReader);
   }
 
+  /**
+   * Returns a reader for a map stored as an array of key/value records that only reads the values
+   * of the given keys and skips all other entries.
+   */
+  public static <K, V> ValueReader<Map<K, V>> arrayMap(
+      ValueReader<K> keyReader, ValueReader<V> valueReader, Set<?> keys) {
+    return new ProjectedArrayMapReader<>(keyReader, valueReader, keys);
+  }
+
   public static <K, V> ValueReader<Map<K, V>> map(
       ValueReader<K> keyReader, ValueReader<V> valueReader) {
     return new MapReader<>(keyReader, valueReader);
@@ -910,6 +920,59 @@ public class ValueReaders {
     }
   }
 
+  private static class ProjectedArrayMapReader<K, V> implements ValueReader<Map<K, V>> {
+    private final ValueReader<K> keyReader;
+    private final ValueReader<V> valueReader;
+    private final Set<?> keys;
+
+    private ProjectedArrayMapReader(
+        ValueReader<K> keyReader, ValueReader<V> valueReader, Set<?> keys) {
+      this.keyReader = keyReader;
+      this.valueReader = valueReader;
+      this.keys = keys;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<K, V> read(Decoder decoder, Object reuse) throws IOException {
+      Map<K, V> resultMap;
+      if (reuse instanceof Map) {
+        resultMap = (Map<K, V>) reuse;
+        resultMap.clear();
+      } else {
+        resultMap = Maps.newLinkedHashMap();
+      }
+
+      long chunkLength = decoder.readArrayStart();
+      while (chunkLength > 0) {
+        for (long i = 0; i < chunkLength; i += 1) {
+          K key = keyReader.read(decoder, null);
+          if (keys.contains(key)) {
+            resultMap.put(key, valueReader.read(decoder, null));
+          } else {
+            // values of other keys are not materialized
+            valueReader.skip(decoder);
+          }
+        }
+
+        chunkLength = decoder.arrayNext();
+      }
+
+      return resultMap;
+    }
+
+    @Override
+    public void skip(Decoder decoder) throws IOException {
+      long itemsToSkip;
+      while ((itemsToSkip = decoder.skipArray()) != 0) {
+        for (int i = 0; i < itemsToSkip; i += 1) {
+          keyReader.skip(decoder);
+          valueReader.skip(decoder);
+        }
+      }
+    }
+  }
+
   private static class MapReader<K, V> implements ValueReader<Map<K, V>> {
     private final ValueReader<K> keyReader;
     private final ValueReader<V> valueReader;
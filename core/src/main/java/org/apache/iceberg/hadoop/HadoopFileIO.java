@@ -22,21 +22,23 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.BulkDeleter;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.DelegateFileIO;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.SerializableMap;
 import org.apache.iceberg.util.SerializableSupplier;
@@ -175,22 +177,25 @@ public class HadoopFileIO implements HadoopConfigurable, DelegateFileIO {
 
   @Override
   public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
-    AtomicInteger failureCount = new AtomicInteger(0);
-    Tasks.foreach(pathsToDelete)
-        .executeWith(executorService())
+    BulkDeleter.builder(this::deleteBatch)
+        .executeWith(executorService(), deleteThreads())
+        .build()
+        .deleteFiles(pathsToDelete);
+  }
+
+  private List<String> deleteBatch(String group, List<String> paths) {
+    List<String> failures = Lists.newArrayList();
+    Tasks.foreach(paths)
         .retry(DELETE_RETRY_ATTEMPTS)
         .stopRetryOn(FileNotFoundException.class)
         .suppressFailureWhenFinished()
         .onFailure(
             (f, e) -> {
               LOG.error("Failure during bulk delete on file: {} ", f, e);
-              failureCount.incrementAndGet();
+              failures.add(f);
             })
         .run(this::deleteFile);
-
-    if (failureCount.get() != 0) {
-      throw new BulkDeletionFailureException(failureCount.get());
-    }
+    return failures;
   }
 
   private int deleteThreads() {
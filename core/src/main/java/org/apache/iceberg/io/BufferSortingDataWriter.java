@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortDirection;
+import org.apache.iceberg.SortField;
+import org.apache.iceberg.SortKey;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.SortOrderComparators;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.StructLikeUtil;
+
+/**
+ * A data writer capable of writing to multiple specs and partitions that does not require the
+ * incoming records to be clustered and sorts records within a bounded in-memory buffer.
+ *
+ * <p>As opposed to {@link ClusteredDataWriter}, which fails when records are not clustered by spec
+ * and partition, this writer buffers records and sorts them by spec, partition, and the given sort
+ * order before writing. As opposed to {@link FanoutDataWriter}, this writer keeps only one file
+ * open at a time.
+ *
+ * <p>The sort is local to a buffer. Records are buffered in memory until the buffer is full, and
+ * each full buffer is sorted and written as a sorted run, with at most one file per partition
+ * unless a file reaches the target size. Runs are neither spilled nor merged, so each written file
+ * is sorted but files written from different runs may overlap, and the records passed to this
+ * writer are not sorted as a whole unless they fit in a single buffer. A larger buffer produces
+ * fewer files at the cost of memory, as every buffered record is copied and kept on heap.
+ */
+public class BufferSortingDataWriter<T> implements PartitioningWriter<T, DataWriteResult> {
+
+  private final FileWriterFactory<T> writerFactory;
+  private final OutputFileFactory fileFactory;
+  private final FileIO io;
+  private final long targetFileSizeInBytes;
+  private final SortKey sortKey;
+  private final Comparator<StructLike> sortKeyComparator;
+  private final Function<T, StructLike> asStructLike;
+  private final Function<T, T> copyRow;
+  private final int maxBufferedRows;
+  private final Map<Integer, StructLikeMap<StructLike>> partitions = Maps.newHashMap();
+  private final Map<Integer, Comparator<StructLike>> partitionComparators = Maps.newHashMap();
+  private final List<BufferedRow<T>> buffer;
+  private final List<DataFile> dataFiles = Lists.newArrayList();
+  private boolean closed = false;
+
+  /**
+   * Creates a writer that clusters rows by spec and partition and sorts the rows of each buffer by
+   * the given sort order.
+   *
+   * @param writerFactory a factory to create data writers
+   * @param fileFactory a factory to create output files
+   * @param io a FileIO to use for written files
+   * @param targetFileSizeInBytes the target size of written files
+   * @param schema the schema of written rows
+   * @param sortOrder the sort order within a partition, or an unsorted order to only cluster rows
+   * @param asStructLike a function that returns a {@link StructLike} view of a row, used to extract
+   *     sort keys; may be null if the sort order is unsorted
+   * @param copyRow a function that copies a row, used because engines may reuse row objects
+   * @param maxBufferedRows the max number of rows to buffer before writing a sorted run
+   */
+  public BufferSortingDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      Schema schema,
+      SortOrder sortOrder,
+      Function<T, StructLike> asStructLike,
+      Function<T, T> copyRow,
+      int maxBufferedRows) {
+    Preconditions.checkArgument(
+        sortOrder.isUnsorted() || asStructLike != null,
+        "Invalid struct conversion: null (required for sort order %s)",
+        sortOrder);
+    Preconditions.checkArgument(copyRow != null, "Invalid row copy function: null");
+    Preconditions.checkArgument(
+        maxBufferedRows > 0, "Invalid max buffered rows: %s (must be positive)", maxBufferedRows);
+    this.writerFactory = writerFactory;
+    this.fileFactory = fileFactory;
+    this.io = io;
+    this.targetFileSizeInBytes = targetFileSizeInBytes;
+    this.sortKey = sortOrder.isSorted() ? new SortKey(schema, sortOrder) : null;
+    this.sortKeyComparator = sortOrder.isSorted() ? sortKeyComparator(schema, sortOrder) : null;
+    this.asStructLike = asStructLike;
+    this.copyRow = copyRow;
+    this.maxBufferedRows = maxBufferedRows;
+    this.buffer = Lists.newArrayListWithExpectedSize(Math.min(maxBufferedRows, 1024));
+  }
+
+  @Override
+  public void write(T row, PartitionSpec spec, StructLike partition) {
+    Preconditions.checkState(!closed, "Cannot write to a closed writer");
+
+    SortKey rowSortKey = null;
+    if (sortKey != null) {
+      sortKey.wrap(asStructLike.apply(row));
+      rowSortKey = sortKey.copy();
+    }
+
+    buffer.add(new BufferedRow<>(spec, partition(spec, partition), rowSortKey, copyRow.apply(row)));
+
+    if (buffer.size() >= maxBufferedRows) {
+      writeSortedRun();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      writeSortedRun();
+      this.closed = true;
+    }
+  }
+
+  @Override
+  public DataWriteResult result() {
+    Preconditions.checkState(closed, "Cannot get result from unclosed writer");
+    return new DataWriteResult(dataFiles);
+  }
+
+  // returns a shared copy of the partition to avoid copying the partition for every row
+  private StructLike partition(PartitionSpec spec, StructLike partition) {
+    if (partition == null) {
+      return null;
+    }
+
+    StructLikeMap<StructLike> specPartitions =
+        partitions.computeIfAbsent(spec.specId(), id -> StructLikeMap.create(spec.partitionType()));
+    StructLike copiedPartition = specPartitions.get(partition);
+    if (copiedPartition == null) {
+      // copy the partition key as the key object may be reused
+      copiedPartition = StructLikeUtil.copy(partition);
+      specPartitions.put(copiedPartition, copiedPartition);
+    }
+
+    return copiedPartition;
+  }
+
+  private void writeSortedRun() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+
+    buffer.sort(this::compare);
+
+    // the buffer is clustered after sorting, so it can be written with a clustered writer
+    ClusteredDataWriter<T> writer =
+        new ClusteredDataWriter<>(writerFactory, fileFactory, io, targetFileSizeInBytes);
+    try (writer) {
+      for (BufferedRow<T> bufferedRow : buffer) {
+        writer.write(bufferedRow.row, bufferedRow.spec, bufferedRow.partition);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write sorted run", e);
+    }
+
+    dataFiles.addAll(writer.result().dataFiles());
+    buffer.clear();
+  }
+
+  private int compare(BufferedRow<T> left, BufferedRow<T> right) {
+    int cmp = Integer.compare(left.spec.specId(), right.spec.specId());
+    if (cmp != 0) {
+      return cmp;
+    }
+
+    if (left.partition != right.partition) {
+      Comparator<StructLike> partitionComparator =
+          partitionComparators.computeIfAbsent(
+              left.spec.specId(), id -> Comparators.forType(left.spec.partitionType()));
+      cmp = partitionComparator.compare(left.partition, right.partition);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+
+    return sortKeyComparator != null ? sortKeyComparator.compare(left.sortKey, right.sortKey) : 0;
+  }
+
+  /**
+   * Returns a comparator for sort keys of the given order.
+   *
+   * <p>Sort keys hold values that are already transformed, so they are compared using an identity
+   * order with the same directions and null orders over a schema of the transformed values.
+   */
+  private static Comparator<StructLike> sortKeyComparator(Schema schema, SortOrder sortOrder) {
+    List<SortField> fields = sortOrder.fields();
+    List<Types.NestedField> keyFields = Lists.newArrayListWithExpectedSize(fields.size());
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      SortField field = fields.get(pos);
+      Type resultType = field.transform().getResultType(schema.findType(field.sourceId()));
+      keyFields.add(Types.NestedField.optional(pos + 1, keyName(pos), resultType));
+    }
+
+    Schema keySchema = new Schema(keyFields);
+    SortOrder.Builder keyOrder = SortOrder.builderFor(keySchema);
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      SortField field = fields.get(pos);
+      if (field.direction() == SortDirection.DESC) {
+        keyOrder.desc(keyName(pos), field.nullOrder());
+      } else {
+        keyOrder.asc(keyName(pos), field.nullOrder());
+      }
+    }
+
+    return SortOrderComparators.forSchema(keySchema, keyOrder.build());
+  }
+
+  private static String keyName(int pos) {
+    return "key_" + pos;
+  }
+
+  private static class BufferedRow<T> {
+    private final PartitionSpec spec;
+    private final StructLike partition;
+    private final SortKey sortKey;
+    private final T row;
+
+    private BufferedRow(PartitionSpec spec, StructLike partition, SortKey sortKey, T row) {
+      this.spec = spec;
+      this.partition = partition;
+      this.sortKey = sortKey;
+      this.row = row;
+    }
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes files in batches on an executor service, adapting the number of concurrent batches to
+ * throttling by the storage service.
+ *
+ * <p>Paths are grouped, by default by scheme and authority (e.g. the bucket of an object store),
+ * and each group is deleted in batches of up to the configured batch size. Batches are deleted by a
+ * {@link BatchDelete} function that is supplied by a {@link FileIO}.
+ *
+ * <p>The number of batches in flight is limited using additive increase, multiplicative decrease
+ * (AIMD): each successful batch raises the limit by one batch per window of in-flight batches, up
+ * to the max concurrency, and each throttling failure halves it. Throttled batches are retried
+ * after an exponential backoff instead of being counted as failures, so that throttling reduces the
+ * request rate rather than causing retry storms.
+ */
+public class BulkDeleter {
+  private static final Logger LOG = LoggerFactory.getLogger(BulkDeleter.class);
+
+  /** A function that deletes a batch of files. */
+  @FunctionalInterface
+  public interface BatchDelete {
+    /**
+     * Deletes a batch of files from the same group.
+     *
+     * <p>Failures of the whole batch should be thrown so that throttling can be detected.
+     *
+     * @param group the group of the paths, as returned by the group function
+     * @param paths the paths to delete
+     * @return the paths that could not be deleted
+     * @throws Exception if the batch could not be deleted
+     */
+    Collection<String> delete(String group, List<String> paths) throws Exception;
+  }
+
+  /** A listener that is called after each batch completes. */
+  @FunctionalInterface
+  public interface ProgressListener {
+    /**
+     * Reports the progress of a bulk delete.
+     *
+     * @param deletedFiles the number of files deleted so far
+     * @param failedFiles the number of files that could not be deleted so far
+     */
+    void progress(long deletedFiles, long failedFiles);
+  }
+
+  private final BatchDelete deleteFunc;
+  private final Function<String, String> groupFunc;
+  private final int batchSize;
+  private final ExecutorService executorService;
+  private final int maxConcurrency;
+  private final Predicate<Throwable> isThrottled;
+  private final int maxThrottleRetries;
+  private final long minBackoffMs;
+  private final long maxBackoffMs;
+  private final ProgressListener progressListener;
+
+  private BulkDeleter(Builder builder) {
+    this.deleteFunc = builder.deleteFunc;
+    this.groupFunc = builder.groupFunc;
+    this.batchSize = builder.batchSize;
+    this.executorService = builder.executorService;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.isThrottled = builder.isThrottled;
+    this.maxThrottleRetries = builder.maxThrottleRetries;
+    this.minBackoffMs = builder.minBackoffMs;
+    this.maxBackoffMs = builder.maxBackoffMs;
+    this.progressListener = builder.progressListener;
+  }
+
+  public static Builder builder(BatchDelete deleteFunc) {
+    return new Builder(deleteFunc);
+  }
+
+  /**
+   * Deletes the given files.
+   *
+   * @param paths the paths to delete
+   * @throws BulkDeletionFailureException if any of the files could not be deleted
+   */
+  public void deleteFiles(Iterable<String> paths) throws BulkDeletionFailureException {
+    long failedFiles = delete(paths);
+    if (failedFiles > 0) {
+      throw new BulkDeletionFailureException((int) Math.min(failedFiles, Integer.MAX_VALUE));
+    }
+  }
+
+  /**
+   * Deletes the given files and returns the number of files that could not be deleted.
+   *
+   * @param paths the paths to delete
+   * @return the number of files that could not be deleted
+   */
+  public long delete(Iterable<String> paths) {
+    Run run = new Run();
+    Map<String, List<String>> batches = Maps.newHashMap();
+
+    try {
+      for (String path : paths) {
+        String group = groupFunc.apply(path);
+        List<String> batch = batches.computeIfAbsent(group, ignored -> Lists.newArrayList());
+        batch.add(path);
+        if (batch.size() >= batchSize) {
+          run.submit(group, batch);
+          batches.remove(group);
+        }
+      }
+
+      for (Map.Entry<String, List<String>> entry : batches.entrySet()) {
+        run.submit(entry.getKey(), entry.getValue());
+      }
+
+      run.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      run.cancel();
+      throw new RuntimeException("Interrupted when waiting for deletions to complete", e);
+    }
+
+    return run.failedFiles.get();
+  }
+
+  /** State of a single call to {@link #delete(Iterable)}. */
+  private class Run {
+    private final AdaptiveLimit limit = new AdaptiveLimit(maxConcurrency);
+    private final List<Future<?>> futures = Lists.newArrayList();
+    private final AtomicLong deletedFiles = new AtomicLong(0L);
+    private final AtomicLong failedFiles = new AtomicLong(0L);
+
+    // permits are only acquired by the submitting thread so that tasks never wait for each other
+    private void submit(String group, List<String> batch) throws InterruptedException {
+      limit.acquire();
+      try {
+        futures.add(executorService.submit(() -> deleteBatch(group, batch)));
+      } catch (RuntimeException e) {
+        limit.release();
+        throw e;
+      }
+    }
+
+    private void deleteBatch(String group, List<String> batch) {
+      int failed;
+      try {
+        failed = deleteWithRetry(group, batch);
+      } finally {
+        limit.release();
+      }
+
+      long deleted = deletedFiles.addAndGet(batch.size() - failed);
+      long totalFailed = failedFiles.addAndGet(failed);
+      if (progressListener != null) {
+        progressListener.progress(deleted, totalFailed);
+      }
+    }
+
+    private int deleteWithRetry(String group, List<String> batch) {
+      int attempt = 0;
+      while (true) {
+        long generation = limit.generation();
+        try {
+          Collection<String> failures = deleteFunc.delete(group, batch);
+          limit.onSuccess();
+          failures.forEach(path -> LOG.warn("Failed to delete file: {}", path));
+          return failures.size();
+        } catch (Exception e) {
+          if (!isThrottled.test(e) || attempt >= maxThrottleRetries) {
+            LOG.warn("Failed to delete batch of {} files in {}", batch.size(), group, e);
+            return batch.size();
+          }
+
+          limit.onThrottled(generation);
+          attempt += 1;
+          if (!backoff(attempt)) {
+            return batch.size();
+          }
+        }
+      }
+    }
+
+    private boolean backoff(int attempt) {
+      long delayMs = (long) Math.min(minBackoffMs * Math.pow(2, attempt - 1), maxBackoffMs);
+      long sleepTimeMs = delayMs + ThreadLocalRandom.current().nextLong(Math.max(1, delayMs / 10));
+      LOG.info("Throttled while deleting files, retrying after {} ms", sleepTimeMs);
+      try {
+        TimeUnit.MILLISECONDS.sleep(sleepTimeMs);
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    private void await() throws InterruptedException {
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          LOG.warn("Caught unexpected exception during batch deletion: ", e.getCause());
+        }
+      }
+    }
+
+    private void cancel() {
+      futures.stream().filter(future -> !future.isDone()).forEach(future -> future.cancel(true));
+    }
+  }
+
+  /**
+   * A limit on the number of concurrent batches that is adjusted using additive increase and
+   * multiplicative decrease.
+   */
+  @VisibleForTesting
+  static class AdaptiveLimit {
+    private final int maxLimit;
+    private double limit;
+    private int inFlight = 0;
+    private long generation = 0L;
+
+    AdaptiveLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+      this.limit = maxLimit;
+    }
+
+    synchronized void acquire() throws InterruptedException {
+      while (inFlight >= (int) limit) {
+        wait();
+      }
+
+      inFlight += 1;
+    }
+
+    synchronized void release() {
+      inFlight -= 1;
+      notifyAll();
+    }
+
+    synchronized long generation() {
+      return generation;
+    }
+
+    synchronized void onSuccess() {
+      this.limit = Math.min(maxLimit, limit + 1.0 / limit);
+      notifyAll();
+    }
+
+    // batches that started before the last decrease may also be throttled, but must not decrease
+    // the limit again for the same overload
+    synchronized void onThrottled(long startGeneration) {
+      if (startGeneration == generation) {
+        this.limit = Math.max(1.0, limit / 2);
+        this.generation += 1;
+      }
+    }
+
+    @VisibleForTesting
+    synchronized int limit() {
+      return (int) limit;
+    }
+  }
+
+  /** Returns the scheme and authority of a path, or an empty string if the path has no scheme. */
+  private static String schemeAndAuthority(String path) {
+    int schemeEnd = path.indexOf("://");
+    if (schemeEnd < 0) {
+      return "";
+    }
+
+    int authorityEnd = path.indexOf('/', schemeEnd + 3);
+    return authorityEnd < 0 ? path : path.substring(0, authorityEnd);
+  }
+
+  public static class Builder {
+    private final BatchDelete deleteFunc;
+    private Function<String, String> groupFunc = BulkDeleter::schemeAndAuthority;
+    private int batchSize = 1;
+    private ExecutorService executorService = null;
+    private int maxConcurrency = 1;
+    private Predicate<Throwable> isThrottled = e -> false;
+    private int maxThrottleRetries = 10;
+    private long minBackoffMs = 100L;
+    private long maxBackoffMs = 10_000L;
+    private ProgressListener progressListener = null;
+
+    private Builder(BatchDelete deleteFunc) {
+      Preconditions.checkArgument(deleteFunc != null, "Invalid delete function: null");
+      this.deleteFunc = deleteFunc;
+    }
+
+    /** Sets the function used to group paths; only paths in the same group are batched. */
+    public Builder groupBy(Function<String, String> newGroupFunc) {
+      Preconditions.checkArgument(newGroupFunc != null, "Invalid group function: null");
+      this.groupFunc = newGroupFunc;
+      return this;
+    }
+
+    public Builder batchSize(int newBatchSize) {
+      Preconditions.checkArgument(
+          newBatchSize > 0, "Invalid batch size: %s (must be positive)", newBatchSize);
+      this.batchSize = newBatchSize;
+      return this;
+    }
+
+    /**
+     * Sets the executor service used to delete batches and the max number of concurrent batches.
+     */
+    public Builder executeWith(ExecutorService newExecutorService, int newMaxConcurrency) {
+      Preconditions.checkArgument(newExecutorService != null, "Invalid executor service: null");
+      Preconditions.checkArgument(
+          newMaxConcurrency > 0,
+          "Invalid max concurrency: %s (must be positive)",
+          newMaxConcurrency);
+      this.executorService = newExecutorService;
+      this.maxConcurrency = newMaxConcurrency;
+      return this;
+    }
+
+    /** Sets the predicate that detects failures caused by throttling of the storage service. */
+    public Builder throttledWhen(Predicate<Throwable> newIsThrottled) {
+      Preconditions.checkArgument(newIsThrottled != null, "Invalid throttling predicate: null");
+      this.isThrottled = newIsThrottled;
+      return this;
+    }
+
+    public Builder throttleRetry(int newMaxRetries, long newMinBackoffMs, long newMaxBackoffMs) {
+      Preconditions.checkArgument(
+          newMaxRetries >= 0, "Invalid max retries: %s (must be >= 0)", newMaxRetries);
+      Preconditions.checkArgument(
+          newMinBackoffMs > 0 && newMinBackoffMs <= newMaxBackoffMs,
+          "Invalid backoff: min %s ms, max %s ms",
+          newMinBackoffMs,
+          newMaxBackoffMs);
+      this.maxThrottleRetries = newMaxRetries;
+      this.minBackoffMs = newMinBackoffMs;
+      this.maxBackoffMs = newMaxBackoffMs;
+      return this;
+    }
+
+    public Builder onProgress(ProgressListener newProgressListener) {
+      this.progressListener = newProgressListener;
+      return this;
+    }
+
+    public BulkDeleter build() {
+      Preconditions.checkState(executorService != null, "Invalid executor service: null");
+      return new BulkDeleter(this);
+    }
+  }
+}
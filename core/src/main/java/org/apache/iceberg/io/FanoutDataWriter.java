@@ -41,6 +41,22 @@ public class FanoutDataWriter<T> extends FanoutWriter<T, DataWriteResult> {
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSizeInBytes) {
+    this(writerFactory, fileFactory, io, targetFileSizeInBytes, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a data writer that keeps at most the given number of data files open.
+   *
+   * <p>When a file must be opened for a new spec/partition pair and the limit has been reached, the
+   * file for the least recently written spec/partition pair is closed.
+   */
+  public FanoutDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      int maxOpenWriters) {
+    super(maxOpenWriters);
     this.writerFactory = writerFactory;
     this.fileFactory = fileFactory;
     this.io = io;
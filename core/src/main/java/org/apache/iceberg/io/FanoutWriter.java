@@ -19,6 +19,9 @@
 package org.apache.iceberg.io;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
@@ -35,12 +38,41 @@ import org.apache.iceberg.util.StructLikeUtil;
  * clustered by partition spec and partition as all files are kept open. As a consequence, this
  * writer may potentially consume substantially more memory compared to {@link ClusteredWriter}. Use
  * this writer only when clustering by spec/partition is not possible (e.g. streaming).
+ *
+ * <p>Each open file holds its own write buffers, so memory use grows with the number of open files.
+ * To bound memory use, this writer can be limited to a maximum number of open files. When a file
+ * must be opened for a new spec/partition pair and the limit has been reached, the file for the
+ * least recently written spec/partition pair is closed. Rows for that pair that arrive later are
+ * written to a new file, so a limit that is lower than the number of partitions produces more
+ * files.
  */
 abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
 
   private final Map<Integer, StructLikeMap<FileWriter<T, R>>> writers = Maps.newHashMap();
+  private final int maxOpenWriters;
+  // open writers in the order they were last written to, only tracked when the number is limited
+  private final LinkedHashMap<FileWriter<T, R>, OpenWriter> writeOrder;
+  private int openWriters = 0;
+  private long evictedWriters = 0L;
   private boolean closed = false;
 
+  protected FanoutWriter() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a fanout writer that keeps at most the given number of files open.
+   *
+   * @param maxOpenWriters the maximum number of open files
+   */
+  protected FanoutWriter(int maxOpenWriters) {
+    Preconditions.checkArgument(
+        maxOpenWriters > 0, "Invalid max open writers: %s (must be positive)", maxOpenWriters);
+    this.maxOpenWriters = maxOpenWriters;
+    this.writeOrder =
+        maxOpenWriters < Integer.MAX_VALUE ? new LinkedHashMap<>(16, 0.75f, true) : null;
+  }
+
   protected abstract FileWriter<T, R> newWriter(PartitionSpec spec, StructLike partition);
 
   protected abstract void addResult(R result);
@@ -50,24 +82,87 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
   @Override
   public void write(T row, PartitionSpec spec, StructLike partition) {
     FileWriter<T, R> writer = writer(spec, partition);
+    if (writeOrder != null) {
+      // mark the writer as the most recently written
+      writeOrder.get(writer);
+    }
+
     writer.write(row);
   }
 
+  /** Returns the number of files that are currently open. */
+  public int openWriters() {
+    return openWriters;
+  }
+
+  /**
+   * Returns the number of bytes written to files that are currently open, including bytes that are
+   * buffered and not yet flushed.
+   */
+  public long openWriterBytes() {
+    long bytes = 0L;
+    for (Map<StructLike, FileWriter<T, R>> specWriters : writers.values()) {
+      for (FileWriter<T, R> writer : specWriters.values()) {
+        // rolling writers do not implement length, so only the current file is counted
+        bytes +=
+            writer instanceof RollingFileWriter
+                ? ((RollingFileWriter<?, ?, ?>) writer).currentFileLength()
+                : writer.length();
+      }
+    }
+
+    return bytes;
+  }
+
+  /** Returns the number of files that were closed early to stay within the open file limit. */
+  public long evictedWriters() {
+    return evictedWriters;
+  }
+
   private FileWriter<T, R> writer(PartitionSpec spec, StructLike partition) {
     Map<StructLike, FileWriter<T, R>> specWriters =
         writers.computeIfAbsent(spec.specId(), id -> StructLikeMap.create(spec.partitionType()));
     FileWriter<T, R> writer = specWriters.get(partition);
 
     if (writer == null) {
+      if (openWriters >= maxOpenWriters) {
+        closeLeastRecentlyWritten();
+      }
+
       // copy the partition key as the key object may be reused
       StructLike copiedPartition = StructLikeUtil.copy(partition);
       writer = newWriter(spec, copiedPartition);
       specWriters.put(copiedPartition, writer);
+      openWriters += 1;
+
+      if (writeOrder != null) {
+        writeOrder.put(writer, new OpenWriter(spec.specId(), copiedPartition));
+      }
     }
 
     return writer;
   }
 
+  private void closeLeastRecentlyWritten() {
+    Iterator<Map.Entry<FileWriter<T, R>, OpenWriter>> iterator = writeOrder.entrySet().iterator();
+    Map.Entry<FileWriter<T, R>, OpenWriter> eldest = iterator.next();
+    iterator.remove();
+
+    FileWriter<T, R> writer = eldest.getKey();
+    OpenWriter openWriter = eldest.getValue();
+    writers.get(openWriter.specId).remove(openWriter.partition);
+    openWriters -= 1;
+    evictedWriters += 1;
+
+    try {
+      writer.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close least recently written writer", e);
+    }
+
+    addResult(writer.result());
+  }
+
   @Override
   public void close() throws IOException {
     if (!closed) {
@@ -87,6 +182,10 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
     }
 
     writers.clear();
+    this.openWriters = 0;
+    if (writeOrder != null) {
+      writeOrder.clear();
+    }
   }
 
   @Override
@@ -94,4 +193,14 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
     Preconditions.checkState(closed, "Cannot get result from unclosed writer");
     return aggregatedResult();
   }
+
+  private static class OpenWriter {
+    private final int specId;
+    private final StructLike partition;
+
+    private OpenWriter(int specId, StructLike partition) {
+      this.specId = specId;
+      this.partition = partition;
+    }
+  }
 }
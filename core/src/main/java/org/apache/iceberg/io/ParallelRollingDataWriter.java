@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A rolling data writer that writes incoming data for one spec/partition to several files
+ * concurrently.
+ *
+ * <p>Writing a large amount of data to a single partition with {@link RollingDataWriter} is bound
+ * by the speed of a single thread that encodes and compresses rows. This writer distributes batches
+ * of rows round-robin to several {@link RollingDataWriter}s that write on an executor service. Each
+ * underlying writer produces its own files, and the result contains the files of all writers.
+ *
+ * <p>Rows are copied into batches because engines may reuse row objects. At most one batch per
+ * underlying writer is in flight, in addition to the batch that is being filled, which bounds the
+ * number of buffered rows. The order of rows across files is not preserved.
+ *
+ * <p>If an underlying writer fails, pending batches are cancelled, all underlying writers are
+ * closed, files that were already written are deleted, and the first failure is thrown.
+ */
+public class ParallelRollingDataWriter<T> implements FileWriter<T, DataWriteResult> {
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelRollingDataWriter.class);
+
+  private final List<RollingDataWriter<T>> writers;
+  private final FileIO io;
+  private final Future<?>[] pending;
+  private final ExecutorService executorService;
+  private final Function<T, T> copyRow;
+  private final int batchSize;
+  private List<T> batch;
+  private int nextWriter = 0;
+  private DataWriteResult result = null;
+  private boolean closed = false;
+
+  /**
+   * Creates a writer that writes to the given number of files concurrently.
+   *
+   * @param writerFactory a factory to create data writers
+   * @param fileFactory a factory to create output files
+   * @param io a FileIO to use for written files
+   * @param targetFileSizeInBytes the target size of written files
+   * @param spec the spec of written files
+   * @param partition the partition of written files
+   * @param parallelism the number of files to write concurrently
+   * @param executorService an executor service to write files on
+   * @param copyRow a function that copies a row
+   * @param batchSize the number of rows passed to an underlying writer at a time
+   */
+  public ParallelRollingDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      PartitionSpec spec,
+      StructLike partition,
+      int parallelism,
+      ExecutorService executorService,
+      Function<T, T> copyRow,
+      int batchSize) {
+    Preconditions.checkArgument(
+        parallelism > 0, "Invalid parallelism: %s (must be positive)", parallelism);
+    Preconditions.checkArgument(executorService != null, "Invalid executor service: null");
+    Preconditions.checkArgument(copyRow != null, "Invalid row copy function: null");
+    Preconditions.checkArgument(
+        batchSize > 0, "Invalid batch size: %s (must be positive)", batchSize);
+    this.writers = Lists.newArrayListWithExpectedSize(parallelism);
+    for (int i = 0; i < parallelism; i += 1) {
+      writers.add(
+          new RollingDataWriter<>(
+              writerFactory, fileFactory, io, targetFileSizeInBytes, spec, partition));
+    }
+
+    this.io = io;
+    this.pending = new Future<?>[parallelism];
+    this.executorService = executorService;
+    this.copyRow = copyRow;
+    this.batchSize = batchSize;
+    this.batch = Lists.newArrayListWithExpectedSize(batchSize);
+  }
+
+  @Override
+  public void write(T row) {
+    Preconditions.checkState(!closed, "Cannot write to a closed writer");
+    batch.add(copyRow.apply(row));
+    if (batch.size() >= batchSize) {
+      try {
+        submitBatch();
+      } catch (RuntimeException e) {
+        throw abort(e);
+      }
+    }
+  }
+
+  @Override
+  public long length() {
+    throw new UnsupportedOperationException(
+        this.getClass().getName() + " does not implement length");
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      this.closed = true;
+
+      try {
+        if (!batch.isEmpty()) {
+          submitBatch();
+        }
+
+        // close the underlying writers concurrently after their last batches are written
+        for (int index = 0; index < writers.size(); index += 1) {
+          RollingDataWriter<T> writer = writers.get(index);
+          submit(index, () -> closeWriter(writer));
+        }
+
+        for (int index = 0; index < writers.size(); index += 1) {
+          awaitPending(index);
+        }
+      } catch (RuntimeException e) {
+        throw abort(e);
+      }
+
+      List<DataFile> dataFiles = Lists.newArrayList();
+      for (RollingDataWriter<T> writer : writers) {
+        dataFiles.addAll(writer.result().dataFiles());
+      }
+
+      this.result = new DataWriteResult(dataFiles);
+    }
+  }
+
+  @Override
+  public DataWriteResult result() {
+    Preconditions.checkState(closed, "Cannot get result from unclosed writer");
+    return result;
+  }
+
+  private void submitBatch() {
+    List<T> rows = batch;
+    RollingDataWriter<T> writer = writers.get(nextWriter);
+    submit(nextWriter, () -> writer.write(rows));
+
+    this.batch = Lists.newArrayListWithExpectedSize(batchSize);
+    this.nextWriter = (nextWriter + 1) % writers.size();
+  }
+
+  // writers are not thread-safe, so each writer runs at most one task at a time
+  private void submit(int index, Runnable task) {
+    awaitPending(index);
+    pending[index] = executorService.submit(task);
+  }
+
+  private void awaitPending(int index) {
+    Future<?> future = pending[index];
+    if (future != null) {
+      pending[index] = null;
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for a data writer", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+
+        throw new RuntimeException("Failed to write data", cause);
+      }
+    }
+  }
+
+  /**
+   * Stops all underlying writers after a failure.
+   *
+   * <p>Batches that have not started are cancelled and running tasks are awaited, because writers
+   * are not thread-safe. Every writer is then closed and the files it wrote are deleted. Failures
+   * while cleaning up are added to the original failure as suppressed exceptions.
+   *
+   * @param failure the first failure
+   * @return the first failure, to be thrown by the caller
+   */
+  private RuntimeException abort(RuntimeException failure) {
+    this.closed = true;
+    this.batch = Lists.newArrayList();
+
+    for (Future<?> future : pending) {
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+
+    List<DataFile> writtenFiles = Lists.newArrayList();
+    for (int index = 0; index < writers.size(); index += 1) {
+      try {
+        awaitPending(index);
+      } catch (CancellationException e) {
+        // the batch was not written
+      } catch (RuntimeException e) {
+        if (e != failure) {
+          failure.addSuppressed(e);
+        }
+      } finally {
+        RollingDataWriter<T> writer = writers.get(index);
+        try {
+          writer.close();
+          writtenFiles.addAll(writer.result().dataFiles());
+        } catch (IOException | RuntimeException e) {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    Tasks.foreach(writtenFiles)
+        .suppressFailureWhenFinished()
+        .onFailure(
+            (file, exc) -> LOG.warn("Failed to delete data file after abort: {}", file, exc))
+        .run(file -> io.deleteFile(file.location()));
+
+    return failure;
+  }
+
+  private static void closeWriter(RollingDataWriter<?> writer) {
+    try {
+      writer.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close data writer", e);
+    }
+  }
+}
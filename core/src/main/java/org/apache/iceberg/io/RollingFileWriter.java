@@ -83,6 +83,11 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
     return currentFileRows;
   }
 
+  /** Returns the number of bytes written to the current file, or 0 if no file is open. */
+  public long currentFileLength() {
+    return currentWriter != null ? currentWriter.length() : 0L;
+  }
+
   @Override
   public long length() {
     throw new UnsupportedOperationException(
@@ -29,4 +29,12 @@ public final class StandardBlobTypes {
 
   /** A serialized deletion vector according to the Iceberg spec */
   public static final String DV_V1 = "deletion-vector-v1";
+
+  /** Bloom filters of the values of a column in each data file tracked by a data manifest */
+  public static final String DATA_FILE_BLOOM_FILTERS_V1 = "data-file-bloom-filters-v1";
+
+  /**
+   * A "compact" Theta sketch of the values of a column in the data files tracked by a data manifest
+   */
+  public static final String DATA_MANIFEST_THETA_V1 = "data-manifest-theta-v1";
 }
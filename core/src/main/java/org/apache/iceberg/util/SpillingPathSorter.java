@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A collection of strings, such as file paths, that can be read back in sorted order using bounded
+ * memory.
+ *
+ * <p>Added strings are buffered in memory. When the buffer is full, it is sorted and written to a
+ * local spill file as a sorted run. Reading merges the runs, so memory use depends on the buffer
+ * size and the number of runs, not on the number of strings.
+ */
+public class SpillingPathSorter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(SpillingPathSorter.class);
+
+  private final int maxBufferedPaths;
+  private final List<File> runs = Lists.newArrayList();
+  private List<String> buffer;
+  private File spillDirectory = null;
+  private long size = 0L;
+
+  public SpillingPathSorter(int maxBufferedPaths) {
+    Preconditions.checkArgument(
+        maxBufferedPaths > 0,
+        "Invalid max buffered paths: %s (must be positive)",
+        maxBufferedPaths);
+    this.maxBufferedPaths = maxBufferedPaths;
+    this.buffer = Lists.newArrayList();
+  }
+
+  public synchronized void add(String path) {
+    buffer.add(path);
+    size += 1;
+    if (buffer.size() >= maxBufferedPaths) {
+      spill();
+    }
+  }
+
+  /** Returns the number of added strings, including duplicates. */
+  public synchronized long size() {
+    return size;
+  }
+
+  /** Returns the number of sorted runs that were written to local files. */
+  public synchronized int spilledRuns() {
+    return runs.size();
+  }
+
+  /**
+   * Returns an iterator over the distinct strings in sorted order.
+   *
+   * <p>This may be called more than once, but strings must not be added while iterating.
+   */
+  public synchronized CloseableIterator<String> sortedDistinct() {
+    if (runs.isEmpty()) {
+      Collections.sort(buffer);
+      return new DistinctIterator(CloseableIterator.withClose(buffer.iterator()));
+    }
+
+    if (!buffer.isEmpty()) {
+      spill();
+    }
+
+    List<RunIterator> iterators = Lists.newArrayListWithExpectedSize(runs.size());
+    for (File run : runs) {
+      iterators.add(new RunIterator(run));
+    }
+
+    return new DistinctIterator(new MergingIterator(iterators));
+  }
+
+  @Override
+  public synchronized void close() {
+    this.buffer = Lists.newArrayList();
+    if (spillDirectory != null) {
+      Tasks.foreach(runs)
+          .suppressFailureWhenFinished()
+          .onFailure((run, exc) -> LOG.warn("Failed to delete spill file: {}", run, exc))
+          .run(File::delete);
+      runs.clear();
+
+      try {
+        Files.deleteIfExists(spillDirectory.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete spill directory: {}", spillDirectory, e);
+      }
+
+      this.spillDirectory = null;
+    }
+  }
+
+  private void spill() {
+    Collections.sort(buffer);
+    try {
+      if (spillDirectory == null) {
+        this.spillDirectory = Files.createTempDirectory("iceberg-spill-").toFile();
+        spillDirectory.deleteOnExit();
+      }
+
+      File run = File.createTempFile("run-", ".bin", spillDirectory);
+      run.deleteOnExit();
+      runs.add(run);
+
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run.toPath())))) {
+        out.writeInt(buffer.size());
+        for (String path : buffer) {
+          out.writeUTF(path);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill sorted paths", e);
+    }
+
+    this.buffer = Lists.newArrayList();
+  }
+
+  /** An iterator over a sorted run in a spill file. */
+  private static class RunIterator implements CloseableIterator<String> {
+    private final DataInputStream in;
+    private int remaining;
+
+    private RunIterator(File run) {
+      try {
+        this.in =
+            new DataInputStream(new BufferedInputStream(Files.newInputStream(run.toPath())));
+        this.remaining = in.readInt();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to open spill file: " + run, e);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public String next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+
+      try {
+        remaining -= 1;
+        return in.readUTF();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read spill file", e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+
+  /** Merges sorted runs using a priority queue of the head of each run. */
+  private static class MergingIterator implements CloseableIterator<String> {
+    private final List<RunIterator> iterators;
+    private final PriorityQueue<Head> heads =
+        new PriorityQueue<>(Comparator.comparing((Head head) -> head.value));
+
+    private MergingIterator(List<RunIterator> iterators) {
+      this.iterators = iterators;
+      for (RunIterator iterator : iterators) {
+        if (iterator.hasNext()) {
+          heads.add(new Head(iterator.next(), iterator));
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public String next() {
+      Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+
+      if (head.iterator.hasNext()) {
+        heads.add(new Head(head.iterator.next(), head.iterator));
+      }
+
+      return head.value;
+    }
+
+    @Override
+    public void close() throws IOException {
+      for (RunIterator iterator : iterators) {
+        iterator.close();
+      }
+    }
+  }
+
+  private static class Head {
+    private final String value;
+    private final Iterator<String> iterator;
+
+    private Head(String value, Iterator<String> iterator) {
+      this.value = value;
+      this.iterator = iterator;
+    }
+  }
+
+  /** Skips consecutive duplicates of a sorted iterator. */
+  private static class DistinctIterator implements CloseableIterator<String> {
+    private final CloseableIterator<String> delegate;
+    private String next;
+
+    private DistinctIterator(CloseableIterator<String> delegate) {
+      this.delegate = delegate;
+      this.next = delegate.hasNext() ? delegate.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public String next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+
+      String current = next;
+      this.next = null;
+      while (delegate.hasNext()) {
+        String candidate = delegate.next();
+        if (!candidate.equals(current)) {
+          this.next = candidate;
+          break;
+        }
+      }
+
+      return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+}
@@ -26,6 +26,7 @@ import static org.assertj.core.api.Assumptions.assumeThat;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +39,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.apache.iceberg.util.ContentFileUtil;
 import org.junit.jupiter.api.TestTemplate;
@@ -337,6 +340,70 @@ public abstract class DeleteFileIndexTestBase<
         .isEqualTo(FILE_A_EQ_1.location());
   }
 
+  @TestTemplate
+  public void testEqDeletesMatchedByBoundsWithRowFilter() {
+    DataFile dataFile = dataFileWithBounds("/path/to/data-a-1.parquet", "a", "b");
+    DataFile otherDataFile = dataFileWithBounds("/path/to/data-a-2.parquet", "x", "z");
+    table.newAppend().appendFile(dataFile).appendFile(otherDataFile).commit();
+
+    DeleteFile eqDeletes =
+        FileMetadata.deleteFileBuilder(SPEC)
+            .ofEqualityDeletes(2)
+            .withPath("/path/to/data-a-z-eq-deletes.parquet")
+            .withFileSizeInBytes(10)
+            .withPartition(FILE_A.partition())
+            .withMetrics(
+                new Metrics(
+                    1L,
+                    null,
+                    ImmutableMap.of(2, 1L),
+                    ImmutableMap.of(2, 0L),
+                    null,
+                    ImmutableMap.of(2, toBuffer("z")),
+                    ImmutableMap.of(2, toBuffer("z"))))
+            .build();
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+
+    // the filter does not reference the equality field, but its bounds are needed to match deletes
+    List<T> tasks = Lists.newArrayList(newScan(table).filter(equal("id", 5)).planFiles());
+    assertThat(tasks).hasSize(2);
+    for (T task : tasks) {
+      FileScanTask fileTask = (FileScanTask) task;
+      if (fileTask.file().location().equals(dataFile.location())) {
+        assertThat(fileTask.deletes()).isEmpty();
+      } else {
+        assertThat(fileTask.deletes())
+            .extracting(DeleteFile::location)
+            .containsExactly(eqDeletes.location());
+      }
+    }
+  }
+
+  private static DataFile dataFileWithBounds(String path, String lower, String upper) {
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withMetrics(
+            new Metrics(
+                10L,
+                null,
+                ImmutableMap.of(1, 10L, 2, 10L),
+                ImmutableMap.of(1, 0L, 2, 0L),
+                null,
+                ImmutableMap.of(1, toBuffer(1), 2, toBuffer(lower)),
+                ImmutableMap.of(1, toBuffer(10), 2, toBuffer(upper))))
+        .build();
+  }
+
+  private static ByteBuffer toBuffer(int value) {
+    return Conversions.toByteBuffer(Types.IntegerType.get(), value);
+  }
+
+  private static ByteBuffer toBuffer(String value) {
+    return Conversions.toByteBuffer(Types.StringType.get(), value);
+  }
+
   @TestTemplate
   public void testPartitionedTableWithUnrelatedPartitionDeletes() {
     table.newAppend().appendFile(FILE_B).commit();
@@ -31,6 +31,8 @@ import static org.apache.iceberg.PartitionStatsHandler.POSITION_DELETE_RECORD_CO
 import static org.apache.iceberg.PartitionStatsHandler.SPEC_ID;
 import static org.apache.iceberg.PartitionStatsHandler.TOTAL_DATA_FILE_SIZE_IN_BYTES;
 import static org.apache.iceberg.PartitionStatsHandler.TOTAL_RECORD_COUNT;
+import static org.apache.iceberg.expressions.Expressions.alwaysTrue;
+import static org.apache.iceberg.expressions.Expressions.equal;
 import static org.apache.iceberg.types.Types.NestedField.optional;
 import static org.apache.iceberg.types.Types.NestedField.required;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -536,6 +538,158 @@ public abstract class PartitionStatsHandlerTestBase {
         .allMatch(s -> (s.dataRecordCount() == 0 && s.dataFileCount() == 0));
   }
 
+  @Test
+  public void testRecordCount() throws Exception {
+    Table testTable =
+        TestTables.create(
+            tempDir("record_count"), "record_count", SCHEMA, SPEC, 2, fileFormatProperty);
+
+    DataFile dataFile1 =
+        DataFiles.builder(SPEC)
+            .withPath("/df1.parquet")
+            .withPartitionPath("c2=a/c3=a")
+            .withFileSizeInBytes(10)
+            .withRecordCount(3)
+            .build();
+    DataFile dataFile2 =
+        DataFiles.builder(SPEC)
+            .withPath("/df2.parquet")
+            .withPartitionPath("c2=b/c3=b")
+            .withFileSizeInBytes(10)
+            .withRecordCount(5)
+            .build();
+
+    testTable.newAppend().appendFile(dataFile1).appendFile(dataFile2).commit();
+    long snapshotId = testTable.currentSnapshot().snapshotId();
+
+    // no stats file
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, alwaysTrue(), true))
+        .isNull();
+
+    testTable
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsHandler.computeAndWriteStatsFile(testTable))
+        .commit();
+
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, alwaysTrue(), true))
+        .isEqualTo(8L);
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, equal("c2", "b"), true))
+        .isEqualTo(5L);
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, equal("c2", "c"), true))
+        .isEqualTo(0L);
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, equal("C2", "b"), false))
+        .isEqualTo(5L);
+
+    // filters on non-partition columns cannot be answered from partition stats
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, equal("c1", 1), true))
+        .isNull();
+
+    // stats of later snapshots are computed from the manifests added since the stats file
+    testTable.newDelete().deleteFile(dataFile1).commit();
+    assertThat(
+            PartitionStatsHandler.recordCount(
+                testTable, testTable.currentSnapshot().snapshotId(), alwaysTrue(), true))
+        .isEqualTo(5L);
+
+    DeleteFile deleteFile =
+        FileMetadata.deleteFileBuilder(SPEC)
+            .ofPositionDeletes()
+            .withPath("/df2-deletes.parquet")
+            .withPartitionPath("c2=b/c3=b")
+            .withFileSizeInBytes(10)
+            .withRecordCount(1)
+            .build();
+    testTable.newRowDelta().addDeletes(deleteFile).commit();
+    assertThat(
+            PartitionStatsHandler.recordCount(
+                testTable, testTable.currentSnapshot().snapshotId(), alwaysTrue(), true))
+        .isNull();
+  }
+
+  @Test
+  public void testRecordCountWithGlobalEqualityDeletes() throws Exception {
+    Table testTable =
+        TestTables.create(
+            tempDir("record_count_global_deletes"),
+            "record_count_global_deletes",
+            SCHEMA,
+            PartitionSpec.unpartitioned(),
+            2,
+            fileFormatProperty);
+
+    // equality deletes of the unpartitioned spec apply to data files of later specs
+    DeleteFile globalDeletes =
+        FileMetadata.deleteFileBuilder(testTable.spec())
+            .ofEqualityDeletes(1)
+            .withPath("/global-deletes.parquet")
+            .withFileSizeInBytes(10)
+            .withRecordCount(1)
+            .build();
+
+    testTable.updateSpec().addField("c2").addField("c3").commit();
+    DataFile dataFile =
+        DataFiles.builder(testTable.spec())
+            .withPath("/df1.parquet")
+            .withPartitionPath("c2=a/c3=a")
+            .withFileSizeInBytes(10)
+            .withRecordCount(3)
+            .build();
+    testTable.newAppend().appendFile(dataFile).commit();
+    testTable.newRowDelta().addDeletes(globalDeletes).commit();
+    long snapshotId = testTable.currentSnapshot().snapshotId();
+
+    testTable
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsHandler.computeAndWriteStatsFile(testTable))
+        .commit();
+
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, alwaysTrue(), true))
+        .isNull();
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, equal("c2", "a"), true))
+        .isNull();
+  }
+
+  @Test
+  public void testRecordCountWithDeletesOnlyPartition() throws Exception {
+    Table testTable =
+        TestTables.create(
+            tempDir("record_count_deletes_only"),
+            "record_count_deletes_only",
+            SCHEMA,
+            SPEC,
+            2,
+            fileFormatProperty);
+
+    DataFile dataFile =
+        DataFiles.builder(SPEC)
+            .withPath("/df1.parquet")
+            .withPartitionPath("c2=a/c3=a")
+            .withFileSizeInBytes(10)
+            .withRecordCount(3)
+            .build();
+    DeleteFile deleteFile =
+        FileMetadata.deleteFileBuilder(SPEC)
+            .ofEqualityDeletes(1)
+            .withPath("/b-deletes.parquet")
+            .withPartitionPath("c2=b/c3=b")
+            .withFileSizeInBytes(10)
+            .withRecordCount(1)
+            .build();
+    testTable.newRowDelta().addRows(dataFile).addDeletes(deleteFile).commit();
+    long snapshotId = testTable.currentSnapshot().snapshotId();
+
+    testTable
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsHandler.computeAndWriteStatsFile(testTable))
+        .commit();
+
+    // a selected partition with deletes and no data rows is not counted as empty
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, alwaysTrue(), true))
+        .isNull();
+    assertThat(PartitionStatsHandler.recordCount(testTable, snapshotId, equal("c2", "a"), true))
+        .isEqualTo(3L);
+  }
+
   @Test
   public void testLatestStatsFile() throws Exception {
     Table testTable =
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.SnapshotSummary.ADDED_DELETE_FILES_PROP;
+import static org.apache.iceberg.SnapshotSummary.ADDED_FILES_PROP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestCommitCoalescer extends TestBase {
+
+  @TestTemplate
+  public void testAppendsCommittedTogether() {
+    Snapshot snapshot;
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, 60_000, 3)) {
+      CompletableFuture<Snapshot> first = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Snapshot> second = coalescer.append(ImmutableList.of(FILE_B));
+      CompletableFuture<Snapshot> third = coalescer.append(ImmutableList.of(FILE_C));
+
+      snapshot = first.join();
+      assertThat(second.join()).isEqualTo(snapshot);
+      assertThat(third.join()).isEqualTo(snapshot);
+    }
+
+    assertThat(table.snapshots()).hasSize(1);
+    assertThat(snapshot.summary()).containsEntry(ADDED_FILES_PROP, "3");
+    validateSnapshot(null, snapshot, FILE_A, FILE_B, FILE_C);
+  }
+
+  @TestTemplate
+  public void testFutureCompletedWithCoalescedSnapshot() {
+    Table concurrentTable =
+        new BaseTable(table.ops(), table.name()) {
+          @Override
+          public AppendFiles newAppend() {
+            return new MergeAppend(name(), operations()) {
+              @Override
+              public void commit() {
+                super.commit();
+                // another writer commits before the coalesced snapshot is returned
+                table.newFastAppend().appendFile(FILE_C).commit();
+              }
+            };
+          }
+        };
+
+    Snapshot snapshot;
+    try (CommitCoalescer coalescer = new CommitCoalescer(concurrentTable, 60_000, 2)) {
+      CompletableFuture<Snapshot> first = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Snapshot> second = coalescer.append(ImmutableList.of(FILE_B));
+
+      snapshot = first.join();
+      assertThat(second.join()).isEqualTo(snapshot);
+    }
+
+    assertThat(table.snapshots()).hasSize(2);
+    assertThat(table.currentSnapshot().parentId()).isEqualTo(snapshot.snapshotId());
+    validateSnapshot(null, snapshot, FILE_A, FILE_B);
+  }
+
+  @TestTemplate
+  public void testCloseCommitsPendingChanges() {
+    CompletableFuture<Snapshot> future;
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, 60_000, 100)) {
+      future = coalescer.append(ImmutableList.of(FILE_A));
+    }
+
+    assertThat(future).isCompleted();
+    assertThat(future.join()).isEqualTo(table.currentSnapshot());
+    validateSnapshot(null, table.currentSnapshot(), FILE_A);
+  }
+
+  @TestTemplate
+  public void testAppendsAndDeletesCommittedTogether() {
+    assumeThat(formatVersion).isGreaterThanOrEqualTo(2);
+
+    table.newAppend().appendFile(FILE_A).commit();
+
+    Snapshot snapshot;
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, 60_000, 2)) {
+      CompletableFuture<Snapshot> append = coalescer.append(ImmutableList.of(FILE_B));
+      CompletableFuture<Snapshot> delete =
+          coalescer.submit(
+              new CommitCoalescer.PendingCommit()
+                  .addDeletes(fileADeletes())
+                  .validateDataFilesExist(ImmutableList.of(FILE_A.location())));
+
+      snapshot = append.join();
+      assertThat(delete.join()).isEqualTo(snapshot);
+    }
+
+    assertThat(table.snapshots()).hasSize(2);
+    assertThat(snapshot.operation()).isEqualTo(DataOperations.OVERWRITE);
+    assertThat(snapshot.summary())
+        .containsEntry(ADDED_FILES_PROP, "1")
+        .containsEntry(ADDED_DELETE_FILES_PROP, "1");
+    assertThat(Iterables.size(snapshot.addedDeleteFiles(table.io()))).isEqualTo(1);
+  }
+
+  @TestTemplate
+  public void testConflictingChangesFailSeparately() {
+    assumeThat(formatVersion).isGreaterThanOrEqualTo(2);
+
+    table.newAppend().appendFile(FILE_A).commit();
+    long validateFromSnapshotId = table.currentSnapshot().snapshotId();
+
+    // conflicts with the deletes below
+    table.newAppend().appendFile(FILE_A2).commit();
+
+    CompletableFuture<Snapshot> append;
+    CompletableFuture<Snapshot> delete;
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, 60_000, 2)) {
+      append = coalescer.append(ImmutableList.of(FILE_B));
+      delete =
+          coalescer.submit(
+              new CommitCoalescer.PendingCommit()
+                  .addDeletes(fileADeletes())
+                  .validateFromSnapshot(validateFromSnapshotId)
+                  .conflictDetectionFilter(Expressions.equal("data", "u")) // bucket16("u") -> 0
+                  .validateNoConflictingDataFiles());
+    }
+
+    assertThatThrownBy(delete::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ValidationException.class)
+        .hasMessageContaining("Found conflicting files");
+
+    Snapshot snapshot = append.join();
+    assertThat(table.currentSnapshot()).isEqualTo(snapshot);
+    assertThat(snapshot.summary()).containsEntry(ADDED_FILES_PROP, "1");
+    assertThat(snapshot.deleteManifests(table.io())).isEmpty();
+  }
+
+  @TestTemplate
+  public void testSubmitAfterClose() {
+    CommitCoalescer coalescer = new CommitCoalescer(table);
+    coalescer.close();
+
+    assertThatThrownBy(() -> coalescer.append(ImmutableList.of(FILE_A)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot submit changes to a closed commit coalescer");
+  }
+}
@@ -425,6 +425,44 @@ public class TestFastAppend extends TestBase {
     assertThat(metadata.currentSnapshot().allManifests(FILE_IO)).contains(newManifest);
   }
 
+  @TestTemplate
+  public void testRetryReusesManifestList() {
+    // inject 3 failures, the last try will succeed
+    TestTables.TestTableOperations ops = table.ops();
+    ops.failCommits(3);
+
+    AppendFiles append = table.newFastAppend().appendFile(FILE_B);
+    Snapshot pending = append.apply();
+    assertThat(listManifestLists(tableDir)).hasSize(1);
+
+    append.commit();
+
+    // retries against the same parent with the same manifests write no new manifest lists
+    Snapshot committed = table.currentSnapshot();
+    assertThat(committed.manifestListLocation()).isEqualTo(pending.manifestListLocation());
+    assertThat(listManifestLists(tableDir)).hasSize(1);
+    validateSnapshot(null, committed, FILE_B);
+  }
+
+  @TestTemplate
+  public void testRetryWithNewParentWritesManifestList() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+
+    AppendFiles append = table.newFastAppend().appendFile(FILE_B);
+    Snapshot pending = append.apply();
+    assertThat(listManifestLists(tableDir)).hasSize(2);
+
+    table.newFastAppend().appendFile(FILE_C).commit();
+    assertThat(listManifestLists(tableDir)).hasSize(3);
+
+    append.commit();
+
+    Snapshot committed = table.currentSnapshot();
+    assertThat(committed.manifestListLocation()).isNotEqualTo(pending.manifestListLocation());
+    assertThat(new File(pending.manifestListLocation())).doesNotExist();
+    assertThat(listManifestLists(tableDir)).hasSize(3);
+  }
+
   @TestTemplate
   public void testWriteNewManifestsIdempotency() {
     // inject 3 failures, the last try will succeed
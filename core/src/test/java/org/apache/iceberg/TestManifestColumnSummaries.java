@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ManifestEvaluator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestManifestColumnSummaries extends TestBase {
+  private static final DataFile IDS_0_2 = dataFile("/path/to/data-1.parquet", 0, 2);
+  private static final DataFile IDS_8_10 = dataFile("/path/to/data-2.parquet", 8, 10);
+
+  @BeforeEach
+  public void enableColumnSummaries() {
+    assumeThat(formatVersion).isGreaterThanOrEqualTo(2);
+    table.updateProperties().set(TableProperties.MANIFEST_COLUMN_SUMMARIES, "id").commit();
+  }
+
+  @TestTemplate
+  public void testColumnSummariesCombineFileMetrics() {
+    table.newFastAppend().appendFile(IDS_0_2).appendFile(IDS_8_10).commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    assertThat(manifests).hasSize(1);
+
+    List<ColumnFieldSummary> summaries = manifests.get(0).columnSummaries();
+    assertThat(summaries).hasSize(1);
+    ColumnFieldSummary summary = summaries.get(0);
+    assertThat(summary.fieldId()).isEqualTo(1);
+    assertThat(summary.valueCount()).isEqualTo(10L);
+    assertThat(summary.nullValueCount()).isEqualTo(0L);
+    assertThat(summary.nanValueCount()).isNull();
+    assertThat(summary.lowerBound()).isEqualTo(toBuffer(0));
+    assertThat(summary.upperBound()).isEqualTo(toBuffer(10));
+  }
+
+  @TestTemplate
+  public void testColumnSummariesWithoutFileMetrics() {
+    table.newFastAppend().appendFile(IDS_0_2).appendFile(FILE_B).commit();
+
+    ColumnFieldSummary summary =
+        table.currentSnapshot().dataManifests(table.io()).get(0).columnSummaries().get(0);
+    assertThat(summary.fieldId()).isEqualTo(1);
+    assertThat(summary.valueCount()).isNull();
+    assertThat(summary.nullValueCount()).isNull();
+    assertThat(summary.lowerBound()).isNull();
+    assertThat(summary.upperBound()).isNull();
+  }
+
+  @TestTemplate
+  public void testColumnSummariesAreOptional() {
+    table.updateProperties().remove(TableProperties.MANIFEST_COLUMN_SUMMARIES).commit();
+    table.newFastAppend().appendFile(IDS_0_2).commit();
+
+    ManifestFile manifest = table.currentSnapshot().dataManifests(table.io()).get(0);
+    assertThat(manifest.columnSummaries()).isNull();
+
+    ManifestEvaluator evaluator =
+        ManifestEvaluator.forFilters(
+            Expressions.greaterThan("id", 5), Expressions.alwaysTrue(), table.spec(), true);
+    assertThat(evaluator.eval(manifest)).isTrue();
+  }
+
+  @TestTemplate
+  public void testManifestEvaluatorUsesColumnSummaries() {
+    table.newFastAppend().appendFile(IDS_0_2).commit();
+    table.newFastAppend().appendFile(IDS_8_10).commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    assertThat(manifests).hasSize(2);
+    ManifestFile lowIds = manifests.get(1);
+    ManifestFile highIds = manifests.get(0);
+
+    ManifestEvaluator greaterThan =
+        ManifestEvaluator.forFilters(
+            Expressions.greaterThan("id", 5), Expressions.alwaysTrue(), table.spec(), true);
+    assertThat(greaterThan.eval(lowIds)).isFalse();
+    assertThat(greaterThan.eval(highIds)).isTrue();
+
+    ManifestEvaluator equal =
+        ManifestEvaluator.forFilters(
+            Expressions.equal("id", 1), Expressions.alwaysTrue(), table.spec(), true);
+    assertThat(equal.eval(lowIds)).isTrue();
+    assertThat(equal.eval(highIds)).isFalse();
+
+    ManifestEvaluator isNull =
+        ManifestEvaluator.forFilters(
+            Expressions.isNull("id"), Expressions.alwaysTrue(), table.spec(), true);
+    assertThat(isNull.eval(lowIds)).isFalse();
+    assertThat(isNull.eval(highIds)).isFalse();
+
+    assertThat(table.newScan().filter(Expressions.greaterThan("id", 5)).planFiles())
+        .extracting(FileScanTask::file)
+        .extracting(DataFile::location)
+        .containsExactly(IDS_8_10.location());
+  }
+
+  @TestTemplate
+  public void testRewriteTablePathKeepsColumnSummaries() throws IOException {
+    table.newFastAppend().appendFile(IDS_0_2).appendFile(IDS_8_10).commit();
+
+    Snapshot snapshot = table.currentSnapshot();
+    ManifestFile manifest = snapshot.dataManifests(table.io()).get(0);
+    assertThat(manifest.columnSummaries()).hasSize(1);
+
+    File rewrittenManifest = new File(metadataDir, "rewritten-manifest.avro");
+    RewriteTablePathUtil.RewriteResult<DataFile> manifestResult =
+        RewriteTablePathUtil.rewriteDataManifest(
+            manifest,
+            ImmutableSet.of(snapshot.snapshotId()),
+            Files.localOutput(rewrittenManifest),
+            table.io(),
+            formatVersion,
+            table.specs(),
+            "/path/to",
+            "/new/path/to");
+    assertThat(manifestResult.copyPlan()).hasSize(2);
+
+    String targetLocation = "/new/table/location";
+    File rewrittenList = new File(metadataDir, "rewritten-list.avro");
+    RewriteTablePathUtil.rewriteManifestList(
+        snapshot,
+        table.io(),
+        table.ops().current(),
+        ImmutableSet.of(manifest.path()),
+        tableDir.getAbsolutePath(),
+        targetLocation,
+        metadataDir.toString(),
+        rewrittenList.toString());
+
+    List<ManifestFile> rewrittenManifests =
+        ManifestLists.read(Files.localInput(rewrittenList.toString()));
+    assertThat(rewrittenManifests).hasSize(1);
+    ManifestFile rewritten = rewrittenManifests.get(0);
+    assertThat(rewritten.path()).startsWith(targetLocation);
+    assertThat(rewritten.columnSummaries()).hasSize(1);
+    ColumnFieldSummary summary = rewritten.columnSummaries().get(0);
+    assertThat(summary.fieldId()).isEqualTo(1);
+    assertThat(summary.valueCount()).isEqualTo(10L);
+    assertThat(summary.lowerBound()).isEqualTo(toBuffer(0));
+    assertThat(summary.upperBound()).isEqualTo(toBuffer(10));
+  }
+
+  private static DataFile dataFile(String path, int lower, int upper) {
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(
+            new Metrics(
+                5L,
+                null, // no column sizes
+                ImmutableMap.of(1, 5L, 2, 5L), // value count
+                ImmutableMap.of(1, 0L, 2, 0L), // null count
+                null, // no nan value counts
+                ImmutableMap.of(1, toBuffer(lower)), // lower bounds
+                ImmutableMap.of(1, toBuffer(upper)) // upper bounds
+                ))
+        .build();
+  }
+
+  private static ByteBuffer toBuffer(int value) {
+    return Conversions.toByteBuffer(Types.IntegerType.get(), value);
+  }
+}
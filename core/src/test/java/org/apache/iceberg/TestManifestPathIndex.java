@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestManifestPathIndex extends TestBase {
+
+  @TestTemplate
+  public void testUnindexedManifestMightContainAnyFile() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    ManifestFile manifest = table.currentSnapshot().allManifests(table.io()).get(0);
+    String uuid = table.uuid().toString();
+
+    assertThat(ManifestPathIndex.isIndexed(uuid, manifest)).isFalse();
+    assertThat(
+            ManifestPathIndex.mightContainAny(uuid, manifest, ImmutableList.of(FILE_B.location())))
+        .isTrue();
+  }
+
+  @TestTemplate
+  public void testDeleteByPathIndexesManifests() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    ManifestFile manifestB = table.currentSnapshot().dataManifests(table.io()).get(0);
+    String uuid = table.uuid().toString();
+
+    table.newDelete().deleteFile(FILE_A.location()).commit();
+
+    // the manifest with FILE_B was fully read and did not contain FILE_A
+    assertThat(ManifestPathIndex.isIndexed(uuid, manifestB)).isTrue();
+    assertThat(
+            ManifestPathIndex.mightContainAny(uuid, manifestB, ImmutableList.of(FILE_B.location())))
+        .isTrue();
+    assertThat(
+            ManifestPathIndex.mightContainAny(uuid, manifestB, ImmutableList.of(FILE_A.location())))
+        .isFalse();
+
+    // the rewritten manifest without FILE_A is indexed when it is written
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    assertThat(manifests).hasSize(2).contains(manifestB);
+    ManifestFile filtered =
+        manifests.stream().filter(manifest -> !manifest.equals(manifestB)).findFirst().get();
+    assertThat(ManifestPathIndex.isIndexed(uuid, filtered)).isTrue();
+    assertThat(
+            ManifestPathIndex.mightContainAny(uuid, filtered, ImmutableList.of(FILE_A.location())))
+        .isFalse();
+
+    // deleting FILE_B skips the filtered manifest and still removes the file
+    table.newDelete().deleteFile(FILE_B.location()).commit();
+    assertThat(table.currentSnapshot().summary())
+        .containsEntry(SnapshotSummary.DELETED_FILES_PROP, "1");
+    assertThat(table.newScan().planFiles()).isEmpty();
+  }
+
+  @TestTemplate
+  public void testIndexIsScopedByTable() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    ManifestFile manifestB = table.currentSnapshot().dataManifests(table.io()).get(0);
+
+    table.newDelete().deleteFile(FILE_A.location()).commit();
+
+    // another table with the same manifest location does not use the index of this table
+    String otherUuid = UUID.randomUUID().toString();
+    assertThat(ManifestPathIndex.isIndexed(table.uuid().toString(), manifestB)).isTrue();
+    assertThat(ManifestPathIndex.isIndexed(otherUuid, manifestB)).isFalse();
+    assertThat(
+            ManifestPathIndex.mightContainAny(
+                otherUuid, manifestB, ImmutableList.of(FILE_A.location())))
+        .isTrue();
+    assertThat(
+            ManifestPathIndex.mightContainAny(null, manifestB, ImmutableList.of(FILE_A.location())))
+        .isTrue();
+  }
+
+  @TestTemplate
+  public void testDeleteByRowFilterDoesNotIndexManifests() {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+
+    table.newDelete().deleteFromRowFilter(Expressions.alwaysTrue()).commit();
+
+    // the index is only used for deletes by location, so it is not built for row filters
+    assertThat(table.currentSnapshot().summary())
+        .containsEntry(SnapshotSummary.DELETED_FILES_PROP, "2");
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    assertThat(manifests).hasSize(1);
+    assertThat(ManifestPathIndex.isIndexed(table.uuid().toString(), manifests.get(0))).isFalse();
+  }
+}
@@ -203,6 +203,46 @@ public class TestManifestReaderStats extends TestBase {
     }
   }
 
+  @TestTemplate
+  public void testReadEntriesWithLimitStatsToFilter() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE);
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .select(ImmutableList.of("file_path", "lower_bounds"))
+            .filterRows(Expressions.equal("data", "a"))
+            .limitStatsToFilter()) {
+      DataFile dataFile = reader.entries().iterator().next().file();
+
+      // selected stats are read in full
+      assertThat(dataFile.lowerBounds()).isEqualTo(LOWER_BOUNDS);
+
+      // stats projected for the filter only include the filter columns
+      assertThat(dataFile.valueCounts()).isEmpty();
+      assertThat(dataFile.nullValueCounts()).isEmpty();
+      assertThat(dataFile.nanValueCounts()).isEmpty();
+      assertThat(dataFile.upperBounds()).isEmpty();
+    }
+
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .select(ImmutableList.of("file_path"))
+            .filterRows(Expressions.greaterThan("id", 2))
+            .limitStatsToFilter()) {
+      DataFile dataFile = reader.entries().iterator().next().file();
+      assertThat(dataFile.valueCounts()).isEqualTo(VALUE_COUNT);
+      assertThat(dataFile.lowerBounds()).isEqualTo(LOWER_BOUNDS);
+      assertThat(dataFile.upperBounds()).isEqualTo(UPPER_BOUNDS);
+    }
+
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .select(ImmutableList.of("file_path"))
+            .filterRows(Expressions.greaterThan("id", 4))
+            .limitStatsToFilter()) {
+      assertThat(reader.entries()).isEmpty();
+    }
+  }
+
   private void assertFullStats(DataFile dataFile) {
     assertThat(dataFile.recordCount()).isEqualTo(3);
     assertThat(dataFile.columnSizes()).isNull();
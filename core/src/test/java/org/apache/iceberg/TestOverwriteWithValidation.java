@@ -362,6 +362,42 @@ public class TestOverwriteWithValidation extends TestBase {
     validateBranchFiles(table, branch, FILE_DAY_1, FILE_DAY_2_MODIFIED);
   }
 
+  @TestTemplate
+  public void testOverwriteIncompatibleAdditionBetweenRetriesValidated() {
+    commit(table, table.newAppend().appendFile(FILE_DAY_2), branch);
+
+    Snapshot baseSnapshot = latestSnapshot(table, branch);
+    validateSnapshot(null, baseSnapshot, FILE_DAY_2);
+
+    OverwriteFiles overwrite =
+        table
+            .newOverwrite()
+            .deleteFile(FILE_DAY_2)
+            .addFile(FILE_DAY_2_MODIFIED)
+            .validateFromSnapshot(baseSnapshot.snapshotId())
+            .conflictDetectionFilter(EXPRESSION_DAY_2)
+            .validateNoConflictingData();
+
+    // the first attempt validates this compatible addition
+    commit(table, table.newAppend().appendFile(FILE_DAY_1), branch);
+    long compatibleSnapshotId = latestSnapshot(table, branch).snapshotId();
+
+    // an incompatible addition is committed between the first attempt and the retry
+    ((TestTables.TestTable) table)
+        .ops()
+        .failCommits(
+            1,
+            () -> commit(table, table.newAppend().appendFile(FILE_DAY_2_ANOTHER_RANGE), branch));
+
+    assertThatThrownBy(() -> commit(table, overwrite, branch))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageStartingWith("Found conflicting files");
+
+    Snapshot committedSnapshot = latestSnapshot(table, branch);
+    assertThat(committedSnapshot.parentId()).isEqualTo(compatibleSnapshotId);
+    validateBranchFiles(table, branch, FILE_DAY_1, FILE_DAY_2, FILE_DAY_2_ANOTHER_RANGE);
+  }
+
   @TestTemplate
   public void testOverwriteCompatibleDeletionValidated() {
     commit(table, table.newAppend().appendFile(FILE_DAY_1).appendFile(FILE_DAY_2), branch);
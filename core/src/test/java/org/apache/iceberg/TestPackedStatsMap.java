@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.apache.iceberg.TestHelpers.KryoHelpers;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+
+public class TestPackedStatsMap {
+  private static final Map<Integer, Long> COUNTS = ImmutableMap.of(5, 50L, 1, 10L, 3, 30L);
+  private static final Map<Integer, ByteBuffer> BOUNDS =
+      ImmutableMap.of(4, toBuffer(40), 2, toBuffer(20));
+
+  @Test
+  public void testCopyCounts() {
+    Map<Integer, Long> counts = PackedStatsMap.copyCounts(COUNTS, null);
+    assertThat(counts).isEqualTo(COUNTS).hasSameHashCodeAs(COUNTS);
+    assertThat(counts.keySet()).containsExactly(1, 3, 5);
+    assertThat(counts.get(3)).isEqualTo(30L);
+    assertThat(counts.get(2)).isNull();
+    assertThat(counts.get("3")).isNull();
+    assertThat(PackedStatsMap.copyCounts(counts, null)).isSameAs(counts);
+    assertThat(PackedStatsMap.copyCounts(null, null)).isNull();
+  }
+
+  @Test
+  public void testCopyCountsForFieldIds() {
+    Map<Integer, Long> counts = PackedStatsMap.copyCounts(COUNTS, ImmutableSet.of(5, 1, 7));
+    assertThat(counts).isEqualTo(ImmutableMap.of(1, 10L, 5, 50L));
+    assertThat(PackedStatsMap.copyCounts(counts, ImmutableSet.of(5))).containsOnlyKeys(5);
+    assertThat(PackedStatsMap.copyCounts(COUNTS, ImmutableSet.of())).isEmpty();
+  }
+
+  @Test
+  public void testCopyBounds() {
+    Map<Integer, ByteBuffer> bounds = PackedStatsMap.copyBounds(BOUNDS, null);
+    assertThat(bounds).isEqualTo(BOUNDS);
+    assertThat(bounds.keySet()).containsExactly(2, 4);
+    assertThat(bounds.get(4)).isEqualTo(toBuffer(40));
+
+    Map<Integer, ByteBuffer> filtered = PackedStatsMap.copyBounds(BOUNDS, ImmutableSet.of(4));
+    assertThat(filtered).isEqualTo(ImmutableMap.of(4, toBuffer(40)));
+  }
+
+  @Test
+  public void testJavaSerialization() throws IOException, ClassNotFoundException {
+    Map<Integer, Long> counts = PackedStatsMap.copyCounts(COUNTS, null);
+    assertThat(TestHelpers.roundTripSerialize(counts)).isEqualTo(COUNTS);
+
+    Map<Integer, ByteBuffer> bounds = PackedStatsMap.copyBounds(BOUNDS, null);
+    assertThat(TestHelpers.roundTripSerialize(bounds)).isEqualTo(BOUNDS);
+  }
+
+  @Test
+  public void testKryoSerialization() throws IOException {
+    Map<Integer, Long> counts = PackedStatsMap.copyCounts(COUNTS, null);
+    Map<Integer, Long> kryoCounts = KryoHelpers.roundTripSerialize(counts);
+    assertThat(kryoCounts).isEqualTo(COUNTS);
+    assertThat(kryoCounts.get(5)).isEqualTo(50L);
+
+    Map<Integer, ByteBuffer> bounds = PackedStatsMap.copyBounds(BOUNDS, null);
+    Map<Integer, ByteBuffer> kryoBounds = KryoHelpers.roundTripSerialize(bounds);
+    assertThat(kryoBounds).isEqualTo(BOUNDS);
+    assertThat(kryoBounds.get(2)).isEqualTo(toBuffer(20));
+  }
+
+  private static ByteBuffer toBuffer(int value) {
+    return Conversions.toByteBuffer(Types.IntegerType.get(), value);
+  }
+}
@@ -102,6 +102,46 @@ public class TestRemoveSnapshots extends TestBase {
     assertThat(deletedFiles).containsExactly(firstSnapshot.manifestListLocation());
   }
 
+  @TestTemplate
+  public void testStreamingCleanupWithSpilledPaths() {
+    assumeThat(incrementalCleanup).isFalse();
+
+    table
+        .updateProperties()
+        .set(TableProperties.EXPIRE_STREAMING_CLEANUP_ENABLED, "true")
+        .set(TableProperties.EXPIRE_STREAMING_CLEANUP_MAX_BUFFERED_PATHS, "1")
+        .commit();
+
+    table.newAppend().appendFile(FILE_A).commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+    table.newAppend().appendFile(FILE_B).commit();
+    Snapshot secondSnapshot = table.currentSnapshot();
+    table.newDelete().deleteFile(FILE_A).commit();
+    Snapshot thirdSnapshot = table.currentSnapshot();
+    table.newAppend().appendFile(FILE_C).commit();
+
+    long tAfterCommits = waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    Set<String> liveManifests =
+        table.currentSnapshot().allManifests(table.io()).stream()
+            .map(ManifestFile::path)
+            .collect(Collectors.toSet());
+    Set<String> expectedDeletes = Sets.newHashSet(FILE_A.location());
+    for (Snapshot snapshot : ImmutableList.of(firstSnapshot, secondSnapshot, thirdSnapshot)) {
+      expectedDeletes.add(snapshot.manifestListLocation());
+      snapshot.allManifests(table.io()).stream()
+          .map(ManifestFile::path)
+          .filter(path -> !liveManifests.contains(path))
+          .forEach(expectedDeletes::add);
+    }
+
+    Set<String> deletedFiles = ConcurrentHashMap.newKeySet();
+    removeSnapshots(table).expireOlderThan(tAfterCommits).deleteWith(deletedFiles::add).commit();
+
+    assertThat(table.snapshots()).hasSize(1);
+    assertThat(deletedFiles).isEqualTo(expectedDeletes);
+  }
+
   @TestTemplate
   public void testExpireOlderThanWithDelete() {
     table.newAppend().appendFile(FILE_A).commit();
@@ -532,6 +532,45 @@ public class TestRowDelta extends TestBase {
     assertThat(latestSnapshot(table, branch).deleteManifests(table.io())).isEmpty();
   }
 
+  @TestTemplate
+  public void testValidateNoConflictsCommittedBetweenRetries() {
+    commit(table, table.newAppend().appendFile(FILE_A), branch);
+
+    long validateFromSnapshotId = latestSnapshot(table, branch).snapshotId();
+
+    // add a file that does not conflict so that the first attempt validates a newer parent
+    commit(table, table.newAppend().appendFile(FILE_B), branch);
+
+    long noConflictSnapshotId = latestSnapshot(table, branch).snapshotId();
+
+    // add a conflicting file after the first attempt was validated and before it is retried
+    table.ops().failCommits(1, () -> commit(table, table.newAppend().appendFile(FILE_A2), branch));
+
+    assertThatThrownBy(
+            () ->
+                commit(
+                    table,
+                    table
+                        .newRowDelta()
+                        .addDeletes(fileADeletes())
+                        .validateFromSnapshot(validateFromSnapshotId)
+                        .conflictDetectionFilter(
+                            Expressions.equal("data", "u")) // bucket16("u") -> 0
+                        .validateNoConflictingDataFiles(),
+                    branch))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageStartingWith("Found conflicting files");
+
+    Snapshot appendSnapshot = latestSnapshot(table, branch);
+    assertThat(appendSnapshot.parentId())
+        .as("Table state should only contain the concurrent append")
+        .isEqualTo(noConflictSnapshotId);
+    assertThat(appendSnapshot.addedDataFiles(table.io()))
+        .extracting(DataFile::location)
+        .containsExactly(FILE_A2.location());
+    assertThat(appendSnapshot.deleteManifests(table.io())).isEmpty();
+  }
+
   @TestTemplate
   public void testValidateNoConflictsFromSnapshot() {
     commit(table, table.newAppend().appendFile(FILE_A), branch);
@@ -279,6 +279,7 @@ public class TestTables {
     private TableMetadata current = null;
     private long lastSnapshotId = 0;
     private int failCommits = 0;
+    private Runnable beforeFailure = null;
 
     public TestTableOperations(String tableName, File location) {
       this(tableName, location, new LocalFileIO());
@@ -300,7 +301,15 @@ public class TestTables {
     }
 
     void failCommits(int numFailures) {
+      failCommits(numFailures, null);
+    }
+
+    /**
+     * Fails the next commits and runs an action, such as a concurrent commit, before each failure.
+     */
+    void failCommits(int numFailures, Runnable action) {
       this.failCommits = numFailures;
+      this.beforeFailure = action;
     }
 
     @Override
@@ -326,6 +335,17 @@ public class TestTables {
         if (base == current) {
           if (failCommits > 0) {
             this.failCommits -= 1;
+            if (beforeFailure != null) {
+              // disable failures so that the action can commit
+              int remainingFailures = failCommits;
+              this.failCommits = 0;
+              try {
+                beforeFailure.run();
+              } finally {
+                this.failCommits = remainingFailures;
+              }
+            }
+
             throw new CommitFailedException("Injected failure");
           }
           Integer version = VERSIONS.get(tableName);
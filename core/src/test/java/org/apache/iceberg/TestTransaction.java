@@ -32,6 +32,8 @@ import java.util.stream.Collectors;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -404,6 +406,34 @@ public class TestTransaction extends TestBase {
     assertThat(new File(appendManifest.path())).doesNotExist();
   }
 
+  @TestTemplate
+  public void testTransactionRetryValidatesConcurrentConflicts() {
+    assumeThat(formatVersion).isGreaterThanOrEqualTo(2);
+
+    table.newAppend().appendFile(FILE_A).commit();
+    long validateFromSnapshotId = table.currentSnapshot().snapshotId();
+
+    Transaction txn = table.newTransaction();
+    txn.newAppend().appendFile(FILE_B).commit();
+    // the first attempt validates history up to the append staged by the transaction
+    txn.newRowDelta()
+        .addDeletes(fileADeletes())
+        .validateFromSnapshot(validateFromSnapshotId)
+        .conflictDetectionFilter(Expressions.equal("data", "u")) // bucket16("u") -> 0
+        .validateNoConflictingDataFiles()
+        .commit();
+
+    // a conflicting commit rebases the staged append when the transaction is retried
+    table.newAppend().appendFile(FILE_A2).commit();
+    long conflictSnapshotId = table.currentSnapshot().snapshotId();
+
+    assertThatThrownBy(txn::commitTransaction)
+        .isInstanceOf(ValidationException.class)
+        .hasMessageStartingWith("Found conflicting files");
+
+    assertThat(readMetadata().currentSnapshot().snapshotId()).isEqualTo(conflictSnapshotId);
+  }
+
   @TestTemplate
   public void testTransactionRetrySchemaUpdate() {
     // use only one retry
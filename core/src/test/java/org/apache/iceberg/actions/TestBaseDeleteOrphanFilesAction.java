@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestBase;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.SpillingPathSorter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestBaseDeleteOrphanFilesAction {
+  private static final HadoopTables TABLES = new HadoopTables(new Configuration());
+
+  @TempDir private File tableDir;
+  private Table table;
+
+  @BeforeEach
+  public void createTable() {
+    this.table =
+        TABLES.create(TestBase.SCHEMA, PartitionSpec.unpartitioned(), tableDir.getAbsolutePath());
+  }
+
+  @Test
+  public void testDeleteOrphanFiles() throws IOException {
+    DataFile liveFile = writeDataFile("data/live.parquet");
+    table.newAppend().appendFile(liveFile).commit();
+    DataFile removedFile = writeDataFile("data/removed.parquet");
+    table.newAppend().appendFile(removedFile).commit();
+    table.newDelete().deleteFile(removedFile).commit();
+
+    File orphanFile = writeFile("data/orphan.parquet");
+    File hiddenFile = writeFile("data/_temporary/hidden.parquet");
+
+    DeleteOrphanFiles.Result result =
+        new BaseDeleteOrphanFilesAction(table)
+            .olderThan(System.currentTimeMillis() + 1000)
+            .execute();
+
+    assertThat(result.orphanFileLocations())
+        .singleElement()
+        .asString()
+        .endsWith("/data/orphan.parquet");
+    assertThat(result.orphanFilesCount()).isEqualTo(1L);
+    assertThat(orphanFile).doesNotExist();
+    assertThat(hiddenFile).exists();
+    assertThat(new File(liveFile.location())).exists();
+    assertThat(new File(removedFile.location())).exists();
+
+    table.refresh();
+    assertThat(table.snapshots()).hasSize(3);
+  }
+
+  @Test
+  public void testDeleteOrphanFilesWithSpilledPaths() throws IOException {
+    List<String> expectedOrphans = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      table.newAppend().appendFile(writeDataFile("data/live-" + i + ".parquet")).commit();
+      writeFile("data/orphan-" + i + ".parquet");
+      expectedOrphans.add("orphan-" + i + ".parquet");
+    }
+
+    DeleteOrphanFiles.Result result =
+        new BaseDeleteOrphanFilesAction(table)
+            .olderThan(System.currentTimeMillis() + 1000)
+            .maxBufferedPaths(2)
+            .listPrefixes(
+                ImmutableList.of(
+                    tableDir.getAbsolutePath() + "/data/",
+                    tableDir.getAbsolutePath() + "/metadata/"))
+            .execute();
+
+    assertThat(result.orphanFileLocations())
+        .extracting(location -> location.substring(location.lastIndexOf('/') + 1))
+        .containsExactlyInAnyOrderElementsOf(expectedOrphans);
+    for (int i = 0; i < 5; i += 1) {
+      assertThat(new File(tableDir, "data/live-" + i + ".parquet")).exists();
+    }
+  }
+
+  @Test
+  public void testMaxOrphanFileLocations() throws IOException {
+    for (int i = 0; i < 5; i += 1) {
+      writeFile("data/orphan-" + i + ".parquet");
+    }
+
+    DeleteOrphanFiles.Result result =
+        new BaseDeleteOrphanFilesAction(table)
+            .olderThan(System.currentTimeMillis() + 1000)
+            .maxOrphanFileLocations(2)
+            .execute();
+
+    // all orphan files are deleted and counted, but only some locations are returned
+    assertThat(result.orphanFilesCount()).isEqualTo(5L);
+    assertThat(result.orphanFileLocations()).hasSize(2);
+    for (int i = 0; i < 5; i += 1) {
+      assertThat(new File(tableDir, "data/orphan-" + i + ".parquet")).doesNotExist();
+    }
+
+    assertThatThrownBy(() -> new BaseDeleteOrphanFilesAction(table).maxOrphanFileLocations(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid max orphan file locations: -1");
+  }
+
+  @Test
+  public void testOlderThan() throws IOException {
+    File orphanFile = writeFile("data/orphan.parquet");
+
+    DeleteOrphanFiles.Result result =
+        new BaseDeleteOrphanFilesAction(table)
+            .olderThan(System.currentTimeMillis() - 60_000)
+            .execute();
+
+    assertThat(result.orphanFileLocations()).isEmpty();
+    assertThat(orphanFile).exists();
+  }
+
+  @Test
+  public void testPrefixMismatch() {
+    String actual = "s3a://bucket/table/data/file.parquet";
+    String valid = "s3://other-bucket/table/data/file.parquet";
+
+    assertThatThrownBy(() -> findOrphanFiles(new BaseDeleteOrphanFilesAction(table), actual, valid))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageStartingWith("Unable to determine whether certain files are orphan")
+        .hasMessageEndingWith("Conflicting authorities/schemes: [(other-bucket, bucket)].");
+
+    assertThat(
+            findOrphanFiles(
+                new BaseDeleteOrphanFilesAction(table)
+                    .prefixMismatchMode(DeleteOrphanFiles.PrefixMismatchMode.IGNORE),
+                actual,
+                valid))
+        .isEmpty();
+
+    assertThat(
+            findOrphanFiles(
+                new BaseDeleteOrphanFilesAction(table)
+                    .prefixMismatchMode(DeleteOrphanFiles.PrefixMismatchMode.DELETE),
+                actual,
+                valid))
+        .containsExactly(actual);
+
+    assertThat(
+            findOrphanFiles(
+                new BaseDeleteOrphanFilesAction(table)
+                    .equalAuthorities(ImmutableMap.of("other-bucket", "bucket")),
+                actual,
+                valid))
+        .isEmpty();
+  }
+
+  @Test
+  public void testGCDisabled() {
+    table.updateProperties().set(TableProperties.GC_ENABLED, "false").commit();
+
+    assertThatThrownBy(() -> new BaseDeleteOrphanFilesAction(table))
+        .isInstanceOf(ValidationException.class)
+        .hasMessage(
+            "Cannot delete orphan files: GC is disabled (deleting files may corrupt other tables)");
+  }
+
+  @Test
+  public void testInvalidListPrefix() {
+    BaseDeleteOrphanFilesAction action =
+        new BaseDeleteOrphanFilesAction(table).listPrefixes(ImmutableList.of("/other/data/"));
+
+    assertThatThrownBy(action::execute)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid list prefix: /other/data/ (must be under location");
+  }
+
+  private static List<String> findOrphanFiles(
+      BaseDeleteOrphanFilesAction action, String actual, String valid) {
+    List<String> orphans = Lists.newArrayList();
+    try (SpillingPathSorter actualFiles = new SpillingPathSorter(10);
+        SpillingPathSorter validFiles = new SpillingPathSorter(10)) {
+      actualFiles.add(action.toRecord(actual));
+      validFiles.add(action.toRecord(valid));
+      action.findOrphanFiles(actualFiles, validFiles, orphans::add);
+    }
+
+    return orphans;
+  }
+
+  private DataFile writeDataFile(String relativePath) throws IOException {
+    File file = writeFile(relativePath);
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath(file.getAbsolutePath())
+        .withFileSizeInBytes(file.length())
+        .withRecordCount(1)
+        .build();
+  }
+
+  private File writeFile(String relativePath) throws IOException {
+    File file = new File(tableDir, relativePath);
+    Files.createDirectories(file.getParentFile().toPath());
+    Files.write(file.toPath(), new byte[] {1});
+    return file;
+  }
+}
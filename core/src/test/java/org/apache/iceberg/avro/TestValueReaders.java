@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.avro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.junit.jupiter.api.Test;
+
+public class TestValueReaders {
+  private static final ValueReader<Map<Integer, Long>> PROJECTED_READER =
+      ValueReaders.arrayMap(ValueReaders.ints(), ValueReaders.longs(), ImmutableSet.of(1, 3));
+
+  @Test
+  public void testProjectedArrayMap() throws IOException {
+    Decoder decoder = decoder(new int[][] {{1, 2, 3, 4}});
+
+    assertThat(PROJECTED_READER.read(decoder, null)).isEqualTo(ImmutableMap.of(1, 10L, 3, 30L));
+  }
+
+  @Test
+  public void testProjectedArrayMapWithMultipleBlocks() throws IOException {
+    Decoder decoder = decoder(new int[][] {{4, 3}, {2}, {1, 5}});
+
+    assertThat(PROJECTED_READER.read(decoder, null)).isEqualTo(ImmutableMap.of(3, 30L, 1, 10L));
+  }
+
+  @Test
+  public void testProjectedArrayMapReusesContainer() throws IOException {
+    Decoder decoder = decoder(new int[][] {{1, 2, 3}}, new int[][] {{2, 3}}, new int[][] {{4}});
+
+    Map<Integer, Long> reuse = Maps.newLinkedHashMap();
+    reuse.put(5, 50L);
+    reuse.put(1, 99L);
+
+    // stale entries of the reused map, including entries of keys that are projected, are removed
+    Map<Integer, Long> first = PROJECTED_READER.read(decoder, reuse);
+    assertThat(first).isSameAs(reuse).isEqualTo(ImmutableMap.of(1, 10L, 3, 30L));
+
+    Map<Integer, Long> second = PROJECTED_READER.read(decoder, first);
+    assertThat(second).isSameAs(reuse).isEqualTo(ImmutableMap.of(3, 30L));
+
+    Map<Integer, Long> third = PROJECTED_READER.read(decoder, second);
+    assertThat(third).isSameAs(reuse).isEmpty();
+  }
+
+  @Test
+  public void testProjectedArrayMapSkip() throws IOException {
+    Decoder decoder = decoder(new int[][] {{1, 2}, {3}}, new int[][] {{3, 4}});
+
+    PROJECTED_READER.skip(decoder);
+
+    assertThat(PROJECTED_READER.read(decoder, null)).isEqualTo(ImmutableMap.of(3, 30L));
+  }
+
+  /**
+   * Encodes maps from int keys to long values as arrays of key/value records, written in the given
+   * blocks. The value of each key is the key times 10.
+   */
+  private static Decoder decoder(int[][]... maps) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+    for (int[][] blocks : maps) {
+      for (int[] block : blocks) {
+        encoder.writeLong(block.length);
+        for (int key : block) {
+          encoder.writeInt(key);
+          encoder.writeLong(key * 10L);
+        }
+      }
+
+      encoder.writeLong(0);
+    }
+
+    encoder.flush();
+    return DecoderFactory.get().binaryDecoder(out.toByteArray(), null);
+  }
+}
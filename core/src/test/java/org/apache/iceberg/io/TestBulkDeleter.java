@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestBulkDeleter {
+  private static final List<String> PATHS =
+      ImmutableList.of(
+          "s3://bucket1/a", "s3://bucket2/b", "s3://bucket1/c", "s3://bucket1/d", "s3://bucket2/e");
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void before() {
+    this.executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void after() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void testBatchesAreGroupedByBucket() {
+    Queue<List<String>> batches = new ConcurrentLinkedQueue<>();
+    AtomicLong lastDeleted = new AtomicLong(0L);
+    BulkDeleter.builder(
+            (group, paths) -> {
+              assertThat(paths).allMatch(path -> path.startsWith(group + "/"));
+              batches.add(paths);
+              return Collections.emptyList();
+            })
+        .batchSize(2)
+        .executeWith(executorService, 2)
+        .onProgress((deleted, failed) -> lastDeleted.accumulateAndGet(deleted, Math::max))
+        .build()
+        .deleteFiles(PATHS);
+
+    assertThat(batches).allMatch(batch -> batch.size() <= 2).hasSize(3);
+    assertThat(batches.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(PATHS);
+    assertThat(lastDeleted.get()).isEqualTo(PATHS.size());
+  }
+
+  @Test
+  public void testFailuresAreReported() {
+    BulkDeleter deleter =
+        BulkDeleter.builder(
+                (group, paths) -> {
+                  if (group.equals("s3://bucket2")) {
+                    throw new IllegalStateException("Cannot delete");
+                  }
+
+                  return paths.subList(0, 1);
+                })
+            .batchSize(10)
+            .executeWith(executorService, 2)
+            .build();
+
+    assertThat(deleter.delete(PATHS)).isEqualTo(3);
+    assertThatThrownBy(() -> deleter.deleteFiles(PATHS))
+        .isInstanceOf(BulkDeletionFailureException.class)
+        .hasMessage("Failed to delete 3 files");
+  }
+
+  @Test
+  public void testThrottledBatchesAreRetried() {
+    AtomicInteger attempts = new AtomicInteger(0);
+    long failed =
+        BulkDeleter.builder(
+                (group, paths) -> {
+                  if (attempts.incrementAndGet() <= 2) {
+                    throw new IllegalStateException("Slow down");
+                  }
+
+                  return Collections.emptyList();
+                })
+            .executeWith(executorService, 1)
+            .throttledWhen(e -> e.getMessage().equals("Slow down"))
+            .throttleRetry(3, 1, 10)
+            .build()
+            .delete(PATHS.subList(0, 1));
+
+    assertThat(failed).isEqualTo(0);
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testThrottledBatchesFailAfterRetries() {
+    long failed =
+        BulkDeleter.builder(
+                (group, paths) -> {
+                  throw new IllegalStateException("Slow down");
+                })
+            .executeWith(executorService, 1)
+            .throttledWhen(e -> true)
+            .throttleRetry(2, 1, 10)
+            .build()
+            .delete(PATHS.subList(0, 1));
+
+    assertThat(failed).isEqualTo(1);
+  }
+
+  @Test
+  public void testAdaptiveLimit() throws InterruptedException {
+    BulkDeleter.AdaptiveLimit limit = new BulkDeleter.AdaptiveLimit(8);
+    assertThat(limit.limit()).isEqualTo(8);
+
+    long generation = limit.generation();
+    limit.onThrottled(generation);
+    assertThat(limit.limit()).isEqualTo(4);
+
+    // batches started before the decrease do not decrease the limit again
+    limit.onThrottled(generation);
+    assertThat(limit.limit()).isEqualTo(4);
+
+    limit.onThrottled(limit.generation());
+    assertThat(limit.limit()).isEqualTo(2);
+
+    // the limit increases by about one after a window of successful batches
+    limit.onSuccess();
+    limit.onSuccess();
+    assertThat(limit.limit()).isEqualTo(2);
+    limit.onSuccess();
+    assertThat(limit.limit()).isEqualTo(3);
+
+    for (int i = 0; i < 100; i += 1) {
+      limit.onSuccess();
+    }
+
+    assertThat(limit.limit()).isEqualTo(8);
+
+    limit.acquire();
+    limit.release();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+public class TestSpillingPathSorter {
+
+  @Test
+  public void testSortedDistinctInMemory() throws IOException {
+    try (SpillingPathSorter sorter = new SpillingPathSorter(100)) {
+      ImmutableList.of("c", "a", "b", "a").forEach(sorter::add);
+
+      assertThat(sorter.size()).isEqualTo(4);
+      assertThat(sorter.spilledRuns()).isEqualTo(0);
+      assertThat(read(sorter)).containsExactly("a", "b", "c");
+    }
+  }
+
+  @Test
+  public void testSortedDistinctWithSpilledRuns() throws IOException {
+    try (SpillingPathSorter sorter = new SpillingPathSorter(3)) {
+      ImmutableList.of("f", "b", "d", "a", "f", "c", "e", "b").forEach(sorter::add);
+
+      assertThat(sorter.spilledRuns()).isEqualTo(2);
+      assertThat(read(sorter)).containsExactly("a", "b", "c", "d", "e", "f");
+      assertThat(read(sorter))
+          .as("Should read spilled runs again")
+          .containsExactly("a", "b", "c", "d", "e", "f");
+    }
+  }
+
+  private static List<String> read(SpillingPathSorter sorter) throws IOException {
+    List<String> values = Lists.newArrayList();
+    try (CloseableIterator<String> iterator = sorter.sortedDistinct()) {
+      iterator.forEachRemaining(values::add);
+    }
+
+    return values;
+  }
+}
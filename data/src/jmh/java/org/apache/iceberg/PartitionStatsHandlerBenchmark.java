@@ -67,33 +67,48 @@ public class PartitionStatsHandlerBenchmark {
   // 20 data files per partition, which results in 2k data files per manifest
   private static final int DATA_FILES_PER_PARTITION_COUNT = 20;
 
+  // Create 1k manifests before the snapshot with partition stats for the incremental benchmark
+  private static final int INCREMENTAL_BASE_MANIFEST_COUNTER = 1000;
+
+  // followed by 1k snapshots that each add one data file and delete another one
+  private static final int INCREMENTAL_SNAPSHOT_COUNTER = 1000;
+
   private static final HadoopTables TABLES = new HadoopTables();
 
   private static final String TABLE_IDENT = "tbl";
 
+  private static final String INCREMENTAL_TABLE_IDENT = "tbl_incremental";
+
   private Table table;
 
+  private Table incrementalTable;
+
   @Setup
-  public void setupBenchmark() {
+  public void setupBenchmark() throws IOException {
     this.table = TABLES.create(SCHEMA, SPEC, TABLE_IDENT);
-
-    for (int manifestCount = 0; manifestCount < MANIFEST_COUNTER; manifestCount++) {
-      AppendFiles appendFiles = table.newFastAppend();
-
-      for (int partition = 0; partition < PARTITION_PER_MANIFEST; partition++) {
-        StructLike partitionData = TestHelpers.Row.of(partition);
-        for (int fileOrdinal = 0; fileOrdinal < DATA_FILES_PER_PARTITION_COUNT; fileOrdinal++) {
-          appendFiles.appendFile(FileGenerationUtil.generateDataFile(table, partitionData));
-        }
+    appendManifests(table, MANIFEST_COUNTER);
+
+    this.incrementalTable = TABLES.create(SCHEMA, SPEC, INCREMENTAL_TABLE_IDENT);
+    appendManifests(incrementalTable, INCREMENTAL_BASE_MANIFEST_COUNTER);
+    incrementalTable
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsHandler.computeAndWriteStatsFile(incrementalTable))
+        .commit();
+
+    for (int snapshotCount = 0; snapshotCount < INCREMENTAL_SNAPSHOT_COUNTER; snapshotCount++) {
+      StructLike partitionData = TestHelpers.Row.of(snapshotCount % PARTITION_PER_MANIFEST);
+      DataFile newFile = FileGenerationUtil.generateDataFile(incrementalTable, partitionData);
+      incrementalTable.newFastAppend().appendFile(newFile).commit();
+      if (snapshotCount % 2 == 1) {
+        incrementalTable.newDelete().deleteFile(newFile).commit();
       }
-
-      appendFiles.commit();
     }
   }
 
   @TearDown
   public void tearDownBenchmark() {
     TABLES.dropTable(TABLE_IDENT);
+    TABLES.dropTable(INCREMENTAL_TABLE_IDENT);
   }
 
   @Benchmark
@@ -111,4 +126,39 @@ public class PartitionStatsHandlerBenchmark {
 
     assertThat(stats).hasSize(PARTITION_PER_MANIFEST);
   }
+
+  @Benchmark
+  @Threads(1)
+  public void benchmarkIncrementalPartitionStats() throws IOException {
+    // the stats file is not committed, so each run applies all snapshots after the base snapshot
+    PartitionStatisticsFile statisticsFile =
+        PartitionStatsHandler.computeAndWriteStatsFile(incrementalTable);
+
+    List<PartitionStats> stats;
+    try (CloseableIterable<PartitionStats> recordIterator =
+        PartitionStatsHandler.readPartitionStatsFile(
+            PartitionStatsHandler.schema(
+                Partitioning.partitionType(incrementalTable),
+                TableUtil.formatVersion(incrementalTable)),
+            Files.localInput(statisticsFile.path()))) {
+      stats = Lists.newArrayList(recordIterator);
+    }
+
+    assertThat(stats).hasSize(PARTITION_PER_MANIFEST);
+  }
+
+  private static void appendManifests(Table targetTable, int manifestCount) {
+    for (int manifest = 0; manifest < manifestCount; manifest++) {
+      AppendFiles appendFiles = targetTable.newFastAppend();
+
+      for (int partition = 0; partition < PARTITION_PER_MANIFEST; partition++) {
+        StructLike partitionData = TestHelpers.Row.of(partition);
+        for (int fileOrdinal = 0; fileOrdinal < DATA_FILES_PER_PARTITION_COUNT; fileOrdinal++) {
+          appendFiles.appendFile(FileGenerationUtil.generateDataFile(targetTable, partitionData));
+        }
+      }
+
+      appendFiles.commit();
+    }
+  }
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SortedMap;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFileBloomFilter;
+import org.apache.iceberg.DataFileBloomFilters;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the bloom filter index of a table's current snapshot to its statistics file.
+ *
+ * <p>The index holds one {@link StandardBlobTypes#DATA_FILE_BLOOM_FILTERS_V1} blob per data
+ * manifest and column. The update is incremental: blobs of manifests that are still part of the
+ * snapshot are copied from the index of the closest ancestor snapshot, and only the data files of
+ * new manifests are read.
+ *
+ * <p>Delete files are not applied when filters are built, so a filter may contain values of deleted
+ * rows. This can only cause files to be scanned, never to be pruned incorrectly.
+ *
+ * <p>The filters of a column in one manifest are read together when the manifest is planned, so
+ * both the filter of a file and the filters of a manifest are limited in size. When the filters of
+ * a manifest would exceed the limit, no blob is written for it and its files are not pruned.
+ *
+ * <p>Scans only use the index when {@link
+ * org.apache.iceberg.TableProperties#BLOOM_FILTER_INDEX_ENABLED} is set.
+ */
+public class BloomFilterIndexUpdater extends ManifestStatisticsUpdater<BloomFilterIndexUpdater> {
+  private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIndexUpdater.class);
+  private static final double DEFAULT_FPP = 0.01;
+  private static final int DEFAULT_MAX_BYTES_PER_FILE = 64 * 1024;
+  private static final long DEFAULT_MAX_BYTES_PER_MANIFEST = 64L * 1024 * 1024;
+
+  private double falsePositiveProbability = DEFAULT_FPP;
+  private int maxBytesPerFile = DEFAULT_MAX_BYTES_PER_FILE;
+  private long maxBytesPerManifest = DEFAULT_MAX_BYTES_PER_MANIFEST;
+
+  public BloomFilterIndexUpdater(Table table) {
+    super(table);
+  }
+
+  @Override
+  protected BloomFilterIndexUpdater self() {
+    return this;
+  }
+
+  /**
+   * Sets the desired probability of false positives of the filters of new data files.
+   *
+   * @param newFalsePositiveProbability a probability between 0 and 1, exclusive
+   * @return this for method chaining
+   */
+  public BloomFilterIndexUpdater falsePositiveProbability(double newFalsePositiveProbability) {
+    Preconditions.checkArgument(
+        newFalsePositiveProbability > 0 && newFalsePositiveProbability < 1,
+        "Invalid false positive probability: %s (must be between 0 and 1)",
+        newFalsePositiveProbability);
+    this.falsePositiveProbability = newFalsePositiveProbability;
+    return this;
+  }
+
+  /**
+   * Sets the max size of the filter of a column in one data file.
+   *
+   * @param newMaxBytesPerFile the max size in bytes
+   * @return this for method chaining
+   */
+  public BloomFilterIndexUpdater maxBytesPerFile(int newMaxBytesPerFile) {
+    Preconditions.checkArgument(
+        newMaxBytesPerFile >= Long.BYTES,
+        "Invalid max bytes per file: %s (must be at least 8)",
+        newMaxBytesPerFile);
+    this.maxBytesPerFile = newMaxBytesPerFile;
+    return this;
+  }
+
+  /**
+   * Sets the max size of the filters of a column in the data files of one manifest.
+   *
+   * @param newMaxBytesPerManifest the max size in bytes
+   * @return this for method chaining
+   */
+  public BloomFilterIndexUpdater maxBytesPerManifest(long newMaxBytesPerManifest) {
+    Preconditions.checkArgument(
+        newMaxBytesPerManifest > 0
+            && newMaxBytesPerManifest <= DataFileBloomFilters.MAX_SERIALIZED_SIZE,
+        "Invalid max bytes per manifest: %s (must be positive and at most %s)",
+        newMaxBytesPerManifest,
+        DataFileBloomFilters.MAX_SERIALIZED_SIZE);
+    this.maxBytesPerManifest = newMaxBytesPerManifest;
+    return this;
+  }
+
+  @Override
+  protected String manifestBlobType() {
+    return StandardBlobTypes.DATA_FILE_BLOOM_FILTERS_V1;
+  }
+
+  @Override
+  protected ManifestColumnStats newManifestStats(int fieldId, Type.PrimitiveType type) {
+    return new ManifestFilters(fieldId, type);
+  }
+
+  private class ManifestFilters implements ManifestColumnStats {
+    private final int fieldId;
+    private final Type.PrimitiveType type;
+    private final SortedMap<String, DataFileBloomFilter> filtersByLocation = Maps.newTreeMap();
+    private long serializedSize = Integer.BYTES;
+    private boolean exceedsLimit = false;
+    private DataFileBloomFilter current = null;
+
+    private ManifestFilters(int fieldId, Type.PrimitiveType type) {
+      this.fieldId = fieldId;
+      this.type = type;
+    }
+
+    @Override
+    public void startFile(DataFile file) {
+      if (exceedsLimit) {
+        return;
+      }
+
+      this.current =
+          DataFileBloomFilter.create(file.recordCount(), falsePositiveProbability, maxBytesPerFile);
+      this.serializedSize +=
+          Integer.BYTES
+              + file.location().getBytes(StandardCharsets.UTF_8).length
+              + current.sizeInBytes();
+
+      if (serializedSize > maxBytesPerManifest) {
+        // drop the filters, the files of this manifest are not covered by the index
+        this.exceedsLimit = true;
+        this.current = null;
+        filtersByLocation.clear();
+      } else {
+        filtersByLocation.put(file.location(), current);
+      }
+    }
+
+    @Override
+    public void add(Object value) {
+      if (current != null) {
+        current.put(type, value);
+      }
+    }
+
+    @Override
+    public Blob toBlob(ManifestFile manifest, Snapshot snapshot) {
+      if (exceedsLimit) {
+        LOG.warn(
+            "Skipping bloom filters of column {} for manifest {}: more than {} bytes",
+            fieldId,
+            manifest.path(),
+            maxBytesPerManifest);
+        return null;
+      }
+
+      return DataFileBloomFilters.toBlob(
+          fieldId,
+          type,
+          manifest,
+          snapshot.snapshotId(),
+          snapshot.sequenceNumber(),
+          filtersByLocation);
+    }
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.iceberg.Accessor;
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.GenericBlobMetadata;
+import org.apache.iceberg.GenericStatisticsFile;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.IcebergBuild;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.ManifestReader;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.StatisticsFile;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.BlobMetadata;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinCompressionCodec;
+import org.apache.iceberg.puffin.PuffinReader;
+import org.apache.iceberg.puffin.PuffinWriter;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.SnapshotUtil;
+
+/**
+ * Base class for updaters that keep one Puffin blob per data manifest and column in the statistics
+ * file of a table's current snapshot.
+ *
+ * <p>Manifests and data files are immutable, so the blob of a manifest remains valid for as long as
+ * the manifest is part of a snapshot. Blobs of manifests that are still part of the snapshot are
+ * copied from the statistics file of the closest ancestor snapshot that has them, and only the data
+ * files of new manifests are read. Running an update after each commit therefore reads only newly
+ * added data files.
+ *
+ * <p>Manifest blobs must have a single field and the properties {@code manifest-location} and
+ * {@code column-type}. Blobs written for a different column type are not reused.
+ *
+ * <p>Delete files are not applied when data files are read, so the blobs may include values of
+ * deleted rows. Blobs of other types in the snapshot's existing statistics file are carried over.
+ */
+abstract class ManifestStatisticsUpdater<ThisT> {
+  static final String MANIFEST_LOCATION_PROPERTY = "manifest-location";
+  static final String COLUMN_TYPE_PROPERTY = "column-type";
+
+  private final Table table;
+  private final List<String> columns = Lists.newArrayList();
+
+  ManifestStatisticsUpdater(Table table) {
+    Preconditions.checkArgument(
+        table instanceof HasTableOperations,
+        "Table must have operations to retrieve metadata location");
+    this.table = table;
+  }
+
+  /** Accumulates the values of one column in the data files of one manifest. */
+  interface ManifestColumnStats {
+    /** Called before the values of a data file are added. */
+    void startFile(DataFile file);
+
+    /** Adds a value in Iceberg's internal representation, which may be null. */
+    void add(Object value);
+
+    /** Returns the blob for the manifest, or null if no blob should be written. */
+    Blob toBlob(ManifestFile manifest, Snapshot snapshot);
+  }
+
+  protected abstract ThisT self();
+
+  /** Returns the blob type of the manifest blobs. */
+  protected abstract String manifestBlobType();
+
+  /**
+   * Returns whether a blob of the existing statistics file is replaced by this update, or is
+   * carried over otherwise.
+   */
+  protected boolean isReplaced(BlobMetadata blob, Set<Integer> fieldIds) {
+    return manifestBlobType().equals(blob.type());
+  }
+
+  protected abstract ManifestColumnStats newManifestStats(int fieldId, Type.PrimitiveType type);
+
+  /** Called for each manifest blob that is written, whether it is new or reused. */
+  protected void manifestBlobWritten(Blob blob) {}
+
+  /** Returns blobs that cover the whole snapshot, written after all manifest blobs. */
+  protected List<Blob> snapshotBlobs(Snapshot snapshot) {
+    return ImmutableList.of();
+  }
+
+  /**
+   * Sets the columns to update.
+   *
+   * <p>Manifest blobs of columns that are not set are not carried over.
+   *
+   * @param names the names of primitive columns that are not nested in a list or map
+   * @return this for method chaining
+   */
+  public ThisT columns(String... names) {
+    columns.addAll(ImmutableList.copyOf(names));
+    return self();
+  }
+
+  /**
+   * Writes and commits the statistics file of the current snapshot.
+   *
+   * @return the committed statistics file, or null if the table has no snapshot
+   */
+  public StatisticsFile update() throws IOException {
+    Preconditions.checkState(!columns.isEmpty(), "Cannot update statistics: no columns");
+    Schema schema = table.schema();
+    Map<Integer, Type.PrimitiveType> types = Maps.newLinkedHashMap();
+    for (String column : columns) {
+      Types.NestedField field = schema.findField(column);
+      Preconditions.checkArgument(field != null, "Cannot find column: %s", column);
+      Preconditions.checkArgument(
+          field.type().isPrimitiveType() && schema.accessorForField(field.fieldId()) != null,
+          "Invalid column: %s (must be a primitive not nested in a list or map)",
+          column);
+      types.put(field.fieldId(), field.type().asPrimitiveType());
+    }
+
+    Snapshot snapshot = table.currentSnapshot();
+    if (snapshot == null) {
+      return null;
+    }
+
+    Schema projection = schema.select(columns);
+    StatisticsFile currentFile = statisticsFile(snapshot.snapshotId());
+    StatisticsFile previousFile = previousFile(snapshot);
+    Map<Pair<String, Integer>, BlobMetadata> reusableBlobs = reusableBlobs(previousFile, types);
+
+    OutputFile outputFile = newStatisticsFile(snapshot.snapshotId());
+    try (PuffinWriter writer =
+        Puffin.write(outputFile).createdBy(IcebergBuild.fullVersion()).build()) {
+      List<BlobMetadata> reusedBlobs = Lists.newArrayList();
+      for (ManifestFile manifest : snapshot.dataManifests(table.io())) {
+        Map<Integer, Type.PrimitiveType> missingTypes = Maps.newLinkedHashMap();
+        for (Map.Entry<Integer, Type.PrimitiveType> entry : types.entrySet()) {
+          BlobMetadata blob = reusableBlobs.get(Pair.of(manifest.path(), entry.getKey()));
+          if (blob != null) {
+            reusedBlobs.add(blob);
+          } else {
+            missingTypes.put(entry.getKey(), entry.getValue());
+          }
+        }
+
+        if (!missingTypes.isEmpty()) {
+          for (Blob blob : computeBlobs(snapshot, manifest, projection, missingTypes)) {
+            writer.add(blob);
+            manifestBlobWritten(blob);
+          }
+        }
+      }
+
+      if (previousFile != null) {
+        copyBlobs(writer, previousFile, reusedBlobs, true);
+      }
+
+      snapshotBlobs(snapshot).forEach(writer::add);
+
+      if (currentFile != null) {
+        copyBlobs(writer, currentFile, otherBlobs(currentFile, types.keySet()), false);
+      }
+
+      writer.finish();
+
+      StatisticsFile statisticsFile =
+          new GenericStatisticsFile(
+              snapshot.snapshotId(),
+              outputFile.location(),
+              writer.fileSize(),
+              writer.footerSize(),
+              GenericBlobMetadata.from(writer.writtenBlobsMetadata()));
+      table.updateStatistics().setStatistics(statisticsFile).commit();
+      return statisticsFile;
+    }
+  }
+
+  private List<Blob> computeBlobs(
+      Snapshot snapshot,
+      ManifestFile manifest,
+      Schema projection,
+      Map<Integer, Type.PrimitiveType> types)
+      throws IOException {
+    Map<Integer, ManifestColumnStats> statsById = Maps.newLinkedHashMap();
+    Map<Integer, Accessor<StructLike>> accessors = Maps.newHashMap();
+    for (Map.Entry<Integer, Type.PrimitiveType> entry : types.entrySet()) {
+      statsById.put(entry.getKey(), newManifestStats(entry.getKey(), entry.getValue()));
+      accessors.put(entry.getKey(), projection.accessorForField(entry.getKey()));
+    }
+
+    GenericReader reader =
+        new GenericReader(table.newScan().project(projection), true /* values are not kept */);
+    InternalRecordWrapper wrapper = new InternalRecordWrapper(projection.asStruct());
+    String schemaString = SchemaParser.toJson(table.schema());
+
+    try (ManifestReader<DataFile> files = ManifestFiles.read(manifest, table.io(), table.specs())) {
+      for (DataFile file : files) {
+        statsById.values().forEach(stats -> stats.startFile(file));
+
+        BaseFileScanTask task =
+            new BaseFileScanTask(
+                file,
+                null /* values of deleted rows are included */,
+                schemaString,
+                PartitionSpecParser.toJson(table.specs().get(file.specId())),
+                ResidualEvaluator.unpartitioned(Expressions.alwaysTrue()));
+        try (CloseableIterable<Record> records = reader.open(task)) {
+          for (Record record : records) {
+            wrapper.wrap(record);
+            for (Map.Entry<Integer, ManifestColumnStats> entry : statsById.entrySet()) {
+              entry.getValue().add(accessors.get(entry.getKey()).get(wrapper));
+            }
+          }
+        }
+      }
+    }
+
+    List<Blob> blobs = Lists.newArrayList();
+    for (ManifestColumnStats stats : statsById.values()) {
+      Blob blob = stats.toBlob(manifest, snapshot);
+      if (blob != null) {
+        blobs.add(blob);
+      }
+    }
+
+    return blobs;
+  }
+
+  private void copyBlobs(
+      PuffinWriter writer, StatisticsFile file, List<BlobMetadata> blobs, boolean manifestBlobs)
+      throws IOException {
+    if (blobs.isEmpty()) {
+      return;
+    }
+
+    try (PuffinReader reader = newReader(file)) {
+      for (Pair<BlobMetadata, ByteBuffer> data : reader.readAll(blobs)) {
+        BlobMetadata metadata = data.first();
+        Blob blob =
+            new Blob(
+                metadata.type(),
+                metadata.inputFields(),
+                metadata.snapshotId(),
+                metadata.sequenceNumber(),
+                data.second(),
+                PuffinCompressionCodec.forName(metadata.compressionCodec()),
+                metadata.properties());
+        writer.add(blob);
+        if (manifestBlobs) {
+          manifestBlobWritten(blob);
+        }
+      }
+    }
+  }
+
+  // blobs of manifests that are no longer part of the snapshot are not returned, so they are
+  // dropped from the new statistics file
+  private Map<Pair<String, Integer>, BlobMetadata> reusableBlobs(
+      StatisticsFile file, Map<Integer, Type.PrimitiveType> types) throws IOException {
+    Map<Pair<String, Integer>, BlobMetadata> blobs = Maps.newHashMap();
+    if (file == null) {
+      return blobs;
+    }
+
+    try (PuffinReader reader = newReader(file)) {
+      for (BlobMetadata blob : reader.fileMetadata().blobs()) {
+        if (manifestBlobType().equals(blob.type()) && blob.inputFields().size() == 1) {
+          int fieldId = blob.inputFields().get(0);
+          Type.PrimitiveType type = types.get(fieldId);
+          String typeString = blob.properties().get(COLUMN_TYPE_PROPERTY);
+          String manifestLocation = blob.properties().get(MANIFEST_LOCATION_PROPERTY);
+          if (type != null && type.toString().equals(typeString) && manifestLocation != null) {
+            blobs.put(Pair.of(manifestLocation, fieldId), blob);
+          }
+        }
+      }
+    }
+
+    return blobs;
+  }
+
+  private List<BlobMetadata> otherBlobs(StatisticsFile file, Set<Integer> fieldIds)
+      throws IOException {
+    try (PuffinReader reader = newReader(file)) {
+      List<BlobMetadata> blobs = Lists.newArrayList();
+      for (BlobMetadata blob : reader.fileMetadata().blobs()) {
+        if (!isReplaced(blob, fieldIds)) {
+          blobs.add(blob);
+        }
+      }
+
+      return blobs;
+    }
+  }
+
+  private StatisticsFile previousFile(Snapshot snapshot) {
+    Map<Long, StatisticsFile> filesWithBlobs = Maps.newHashMap();
+    for (StatisticsFile file : table.statisticsFiles()) {
+      if (file.blobMetadata().stream()
+          .anyMatch(blob -> manifestBlobType().equals(blob.type()))) {
+        filesWithBlobs.put(file.snapshotId(), file);
+      }
+    }
+
+    for (Snapshot ancestor : SnapshotUtil.ancestorsOf(snapshot.snapshotId(), table::snapshot)) {
+      StatisticsFile file = filesWithBlobs.get(ancestor.snapshotId());
+      if (file != null) {
+        return file;
+      }
+    }
+
+    return null;
+  }
+
+  private StatisticsFile statisticsFile(long snapshotId) {
+    for (StatisticsFile file : table.statisticsFiles()) {
+      if (file.snapshotId() == snapshotId) {
+        return file;
+      }
+    }
+
+    return null;
+  }
+
+  private OutputFile newStatisticsFile(long snapshotId) {
+    String fileName = String.format(Locale.ROOT, "%d-%s.stats", snapshotId, UUID.randomUUID());
+    return table
+        .io()
+        .newOutputFile(((HasTableOperations) table).operations().metadataFileLocation(fileName));
+  }
+
+  private PuffinReader newReader(StatisticsFile file) {
+    return Puffin.read(table.io().newInputFile(file.path(), file.fileSizeInBytes()))
+        .withFileSize(file.fileSizeInBytes())
+        .withFooterSize(file.fileFooterSizeInBytes())
+        .build();
+  }
+}
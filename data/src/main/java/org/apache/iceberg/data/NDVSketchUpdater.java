@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.datasketches.common.Family;
+import org.apache.datasketches.memory.Memory;
+import org.apache.datasketches.theta.CompactSketch;
+import org.apache.datasketches.theta.SetOperation;
+import org.apache.datasketches.theta.Union;
+import org.apache.datasketches.theta.UpdateSketch;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.StatisticsFile;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.BlobMetadata;
+import org.apache.iceberg.puffin.PuffinCompressionCodec;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * Writes the NDV sketches of a table's current snapshot to its statistics file.
+ *
+ * <p>A {@link StandardBlobTypes#DATA_MANIFEST_THETA_V1} sketch is kept for each data manifest and
+ * column. The sketches of all manifests in the snapshot are merged into one {@link
+ * StandardBlobTypes#APACHE_DATASKETCHES_THETA_V1} blob per column with the {@code ndv} property,
+ * which is what engines read. The update is incremental: sketches of manifests that are still
+ * part of the snapshot are copied from the statistics file of the closest ancestor snapshot, and
+ * only the data files of new manifests are read.
+ *
+ * <p>Delete files are not applied, so the sketches may count values that only occur in deleted
+ * rows. Manifests that are rewritten by a delete are read again, so removed data files are not
+ * counted.
+ */
+public class NDVSketchUpdater extends ManifestStatisticsUpdater<NDVSketchUpdater> {
+  public static final String NDV_PROPERTY = "ndv";
+
+  private final Map<Integer, Union> unionsById = Maps.newLinkedHashMap();
+
+  public NDVSketchUpdater(Table table) {
+    super(table);
+  }
+
+  @Override
+  protected NDVSketchUpdater self() {
+    return this;
+  }
+
+  @Override
+  public StatisticsFile update() throws IOException {
+    unionsById.clear();
+    return super.update();
+  }
+
+  @Override
+  protected String manifestBlobType() {
+    return StandardBlobTypes.DATA_MANIFEST_THETA_V1;
+  }
+
+  @Override
+  protected boolean isReplaced(BlobMetadata blob, Set<Integer> fieldIds) {
+    return super.isReplaced(blob, fieldIds)
+        || (StandardBlobTypes.APACHE_DATASKETCHES_THETA_V1.equals(blob.type())
+            && blob.inputFields().size() == 1
+            && fieldIds.contains(blob.inputFields().get(0)));
+  }
+
+  @Override
+  protected ManifestColumnStats newManifestStats(int fieldId, Type.PrimitiveType type) {
+    return new ManifestSketch(fieldId, type);
+  }
+
+  @Override
+  protected void manifestBlobWritten(Blob blob) {
+    CompactSketch sketch =
+        CompactSketch.wrap(Memory.wrap(ByteBuffers.toByteArray(blob.blobData())));
+    unionsById
+        .computeIfAbsent(blob.inputFields().get(0), id -> SetOperation.builder().buildUnion())
+        .union(sketch);
+  }
+
+  @Override
+  protected List<Blob> snapshotBlobs(Snapshot snapshot) {
+    List<Blob> blobs = Lists.newArrayList();
+    for (Map.Entry<Integer, Union> entry : unionsById.entrySet()) {
+      CompactSketch sketch = entry.getValue().getResult();
+      blobs.add(
+          new Blob(
+              StandardBlobTypes.APACHE_DATASKETCHES_THETA_V1,
+              ImmutableList.of(entry.getKey()),
+              snapshot.snapshotId(),
+              snapshot.sequenceNumber(),
+              ByteBuffer.wrap(sketch.toByteArray()),
+              PuffinCompressionCodec.ZSTD,
+              ImmutableMap.of(NDV_PROPERTY, String.valueOf((long) sketch.getEstimate()))));
+    }
+
+    return blobs;
+  }
+
+  private static class ManifestSketch implements ManifestColumnStats {
+    private final int fieldId;
+    private final Type.PrimitiveType type;
+    private final UpdateSketch sketch = UpdateSketch.builder().setFamily(Family.ALPHA).build();
+
+    private ManifestSketch(int fieldId, Type.PrimitiveType type) {
+      this.fieldId = fieldId;
+      this.type = type;
+    }
+
+    @Override
+    public void startFile(DataFile file) {}
+
+    @Override
+    public void add(Object value) {
+      if (value != null) {
+        sketch.update(Conversions.toByteBuffer(type, value));
+      }
+    }
+
+    @Override
+    public Blob toBlob(ManifestFile manifest, Snapshot snapshot) {
+      return new Blob(
+          StandardBlobTypes.DATA_MANIFEST_THETA_V1,
+          ImmutableList.of(fieldId),
+          snapshot.snapshotId(),
+          snapshot.sequenceNumber(),
+          ByteBuffer.wrap(sketch.compact().toByteArray()),
+          PuffinCompressionCodec.ZSTD,
+          ImmutableMap.of(
+              MANIFEST_LOCATION_PROPERTY, manifest.path(), COLUMN_TYPE_PROPERTY, type.toString()));
+    }
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.iceberg.BlobMetadata;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFileBloomFilters;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.GenericBlobMetadata;
+import org.apache.iceberg.GenericStatisticsFile;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.StatisticsFile;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinReader;
+import org.apache.iceberg.puffin.PuffinWriter;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestBloomFilterIndexUpdater {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.optional(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @TempDir private File tempDir;
+
+  private Table table;
+
+  @BeforeEach
+  public void createTable() throws IOException {
+    File location = java.nio.file.Files.createTempDirectory(tempDir.toPath(), "table").toFile();
+    this.table = TestTables.create(location, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+    table.updateProperties().set(TableProperties.BLOOM_FILTER_INDEX_ENABLED, "true").commit();
+  }
+
+  @AfterEach
+  public void dropTable() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testPruneDataFiles() throws IOException {
+    // both files have the same lower and upper bounds, so only the filters can tell them apart
+    DataFile first = writeDataFile("a", 1, 10);
+    DataFile second = writeDataFile("b", 1, 5, 10);
+    table.newAppend().appendFile(first).appendFile(second).commit();
+
+    assertThat(plannedFiles(Expressions.equal("id", 5))).hasSize(2);
+
+    new BloomFilterIndexUpdater(table).columns("id", "data").update();
+
+    assertThat(plannedFiles(Expressions.equal("id", 5))).containsExactly(second.location());
+    assertThat(plannedFiles(Expressions.equal("id", 7))).isEmpty();
+    assertThat(plannedFiles(Expressions.in("data", "a", "z"))).containsExactly(first.location());
+    assertThat(plannedFiles(Expressions.greaterThan("id", 5))).hasSize(2);
+    assertThat(plannedFiles(Expressions.or(Expressions.equal("id", 5), Expressions.equal("id", 1))))
+        .hasSize(2);
+    Expression idAndData =
+        Expressions.and(Expressions.equal("id", 5), Expressions.equal("data", "a"));
+    assertThat(plannedFiles(idAndData)).isEmpty();
+
+    table.updateProperties().set(TableProperties.BLOOM_FILTER_INDEX_ENABLED, "false").commit();
+    assertThat(plannedFiles(Expressions.equal("id", 7))).hasSize(2);
+  }
+
+  @Test
+  public void testIncrementalUpdate() throws IOException {
+    DataFile first = writeDataFile("a", 1, 10);
+    table.newAppend().appendFile(first).commit();
+    long firstSnapshotId = table.currentSnapshot().snapshotId();
+    new BloomFilterIndexUpdater(table).columns("id").update();
+
+    DataFile second = writeDataFile("b", 1, 5, 10);
+    table.newAppend().appendFile(second).commit();
+
+    // files added after the index was written are not pruned
+    assertThat(plannedFiles(Expressions.equal("id", 5))).containsExactly(second.location());
+    assertThat(plannedFiles(Expressions.equal("id", 7))).containsExactly(second.location());
+
+    StatisticsFile statisticsFile = new BloomFilterIndexUpdater(table).columns("id").update();
+
+    assertThat(statisticsFile.snapshotId()).isEqualTo(table.currentSnapshot().snapshotId());
+    assertThat(statisticsFile.blobMetadata())
+        .extracting(BlobMetadata::sourceSnapshotId)
+        .containsExactlyInAnyOrder(firstSnapshotId, table.currentSnapshot().snapshotId());
+    assertThat(plannedFiles(Expressions.equal("id", 7))).isEmpty();
+  }
+
+  @Test
+  public void testIndexDisabledByDefault() throws IOException {
+    table.updateProperties().remove(TableProperties.BLOOM_FILTER_INDEX_ENABLED).commit();
+    DataFile file = writeDataFile("a", 1, 10);
+    table.newAppend().appendFile(file).commit();
+
+    new BloomFilterIndexUpdater(table).columns("id").update();
+
+    assertThat(plannedFiles(Expressions.equal("id", 7))).containsExactly(file.location());
+  }
+
+  @Test
+  public void testManifestSizeLimit() throws IOException {
+    DataFile first = writeDataFile("a", 1, 10);
+    DataFile second = writeDataFile("b", 1, 5, 10);
+    table.newAppend().appendFile(first).appendFile(second).commit();
+
+    StatisticsFile statisticsFile =
+        new BloomFilterIndexUpdater(table).columns("id").maxBytesPerManifest(64).update();
+
+    // filters that do not fit are not written and the files are scanned
+    assertThat(statisticsFile.blobMetadata()).isEmpty();
+    assertThat(plannedFiles(Expressions.equal("id", 7))).hasSize(2);
+
+    assertThatThrownBy(() -> new BloomFilterIndexUpdater(table).maxBytesPerManifest(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid max bytes per manifest: 0");
+  }
+
+  @Test
+  public void testInvalidBlobIsIgnored() throws IOException {
+    DataFile file = writeDataFile("a", 1, 10);
+    table.newAppend().appendFile(file).commit();
+    Snapshot snapshot = table.currentSnapshot();
+    ManifestFile manifest = snapshot.dataManifests(table.io()).get(0);
+
+    // a filter that claims more words than the blob contains
+    byte[] location = file.location().getBytes(StandardCharsets.UTF_8);
+    ByteBuffer payload = ByteBuffer.allocate(4 + 4 + location.length + 1 + 4);
+    payload.putInt(1).putInt(location.length).put(location).put((byte) 3).putInt(1_000_000);
+    payload.flip();
+
+    OutputFile outputFile =
+        Files.localOutput(new File(tempDir, "invalid-" + snapshot.snapshotId() + ".stats"));
+    StatisticsFile statisticsFile;
+    try (PuffinWriter writer = Puffin.write(outputFile).createdBy("test").build()) {
+      writer.add(
+          new Blob(
+              StandardBlobTypes.DATA_FILE_BLOOM_FILTERS_V1,
+              ImmutableList.of(1),
+              snapshot.snapshotId(),
+              snapshot.sequenceNumber(),
+              payload,
+              null,
+              ImmutableMap.of(
+                  DataFileBloomFilters.MANIFEST_LOCATION_PROPERTY,
+                  manifest.path(),
+                  DataFileBloomFilters.COLUMN_TYPE_PROPERTY,
+                  "int")));
+      writer.finish();
+      statisticsFile =
+          new GenericStatisticsFile(
+              snapshot.snapshotId(),
+              outputFile.location(),
+              writer.fileSize(),
+              writer.footerSize(),
+              GenericBlobMetadata.from(writer.writtenBlobsMetadata()));
+    }
+
+    table.updateStatistics().setStatistics(statisticsFile).commit();
+
+    assertThat(plannedFiles(Expressions.equal("id", 7))).containsExactly(file.location());
+  }
+
+  @Test
+  public void testOtherBlobsAreIgnored() throws IOException {
+    DataFile first = writeDataFile("a", 1, 10);
+    DataFile second = writeDataFile("b", 1, 5, 10);
+    table.newAppend().appendFile(first).appendFile(second).commit();
+    Snapshot snapshot = table.currentSnapshot();
+    StatisticsFile indexFile = new BloomFilterIndexUpdater(table).columns("id").update();
+
+    // copy the filters to a statistics file that also has a blob that does not reference a field
+    OutputFile outputFile =
+        Files.localOutput(new File(tempDir, "mixed-" + snapshot.snapshotId() + ".stats"));
+    StatisticsFile statisticsFile;
+    try (PuffinReader reader = Puffin.read(table.io().newInputFile(indexFile.path())).build();
+        PuffinWriter writer = Puffin.write(outputFile).createdBy("test").build()) {
+      writer.add(
+          new Blob(
+              "other-blob-type",
+              ImmutableList.of(),
+              snapshot.snapshotId(),
+              snapshot.sequenceNumber(),
+              ByteBuffer.wrap(new byte[] {1})));
+      for (Pair<org.apache.iceberg.puffin.BlobMetadata, ByteBuffer> blob :
+          reader.readAll(reader.fileMetadata().blobs())) {
+        org.apache.iceberg.puffin.BlobMetadata metadata = blob.first();
+        writer.add(
+            new Blob(
+                metadata.type(),
+                metadata.inputFields(),
+                metadata.snapshotId(),
+                metadata.sequenceNumber(),
+                blob.second(),
+                null,
+                metadata.properties()));
+      }
+
+      writer.finish();
+      statisticsFile =
+          new GenericStatisticsFile(
+              snapshot.snapshotId(),
+              outputFile.location(),
+              writer.fileSize(),
+              writer.footerSize(),
+              GenericBlobMetadata.from(writer.writtenBlobsMetadata()));
+    }
+
+    table.updateStatistics().setStatistics(statisticsFile).commit();
+
+    assertThat(plannedFiles(Expressions.equal("id", 5))).containsExactly(second.location());
+    assertThat(plannedFiles(Expressions.equal("id", 7))).isEmpty();
+  }
+
+  @Test
+  public void testInvalidColumn() {
+    assertThatThrownBy(() -> new BloomFilterIndexUpdater(table).columns("unknown").update())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot find column: unknown");
+  }
+
+  private List<String> plannedFiles(Expression filter) throws IOException {
+    table.refresh();
+    List<String> locations = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().filter(filter).planFiles()) {
+      for (FileScanTask task : tasks) {
+        locations.add(task.file().location());
+      }
+    }
+
+    return locations;
+  }
+
+  private DataFile writeDataFile(String data, int... ids) throws IOException {
+    Record record = GenericRecord.create(SCHEMA);
+    List<Record> records = Lists.newArrayList();
+    for (int id : ids) {
+      records.add(record.copy("id", id, "data", data));
+    }
+
+    File file = File.createTempFile("junit", ".parquet", tempDir);
+    assertThat(file.delete()).isTrue();
+    return FileHelpers.writeDataFile(table, Files.localOutput(file), records);
+  }
+}
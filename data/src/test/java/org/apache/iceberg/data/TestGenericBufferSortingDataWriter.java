@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.NullOrder;
+import org.apache.iceberg.Parameter;
+import org.apache.iceberg.Parameters;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.TestBase;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriteResult;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.BufferSortingDataWriter;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+
+public class TestGenericBufferSortingDataWriter extends TestBase {
+  private static final Schema OPTIONAL_SCHEMA =
+      new Schema(
+          optional(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+  private static final long TARGET_FILE_SIZE = 128L * 1024 * 1024;
+
+  @Parameter(index = 1)
+  private FileFormat format;
+
+  private OutputFileFactory fileFactory;
+
+  @Parameters(name = "formatVersion = {0}, fileFormat = {1}")
+  public static List<Object> parameters() {
+    return Arrays.asList(
+        new Object[] {2, FileFormat.AVRO},
+        new Object[] {2, FileFormat.ORC},
+        new Object[] {2, FileFormat.PARQUET});
+  }
+
+  @Override
+  @BeforeEach
+  public void setupTable() throws Exception {
+    this.metadataDir = new File(tableDir, "metadata");
+    this.table = create(OPTIONAL_SCHEMA, PartitionSpec.unpartitioned());
+    this.fileFactory = OutputFileFactory.builderFor(table, 1, 1).format(format).build();
+  }
+
+  @TestTemplate
+  public void testRowsSortedByTransformsAndNullOrders() throws IOException {
+    SortOrder sortOrder =
+        SortOrder.builderFor(table.schema())
+            .desc(Expressions.truncate("data", 2), NullOrder.NULLS_FIRST)
+            .asc("id", NullOrder.NULLS_LAST)
+            .build();
+
+    BufferSortingDataWriter<Record> writer =
+        new BufferSortingDataWriter<>(
+            GenericFileWriterFactory.builderFor(table)
+                .dataSchema(table.schema())
+                .dataFileFormat(format)
+                .build(),
+            fileFactory,
+            table.io(),
+            TARGET_FILE_SIZE,
+            table.schema(),
+            sortOrder,
+            record -> record,
+            Record::copy,
+            100);
+
+    try (BufferSortingDataWriter<Record> closeableWriter = writer) {
+      closeableWriter.write(toRow(5, "ab2"), table.spec(), null);
+      closeableWriter.write(toRow(2, null), table.spec(), null);
+      closeableWriter.write(toRow(null, "ab3"), table.spec(), null);
+      closeableWriter.write(toRow(3, "ab0"), table.spec(), null);
+      closeableWriter.write(toRow(4, "cd"), table.spec(), null);
+      closeableWriter.write(toRow(1, "ab1"), table.spec(), null);
+    }
+
+    DataWriteResult result = writer.result();
+    assertThat(result.dataFiles()).hasSize(1);
+
+    AppendFiles append = table.newAppend();
+    result.dataFiles().forEach(append::appendFile);
+    append.commit();
+
+    // nulls first for the descending data prefix, then ascending IDs with nulls last
+    List<Integer> ids = Lists.newArrayList();
+    try (CloseableIterable<Record> reader = IcebergGenerics.read(table).build()) {
+      reader.forEach(record -> ids.add((Integer) record.getField("id")));
+    }
+
+    assertThat(ids).containsExactly(2, 4, 1, 3, 5, null);
+  }
+
+  private Record toRow(Integer id, String data) {
+    GenericRecord record = GenericRecord.create(table.schema());
+    record.setField("id", id);
+    record.setField("data", data);
+    return record;
+  }
+}
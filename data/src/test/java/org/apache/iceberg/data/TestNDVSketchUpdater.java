@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.iceberg.BlobMetadata;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StatisticsFile;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestNDVSketchUpdater {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.optional(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @TempDir private File tempDir;
+
+  private Table table;
+
+  @BeforeEach
+  public void createTable() throws IOException {
+    File location = java.nio.file.Files.createTempDirectory(tempDir.toPath(), "table").toFile();
+    this.table = TestTables.create(location, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+  }
+
+  @AfterEach
+  public void dropTable() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testIncrementalUpdate() throws IOException {
+    table.newAppend().appendFile(writeDataFile("a", 1, 2, 3)).commit();
+    long firstSnapshotId = table.currentSnapshot().snapshotId();
+
+    StatisticsFile first = new NDVSketchUpdater(table).columns("id", "data").update();
+
+    assertThat(ndvs(first)).containsEntry(1, "3").containsEntry(2, "1");
+
+    table.newAppend().appendFile(writeDataFile("b", 3, 4)).commit();
+    StatisticsFile second = new NDVSketchUpdater(table).columns("id", "data").update();
+
+    assertThat(second.snapshotId()).isEqualTo(table.currentSnapshot().snapshotId());
+    assertThat(ndvs(second)).containsEntry(1, "4").containsEntry(2, "2");
+    assertThat(manifestBlobs(second))
+        .extracting(BlobMetadata::sourceSnapshotId)
+        .containsExactlyInAnyOrder(
+            firstSnapshotId, firstSnapshotId, second.snapshotId(), second.snapshotId());
+  }
+
+  @Test
+  public void testDeletedFilesAreNotCounted() throws IOException {
+    DataFile removed = writeDataFile("a", 1, 2, 3);
+    table.newAppend().appendFile(removed).appendFile(writeDataFile("b", 4)).commit();
+    new NDVSketchUpdater(table).columns("id").update();
+
+    table.newDelete().deleteFile(removed).commit();
+    StatisticsFile statisticsFile = new NDVSketchUpdater(table).columns("id").update();
+
+    assertThat(ndvs(statisticsFile)).containsEntry(1, "1");
+  }
+
+  @Test
+  public void testKeepOtherBlobs() throws IOException {
+    table.newAppend().appendFile(writeDataFile("a", 1, 2, 3)).commit();
+    new BloomFilterIndexUpdater(table).columns("id").update();
+
+    StatisticsFile statisticsFile = new NDVSketchUpdater(table).columns("data").update();
+
+    assertThat(statisticsFile.blobMetadata())
+        .extracting(BlobMetadata::type)
+        .containsExactlyInAnyOrder(
+            StandardBlobTypes.DATA_FILE_BLOOM_FILTERS_V1,
+            StandardBlobTypes.DATA_MANIFEST_THETA_V1,
+            StandardBlobTypes.APACHE_DATASKETCHES_THETA_V1);
+  }
+
+  private static Map<Integer, String> ndvs(StatisticsFile statisticsFile) {
+    return statisticsFile.blobMetadata().stream()
+        .filter(blob -> blob.type().equals(StandardBlobTypes.APACHE_DATASKETCHES_THETA_V1))
+        .collect(
+            Collectors.toMap(
+                blob -> blob.fields().get(0),
+                blob -> blob.properties().get(NDVSketchUpdater.NDV_PROPERTY)));
+  }
+
+  private static List<BlobMetadata> manifestBlobs(StatisticsFile statisticsFile) {
+    return statisticsFile.blobMetadata().stream()
+        .filter(blob -> blob.type().equals(StandardBlobTypes.DATA_MANIFEST_THETA_V1))
+        .collect(Collectors.toList());
+  }
+
+  private DataFile writeDataFile(String data, int... ids) throws IOException {
+    Record record = GenericRecord.create(SCHEMA);
+    List<Record> records = Lists.newArrayList();
+    for (int id : ids) {
+      records.add(record.copy("id", id, "data", data));
+    }
+
+    File file = File.createTempFile("junit", ".parquet", tempDir);
+    assertThat(file.delete()).isTrue();
+    return FileHelpers.writeDataFile(table, Files.localOutput(file), records);
+  }
+}
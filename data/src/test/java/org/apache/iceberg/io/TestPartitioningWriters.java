@@ -37,6 +37,7 @@ import org.apache.iceberg.Parameters;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.data.BaseDeleteLoader;
 import org.apache.iceberg.data.DeleteLoader;
@@ -559,6 +560,101 @@ public abstract class TestPartitioningWriters<T> extends WriterTestBase<T> {
     assertThat(actualRowSet("*")).isEqualTo(toSet(expectedRows));
   }
 
+  @TestTemplate
+  public void testFanoutDataWriterMaxOpenWriters() throws IOException {
+    table.updateSpec().addField(Expressions.ref("data")).commit();
+
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    FanoutDataWriter<T> writer =
+        new FanoutDataWriter<>(writerFactory, fileFactory, table.io(), TARGET_FILE_SIZE, 2);
+
+    PartitionSpec spec = table.spec();
+
+    writer.write(toRow(1, "aaa"), spec, partitionKey(spec, "aaa"));
+    writer.write(toRow(2, "bbb"), spec, partitionKey(spec, "bbb"));
+    writer.write(toRow(3, "aaa"), spec, partitionKey(spec, "aaa"));
+    assertThat(writer.openWriters()).isEqualTo(2);
+    // open rolling writers report the length of their current files
+    assertThat(writer.openWriterBytes()).isNotNegative();
+
+    // closes the file for "bbb", which was written least recently
+    writer.write(toRow(4, "ccc"), spec, partitionKey(spec, "ccc"));
+    assertThat(writer.openWriters()).isEqualTo(2);
+    assertThat(writer.evictedWriters()).isEqualTo(1);
+
+    // closes the file for "aaa" and opens a new file for "bbb"
+    writer.write(toRow(5, "bbb"), spec, partitionKey(spec, "bbb"));
+    assertThat(writer.openWriters()).isEqualTo(2);
+    assertThat(writer.evictedWriters()).isEqualTo(2);
+
+    writer.close();
+    assertThat(writer.openWriters()).isEqualTo(0);
+    assertThat(writer.openWriterBytes()).isEqualTo(0L);
+
+    DataWriteResult result = writer.result();
+    assertThat(result.dataFiles()).hasSize(4);
+
+    RowDelta rowDelta = table.newRowDelta();
+    result.dataFiles().forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    List<T> expectedRows =
+        ImmutableList.of(
+            toRow(1, "aaa"), toRow(2, "bbb"), toRow(3, "aaa"), toRow(4, "ccc"), toRow(5, "bbb"));
+    assertThat(actualRowSet("*")).isEqualTo(toSet(expectedRows));
+  }
+
+  @TestTemplate
+  public void testBufferSortingDataWriterOutOfOrderPartitions() throws IOException {
+    checkBufferSortingDataWriter(100, 3);
+  }
+
+  @TestTemplate
+  public void testBufferSortingDataWriterMultipleRuns() throws IOException {
+    // the first run has rows for "aaa" and "bbb", the second for "bbb" and "ccc"
+    checkBufferSortingDataWriter(3, 4);
+  }
+
+  private void checkBufferSortingDataWriter(int maxBufferedRows, int expectedFileCount)
+      throws IOException {
+    table.updateSpec().addField(Expressions.ref("data")).commit();
+
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    BufferSortingDataWriter<T> writer =
+        new BufferSortingDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            TARGET_FILE_SIZE,
+            table.schema(),
+            SortOrder.unsorted(),
+            null,
+            Function.identity(),
+            maxBufferedRows);
+
+    PartitionSpec spec = table.spec();
+
+    writer.write(toRow(1, "aaa"), spec, partitionKey(spec, "aaa"));
+    writer.write(toRow(2, "bbb"), spec, partitionKey(spec, "bbb"));
+    writer.write(toRow(3, "aaa"), spec, partitionKey(spec, "aaa"));
+    writer.write(toRow(4, "ccc"), spec, partitionKey(spec, "ccc"));
+    writer.write(toRow(5, "bbb"), spec, partitionKey(spec, "bbb"));
+
+    writer.close();
+
+    DataWriteResult result = writer.result();
+    assertThat(result.dataFiles()).hasSize(expectedFileCount);
+
+    RowDelta rowDelta = table.newRowDelta();
+    result.dataFiles().forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    List<T> expectedRows =
+        ImmutableList.of(
+            toRow(1, "aaa"), toRow(2, "bbb"), toRow(3, "aaa"), toRow(4, "ccc"), toRow(5, "bbb"));
+    assertThat(actualRowSet("*")).isEqualTo(toSet(expectedRows));
+  }
+
   @TestTemplate
   public void testFanoutPositionOnlyDeleteWriterNoRecordsPartitionGranularity() throws IOException {
     checkFanoutPositionOnlyDeleteWriterNoRecords(DeleteGranularity.PARTITION);
@@ -19,11 +19,20 @@
 package org.apache.iceberg.io;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Parameter;
 import org.apache.iceberg.ParameterizedTestExtension;
@@ -31,7 +40,10 @@ import org.apache.iceberg.Parameters;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
 import org.apache.iceberg.deletes.PositionDelete;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.junit.jupiter.api.BeforeEach;
@@ -122,6 +134,140 @@ public abstract class TestRollingFileWriters<T> extends WriterTestBase<T> {
     assertThat(writer.result().dataFiles()).hasSize(4);
   }
 
+  @TestTemplate
+  public void testParallelRollingDataWriter() throws IOException {
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    ParallelRollingDataWriter<T> writer =
+        new ParallelRollingDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            DEFAULT_FILE_SIZE,
+            table.spec(),
+            partition,
+            3,
+            executorService,
+            Function.identity(),
+            10);
+
+    List<T> rows = Lists.newArrayListWithExpectedSize(100);
+    for (int index = 0; index < 100; index++) {
+      rows.add(toRow(index, PARTITION_VALUE));
+    }
+
+    try (ParallelRollingDataWriter<T> closableWriter = writer) {
+      closableWriter.write(rows);
+    } finally {
+      executorService.shutdown();
+    }
+
+    // call close again to ensure it is idempotent
+    writer.close();
+
+    List<DataFile> dataFiles = writer.result().dataFiles();
+    assertThat(dataFiles).hasSize(3);
+    assertThat(dataFiles.stream().mapToLong(DataFile::recordCount).sum()).isEqualTo(100);
+    assertThat(dataFiles.stream().map(DataFile::location).distinct()).hasSize(3);
+  }
+
+  @TestTemplate
+  public void testParallelRollingDataWriterFewerBatchesThanWriters() throws IOException {
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    ParallelRollingDataWriter<T> writer =
+        new ParallelRollingDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            DEFAULT_FILE_SIZE,
+            table.spec(),
+            partition,
+            3,
+            executorService,
+            Function.identity(),
+            10);
+
+    try (ParallelRollingDataWriter<T> closableWriter = writer) {
+      closableWriter.write(toRow(1, PARTITION_VALUE));
+    } finally {
+      executorService.shutdown();
+    }
+
+    // writers that received no rows do not produce files
+    assertThat(writer.result().dataFiles()).hasSize(1);
+  }
+
+  @TestTemplate
+  public void testParallelRollingDataWriterFailure() throws IOException {
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    AtomicInteger newWriters = new AtomicInteger(0);
+    FileWriterFactory<T> failingWriterFactory =
+        new FileWriterFactory<>() {
+          @Override
+          public DataWriter<T> newDataWriter(
+              EncryptedOutputFile file, PartitionSpec spec, StructLike partition) {
+            // fail when one of the 3 underlying writers rolls to a new file
+            if (newWriters.incrementAndGet() > 3) {
+              throw new RuntimeException("Injected failure");
+            }
+
+            return writerFactory.newDataWriter(file, spec, partition);
+          }
+
+          @Override
+          public EqualityDeleteWriter<T> newEqualityDeleteWriter(
+              EncryptedOutputFile file, PartitionSpec spec, StructLike partition) {
+            return writerFactory.newEqualityDeleteWriter(file, spec, partition);
+          }
+
+          @Override
+          public PositionDeleteWriter<T> newPositionDeleteWriter(
+              EncryptedOutputFile file, PartitionSpec spec, StructLike partition) {
+            return writerFactory.newPositionDeleteWriter(file, spec, partition);
+          }
+        };
+
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    ParallelRollingDataWriter<T> writer =
+        new ParallelRollingDataWriter<>(
+            failingWriterFactory,
+            fileFactory,
+            table.io(),
+            SMALL_FILE_SIZE,
+            table.spec(),
+            partition,
+            3,
+            executorService,
+            Function.identity(),
+            10);
+
+    try {
+      assertThatThrownBy(
+              () -> {
+                try (ParallelRollingDataWriter<T> closableWriter = writer) {
+                  for (int index = 0; index < 4 * FILE_SIZE_CHECK_ROWS_DIVISOR; index++) {
+                    closableWriter.write(toRow(index, PARTITION_VALUE));
+                  }
+                }
+              })
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Injected failure");
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertThatThrownBy(() -> writer.write(toRow(0, PARTITION_VALUE)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot write to a closed writer");
+
+    // files written by the underlying writers before the failure are deleted
+    try (Stream<Path> paths = Files.walk(tableDir.toPath())) {
+      assertThat(paths.filter(path -> path.toString().endsWith(fileFormat.addExtension(""))))
+          .isEmpty();
+    }
+  }
+
   @TestTemplate
   public void testRollingEqualityDeleteWriterNoRecords() throws IOException {
     List<Integer> equalityFieldIds = ImmutableList.of(table.schema().findField("id").fieldId());
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.maintenance.api;
+
+import java.time.Duration;
+import java.util.Map;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.iceberg.actions.DeleteOrphanFiles.PrefixMismatchMode;
+import org.apache.iceberg.flink.maintenance.operator.DeleteOrphanFilesProcessor;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/** Deletes files in the table location which are not reachable from the table metadata. */
+public class DeleteOrphanFiles {
+  private static final Duration MIN_AGE_DEFAULT = Duration.ofDays(3);
+  private static final String EXECUTOR_OPERATOR_NAME = "Delete Orphan Files";
+
+  private DeleteOrphanFiles() {}
+
+  /** Creates the builder for creating a stream which deletes orphan files of the table. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder extends MaintenanceTaskBuilder<DeleteOrphanFiles.Builder> {
+    private String location = null;
+    private Duration minAge = MIN_AGE_DEFAULT;
+    private PrefixMismatchMode prefixMismatchMode = PrefixMismatchMode.ERROR;
+    private final Map<String, String> equalSchemes = Maps.newHashMap();
+    private final Map<String, String> equalAuthorities = Maps.newHashMap();
+    private Integer planningWorkerPoolSize;
+
+    @Override
+    String maintenanceTaskName() {
+      return "DeleteOrphanFiles";
+    }
+
+    /**
+     * The location to scan for orphan files. If not set, the table location is used.
+     *
+     * @param newLocation to scan for orphan files
+     */
+    public Builder location(String newLocation) {
+      this.location = newLocation;
+      return this;
+    }
+
+    /**
+     * Only files older than this age are considered for removal, which should be longer than the
+     * time any write takes to commit. Defaults to 3 days.
+     *
+     * @param newMinAge of the files to be removed
+     */
+    public Builder minAge(Duration newMinAge) {
+      this.minAge = newMinAge;
+      return this;
+    }
+
+    /**
+     * The mode to use when a listed file and a reachable file differ only in scheme or authority.
+     * For more details see {@link
+     * org.apache.iceberg.actions.DeleteOrphanFiles#prefixMismatchMode(PrefixMismatchMode)}.
+     *
+     * @param newPrefixMismatchMode to use
+     */
+    public Builder prefixMismatchMode(PrefixMismatchMode newPrefixMismatchMode) {
+      this.prefixMismatchMode = newPrefixMismatchMode;
+      return this;
+    }
+
+    /**
+     * Schemes which should be considered equal. For more details see {@link
+     * org.apache.iceberg.actions.DeleteOrphanFiles#equalSchemes(Map)}.
+     *
+     * @param newEqualSchemes mapping of schemes to be considered equal
+     */
+    public Builder equalSchemes(Map<String, String> newEqualSchemes) {
+      equalSchemes.putAll(newEqualSchemes);
+      return this;
+    }
+
+    /**
+     * Authorities which should be considered equal. For more details see {@link
+     * org.apache.iceberg.actions.DeleteOrphanFiles#equalAuthorities(Map)}.
+     *
+     * @param newEqualAuthorities mapping of authorities to be considered equal
+     */
+    public Builder equalAuthorities(Map<String, String> newEqualAuthorities) {
+      equalAuthorities.putAll(newEqualAuthorities);
+      return this;
+    }
+
+    /**
+     * The worker pool size used to list files and read manifests. If not set, the shared worker
+     * pool is used.
+     *
+     * @param newPlanningWorkerPoolSize for listing files and reading manifests
+     */
+    public Builder planningWorkerPoolSize(int newPlanningWorkerPoolSize) {
+      this.planningWorkerPoolSize = newPlanningWorkerPoolSize;
+      return this;
+    }
+
+    @Override
+    DataStream<TaskResult> append(DataStream<Trigger> trigger) {
+      Preconditions.checkNotNull(tableLoader(), "TableLoader should not be null");
+
+      return trigger
+          .process(
+              new DeleteOrphanFilesProcessor(
+                  tableLoader(),
+                  location,
+                  minAge.toMillis(),
+                  prefixMismatchMode,
+                  equalSchemes,
+                  equalAuthorities,
+                  planningWorkerPoolSize))
+          .name(operatorName(EXECUTOR_OPERATOR_NAME))
+          .uid(EXECUTOR_OPERATOR_NAME + uidSuffix())
+          .slotSharingGroup(slotSharingGroup())
+          .forceNonParallel();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.maintenance.operator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.api.common.functions.OpenContext;
+import org.apache.flink.streaming.api.functions.ProcessFunction;
+import org.apache.flink.util.Collector;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.BaseDeleteOrphanFilesAction;
+import org.apache.iceberg.actions.DeleteOrphanFiles;
+import org.apache.iceberg.actions.DeleteOrphanFiles.PrefixMismatchMode;
+import org.apache.iceberg.flink.TableLoader;
+import org.apache.iceberg.flink.maintenance.api.TaskResult;
+import org.apache.iceberg.flink.maintenance.api.Trigger;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Calls the {@link BaseDeleteOrphanFilesAction} to find and remove the files in the table location
+ * which are not reachable from the table metadata. Files are listed and deleted by this operator.
+ */
+@Internal
+public class DeleteOrphanFilesProcessor extends ProcessFunction<Trigger, TaskResult> {
+  private static final Logger LOG = LoggerFactory.getLogger(DeleteOrphanFilesProcessor.class);
+
+  private final TableLoader tableLoader;
+  private final String location;
+  private final long minAgeMs;
+  private final PrefixMismatchMode prefixMismatchMode;
+  private final Map<String, String> equalSchemes;
+  private final Map<String, String> equalAuthorities;
+  private final Integer plannerPoolSize;
+  private transient ExecutorService plannerPool;
+  private transient Table table;
+
+  public DeleteOrphanFilesProcessor(
+      TableLoader tableLoader,
+      String location,
+      long minAgeMs,
+      PrefixMismatchMode prefixMismatchMode,
+      Map<String, String> equalSchemes,
+      Map<String, String> equalAuthorities,
+      Integer plannerPoolSize) {
+    Preconditions.checkNotNull(tableLoader, "Table loader should no be null");
+    Preconditions.checkNotNull(prefixMismatchMode, "Prefix mismatch mode should no be null");
+
+    this.tableLoader = tableLoader;
+    this.location = location;
+    this.minAgeMs = minAgeMs;
+    this.prefixMismatchMode = prefixMismatchMode;
+    this.equalSchemes = Maps.newHashMap(equalSchemes);
+    this.equalAuthorities = Maps.newHashMap(equalAuthorities);
+    this.plannerPoolSize = plannerPoolSize;
+  }
+
+  @Override
+  public void open(OpenContext parameters) throws Exception {
+    tableLoader.open();
+    this.table = tableLoader.loadTable();
+    this.plannerPool =
+        plannerPoolSize != null
+            ? ThreadPools.newFixedThreadPool(table.name() + "-table--planner", plannerPoolSize)
+            : ThreadPools.getWorkerPool();
+  }
+
+  @Override
+  public void processElement(Trigger trigger, Context ctx, Collector<TaskResult> out)
+      throws Exception {
+    try {
+      table.refresh();
+      BaseDeleteOrphanFilesAction deleteOrphanFiles =
+          new BaseDeleteOrphanFilesAction(table)
+              .olderThan(ctx.timestamp() - minAgeMs)
+              .prefixMismatchMode(prefixMismatchMode)
+              .equalSchemes(equalSchemes)
+              .equalAuthorities(equalAuthorities)
+              .executePlanWith(plannerPool)
+              // only the number of deleted files is reported
+              .maxOrphanFileLocations(0);
+      if (location != null) {
+        deleteOrphanFiles = deleteOrphanFiles.location(location);
+      }
+
+      DeleteOrphanFiles.Result result = deleteOrphanFiles.execute();
+
+      LOG.info(
+          "Successfully finished deleting orphan files for {} at {}. Deleted {} files.",
+          table,
+          ctx.timestamp(),
+          result.orphanFilesCount());
+      out.collect(
+          new TaskResult(trigger.taskId(), trigger.timestamp(), true, Collections.emptyList()));
+    } catch (Exception e) {
+      LOG.error("Failed to delete orphan files for {} at {}", table, ctx.timestamp(), e);
+      out.collect(
+          new TaskResult(trigger.taskId(), trigger.timestamp(), false, Lists.newArrayList(e)));
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    super.close();
+
+    tableLoader.close();
+    if (plannerPoolSize != null) {
+      plannerPool.shutdown();
+    }
+  }
+}
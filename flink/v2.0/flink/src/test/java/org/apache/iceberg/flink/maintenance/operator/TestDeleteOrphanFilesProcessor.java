@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.maintenance.operator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
+import org.apache.flink.streaming.util.ProcessFunctionTestHarnesses;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.DeleteOrphanFiles.PrefixMismatchMode;
+import org.apache.iceberg.flink.maintenance.api.TaskResult;
+import org.apache.iceberg.flink.maintenance.api.Trigger;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TestDeleteOrphanFilesProcessor extends OperatorTestBase {
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testDeleteOrphanFiles(boolean success) throws Exception {
+    Table table = createTable();
+    insert(table, 1, "a");
+    insert(table, 2, "b");
+
+    String orphanFile = table.location() + "/data/orphan.parquet";
+    try (PositionOutputStream out = table.io().newOutputFile(orphanFile).create()) {
+      out.write(1);
+    }
+
+    List<TaskResult> actual;
+    try (OneInputStreamOperatorTestHarness<Trigger, TaskResult> testHarness =
+        ProcessFunctionTestHarnesses.forProcessFunction(
+            new DeleteOrphanFilesProcessor(
+                tableLoader(),
+                null,
+                0L,
+                PrefixMismatchMode.ERROR,
+                ImmutableMap.of(),
+                ImmutableMap.of(),
+                10))) {
+      testHarness.open();
+
+      if (!success) {
+        // Cause an exception
+        dropTable();
+      }
+
+      testHarness.processElement(Trigger.create(10, 11), System.currentTimeMillis() + 1000);
+      actual = testHarness.extractOutputValues();
+    }
+
+    assertThat(actual).hasSize(1);
+    TaskResult result = actual.get(0);
+    assertThat(result.startEpoch()).isEqualTo(10);
+    assertThat(result.taskIndex()).isEqualTo(11);
+    assertThat(result.success()).isEqualTo(success);
+
+    if (success) {
+      assertThat(result.exceptions()).isNotNull().isEmpty();
+      assertThat(table.io().newInputFile(orphanFile).exists()).isFalse();
+
+      table.refresh();
+      assertThat(table.snapshots()).hasSize(2);
+      assertThat(table.newScan().planFiles()).hasSize(2);
+    } else {
+      assertThat(result.exceptions()).isNotNull().hasSize(1);
+    }
+  }
+}
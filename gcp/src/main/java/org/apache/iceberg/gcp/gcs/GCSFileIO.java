@@ -23,13 +23,14 @@ import com.google.api.client.util.Maps;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.gcp.GCPProperties;
+import org.apache.iceberg.io.BulkDeleter;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.DelegateFileIO;
 import org.apache.iceberg.io.FileInfo;
@@ -41,10 +42,10 @@ import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
-import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.SerializableMap;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -262,28 +263,37 @@ public class GCSFileIO implements DelegateFileIO, SupportsStorageCredentials {
 
   @Override
   public void deletePrefix(String prefix) {
-    internalDeleteFiles(
-        Streams.stream(listPrefix(prefix))
-            .map(fileInfo -> BlobId.fromGsUtilUri(fileInfo.location())));
+    deleteFiles(() -> Streams.stream(listPrefix(prefix)).map(FileInfo::location).iterator());
   }
 
   @Override
   public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
-    internalDeleteFiles(Streams.stream(pathsToDelete).map(BlobId::fromGsUtilUri));
+    // batches are deleted concurrently on the delete worker pool and failed batches are reported
+    // as a BulkDeletionFailureException after all batches complete
+    BulkDeleter.builder(this::deleteBatch)
+        .batchSize(clientForStoragePath(ROOT_STORAGE_PREFIX).gcpProperties().deleteBatchSize())
+        .executeWith(
+            ThreadPools.getDeleteWorkerPool(), ThreadPools.DELETE_WORKER_THREAD_POOL_SIZE)
+        .throttledWhen(GCSFileIO::isThrottled)
+        .build()
+        .deleteFiles(pathsToDelete);
   }
 
   @SuppressWarnings("resource")
-  private void internalDeleteFiles(Stream<BlobId> blobIdsToDelete) {
-    Streams.stream(
-            Iterators.partition(
-                blobIdsToDelete.iterator(),
-                clientForStoragePath(ROOT_STORAGE_PREFIX).gcpProperties().deleteBatchSize()))
-        .forEach(
-            batch -> {
-              if (!batch.isEmpty()) {
-                clientForStoragePath(batch.get(0).toGsUtilUri()).storage().delete(batch);
-              }
-            });
+  private List<String> deleteBatch(String bucketLocation, List<String> paths) {
+    List<BlobId> blobIds = paths.stream().map(BlobId::fromGsUtilUri).collect(Collectors.toList());
+    // blobs that do not exist are reported as not deleted, which is not a failure
+    clientForStoragePath(paths.get(0)).storage().delete(blobIds);
+    return ImmutableList.of();
+  }
+
+  private static boolean isThrottled(Throwable thrown) {
+    if (thrown instanceof StorageException) {
+      int code = ((StorageException) thrown).getCode();
+      return code == 429 || code == 503;
+    }
+
+    return false;
   }
 
   @Override
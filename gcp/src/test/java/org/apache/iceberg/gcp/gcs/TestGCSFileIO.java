@@ -24,9 +24,13 @@ import static org.apache.iceberg.gcp.GCPProperties.GCS_OAUTH2_REFRESH_CREDENTIAL
 import static org.apache.iceberg.gcp.GCPProperties.GCS_OAUTH2_TOKEN;
 import static org.apache.iceberg.gcp.GCPProperties.GCS_OAUTH2_TOKEN_EXPIRES_AT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.OAuth2Credentials;
@@ -34,6 +38,7 @@ import com.google.auth.oauth2.OAuth2CredentialsWithRefresh;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
 import java.io.IOException;
 import java.io.InputStream;
@@ -50,6 +55,8 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.TestHelpers;
 import org.apache.iceberg.common.DynMethods;
+import org.apache.iceberg.gcp.GCPProperties;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.InputFile;
@@ -64,6 +71,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.invocation.InvocationOnMock;
 
 public class TestGCSFileIO {
   private static final String TEST_BUCKET = "TEST_BUCKET";
@@ -76,18 +84,7 @@ public class TestGCSFileIO {
   @BeforeEach
   public void before() {
     // LocalStorageHelper doesn't support batch operations, so mock that here
-    doAnswer(
-            invoke -> {
-              Iterable<BlobId> iter = invoke.getArgument(0);
-              List<Boolean> answer = Lists.newArrayList();
-              iter.forEach(
-                  blobId -> {
-                    answer.add(storage.delete(blobId));
-                  });
-              return answer;
-            })
-        .when(storage)
-        .delete(any(Iterable.class));
+    doAnswer(this::deleteBlobs).when(storage).delete(any(Iterable.class));
 
     io = new GCSFileIO(() -> storage);
   }
@@ -185,6 +182,51 @@ public class TestGCSFileIO {
         .isEqualTo(1);
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testDeleteFilesInParallelBatches() {
+    io.initialize(ImmutableMap.of(GCPProperties.GCS_DELETE_BATCH_SIZE, "2"));
+    List<String> deletes = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      String path = "del/batch/data" + i + ".dat";
+      storage.create(BlobInfo.newBuilder(TEST_BUCKET, path).build());
+      deletes.add(gsUri(path));
+    }
+
+    // batches are deleted concurrently on the delete worker pool
+    io.deleteFiles(deletes);
+
+    verify(storage, times(3)).delete(any(Iterable.class));
+    assertThat(io.listPrefix(gsUri("del/batch/"))).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testDeleteFilesRetriesThrottledBatches() {
+    String path = "del/throttled/data.dat";
+    storage.create(BlobInfo.newBuilder(TEST_BUCKET, path).build());
+    doThrow(new StorageException(429, "Too many requests"))
+        .doAnswer(this::deleteBlobs)
+        .when(storage)
+        .delete(any(Iterable.class));
+
+    io.deleteFiles(ImmutableList.of(gsUri(path)));
+
+    verify(storage, times(2)).delete(any(Iterable.class));
+    assertThat(io.listPrefix(gsUri("del/throttled/"))).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testDeleteFilesFailure() {
+    doThrow(new StorageException(500, "Internal error")).when(storage).delete(any(Iterable.class));
+
+    assertThatThrownBy(() -> io.deleteFiles(ImmutableList.of(gsUri("a.dat"), gsUri("b.dat"))))
+        .isInstanceOf(BulkDeletionFailureException.class)
+        .extracting(e -> ((BulkDeletionFailureException) e).numberFailedObjects())
+        .isEqualTo(2);
+  }
+
   @Test
   public void testDeletePrefix() {
     String prefix = "del/path/";
@@ -536,4 +578,11 @@ public class TestGCSFileIO {
         .extracting(GCSFileIO::credentials)
         .isEqualTo(storageCredentials);
   }
+
+  private List<Boolean> deleteBlobs(InvocationOnMock invocation) {
+    Iterable<BlobId> blobIds = invocation.getArgument(0);
+    List<Boolean> deleted = Lists.newArrayList();
+    blobIds.forEach(blobId -> deleted.add(storage.delete(blobId)));
+    return deleted;
+  }
 }
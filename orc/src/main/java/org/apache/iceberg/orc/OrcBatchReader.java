@@ -27,4 +27,7 @@ public interface OrcBatchReader<T> {
   T read(VectorizedRowBatch batch);
 
   void setBatchContext(long batchOffsetInFile);
+
+  /** Releases resources held by the reader after the last batch was consumed. */
+  default void close() {}
 }
@@ -104,13 +104,8 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
     VectorizedRowBatchIterator rowBatchIterator =
         newOrcIterator(file, readOrcSchema, start, length, orcFileReader, sarg, recordsPerBatch);
     if (batchReaderFunction != null) {
-      OrcBatchReader<T> batchReader = (OrcBatchReader<T>) batchReaderFunction.apply(readOrcSchema);
-      return CloseableIterator.transform(
-          rowBatchIterator,
-          pair -> {
-            batchReader.setBatchContext(pair.second());
-            return batchReader.read(pair.first());
-          });
+      return new OrcBatchIterator<>(
+          rowBatchIterator, (OrcBatchReader<T>) batchReaderFunction.apply(readOrcSchema));
     } else {
       return new OrcRowIterator<>(
           rowBatchIterator, (OrcRowReader<T>) readerFunction.apply(readOrcSchema));
@@ -140,6 +135,37 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
     }
   }
 
+  private static class OrcBatchIterator<T> implements CloseableIterator<T> {
+    private final VectorizedRowBatchIterator batchIter;
+    private final OrcBatchReader<T> reader;
+
+    OrcBatchIterator(VectorizedRowBatchIterator batchIter, OrcBatchReader<T> reader) {
+      this.batchIter = batchIter;
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return batchIter.hasNext();
+    }
+
+    @Override
+    public T next() {
+      Pair<VectorizedRowBatch, Long> nextBatch = batchIter.next();
+      reader.setBatchContext(nextBatch.second());
+      return reader.read(nextBatch.first());
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        batchIter.close();
+      } finally {
+        reader.close();
+      }
+    }
+  }
+
   private static class OrcRowIterator<T> implements CloseableIterator<T> {
 
     private int nextRow;
@@ -23,13 +23,17 @@ import org.apache.iceberg.data.parquet.InternalWriter;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.ParquetUtil;
 
 public class InternalParquet {
   private InternalParquet() {}
 
   public static void register() {
     InternalData.register(
-        FileFormat.PARQUET, InternalParquet::writeInternal, InternalParquet::readInternal);
+        FileFormat.PARQUET,
+        InternalParquet::writeInternal,
+        InternalParquet::readInternal,
+        ParquetUtil::keyValueMetadata);
   }
 
   private static Parquet.WriteBuilder writeInternal(OutputFile outputFile) {
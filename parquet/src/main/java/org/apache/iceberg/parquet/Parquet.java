@@ -56,6 +56,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -165,6 +166,7 @@ public class Parquet {
     private String name = "table";
     private WriteSupport<?> writeSupport = null;
     private BiFunction<Schema, MessageType, ParquetValueWriter<?>> createWriterFunc = null;
+    private BiFunction<Schema, MessageType, VectorizedWriter<?>> createBatchedWriterFunc = null;
     private MetricsConfig metricsConfig = MetricsConfig.getDefault();
     private ParquetFileWriter.Mode writeMode = ParquetFileWriter.Mode.CREATE;
     private WriterVersion writerVersion = WriterVersion.PARQUET_1_0;
@@ -249,6 +251,30 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets a function that creates a {@link VectorizedWriter} for the file schema.
+     *
+     * <p>Appenders built with a batched writer accept batches of rows, which are written to the
+     * file one column at a time.
+     *
+     * @param newCreateBatchedWriterFunc a function that creates a writer for a Parquet schema
+     * @return this for method chaining
+     */
+    public WriteBuilder createBatchedWriterFunc(
+        Function<MessageType, VectorizedWriter<?>> newCreateBatchedWriterFunc) {
+      if (newCreateBatchedWriterFunc != null) {
+        this.createBatchedWriterFunc =
+            (icebergSchema, type) -> newCreateBatchedWriterFunc.apply(type);
+      }
+      return this;
+    }
+
+    public WriteBuilder createBatchedWriterFunc(
+        BiFunction<Schema, MessageType, VectorizedWriter<?>> newCreateBatchedWriterFunc) {
+      this.createBatchedWriterFunc = newCreateBatchedWriterFunc;
+      return this;
+    }
+
     public WriteBuilder metricsConfig(MetricsConfig newMetricsConfig) {
       this.metricsConfig = newMetricsConfig;
       return this;
@@ -418,9 +444,12 @@ public class Parquet {
                       col -> schema.findColumnName(col.getPrimitiveType().getId().intValue()),
                       col -> String.join(".", col.getPath())));
 
-      if (createWriterFunc != null) {
+      if (createWriterFunc != null || createBatchedWriterFunc != null) {
         Preconditions.checkArgument(
             writeSupport == null, "Cannot write with both write support and Parquet value writer");
+        Preconditions.checkArgument(
+            createWriterFunc == null || createBatchedWriterFunc == null,
+            "Cannot write with both Parquet value writer and batched writer");
 
         for (Map.Entry<String, String> entry : config.entrySet()) {
           conf.set(entry.getKey(), entry.getValue());
@@ -455,6 +484,7 @@ public class Parquet {
             rowGroupSize,
             metadata,
             createWriterFunc,
+            createBatchedWriterFunc,
             codec,
             parquetProperties,
             metricsConfig,
@@ -1158,6 +1188,8 @@ public class Parquet {
     private boolean callInit = false;
     private boolean reuseContainers = false;
     private int maxRecordsPerBatch = 10000;
+    private int rowGroupParallelism = 1;
+    private ExecutorService rowGroupExecutor = null;
     private NameMapping nameMapping = null;
     private ByteBuffer fileEncryptionKey = null;
     private ByteBuffer fileAADPrefix = null;
@@ -1274,6 +1306,39 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets the maximum number of row groups that are decoded concurrently by a batched reader.
+     *
+     * <p>Batches are returned in file order. Batched readers must support {@link
+     * VectorizedReader#supportsDetachedBatches() detached batches} to decode row groups in
+     * parallel, and containers are not reused when more than one row group is decoded at a time.
+     * An executor must be set using {@link #rowGroupExecutor(ExecutorService)} when the parallelism
+     * is greater than 1.
+     *
+     * @param parallelism the maximum number of row groups to decode concurrently
+     * @return this builder for method chaining
+     */
+    public ReadBuilder rowGroupParallelism(int parallelism) {
+      Preconditions.checkArgument(
+          parallelism > 0, "Invalid row group parallelism: %s (must be > 0)", parallelism);
+      this.rowGroupParallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the executor used to decode row groups in parallel.
+     *
+     * <p>Decoding tasks wait for their batches to be consumed, so a dedicated executor should be
+     * used rather than a pool that is shared with other work.
+     *
+     * @param executor an executor service
+     * @return this builder for method chaining
+     */
+    public ReadBuilder rowGroupExecutor(ExecutorService executor) {
+      this.rowGroupExecutor = executor;
+      return this;
+    }
+
     public ReadBuilder withNameMapping(NameMapping newNameMapping) {
       this.nameMapping = newNameMapping;
       return this;
@@ -1361,7 +1426,9 @@ public class Parquet {
               filter,
               reuseContainers,
               caseSensitive,
-              maxRecordsPerBatch);
+              maxRecordsPerBatch,
+              rowGroupParallelism,
+              rowGroupExecutor);
         } else {
           Function<MessageType, ParquetValueReader<?>> readBuilder =
               readerFuncWithSchema != null
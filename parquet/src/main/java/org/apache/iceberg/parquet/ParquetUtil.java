@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -59,6 +60,20 @@ public class ParquetUtil {
     return fileMetrics(file, metricsConfig, null);
   }
 
+  /**
+   * Returns the key-value metadata stored in the footer of a Parquet file.
+   *
+   * @param file a Parquet file
+   * @return the key-value metadata of the file
+   */
+  public static Map<String, String> keyValueMetadata(InputFile file) {
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      return reader.getFooter().getFileMetaData().getKeyValueMetaData();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read footer of file: %s", file.location());
+    }
+  }
+
   public static Metrics fileMetrics(
       InputFile file, MetricsConfig metricsConfig, NameMapping nameMapping) {
     try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
@@ -53,6 +53,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final CodecFactory.BytesCompressor compressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
+  private final VectorizedWriter<T> batchModel;
   private final MetricsConfig metricsConfig;
   private final int columnIndexTruncateLength;
   private final ParquetFileWriter.Mode writeMode;
@@ -80,6 +81,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       long rowGroupSize,
       Map<String, String> metadata,
       BiFunction<Schema, MessageType, ParquetValueWriter<?>> createWriterFunc,
+      BiFunction<Schema, MessageType, VectorizedWriter<?>> createBatchedWriterFunc,
       CompressionCodecName codec,
       ParquetProperties properties,
       MetricsConfig metricsConfig,
@@ -92,7 +94,13 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     this.compressor =
         new ParquetCodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
     this.parquetSchema = parquetSchema;
-    this.model = (ParquetValueWriter<T>) createWriterFunc.apply(schema, parquetSchema);
+    if (createBatchedWriterFunc != null) {
+      this.model = null;
+      this.batchModel = (VectorizedWriter<T>) createBatchedWriterFunc.apply(schema, parquetSchema);
+    } else {
+      this.model = (ParquetValueWriter<T>) createWriterFunc.apply(schema, parquetSchema);
+      this.batchModel = null;
+    }
     this.metricsConfig = metricsConfig;
     this.columnIndexTruncateLength =
         conf.getInt(COLUMN_INDEX_TRUNCATE_LENGTH, DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
@@ -134,9 +142,19 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
 
   @Override
   public void add(T value) {
-    recordCount += 1;
-    model.write(0, value);
-    writeStore.endRecord();
+    if (batchModel != null) {
+      int numRows = batchModel.write(value);
+      for (int i = 0; i < numRows; i += 1) {
+        writeStore.endRecord();
+      }
+
+      recordCount += numRows;
+    } else {
+      recordCount += 1;
+      model.write(0, value);
+      writeStore.endRecord();
+    }
+
     checkSize();
   }
 
@@ -145,7 +163,11 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     Preconditions.checkState(closed, "Cannot return metrics for unclosed writer");
     if (writer != null) {
       return ParquetMetrics.metrics(
-          schema, parquetSchema, metricsConfig, writer.getFooter(), model.metrics());
+          schema,
+          parquetSchema,
+          metricsConfig,
+          writer.getFooter(),
+          batchModel != null ? batchModel.metrics() : model.metrics());
     }
     return EMPTY_METRICS;
   }
@@ -248,7 +270,11 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
 
     this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore, pageStore);
 
-    model.setColumnStore(writeStore);
+    if (batchModel != null) {
+      batchModel.setColumnStore(writeStore);
+    } else {
+      model.setColumnStore(writeStore);
+    }
   }
 
   @Override
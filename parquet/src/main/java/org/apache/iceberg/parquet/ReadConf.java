@@ -48,6 +48,8 @@ class ReadConf<T> {
   private final InputFile file;
   private final ParquetReadOptions options;
   private final MessageType projection;
+  private final MessageType typeWithIds;
+  private final Function<MessageType, VectorizedReader<?>> batchedReaderFunc;
   private final ParquetValueReader<T> model;
   private final VectorizedReader<T> vectorizedModel;
   private final List<BlockMetaData> rowGroups;
@@ -76,15 +78,14 @@ class ReadConf<T> {
     this.reader = newReader(file, options);
     MessageType fileSchema = reader.getFileMetaData().getSchema();
 
-    MessageType typeWithIds;
     if (ParquetSchemaUtil.hasIds(fileSchema)) {
-      typeWithIds = fileSchema;
+      this.typeWithIds = fileSchema;
       this.projection = ParquetSchemaUtil.pruneColumns(fileSchema, expectedSchema);
     } else if (nameMapping != null) {
-      typeWithIds = ParquetSchemaUtil.applyNameMapping(fileSchema, nameMapping);
+      this.typeWithIds = ParquetSchemaUtil.applyNameMapping(fileSchema, nameMapping);
       this.projection = ParquetSchemaUtil.pruneColumns(typeWithIds, expectedSchema);
     } else {
-      typeWithIds = ParquetSchemaUtil.addFallbackIds(fileSchema);
+      this.typeWithIds = ParquetSchemaUtil.addFallbackIds(fileSchema);
       this.projection = ParquetSchemaUtil.pruneColumnsFallback(fileSchema, expectedSchema);
     }
 
@@ -117,6 +118,7 @@ class ReadConf<T> {
     }
 
     this.totalValues = computedTotalValues;
+    this.batchedReaderFunc = batchedReaderFunc;
     if (readerFunc != null) {
       this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
       this.vectorizedModel = null;
@@ -136,6 +138,8 @@ class ReadConf<T> {
     this.file = toCopy.file;
     this.options = toCopy.options;
     this.projection = toCopy.projection;
+    this.typeWithIds = toCopy.typeWithIds;
+    this.batchedReaderFunc = toCopy.batchedReaderFunc;
     this.model = toCopy.model;
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
@@ -165,6 +169,26 @@ class ReadConf<T> {
     return vectorizedModel;
   }
 
+  /**
+   * Opens a new {@link ParquetFileReader} for the projected columns that is not shared with this
+   * configuration.
+   */
+  ParquetFileReader newFileReader() {
+    ParquetFileReader newReader = newReader(file, options);
+    newReader.setRequestedSchema(projection);
+    return newReader;
+  }
+
+  /** Creates a new vectorized model that is not shared with this configuration. */
+  @SuppressWarnings("unchecked")
+  VectorizedReader<T> newVectorizedModel() {
+    return (VectorizedReader<T>) batchedReaderFunc.apply(typeWithIds);
+  }
+
+  List<BlockMetaData> rowGroups() {
+    return rowGroups;
+  }
+
   boolean[] shouldSkip() {
     return shouldSkip;
   }
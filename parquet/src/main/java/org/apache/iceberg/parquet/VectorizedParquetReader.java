@@ -19,9 +19,17 @@
 package org.apache.iceberg.parquet;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -32,6 +40,9 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.base.Throwables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
@@ -49,6 +60,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private final boolean caseSensitive;
   private final int batchSize;
   private final NameMapping nameMapping;
+  private final int rowGroupParallelism;
+  private final ExecutorService rowGroupExecutor;
 
   public VectorizedParquetReader(
       InputFile input,
@@ -60,6 +73,53 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       boolean reuseContainers,
       boolean caseSensitive,
       int maxRecordsPerBatch) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        maxRecordsPerBatch,
+        1,
+        null);
+  }
+
+  /**
+   * Creates a reader that decodes up to {@code rowGroupParallelism} row groups concurrently.
+   *
+   * <p>When decoding row groups in parallel, each concurrently decoded row group uses its own file
+   * reader and batch reader, created by {@code readerFunc}. Containers are never reused and
+   * batches are still returned in file order. A returned batch is closed by this reader before the
+   * next batch is returned. Row groups are decoded one at a time if the batch reader does not
+   * {@link VectorizedReader#supportsDetachedBatches() support detached batches}.
+   *
+   * @param rowGroupParallelism the maximum number of row groups to decode concurrently
+   * @param rowGroupExecutor the executor used to decode row groups, required if {@code
+   *     rowGroupParallelism} is greater than 1
+   */
+  public VectorizedParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, VectorizedReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      int maxRecordsPerBatch,
+      int rowGroupParallelism,
+      ExecutorService rowGroupExecutor) {
+    Preconditions.checkArgument(
+        rowGroupParallelism > 0,
+        "Invalid row group parallelism: %s (must be > 0)",
+        rowGroupParallelism);
+    Preconditions.checkArgument(
+        rowGroupParallelism == 1 || rowGroupExecutor != null,
+        "Invalid row group executor: null (required when row group parallelism is %s)",
+        rowGroupParallelism);
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -70,6 +130,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     this.caseSensitive = caseSensitive;
     this.batchSize = maxRecordsPerBatch;
     this.nameMapping = nameMapping;
+    this.rowGroupParallelism = rowGroupParallelism;
+    this.rowGroupExecutor = rowGroupExecutor;
   }
 
   private ReadConf conf = null;
@@ -96,7 +158,14 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
 
   @Override
   public CloseableIterator<T> iterator() {
-    FileIterator<T> iter = new FileIterator<>(init());
+    ReadConf readConf = init();
+    CloseableIterator<T> iter;
+    if (rowGroupParallelism > 1 && readConf.vectorizedModel().supportsDetachedBatches()) {
+      iter = new ParallelFileIterator<>(readConf, rowGroupParallelism, rowGroupExecutor);
+    } else {
+      iter = new FileIterator<>(readConf);
+    }
+
     addCloseable(iter);
     return iter;
   }
@@ -174,4 +243,305 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       reader.close();
     }
   }
+
+  /**
+   * Iterates over the batches of a file while decoding up to {@code parallelism} row groups
+   * concurrently.
+   *
+   * <p>Row groups are assigned round-robin to reader slots, which each own a file reader and a
+   * batch reader. Each row group is decoded into a bounded queue of detached batches and row groups
+   * are consumed in file order, so a slot is reused only after all batches of its previous row
+   * group were returned.
+   */
+  private static class ParallelFileIterator<T> implements CloseableIterator<T> {
+    private static final int MAX_QUEUED_BATCHES_PER_ROW_GROUP = 2;
+
+    private final ReadConf<T> conf;
+    private final ExecutorService executor;
+    private final List<ReaderSlot<T>> slots;
+    private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetadata;
+    private final List<Integer> rowGroupsToRead;
+    private final Deque<RowGroupTask<T>> pending = new ArrayDeque<>();
+    private final long totalValues;
+    private final int batchSize;
+    private int nextRowGroupToSubmit = 0;
+    private RowGroupTask<T> current = null;
+    private long nextRowGroupStart = 0;
+    private long valuesRead = 0;
+    private T last = null;
+
+    ParallelFileIterator(ReadConf<T> conf, int parallelism, ExecutorService executor) {
+      this.conf = conf;
+      this.executor = executor;
+      this.totalValues = conf.totalValues();
+      this.batchSize = conf.batchSize();
+      this.columnChunkMetadata = conf.columnChunkMetadataForRowGroups();
+
+      boolean[] shouldSkip = conf.shouldSkip();
+      this.rowGroupsToRead = Lists.newArrayList();
+      for (int i = 0; i < shouldSkip.length; i += 1) {
+        if (!shouldSkip[i]) {
+          rowGroupsToRead.add(i);
+        }
+      }
+
+      int numSlots = Math.max(1, Math.min(parallelism, rowGroupsToRead.size()));
+      this.slots = Lists.newArrayListWithCapacity(numSlots);
+      for (int i = 0; i < numSlots; i += 1) {
+        // the first slot uses the reader and model of the read conf so that they are closed
+        VectorizedReader<T> model = i == 0 ? conf.vectorizedModel() : conf.newVectorizedModel();
+        model.setBatchSize(batchSize);
+        model.setDetachedBatches(true);
+        slots.add(new ReaderSlot<>(i == 0 ? conf.reader() : null, model));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return valuesRead < totalValues;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      // the previous batch is detached from its reader and must be released here
+      release(last);
+      this.last = null;
+
+      if (valuesRead >= nextRowGroupStart) {
+        advance();
+      }
+
+      // batchSize is an integer, so casting to integer is safe
+      int numValuesToRead = (int) Math.min(nextRowGroupStart - valuesRead, batchSize);
+      this.last = current.take();
+      valuesRead += numValuesToRead;
+
+      return last;
+    }
+
+    private void advance() {
+      if (current != null) {
+        // all batches were consumed; wait for the task to finish before its slot is reused
+        current.awaitCompletion();
+      }
+
+      while (pending.size() < slots.size() && nextRowGroupToSubmit < rowGroupsToRead.size()) {
+        int rowGroup = rowGroupsToRead.get(nextRowGroupToSubmit);
+        RowGroupTask<T> task =
+            new RowGroupTask<>(
+                conf,
+                slots.get(nextRowGroupToSubmit % slots.size()),
+                rowGroup,
+                columnChunkMetadata.get(rowGroup),
+                batchSize);
+        task.submit(executor);
+        pending.addLast(task);
+        nextRowGroupToSubmit += 1;
+      }
+
+      this.current = pending.removeFirst();
+      nextRowGroupStart += current.rowCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (current != null) {
+        pending.addFirst(current);
+        this.current = null;
+      }
+
+      for (RowGroupTask<T> task : pending) {
+        task.cancel();
+      }
+
+      for (RowGroupTask<T> task : pending) {
+        task.awaitCompletion();
+        task.releaseQueued();
+      }
+
+      pending.clear();
+      release(last);
+      this.last = null;
+
+      for (ReaderSlot<T> slot : slots) {
+        slot.close();
+      }
+    }
+  }
+
+  private static class ReaderSlot<T> {
+    private final VectorizedReader<T> model;
+    private ParquetFileReader reader;
+
+    private ReaderSlot(ParquetFileReader reader, VectorizedReader<T> model) {
+      this.reader = reader;
+      this.model = model;
+    }
+
+    private ParquetFileReader reader(ReadConf<T> conf) {
+      if (reader == null) {
+        // opened lazily by the decoding thread so that footers are read in parallel
+        this.reader = conf.newFileReader();
+      }
+
+      return reader;
+    }
+
+    private void close() throws IOException {
+      model.close();
+      if (reader != null) {
+        reader.close();
+      }
+    }
+  }
+
+  private static class RowGroupTask<T> implements Runnable {
+    private static final Object FAILED = new Object();
+    private static final long POLL_TIMEOUT_MS = 10;
+
+    private final ReadConf<T> conf;
+    private final ReaderSlot<T> slot;
+    private final int rowGroup;
+    private final Map<ColumnPath, ColumnChunkMetaData> metadata;
+    private final int batchSize;
+    private final BlockingQueue<Object> batches =
+        new ArrayBlockingQueue<>(ParallelFileIterator.MAX_QUEUED_BATCHES_PER_ROW_GROUP);
+    private volatile boolean cancelled = false;
+    private volatile Throwable failure = null;
+    private CompletableFuture<Void> future = null;
+
+    private RowGroupTask(
+        ReadConf<T> conf,
+        ReaderSlot<T> slot,
+        int rowGroup,
+        Map<ColumnPath, ColumnChunkMetaData> metadata,
+        int batchSize) {
+      this.conf = conf;
+      this.slot = slot;
+      this.rowGroup = rowGroup;
+      this.metadata = metadata;
+      this.batchSize = batchSize;
+    }
+
+    private long rowCount() {
+      return conf.rowGroups().get(rowGroup).getRowCount();
+    }
+
+    private void submit(ExecutorService executor) {
+      this.future = CompletableFuture.runAsync(this, executor);
+    }
+
+    @Override
+    public void run() {
+      if (cancelled) {
+        return;
+      }
+
+      try {
+        PageReadStore pages = slot.reader(conf).readRowGroup(rowGroup);
+        slot.model.setRowGroupInfo(pages, metadata);
+
+        long remaining = pages.getRowCount();
+        while (remaining > 0) {
+          int numValuesToRead = (int) Math.min(remaining, batchSize);
+          T batch = slot.model.read(null, numValuesToRead);
+          if (!enqueue(batch)) {
+            release(batch);
+            return;
+          }
+
+          remaining -= numValuesToRead;
+        }
+      } catch (IOException e) {
+        fail(new RuntimeIOException(e, "Failed to read row group %s", rowGroup));
+      } catch (Throwable t) {
+        // errors must also be passed to the consumer, which would otherwise wait for the next batch
+        fail(t);
+      }
+    }
+
+    private void fail(Throwable cause) {
+      this.failure = cause;
+      enqueue(FAILED);
+    }
+
+    /** Adds an item to the queue, waiting for space. Returns false if the task was cancelled. */
+    private boolean enqueue(Object item) {
+      try {
+        while (!cancelled) {
+          if (batches.offer(item, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            return true;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take() {
+      Object next = null;
+      try {
+        while (next == null) {
+          // check completion before polling so that a batch added by a finished task is not missed
+          boolean done = future.isDone();
+          next = batches.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+          if (next == null && done) {
+            awaitCompletion();
+            throw new IllegalStateException(
+                "Failed to decode row group " + rowGroup + ": task completed without a batch");
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while decoding row group " + rowGroup, e);
+      }
+
+      if (next == FAILED) {
+        Throwables.throwIfUnchecked(failure);
+        throw new RuntimeException("Failed to decode row group " + rowGroup, failure);
+      }
+
+      return (T) next;
+    }
+
+    private void cancel() {
+      // tasks that already started stop at the next batch, so completion must still be awaited
+      this.cancelled = true;
+    }
+
+    private void awaitCompletion() {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        throw new RuntimeException("Failed to decode row group " + rowGroup, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while decoding row group " + rowGroup, e);
+      }
+    }
+
+    private void releaseQueued() {
+      Object item;
+      while ((item = batches.poll()) != null) {
+        release(item);
+      }
+    }
+  }
+
+  private static void release(Object batch) {
+    if (batch instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) batch).close();
+      } catch (Exception e) {
+        throw new RuntimeException("Failed to close batch", e);
+      }
+    }
+  }
 }
@@ -19,6 +19,7 @@
 package org.apache.iceberg.parquet;
 
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
@@ -49,6 +50,34 @@ public interface VectorizedReader<T> {
             + " doesn't implement setRowGroupInfo(PageReadStore, Map<ColumnPath, ColumnChunkMetaData>)");
   }
 
+  /**
+   * Returns whether this reader can return detached batches.
+   *
+   * <p>Readers must support detached batches to decode row groups in parallel.
+   *
+   * @return true if {@link #setDetachedBatches(boolean)} can be used to detach batches
+   */
+  default boolean supportsDetachedBatches() {
+    return false;
+  }
+
+  /**
+   * Sets whether batches returned by {@link #read(Object, int)} without a container to reuse are
+   * detached from this reader.
+   *
+   * <p>A detached batch is owned by the caller. It is not reused or released by later calls to
+   * {@link #read(Object, int)} or by {@link #close()}, and must be closed by the caller. Batches
+   * can only be detached if {@link #supportsDetachedBatches()} returns true.
+   *
+   * @param detached whether batches returned by this reader are owned by the caller
+   */
+  default void setDetachedBatches(boolean detached) {
+    Preconditions.checkArgument(
+        !detached || supportsDetachedBatches(),
+        "Cannot detach batches: %s does not support detached batches",
+        getClass().getName());
+  }
+
   /** Release any resources allocated. */
   void close();
 }
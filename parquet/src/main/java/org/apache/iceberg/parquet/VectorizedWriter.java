@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.stream.Stream;
+import org.apache.iceberg.FieldMetrics;
+import org.apache.parquet.column.ColumnWriteStore;
+
+/** Interface for vectorized Iceberg writers that write batches of rows one column at a time. */
+public interface VectorizedWriter<T> {
+
+  /**
+   * Writes all rows of a batch of type @param &lt;T&gt; to the column writers of the current row
+   * group.
+   *
+   * <p>Values are written column by column. The caller ends one record in the column store for
+   * each row written after the whole batch was written.
+   *
+   * @param batch a batch of rows
+   * @return the number of rows written
+   */
+  int write(T batch);
+
+  /**
+   * Sets the column store for the current row group.
+   *
+   * @param columnStore the {@link ColumnWriteStore} to get column writers from
+   */
+  void setColumnStore(ColumnWriteStore columnStore);
+
+  /** Returns a stream of {@link FieldMetrics} that this VectorizedWriter keeps track of. */
+  default Stream<FieldMetrics<?>> metrics() {
+    return Stream.empty();
+  }
+}
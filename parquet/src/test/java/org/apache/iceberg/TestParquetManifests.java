@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryFileIO;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestParquetManifests {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), required(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).bucket("data", 16).build();
+  private static final Map<Integer, PartitionSpec> SPECS = ImmutableMap.of(SPEC.specId(), SPEC);
+  private static final long SNAPSHOT_ID = 987134631982734L;
+
+  private static final DataFile FILE_A = dataFile("/path/to/data-a.parquet", 0, 1, 10);
+  private static final DataFile FILE_B = dataFile("/path/to/data-b.parquet", 3, 11, 20);
+
+  private final FileIO io = new InMemoryFileIO();
+
+  @TempDir private File tableDir;
+
+  @AfterEach
+  public void cleanupTables() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testWriteAndReadParquetManifest() throws IOException {
+    ManifestFile manifest = writeManifest(FileFormat.PARQUET.addExtension("manifest"));
+
+    List<ManifestEntry<DataFile>> entries = readEntries(manifest, ImmutableList.of("*"));
+    assertThat(entries).hasSize(2);
+
+    DataFile file = entries.get(1).file();
+    assertThat(entries.get(1).status()).isEqualTo(ManifestEntry.Status.ADDED);
+    assertThat(entries.get(1).snapshotId()).isEqualTo(SNAPSHOT_ID);
+    assertThat(file.location()).isEqualTo(FILE_B.location());
+    assertThat(file.partition().get(0, Integer.class)).isEqualTo(3);
+    assertThat(file.recordCount()).isEqualTo(FILE_B.recordCount());
+    assertThat(file.valueCounts()).isEqualTo(FILE_B.valueCounts());
+    assertThat(file.lowerBounds()).isEqualTo(FILE_B.lowerBounds());
+    assertThat(file.upperBounds()).isEqualTo(FILE_B.upperBounds());
+    assertThat(file.pos()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testProjectParquetManifest() throws IOException {
+    ManifestFile manifest = writeManifest(FileFormat.PARQUET.addExtension("manifest"));
+
+    List<ManifestEntry<DataFile>> entries = readEntries(manifest, ImmutableList.of("file_path"));
+    assertThat(entries)
+        .extracting(entry -> entry.file().location())
+        .containsExactly(FILE_A.location(), FILE_B.location());
+    assertThat(entries).allSatisfy(entry -> assertThat(entry.file().lowerBounds()).isNull());
+  }
+
+  @Test
+  public void testReadParquetManifestWithoutSpecs() throws IOException {
+    ManifestFile manifest = writeManifest(FileFormat.PARQUET.addExtension("manifest"));
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io)) {
+      assertThat(reader.spec()).isEqualTo(SPEC);
+      assertThat(reader.spec().schema().asStruct()).isEqualTo(SCHEMA.asStruct());
+    }
+
+    try (CloseableIterable<String> paths = ManifestFiles.readPaths(manifest, io)) {
+      assertThat(paths).containsExactly(FILE_A.location(), FILE_B.location());
+    }
+  }
+
+  @Test
+  public void testSnapshotChangesWithParquetManifests() {
+    Table table = TestTables.create(tableDir, "test", SCHEMA, SPEC, 4);
+    table.updateProperties().set(TableProperties.MANIFEST_FORMAT, "parquet").commit();
+
+    table.newFastAppend().appendFile(FILE_A).commit();
+    Snapshot append = table.currentSnapshot();
+    assertThat(append.addedDataFiles(table.io()))
+        .extracting(DataFile::location)
+        .containsExactly(FILE_A.location());
+
+    table.newDelete().deleteFile(FILE_A).commit();
+    Snapshot delete = table.currentSnapshot();
+    assertThat(delete.removedDataFiles(table.io()))
+        .extracting(DataFile::location)
+        .containsExactly(FILE_A.location());
+
+    DeleteFile deleteFile =
+        FileMetadata.deleteFileBuilder(SPEC)
+            .ofEqualityDeletes(1)
+            .withPath("/path/to/data-b-deletes.parquet")
+            .withFileSizeInBytes(10)
+            .withPartition(FILE_B.partition())
+            .withRecordCount(1)
+            .build();
+    table.newRowDelta().addRows(FILE_B).addDeletes(deleteFile).commit();
+    Snapshot rowDelta = table.currentSnapshot();
+    assertThat(rowDelta.allManifests(table.io()))
+        .allMatch(manifest -> FileFormat.fromFileName(manifest.path()) == FileFormat.PARQUET);
+    assertThat(rowDelta.addedDataFiles(table.io()))
+        .extracting(DataFile::location)
+        .containsExactly(FILE_B.location());
+    assertThat(rowDelta.addedDeleteFiles(table.io()))
+        .extracting(DeleteFile::location)
+        .containsExactly(deleteFile.location());
+  }
+
+  @Test
+  public void testReachableCleanupWithParquetManifests() {
+    assertThat(expireAndCollectDeletedFiles("reachable", false, false)).contains(FILE_A.location());
+  }
+
+  @Test
+  public void testStreamingCleanupWithParquetManifests() {
+    assertThat(expireAndCollectDeletedFiles("streaming", true, false)).contains(FILE_A.location());
+  }
+
+  @Test
+  public void testIncrementalCleanupWithParquetManifests() {
+    assertThat(expireAndCollectDeletedFiles("incremental", false, true))
+        .contains(FILE_A.location());
+  }
+
+  @Test
+  public void testTableWithParquetManifests() throws IOException {
+    Table table = TestTables.create(tableDir, "test", SCHEMA, SPEC, 4);
+    table.updateProperties().set(TableProperties.MANIFEST_FORMAT, "parquet").commit();
+
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.rewriteManifests().clusterBy(file -> "all").commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    assertThat(manifests).hasSize(1);
+    assertThat(FileFormat.fromFileName(manifests.get(0).path())).isEqualTo(FileFormat.PARQUET);
+
+    try (CloseableIterable<FileScanTask> tasks =
+        table.newScan().filter(Expressions.greaterThan("id", 10)).planFiles()) {
+      assertThat(tasks)
+          .extracting(task -> task.file().location())
+          .containsExactly(FILE_B.location());
+    }
+  }
+
+  @Test
+  public void testParquetManifestsRequireV4() {
+    Table table = TestTables.create(tableDir, "test", SCHEMA, SPEC, 3);
+    table.updateProperties().set(TableProperties.MANIFEST_FORMAT, "parquet").commit();
+
+    table.newFastAppend().appendFile(FILE_A).commit();
+
+    ManifestFile manifest = table.currentSnapshot().allManifests(table.io()).get(0);
+    assertThat(FileFormat.fromFileName(manifest.path())).isEqualTo(FileFormat.AVRO);
+  }
+
+  private Set<String> expireAndCollectDeletedFiles(
+      String name, boolean streaming, boolean incremental) {
+    Table table = TestTables.create(new File(tableDir, name), name, SCHEMA, SPEC, 4);
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_FORMAT, "parquet")
+        .set(TableProperties.EXPIRE_STREAMING_CLEANUP_ENABLED, String.valueOf(streaming))
+        .commit();
+
+    table.newFastAppend().appendFile(FILE_A).commit();
+    long appendSnapshotId = table.currentSnapshot().snapshotId();
+    table.newDelete().deleteFile(FILE_A).commit();
+    long deleteSnapshotId = table.currentSnapshot().snapshotId();
+    table.newFastAppend().appendFile(FILE_B).commit();
+
+    Set<String> deletedFiles = Sets.newConcurrentHashSet();
+    RemoveSnapshots expire = (RemoveSnapshots) table.expireSnapshots();
+    if (incremental) {
+      long expireOlderThan = table.currentSnapshot().timestampMillis() + 1;
+      expire.withIncrementalCleanup(true).expireOlderThan(expireOlderThan);
+    } else {
+      expire.expireSnapshotId(appendSnapshotId).expireSnapshotId(deleteSnapshotId);
+    }
+
+    expire.deleteWith(deletedFiles::add).commit();
+
+    assertThat(table.snapshots()).hasSize(1);
+    assertThat(deletedFiles).doesNotContain(FILE_B.location());
+    return deletedFiles;
+  }
+
+  private ManifestFile writeManifest(String location) throws IOException {
+    ManifestWriter<DataFile> writer =
+        ManifestFiles.write(4, SPEC, io.newOutputFile(location), SNAPSHOT_ID);
+    try (ManifestWriter<DataFile> closeable = writer) {
+      closeable.add(FILE_A);
+      closeable.add(FILE_B);
+    }
+
+    return writer.toManifestFile();
+  }
+
+  private List<ManifestEntry<DataFile>> readEntries(ManifestFile manifest, List<String> columns)
+      throws IOException {
+    try (CloseableIterable<ManifestEntry<DataFile>> entries =
+        ManifestFiles.read(manifest, io, SPECS).select(columns).entries()) {
+      return Lists.newArrayList(Iterables.transform(entries, ManifestEntry::copy));
+    }
+  }
+
+  private static DataFile dataFile(String path, int bucket, int lower, int upper) {
+    PartitionData partition = new PartitionData(SPEC.partitionType());
+    partition.set(0, bucket);
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(100)
+        .withPartition(partition)
+        .withMetrics(
+            new Metrics(
+                10L,
+                null, // no column sizes
+                ImmutableMap.of(1, 10L), // value count
+                ImmutableMap.of(1, 0L), // null count
+                null, // no nan value counts
+                ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+                ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), upper))))
+        .build();
+  }
+}
@@ -29,6 +29,7 @@ import static org.apache.iceberg.parquet.ParquetWritingTestUtils.write;
 import static org.apache.iceberg.relocated.com.google.common.collect.Iterables.getOnlyElement;
 import static org.apache.iceberg.types.Types.NestedField.optional;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,6 +37,9 @@ import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -45,7 +49,9 @@ import org.apache.iceberg.Metrics;
 import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -54,11 +60,13 @@ import org.apache.iceberg.types.Types;
 import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.iceberg.util.Pair;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.schema.MessageType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -265,6 +273,102 @@ public class TestParquet {
     }
   }
 
+  @Test
+  public void testParallelRowGroupReadRequiresExecutor() throws IOException {
+    File parquetFile =
+        generateFile(ParquetAvroWriter::buildWriter, 5, 4 * Integer.BYTES, 1, 2).first();
+
+    assertThatThrownBy(
+            () ->
+                Parquet.read(localInput(parquetFile))
+                    .project(new Schema(optional(1, "intCol", IntegerType.get())))
+                    .createBatchedReaderFunc(fileSchema -> new RowCountReader(true, null))
+                    .rowGroupParallelism(2)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid row group executor: null");
+  }
+
+  @Test
+  public void testParallelRowGroupReadPropagatesErrors() throws IOException {
+    File parquetFile =
+        generateFile(ParquetAvroWriter::buildWriter, 5, 4 * Integer.BYTES, 1, 2).first();
+    Error decodingError = new Error("Simulated decoding error");
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (CloseableIterable<Integer> batches =
+        Parquet.read(localInput(parquetFile))
+            .project(new Schema(optional(1, "intCol", IntegerType.get())))
+            .createBatchedReaderFunc(fileSchema -> new RowCountReader(true, decodingError))
+            .rowGroupParallelism(2)
+            .rowGroupExecutor(executor)
+            .build()) {
+      assertThatThrownBy(() -> batches.iterator().next()).isSameAs(decodingError);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testParallelRowGroupReadWithoutDetachedBatches() throws IOException {
+    File parquetFile =
+        generateFile(ParquetAvroWriter::buildWriter, 5, 4 * Integer.BYTES, 1, 2).first();
+
+    // row groups are decoded by the calling thread, so the executor is never used
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    try (CloseableIterable<Integer> batches =
+        Parquet.read(localInput(parquetFile))
+            .project(new Schema(optional(1, "intCol", IntegerType.get())))
+            .createBatchedReaderFunc(fileSchema -> new RowCountReader(false, null))
+            .rowGroupParallelism(2)
+            .rowGroupExecutor(executor)
+            .build()) {
+      assertThat(Lists.newArrayList(batches).stream().mapToInt(Integer::intValue).sum())
+          .isEqualTo(5);
+    }
+  }
+
+  /** A batch reader that returns the number of rows in each batch, or throws the given error. */
+  private static class RowCountReader implements VectorizedReader<Integer> {
+    private final boolean supportsDetachedBatches;
+    private final Error error;
+
+    private RowCountReader(boolean supportsDetachedBatches, Error error) {
+      this.supportsDetachedBatches = supportsDetachedBatches;
+      this.error = error;
+    }
+
+    @Override
+    public Integer read(Integer reuse, int numRows) {
+      if (error != null) {
+        throw error;
+      }
+
+      return numRows;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {}
+
+    @Override
+    public void setRowGroupInfo(
+        PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
+
+    @Override
+    public boolean supportsDetachedBatches() {
+      return supportsDetachedBatches;
+    }
+
+    @Override
+    public void setDetachedBatches(boolean detached) {
+      Preconditions.checkArgument(!detached || supportsDetachedBatches, "Cannot detach batches");
+    }
+
+    @Override
+    public void close() {}
+  }
+
   private Pair<File, Long> generateFile(
       Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
       int desiredRecordCount,
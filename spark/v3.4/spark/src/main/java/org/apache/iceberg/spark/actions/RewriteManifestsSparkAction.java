@@ -521,7 +521,11 @@ public class RewriteManifestsSparkAction
     }
 
     private ManifestWriter<DataFile> newManifestWriter() {
-      return ManifestFiles.write(formatVersion, spec(), newOutputFile(), null);
+      PartitionSpec spec = spec();
+      ManifestWriter<DataFile> writer =
+          ManifestFiles.write(formatVersion, spec, newOutputFile(), null);
+      return writer.summarizeColumns(
+          ManifestFiles.summarizedColumnIds(formatVersion, table().properties(), spec.schema()));
     }
 
     public RollingManifestWriter<DeleteFile> newRollingDeleteManifestWriter() {
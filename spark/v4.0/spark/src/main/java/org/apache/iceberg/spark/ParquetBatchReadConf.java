@@ -26,4 +26,9 @@ public interface ParquetBatchReadConf extends Serializable {
   int batchSize();
 
   ParquetReaderType readerType();
+
+  @Value.Default
+  default boolean lateMaterialization() {
+    return false;
+  }
 }
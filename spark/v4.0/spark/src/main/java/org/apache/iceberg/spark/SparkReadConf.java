@@ -170,6 +170,14 @@ public class SparkReadConf {
         .parse();
   }
 
+  public boolean parquetLateMaterializationEnabled() {
+    return confParser
+        .booleanConf()
+        .tableProperty(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED)
+        .defaultValue(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT)
+        .parse();
+  }
+
   public boolean orcVectorizationEnabled() {
     return confParser
         .booleanConf()
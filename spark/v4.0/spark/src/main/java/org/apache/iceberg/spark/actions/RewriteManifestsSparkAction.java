@@ -19,11 +19,22 @@
 package org.apache.iceberg.spark.actions;
 
 import static org.apache.iceberg.MetadataTableType.ENTRIES;
+import static org.apache.spark.sql.functions.array;
+import static org.apache.spark.sql.functions.col;
+import static org.apache.spark.sql.functions.max;
+import static org.apache.spark.sql.functions.min;
+import static org.apache.spark.sql.functions.spark_partition_id;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -37,9 +48,12 @@ import org.apache.iceberg.ManifestContent;
 import org.apache.iceberg.ManifestFile;
 import org.apache.iceberg.ManifestFiles;
 import org.apache.iceberg.ManifestWriter;
+import org.apache.iceberg.MetricsUtil;
+import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Partitioning;
 import org.apache.iceberg.RollingManifestWriter;
+import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableOperations;
@@ -53,16 +67,22 @@ import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.primitives.UnsignedBytes;
 import org.apache.iceberg.spark.JobGroupInfo;
 import org.apache.iceberg.spark.SparkContentFile;
 import org.apache.iceberg.spark.SparkDataFile;
 import org.apache.iceberg.spark.SparkDeleteFile;
+import org.apache.iceberg.spark.SparkUtil;
 import org.apache.iceberg.spark.source.SerializableTableWithSize;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.ThreadPools;
+import org.apache.iceberg.util.ZOrderByteUtils;
 import org.apache.spark.api.java.function.MapPartitionsFunction;
 import org.apache.spark.broadcast.Broadcast;
 import org.apache.spark.sql.Column;
@@ -71,6 +91,7 @@ import org.apache.spark.sql.Encoder;
 import org.apache.spark.sql.Encoders;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.StructType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,6 +105,14 @@ import org.slf4j.LoggerFactory;
  * a way to configure a custom location for staged manifests via {@link #stagingLocation(String)}.
  * The provided staging location will be ignored if snapshot ID inheritance is enabled. In such
  * cases, the manifests are always written to the metadata folder and committed without staging.
+ *
+ * <p>Entries can also be clustered by the Z-order of several partition fields or table columns
+ * via {@link #zOrderBy(String...)}. Table columns are summarized in new data manifests of v2 and
+ * later tables, so that planning can skip manifests for filters on them. If {@link
+ * #ESTIMATE_PRUNING_RATIO} is enabled, the expected share of data manifests that planning can skip
+ * for a point lookup on one of the columns is also estimated before and after the rewrite and
+ * added to the snapshot summary as {@link #PRUNING_RATIO_BEFORE} and {@link
+ * #PRUNING_RATIO_AFTER}. The estimate requires additional Spark jobs, so it is disabled by default.
  */
 public class RewriteManifestsSparkAction
     extends BaseSnapshotUpdateSparkAction<RewriteManifestsSparkAction> implements RewriteManifests {
@@ -91,12 +120,20 @@ public class RewriteManifestsSparkAction
   public static final String USE_CACHING = "use-caching";
   public static final boolean USE_CACHING_DEFAULT = false;
 
+  public static final String ESTIMATE_PRUNING_RATIO = "estimate-pruning-ratio";
+  public static final boolean ESTIMATE_PRUNING_RATIO_DEFAULT = false;
+
+  public static final String PRUNING_RATIO_BEFORE = "manifest-pruning-ratio-before";
+  public static final String PRUNING_RATIO_AFTER = "manifest-pruning-ratio-after";
+
   private static final Logger LOG = LoggerFactory.getLogger(RewriteManifestsSparkAction.class);
   private static final RewriteManifests.Result EMPTY_RESULT =
       ImmutableRewriteManifests.Result.builder()
           .rewrittenManifests(ImmutableList.of())
           .addedManifests(ImmutableList.of())
           .build();
+  private static final String Z_KEY_PREFIX = "_z_key_";
+  private static final String Z_COLUMN = "_z_value";
 
   private final Table table;
   private final int formatVersion;
@@ -106,6 +143,8 @@ public class RewriteManifestsSparkAction
   private PartitionSpec spec;
   private Predicate<ManifestFile> predicate = manifest -> true;
   private String outputLocation;
+  private List<String> zOrderColumns = ImmutableList.of();
+  private final Map<String, String> pruningSummary = Maps.newHashMap();
 
   RewriteManifestsSparkAction(SparkSession spark, Table table) {
     super(spark);
@@ -161,6 +200,14 @@ public class RewriteManifestsSparkAction
     return this;
   }
 
+  @Override
+  public RewriteManifestsSparkAction zOrderBy(String... columns) {
+    Preconditions.checkArgument(
+        columns != null && columns.length > 0, "Cannot Z-order when no columns are specified");
+    this.zOrderColumns = ImmutableList.copyOf(columns);
+    return this;
+  }
+
   @Override
   public RewriteManifests.Result execute() {
     String desc = String.format("Rewriting manifests in %s", table.name());
@@ -171,6 +218,7 @@ public class RewriteManifestsSparkAction
   private RewriteManifests.Result doExecute() {
     List<ManifestFile> rewrittenManifests = Lists.newArrayList();
     List<ManifestFile> addedManifests = Lists.newArrayList();
+    pruningSummary.clear();
 
     RewriteManifests.Result dataResult = rewriteManifests(ManifestContent.DATA);
     Iterables.addAll(rewrittenManifests, dataResult.rewrittenManifests());
@@ -203,12 +251,14 @@ public class RewriteManifestsSparkAction
       return EMPTY_RESULT;
     }
 
-    Dataset<Row> manifestEntryDF = buildManifestEntryDF(matchingManifests);
-
     List<ManifestFile> newManifests;
-    if (spec.isUnpartitioned()) {
+    if (!zOrderColumns.isEmpty()) {
+      newManifests = writeZOrderedManifests(content, matchingManifests, targetNumManifests);
+    } else if (spec.isUnpartitioned()) {
+      Dataset<Row> manifestEntryDF = buildManifestEntryDF(matchingManifests);
       newManifests = writeUnpartitionedManifests(content, manifestEntryDF, targetNumManifests);
     } else {
+      Dataset<Row> manifestEntryDF = buildManifestEntryDF(matchingManifests);
       newManifests = writePartitionedManifests(content, manifestEntryDF, targetNumManifests);
     }
 
@@ -219,25 +269,35 @@ public class RewriteManifestsSparkAction
   }
 
   private Dataset<Row> buildManifestEntryDF(List<ManifestFile> manifests) {
+    return selectEntryColumns(loadManifestEntryDF(manifests));
+  }
+
+  private Dataset<Row> selectEntryColumns(Dataset<Row> df) {
+    return df.select("snapshot_id", "sequence_number", "file_sequence_number", "data_file");
+  }
+
+  private Dataset<Row> loadManifestEntryDF(List<ManifestFile> manifests, String... extraColumns) {
     Dataset<Row> manifestDF =
         spark()
             .createDataset(Lists.transform(manifests, ManifestFile::path), Encoders.STRING())
             .toDF("manifest");
 
+    List<String> columns =
+        Lists.newArrayList(
+            "input_file_name() as manifest",
+            "snapshot_id",
+            "sequence_number",
+            "file_sequence_number",
+            "data_file");
+    columns.addAll(Arrays.asList(extraColumns));
+
     Dataset<Row> manifestEntryDF =
         loadMetadataTable(table, ENTRIES)
             .filter("status < 2") // select only live entries
-            .selectExpr(
-                "input_file_name() as manifest",
-                "snapshot_id",
-                "sequence_number",
-                "file_sequence_number",
-                "data_file");
+            .selectExpr(columns.toArray(new String[0]));
 
     Column joinCond = manifestDF.col("manifest").equalTo(manifestEntryDF.col("manifest"));
-    return manifestEntryDF
-        .join(manifestDF, joinCond, "left_semi")
-        .select("snapshot_id", "sequence_number", "file_sequence_number", "data_file");
+    return manifestEntryDF.join(manifestDF, joinCond, "left_semi");
   }
 
   private List<ManifestFile> writeUnpartitionedManifests(
@@ -261,6 +321,266 @@ public class RewriteManifestsSparkAction
         });
   }
 
+  private List<ManifestFile> writeZOrderedManifests(
+      ManifestContent content, List<ManifestFile> manifests, int numManifests) {
+
+    Dataset<Row> manifestEntryDF = loadManifestEntryDF(manifests, MetricsUtil.READABLE_METRICS);
+    List<ZOrderKey> zOrderKeys = zOrderKeys();
+    SparkZOrderUDF zOrderUDF =
+        new SparkZOrderUDF(
+            zOrderKeys.size(), ZOrderByteUtils.PRIMITIVE_BUFFER_SIZE, Integer.MAX_VALUE);
+
+    // keep the ordered bytes of the bounds of each key to compare manifest ranges
+    Dataset<Row> keyDF = manifestEntryDF;
+    Column[] lowerCols = new Column[zOrderKeys.size()];
+    for (int i = 0; i < zOrderKeys.size(); i += 1) {
+      ZOrderKey key = zOrderKeys.get(i);
+      DataType keyType = manifestEntryDF.select(key.lower()).schema().fields()[0].dataType();
+      keyDF =
+          keyDF
+              .withColumn(lowerName(i), zOrderUDF.sortedLexicographically(key.lower(), keyType))
+              .withColumn(upperName(i), zOrderUDF.sortedLexicographically(key.upper(), keyType))
+              .withColumn(unboundedName(i), key.lower().isNull().or(key.upper().isNull()));
+      lowerCols[i] = col(lowerName(i));
+    }
+
+    // files are clustered by their lower bounds as entries only have a range of values
+    Dataset<Row> zValueDF = keyDF.withColumn(Z_COLUMN, zOrderUDF.interleaveBytes(array(lowerCols)));
+
+    return withReusableDS(
+        zValueDF,
+        df -> {
+          WriteManifests<?> writeFunc = newWriteManifestsFunc(content, df.schema());
+          Dataset<Row> clusteredDF = repartitionAndSort(df, df.col(Z_COLUMN), numManifests);
+          boolean estimatePruningRatio =
+              PropertyUtil.propertyAsBoolean(
+                  options(), ESTIMATE_PRUNING_RATIO, ESTIMATE_PRUNING_RATIO_DEFAULT);
+          if (!estimatePruningRatio) {
+            return writeFunc.apply(selectEntryColumns(clusteredDF)).collectAsList();
+          }
+
+          // the ranges of the new manifests are computed from the same clustered entries
+          Dataset<Row> cachedDF = clusteredDF.cache();
+          try {
+            List<ManifestFile> newManifests =
+                writeFunc.apply(selectEntryColumns(cachedDF)).collectAsList();
+            double before =
+                pruningRatio(df, col("manifest"), zOrderKeys, hasColumnSummary(manifests));
+            boolean summarized = content == ManifestContent.DATA && formatVersion > 1;
+            double after =
+                pruningRatio(
+                    cachedDF, spark_partition_id(), zOrderKeys, (row, fieldId) -> summarized);
+            LOG.info(
+                "Z-ordered {} manifests of {} by {}: expected pruning ratio {} before, {} after",
+                content,
+                table.name(),
+                zOrderColumns,
+                before,
+                after);
+
+            if (content == ManifestContent.DATA) {
+              pruningSummary.put(PRUNING_RATIO_BEFORE, formatRatio(before));
+              pruningSummary.put(PRUNING_RATIO_AFTER, formatRatio(after));
+            }
+
+            return newManifests;
+          } finally {
+            cachedDF.unpersist(false);
+          }
+        });
+  }
+
+  private List<ZOrderKey> zOrderKeys() {
+    boolean caseSensitive = SparkUtil.caseSensitive(spark());
+    Schema schema = table.schema();
+    List<ZOrderKey> keys = Lists.newArrayList();
+
+    for (String name : zOrderColumns) {
+      PartitionField partitionField = findPartitionField(name, caseSensitive);
+      if (partitionField != null) {
+        Column value = col("data_file").getField("partition").getField(partitionField.name());
+        keys.add(new ZOrderKey(null, value, value));
+        continue;
+      }
+
+      Types.NestedField field =
+          caseSensitive ? schema.findField(name) : schema.caseInsensitiveFindField(name);
+      Preconditions.checkArgument(
+          field != null && field.type().isPrimitiveType(),
+          "Invalid Z-order column: %s (must be a partition field or a primitive column)",
+          name);
+
+      Column metrics =
+          col(MetricsUtil.READABLE_METRICS).getField(schema.findColumnName(field.fieldId()));
+      keys.add(
+          new ZOrderKey(
+              field.fieldId(), metrics.getField("lower_bound"), metrics.getField("upper_bound")));
+    }
+
+    return keys;
+  }
+
+  private PartitionField findPartitionField(String name, boolean caseSensitive) {
+    for (PartitionField field : spec.fields()) {
+      if (caseSensitive ? field.name().equals(name) : field.name().equalsIgnoreCase(name)) {
+        return field;
+      }
+    }
+
+    return null;
+  }
+
+  /** Returns a check whether a manifest, grouped by its path, has a summary of a column. */
+  private static BiPredicate<Row, Integer> hasColumnSummary(List<ManifestFile> manifests) {
+    Map<String, Set<Integer>> summarizedFieldIds = Maps.newHashMap();
+    for (ManifestFile manifest : manifests) {
+      Set<Integer> fieldIds = Sets.newHashSet();
+      if (manifest.columnSummaries() != null) {
+        manifest.columnSummaries().forEach(summary -> fieldIds.add(summary.fieldId()));
+      }
+
+      summarizedFieldIds.put(manifest.path(), fieldIds);
+    }
+
+    return (row, fieldId) ->
+        summarizedFieldIds.getOrDefault(row.getString(0), ImmutableSet.of()).contains(fieldId);
+  }
+
+  /**
+   * Estimates the share of manifests that can be skipped for a point lookup on a Z-order key.
+   *
+   * <p>Lookup values are sampled from the ranges of the manifests themselves: for each key and each
+   * manifest lower and upper bound, the manifests whose range contains the value must be read. As
+   * in planning, a manifest can only be skipped for a table column if it has a summary of the
+   * column and the bounds of all of its files are known.
+   */
+  private double pruningRatio(
+      Dataset<Row> df,
+      Column manifest,
+      List<ZOrderKey> keys,
+      BiPredicate<Row, Integer> hasColumnSummary) {
+    Column[] ranges = new Column[keys.size() * 3];
+    for (int i = 0; i < keys.size(); i += 1) {
+      ranges[3 * i] = min(lowerName(i));
+      ranges[3 * i + 1] = max(upperName(i));
+      ranges[3 * i + 2] = max(unboundedName(i));
+    }
+
+    List<Row> manifestRanges =
+        df.groupBy(manifest)
+            .agg(ranges[0], Arrays.copyOfRange(ranges, 1, ranges.length))
+            .collectAsList();
+
+    return pruningRatio(manifestRanges, keys, hasColumnSummary);
+  }
+
+  private static double pruningRatio(
+      List<Row> manifestRanges, List<ZOrderKey> keys, BiPredicate<Row, Integer> hasColumnSummary) {
+    int numManifests = manifestRanges.size();
+    if (numManifests < 2) {
+      return 0.0;
+    }
+
+    // ordered bytes compare as unsigned, which matches how Spark sorts binary values
+    Comparator<byte[]> cmp = UnsignedBytes.lexicographicalComparator();
+    long numLookups = 0L;
+    long manifestsRead = 0L;
+    for (int key = 0; key < keys.size(); key += 1) {
+      Integer fieldId = keys.get(key).fieldId();
+      int minPos = 3 * key + 1;
+      int maxPos = minPos + 1;
+      int unboundedPos = maxPos + 1;
+
+      List<byte[]> values = Lists.newArrayList();
+      List<byte[]> lowerList = Lists.newArrayList();
+      List<byte[]> upperList = Lists.newArrayList();
+      for (Row range : manifestRanges) {
+        if (range.getBoolean(unboundedPos)) {
+          continue;
+        }
+
+        byte[] lower = (byte[]) range.get(minPos);
+        byte[] upper = (byte[]) range.get(maxPos);
+        values.add(lower);
+        values.add(upper);
+        // partition fields are always summarized in the manifest list
+        if (fieldId == null || hasColumnSummary.test(range, fieldId)) {
+          lowerList.add(lower);
+          upperList.add(upper);
+        }
+      }
+
+      byte[][] lowers = lowerList.toArray(new byte[0][]);
+      byte[][] uppers = upperList.toArray(new byte[0][]);
+      Arrays.sort(lowers, cmp);
+      Arrays.sort(uppers, cmp);
+
+      // manifests that can't be skipped are read for every lookup
+      int alwaysRead = numManifests - lowers.length;
+
+      // a range contains a value if its lower bound is at most the value and its upper bound is
+      // not less than the value; ranges with a smaller upper bound also have a smaller lower bound
+      for (byte[] value : values) {
+        manifestsRead +=
+            alwaysRead + countAtMost(lowers, value, cmp) - countLessThan(uppers, value, cmp);
+      }
+
+      numLookups += values.size();
+    }
+
+    if (numLookups == 0) {
+      return 0.0;
+    }
+
+    return 1.0 - (double) manifestsRead / (numLookups * numManifests);
+  }
+
+  private static int countAtMost(byte[][] sorted, byte[] value, Comparator<byte[]> cmp) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cmp.compare(sorted[mid], value) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  private static int countLessThan(byte[][] sorted, byte[] value, Comparator<byte[]> cmp) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cmp.compare(sorted[mid], value) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  private static String lowerName(int key) {
+    return Z_KEY_PREFIX + key + "_lower";
+  }
+
+  private static String upperName(int key) {
+    return Z_KEY_PREFIX + key + "_upper";
+  }
+
+  private static String unboundedName(int key) {
+    return Z_KEY_PREFIX + key + "_unbounded";
+  }
+
+  private static String formatRatio(double ratio) {
+    return String.format(Locale.ROOT, "%.4f", ratio);
+  }
+
   private WriteManifests<?> newWriteManifestsFunc(ManifestContent content, StructType sparkType) {
     ManifestWriterFactory writers = manifestWriters();
 
@@ -346,6 +666,7 @@ public class RewriteManifestsSparkAction
       org.apache.iceberg.RewriteManifests rewriteManifests = table.rewriteManifests();
       deletedManifests.forEach(rewriteManifests::deleteManifest);
       addedManifests.forEach(rewriteManifests::addManifest);
+      pruningSummary.forEach(rewriteManifests::set);
       commit(rewriteManifests);
 
       if (shouldStageManifests) {
@@ -383,7 +704,27 @@ public class RewriteManifestsSparkAction
         spec.specId(),
         outputLocation,
         // allow the actual size of manifests to be 20% higher as the estimation is not precise
-        (long) (1.2 * targetManifestSizeBytes));
+        (long) (1.2 * targetManifestSizeBytes),
+        summarizedColumnIds());
+  }
+
+  /**
+   * Returns the ids of the columns to summarize in data manifests, including table columns that
+   * entries are clustered by so that planning can skip manifests for filters on them.
+   */
+  private List<Integer> summarizedColumnIds() {
+    List<Integer> fieldIds =
+        Lists.newArrayList(
+            ManifestFiles.summarizedColumnIds(formatVersion, table.properties(), table.schema()));
+    if (formatVersion > 1) {
+      for (ZOrderKey key : zOrderKeys()) {
+        if (key.fieldId() != null && !fieldIds.contains(key.fieldId())) {
+          fieldIds.add(key.fieldId());
+        }
+      }
+    }
+
+    return fieldIds;
   }
 
   private static class WriteDataManifests extends WriteManifests<DataFile> {
@@ -496,24 +837,52 @@ public class RewriteManifestsSparkAction
     }
   }
 
+  /** The bounds of a Z-order key in manifest entries and the id of its table column, if any. */
+  private static class ZOrderKey {
+    private final Integer fieldId;
+    private final Column lower;
+    private final Column upper;
+
+    ZOrderKey(Integer fieldId, Column lower, Column upper) {
+      this.fieldId = fieldId;
+      this.lower = lower;
+      this.upper = upper;
+    }
+
+    Integer fieldId() {
+      return fieldId;
+    }
+
+    Column lower() {
+      return lower;
+    }
+
+    Column upper() {
+      return upper;
+    }
+  }
+
   private static class ManifestWriterFactory implements Serializable {
     private final Broadcast<Table> tableBroadcast;
     private final int formatVersion;
     private final int specId;
     private final String outputLocation;
     private final long maxManifestSizeBytes;
+    private final List<Integer> summarizedColumnIds;
 
     ManifestWriterFactory(
         Broadcast<Table> tableBroadcast,
         int formatVersion,
         int specId,
         String outputLocation,
-        long maxManifestSizeBytes) {
+        long maxManifestSizeBytes,
+        List<Integer> summarizedColumnIds) {
       this.tableBroadcast = tableBroadcast;
       this.formatVersion = formatVersion;
       this.specId = specId;
       this.outputLocation = outputLocation;
       this.maxManifestSizeBytes = maxManifestSizeBytes;
+      this.summarizedColumnIds = ImmutableList.copyOf(summarizedColumnIds);
     }
 
     public RollingManifestWriter<DataFile> newRollingManifestWriter() {
@@ -521,7 +890,9 @@ public class RewriteManifestsSparkAction
     }
 
     private ManifestWriter<DataFile> newManifestWriter() {
-      return ManifestFiles.write(formatVersion, spec(), newOutputFile(), null);
+      ManifestWriter<DataFile> writer =
+          ManifestFiles.write(formatVersion, spec(), newOutputFile(), null);
+      return writer.summarizeColumns(summarizedColumnIds);
     }
 
     public RollingManifestWriter<DeleteFile> newRollingDeleteManifestWriter() {
@@ -38,6 +38,9 @@ import org.apache.spark.sql.vectorized.ColumnarBatch;
  * {@link VectorizedReader} that returns Spark's {@link ColumnarBatch} to support Spark's vectorized
  * read path. The {@link ColumnarBatch} returned is created by passing in the Arrow vectors
  * populated via delegated read calls to {@linkplain VectorizedArrowReader VectorReader(s)}.
+ *
+ * <p>When a filter is set, batches in which no row matches the filter are returned with 0 rows
+ * and their other columns are skipped. Spark still applies the filter to the returned rows.
  */
 public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   private final boolean hasIsDeletedColumn;
@@ -88,6 +91,10 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
     }
 
     ColumnarBatch loadDataToColumnBatch() {
+      if (hasFilter() && !readFilterColumns(batchSize)) {
+        return emptyColumnBatch();
+      }
+
       ColumnVector[] vectors = readDataToColumnVectors();
       int numLiveRows = batchSize;
 
@@ -118,6 +125,24 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       return batch;
     }
 
+    private ColumnarBatch emptyColumnBatch() {
+      skipNonFilterColumns(batchSize);
+
+      ColumnVector[] vectors = new ColumnVector[readers.length];
+      ColumnVectorBuilder columnVectorBuilder = new ColumnVectorBuilder();
+      for (int i = 0; i < readers.length; i += 1) {
+        vectors[i] = columnVectorBuilder.build(vectorHolders[i], 0);
+      }
+
+      if (deletes != null && deletes.hasEqDeletes()) {
+        vectors = ColumnarBatchUtil.removeExtraColumns(deletes, vectors);
+      }
+
+      ColumnarBatch batch = new ColumnarBatch(vectors);
+      batch.setNumRows(0);
+      return batch;
+    }
+
     private boolean[] buildIsDeleted(ColumnVector[] vectors) {
       return ColumnarBatchUtil.buildIsDeleted(vectors, deletes, rowStartPosInBatch, batchSize);
     }
@@ -131,7 +156,10 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
 
       ColumnVectorBuilder columnVectorBuilder = new ColumnVectorBuilder();
       for (int i = 0; i < readers.length; i += 1) {
-        vectorHolders[i] = readers[i].read(vectorHolders[i], batchSize);
+        if (!isFilterColumn(i)) {
+          vectorHolders[i] = readers[i].read(vectorHolders[i], batchSize);
+        }
+
         int numRowsInVector = vectorHolders[i].numValues();
         Preconditions.checkState(
             numRowsInVector == batchSize,
@@ -137,6 +137,7 @@ class SparkBatch implements Batch {
     return ImmutableParquetBatchReadConf.builder()
         .batchSize(readConf.parquetBatchSize())
         .readerType(readerType)
+        .lateMaterialization(readConf.parquetLateMaterializationEnabled())
         .build();
   }
 
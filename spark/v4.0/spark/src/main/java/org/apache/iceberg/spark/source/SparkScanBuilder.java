@@ -19,6 +19,7 @@
 package org.apache.iceberg.spark.source;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +35,7 @@ import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.MetricsModes;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionStatsHandler;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.SparkDistributedDataScan;
@@ -64,6 +66,7 @@ import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow;
 import org.apache.spark.sql.connector.expressions.aggregate.AggregateFunc;
 import org.apache.spark.sql.connector.expressions.aggregate.Aggregation;
 import org.apache.spark.sql.connector.expressions.filter.Predicate;
@@ -238,6 +241,18 @@ public class SparkScanBuilder
     org.apache.iceberg.Scan scan =
         buildIcebergBatchScan(true /* include Column Stats */, schemaWithMetadataColumns());
 
+    Long count = countFromPartitionStats(scan, aggregateEvaluator.aggregates());
+    if (count != null) {
+      pushedAggregateSchema =
+          SparkSchemaUtil.convert(new Schema(aggregateEvaluator.resultType().fields()));
+      Object[] values = new Object[aggregateEvaluator.aggregates().size()];
+      Arrays.fill(values, count);
+      InternalRow[] pushedAggregateRows = new InternalRow[] {new GenericInternalRow(values)};
+      localScan =
+          new SparkLocalScan(table, pushedAggregateSchema, pushedAggregateRows, filterExpressions);
+      return true;
+    }
+
     try (CloseableIterable<FileScanTask> fileScanTasks = scan.planFiles()) {
       for (FileScanTask task : fileScanTasks) {
         if (!task.deletes().isEmpty()) {
@@ -268,6 +283,29 @@ public class SparkScanBuilder
     return true;
   }
 
+  // COUNT(*) can be answered from partition stats without planning files when the filter selects
+  // whole partitions; returns null if the stats can't answer it
+  private Long countFromPartitionStats(
+      org.apache.iceberg.Scan scan, List<BoundAggregate<?, ?>> aggregates) {
+    if (!(scan instanceof BatchScan) || ((BatchScan) scan).snapshot() == null) {
+      return null;
+    }
+
+    for (BoundAggregate<?, ?> aggregate : aggregates) {
+      if (aggregate.op() != Expression.Operation.COUNT_STAR) {
+        return null;
+      }
+    }
+
+    long snapshotId = ((BatchScan) scan).snapshot().snapshotId();
+    Long count = PartitionStatsHandler.recordCount(table, snapshotId, scan.filter(), caseSensitive);
+    if (count != null) {
+      LOG.info("Computed COUNT(*) from partition stats for snapshot {}", snapshotId);
+    }
+
+    return count;
+  }
+
   private boolean canPushDownAggregation(Aggregation aggregation) {
     if (!(table instanceof BaseTable)) {
       return false;
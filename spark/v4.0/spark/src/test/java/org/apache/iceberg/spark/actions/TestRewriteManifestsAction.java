@@ -77,6 +77,7 @@ import org.apache.iceberg.spark.SparkTableUtil;
 import org.apache.iceberg.spark.SparkWriteOptions;
 import org.apache.iceberg.spark.TestBase;
 import org.apache.iceberg.spark.source.ThreeColumnRecord;
+import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.apache.iceberg.util.Pair;
@@ -272,6 +273,42 @@ public class TestRewriteManifestsAction extends TestBase {
     assertThat(actualRecords).as("Rows must match").isEqualTo(expectedRecords);
   }
 
+  @TestTemplate
+  public void testRewriteManifestsKeepsColumnSummaries() {
+    assumeThat(formatVersion).isGreaterThanOrEqualTo(2);
+
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.FORMAT_VERSION, String.valueOf(formatVersion));
+    options.put(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, snapshotIdInheritanceEnabled);
+    options.put(TableProperties.MANIFEST_COLUMN_SUMMARIES, "c1");
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), options, tableLocation);
+
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(1, "A", "AAAA")));
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(5, "B", "BBBB")));
+    table.refresh();
+
+    RewriteManifests.Result result =
+        SparkActions.get()
+            .rewriteManifests(table)
+            .option(RewriteManifestsSparkAction.USE_CACHING, useCaching)
+            .execute();
+
+    assertThat(result.addedManifests()).as("Action should add 1 manifest").hasSize(1);
+
+    table.refresh();
+
+    List<ManifestFile> newManifests = table.currentSnapshot().allManifests(table.io());
+    assertThat(newManifests).hasSize(1);
+    List<ManifestFile.ColumnFieldSummary> summaries = newManifests.get(0).columnSummaries();
+    assertThat(summaries).hasSize(1);
+    assertThat(summaries.get(0).fieldId()).isEqualTo(1);
+    assertThat(summaries.get(0).valueCount()).isEqualTo(2L);
+    assertThat(summaries.get(0).lowerBound())
+        .isEqualTo(Conversions.toByteBuffer(Types.IntegerType.get(), 1));
+    assertThat(summaries.get(0).upperBound())
+        .isEqualTo(Conversions.toByteBuffer(Types.IntegerType.get(), 5));
+  }
+
   @TestTemplate
   public void testRewriteManifestsWithCommitStateUnknownException() {
     PartitionSpec spec = PartitionSpec.unpartitioned();
@@ -530,6 +567,139 @@ public class TestRewriteManifestsAction extends TestBase {
     assertThat(newManifests).hasSizeGreaterThanOrEqualTo(2);
   }
 
+  @TestTemplate
+  public void testRewriteManifestsZOrdered() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c1").build();
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.FORMAT_VERSION, String.valueOf(formatVersion));
+    options.put(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, snapshotIdInheritanceEnabled);
+    Table table = TABLES.create(SCHEMA, spec, options, tableLocation);
+
+    // each append covers all partitions, so no manifest can be skipped before the rewrite
+    List<ThreeColumnRecord> expectedRecords = Lists.newArrayList();
+    for (int append = 0; append < 4; append++) {
+      List<ThreeColumnRecord> records =
+          Lists.newArrayList(
+              new ThreeColumnRecord(1, "A" + append, "AAAA"),
+              new ThreeColumnRecord(2, "B" + append, "BBBB"),
+              new ThreeColumnRecord(3, "C" + append, "CCCC"),
+              new ThreeColumnRecord(4, "D" + append, "DDDD"));
+      writeRecords(records);
+      expectedRecords.addAll(records);
+    }
+
+    table.refresh();
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    assertThat(manifests).as("Should have 4 manifests before rewrite").hasSize(4);
+
+    // we will expect to have 2 manifests with 8 entries in each after rewrite
+    long manifestEntrySizeBytes = computeManifestEntrySizeBytes(manifests);
+    long targetManifestSizeBytes = (long) (1.05 * 8 * manifestEntrySizeBytes);
+
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_TARGET_SIZE_BYTES, String.valueOf(targetManifestSizeBytes))
+        .commit();
+
+    RewriteManifests.Result result =
+        SparkActions.get()
+            .rewriteManifests(table)
+            .zOrderBy("c1", "c3")
+            .option(RewriteManifestsSparkAction.USE_CACHING, useCaching)
+            .option(RewriteManifestsSparkAction.ESTIMATE_PRUNING_RATIO, "true")
+            .execute();
+
+    assertThat(result.rewrittenManifests()).as("Action should rewrite 4 manifests").hasSize(4);
+    assertThat(result.addedManifests()).as("Action should add 2 manifests").hasSize(2);
+
+    table.refresh();
+
+    Map<String, String> summary = table.currentSnapshot().summary();
+    assertThat(summary)
+        .containsEntry(RewriteManifestsSparkAction.PRUNING_RATIO_BEFORE, "0.0000")
+        .containsKey(RewriteManifestsSparkAction.PRUNING_RATIO_AFTER);
+    assertThat(Double.parseDouble(summary.get(RewriteManifestsSparkAction.PRUNING_RATIO_AFTER)))
+        .isGreaterThan(0.0);
+
+    Dataset<Row> resultDF = spark.read().format("iceberg").load(tableLocation);
+    List<ThreeColumnRecord> actualRecords =
+        resultDF.as(Encoders.bean(ThreeColumnRecord.class)).collectAsList();
+
+    assertThat(actualRecords).as("Rows must match").hasSameElementsAs(expectedRecords);
+  }
+
+  @TestTemplate
+  public void testRewriteManifestsZOrderedSummarizesColumns() {
+    assumeThat(formatVersion).isGreaterThanOrEqualTo(2);
+
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.FORMAT_VERSION, String.valueOf(formatVersion));
+    options.put(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, snapshotIdInheritanceEnabled);
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), options, tableLocation);
+
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(1, "A", "AAAA")));
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(5, "B", "BBBB")));
+    table.refresh();
+
+    RewriteManifests.Result result =
+        SparkActions.get()
+            .rewriteManifests(table)
+            .zOrderBy("c1")
+            .option(RewriteManifestsSparkAction.USE_CACHING, useCaching)
+            .execute();
+
+    assertThat(result.addedManifests()).as("Action should add 1 manifest").hasSize(1);
+
+    table.refresh();
+
+    // table columns the entries are clustered by are summarized so that manifests can be skipped
+    List<ManifestFile> newManifests = table.currentSnapshot().allManifests(table.io());
+    assertThat(newManifests).hasSize(1);
+    List<ManifestFile.ColumnFieldSummary> summaries = newManifests.get(0).columnSummaries();
+    assertThat(summaries).hasSize(1);
+    assertThat(summaries.get(0).fieldId()).isEqualTo(1);
+    assertThat(summaries.get(0).lowerBound())
+        .isEqualTo(Conversions.toByteBuffer(Types.IntegerType.get(), 1));
+    assertThat(summaries.get(0).upperBound())
+        .isEqualTo(Conversions.toByteBuffer(Types.IntegerType.get(), 5));
+  }
+
+  @TestTemplate
+  public void testRewriteManifestsZOrderedWithoutPruningRatio() {
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.FORMAT_VERSION, String.valueOf(formatVersion));
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), options, tableLocation);
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(1, "A", "AAAA")));
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(2, "B", "BBBB")));
+    table.refresh();
+
+    RewriteManifests.Result result =
+        SparkActions.get().rewriteManifests(table).zOrderBy("c1").execute();
+
+    assertThat(result.rewrittenManifests()).as("Action should rewrite 2 manifests").hasSize(2);
+
+    table.refresh();
+    assertThat(table.currentSnapshot().summary())
+        .doesNotContainKeys(
+            RewriteManifestsSparkAction.PRUNING_RATIO_BEFORE,
+            RewriteManifestsSparkAction.PRUNING_RATIO_AFTER);
+  }
+
+  @TestTemplate
+  public void testRewriteManifestsZOrderedByUnknownColumn() {
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.FORMAT_VERSION, String.valueOf(formatVersion));
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), options, tableLocation);
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(1, "A", "AAAA")));
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(2, "B", "BBBB")));
+    table.refresh();
+
+    assertThatThrownBy(() -> SparkActions.get().rewriteManifests(table).zOrderBy("c4").execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid Z-order column: c4");
+  }
+
   @TestTemplate
   public void testRewriteManifestsWithPredicate() throws IOException {
     PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c1").truncate("c2", 2).build();
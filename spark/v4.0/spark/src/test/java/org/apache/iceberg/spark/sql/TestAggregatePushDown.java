@@ -20,6 +20,8 @@ package org.apache.iceberg.spark.sql;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Timestamp;
@@ -27,12 +29,21 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Files;
 import org.apache.iceberg.ParameterizedTestExtension;
+import org.apache.iceberg.PartitionStatsHandler;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.hive.HiveCatalog;
 import org.apache.iceberg.hive.TestHiveMetastore;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.CatalogTestBase;
@@ -631,6 +642,54 @@ public class TestAggregatePushDown extends CatalogTestBase {
     assertEquals("min/max/count push down", expected, actual);
   }
 
+  @TestTemplate
+  public void testCountFromPartitionStatsWithDeletes() throws IOException {
+    sql(
+        "CREATE TABLE %s (id LONG, data INT) USING iceberg TBLPROPERTIES ('%s' = '2')",
+        tableName, TableProperties.FORMAT_VERSION);
+    Table table = validationCatalog.loadTable(tableIdent);
+
+    // equality deletes of the unpartitioned spec apply to the files of all later specs
+    Schema deleteSchema = table.schema().select("data");
+    Record delete = GenericRecord.create(deleteSchema);
+    DeleteFile globalDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            Files.localOutput(File.createTempFile("junit", null, temp.toFile())),
+            ImmutableList.of(delete.copy("data", 1111)),
+            deleteSchema);
+
+    sql("ALTER TABLE %s ADD PARTITION FIELD id", tableName);
+    sql(
+        "INSERT INTO TABLE %s VALUES (1, 1111), (1, 2222), (2, 3333), (2, 4444), (3, 5555), (3, 6666) ",
+        tableName);
+    table.refresh();
+    commitPartitionStats(table);
+    sql("REFRESH TABLE %s", tableName);
+
+    String select = "SELECT count(*) FROM %s";
+    assertThat(sql("EXPLAIN " + select, tableName).get(0)[0].toString())
+        .as("count answered from partition stats")
+        .contains("LocalTableScan");
+    assertEquals("count from partition stats", ImmutableList.of(row(6L)), sql(select, tableName));
+
+    table.newRowDelta().addDeletes(globalDeletes).commit();
+    commitPartitionStats(table);
+    sql("REFRESH TABLE %s", tableName);
+
+    assertThat(sql("EXPLAIN " + select, tableName).get(0)[0].toString())
+        .as("count not answered from partition stats with global deletes")
+        .doesNotContain("LocalTableScan");
+    assertEquals("count with global deletes", ImmutableList.of(row(5L)), sql(select, tableName));
+  }
+
+  private void commitPartitionStats(Table table) throws IOException {
+    table
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsHandler.computeAndWriteStatsFile(table))
+        .commit();
+  }
+
   @TestTemplate
   public void testAggregatePushDownForTimeTravel() {
     sql("CREATE TABLE %s (id LONG, data INT) USING iceberg", tableName);